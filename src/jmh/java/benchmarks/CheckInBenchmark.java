@@ -0,0 +1,186 @@
+package benchmarks;
+
+import checkin.CheckInResult;
+import checkin.CheckInValidator;
+import date.ClockService;
+import enums.Location;
+import enums.Time;
+import fitness_classes.ClassSchedule;
+import fitness_classes.FitnessClass;
+import member.Member;
+import member.MemberDatabase;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class benchmarks the class schedule and checking members into fitness classes. The gym grows with {@code memberCount}: there
+ * is one fitness class for every {@code MEMBERS_PER_CLASS} members (and never fewer than one class per time and location), and every
+ * member who has not expired is checked into one class at their location, so rosters and the schedule both grow with the gym.
+ * @author Hasnain Ali, Carolette Saguil
+ */
+@State(Scope.Benchmark)
+public class CheckInBenchmark {
+    /**
+     * Number of members for every fitness class in the schedule.
+     */
+    private static final int MEMBERS_PER_CLASS = 10_000;
+    /**
+     * Number of times a fitness class can be held at.
+     */
+    private static final int TIMES = Time.values().length;
+    /**
+     * Smallest number of fitness classes in the schedule, one for each time at each location.
+     */
+    private static final int MIN_CLASSES = TIMES * Location.values().length;
+    /**
+     * Number of check ins each operation picks from, a power of two so the next one is picked with a mask.
+     */
+    private static final int PROBES = 1024;
+
+    /**
+     * Number of members in the database.
+     */
+    @Param({"1000", "100000", "1000000", "10000000"})
+    private int memberCount;
+    /**
+     * Fitness classes in the schedule, in the order they were added.
+     */
+    private FitnessClass[] fitnessClasses;
+    /**
+     * Class schedule being benchmarked.
+     */
+    private ClassSchedule classSchedule;
+    /**
+     * Check in validator over {@code classSchedule}.
+     */
+    private CheckInValidator checkInValidator;
+    /**
+     * Members of the database the validator is run for, which may have expired or already checked in.
+     */
+    private Member[] validated;
+    /**
+     * Input data of each member in {@code validated}, for a class at their location.
+     */
+    private String[][] validatedInput;
+    /**
+     * Members that have not expired and are not checked into any class.
+     */
+    private Member[] newcomers;
+    /**
+     * Class at the location of each member in {@code newcomers}.
+     */
+    private FitnessClass[] newcomerClasses;
+    /**
+     * Number of operations so far, which picks the check in of the next one.
+     */
+    private int next;
+
+    /**
+     * Builds the class schedule and checks members into it.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        ClockService.setClock(Workload.fixedClock());
+        Member[] members = Workload.members(this.memberCount);
+        MemberDatabase memberDatabase = new MemberDatabase(this.memberCount);
+        memberDatabase.addAll(members, members.length);
+
+        this.fitnessClasses = Workload.fitnessClasses(Math.max(MIN_CLASSES, this.memberCount / MEMBERS_PER_CLASS));
+        this.classSchedule = new ClassSchedule();
+        for (FitnessClass fitnessClass : this.fitnessClasses) {
+            this.classSchedule.addClass(fitnessClass);
+        }
+        this.checkInValidator = new CheckInValidator(this.classSchedule);
+
+        for (int x = 0; x < members.length; x++) {
+            if (!members[x].isExpired()) {
+                this.classAt(members[x], x).restoreMember(members[x]);
+            }
+        }
+
+        this.validated = new Member[PROBES];
+        this.validatedInput = new String[PROBES][];
+        for (int x = 0; x < PROBES; x++) {
+            int index = (int) ((long) x * this.memberCount / PROBES);
+            this.validated[x] = members[index];
+            this.validatedInput[x] = Workload.inputData(members[index], this.classAt(members[index], index + x));
+        }
+
+        this.newcomers = Workload.activeMembers(this.memberCount, PROBES);
+        this.newcomerClasses = new FitnessClass[PROBES];
+        for (int x = 0; x < PROBES; x++) {
+            this.newcomerClasses[x] = this.classAt(this.newcomers[x], x);
+        }
+    }
+
+    /**
+     * Puts the system clock back once the trial is over.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        ClockService.useSystemClock();
+    }
+
+    /**
+     * @return Returns a new class schedule with every fitness class of the benchmark added to it.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public ClassSchedule addClass() {
+        ClassSchedule schedule = new ClassSchedule();
+        for (FitnessClass fitnessClass : this.fitnessClasses) {
+            schedule.addClass(fitnessClass);
+        }
+        return schedule;
+    }
+
+    /**
+     * Checks a member into a class and drops them again, so the roster keeps the same size.
+     * @return Returns true if the member was checked in.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public boolean checkInDrop() {
+        int probe = this.next++ & (PROBES - 1);
+        FitnessClass fitnessClass = this.newcomerClasses[probe];
+        boolean checkedIn = fitnessClass.checkIn(this.newcomers[probe]);
+        fitnessClass.dropClass(this.newcomers[probe]);
+        return checkedIn;
+    }
+
+    /**
+     * Runs the whole check in validation chain the GUI runs before checking a member in.
+     * @return Returns the result explaining why the member cannot check in, or null if they can.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public CheckInResult validateCheckIn() {
+        int probe = this.next++ & (PROBES - 1);
+        return this.checkInValidator.checkFitnessClassesWithCheckInClass(this.validatedInput[probe], this.validated[probe]);
+    }
+
+    /**
+     * @param member Member to find a class for.
+     * @param spread Number that spreads members over the classes at each location.
+     * @return Returns a fitness class at the location of the member.
+     */
+    private FitnessClass classAt(Member member, int spread) {
+        int classesPerLocation = this.fitnessClasses.length / MIN_CLASSES;
+        int group = Math.floorMod(spread, classesPerLocation);
+        int time = Math.floorMod(spread / classesPerLocation, TIMES);
+        return this.fitnessClasses[group * MIN_CLASSES + member.getLocation().ordinal() * TIMES + time];
+    }
+}
@@ -0,0 +1,140 @@
+package benchmarks;
+
+import date.ClockService;
+import member.Member;
+import member.MemberDatabase;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class benchmarks the member database: finding, adding and removing one member, and the three sorted member lists. The
+ * database is filled with {@code memberCount} generated members once per trial, and every benchmark leaves it as it found it.
+ * @author Hasnain Ali, Carolette Saguil
+ */
+@State(Scope.Benchmark)
+public class MemberDatabaseBenchmark {
+    /**
+     * Number of members each operation picks from, rounded to a power of two so the next one is picked with a mask.
+     */
+    private static final int PROBES = 1024;
+
+    /**
+     * Number of members in the database.
+     */
+    @Param({"1000", "100000", "1000000", "10000000"})
+    private int memberCount;
+    /**
+     * Member database being benchmarked.
+     */
+    private MemberDatabase memberDatabase;
+    /**
+     * Copies of members in the database, as the GUI builds them from its input fields to look a member up.
+     */
+    private Member[] present;
+    /**
+     * Members that are not in the database.
+     */
+    private Member[] absent;
+    /**
+     * Number of operations so far, which picks the member of the next one.
+     */
+    private int next;
+
+    /**
+     * Fills the member database with generated members.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        ClockService.setClock(Workload.fixedClock());
+        Member[] members = Workload.members(this.memberCount);
+        this.memberDatabase = new MemberDatabase(this.memberCount);
+        this.memberDatabase.addAll(members, members.length);
+
+        this.present = new Member[PROBES];
+        for (int x = 0; x < PROBES; x++) {
+            Member member = members[(int) ((long) x * this.memberCount / PROBES)];
+            this.present[x] = new Member(member.getFname(), member.getLname(), member.getDob(), null, null);
+        }
+        this.absent = Workload.members(this.memberCount, PROBES);
+    }
+
+    /**
+     * Puts the system clock back once the trial is over.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        ClockService.useSystemClock();
+    }
+
+    /**
+     * @return Returns the index of a member that is in the database.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public int find() {
+        return this.memberDatabase.find(this.present[this.next++ & (PROBES - 1)]);
+    }
+
+    /**
+     * @return Returns the index found when looking up a member that is not in the database.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public int findAbsent() {
+        return this.memberDatabase.find(this.absent[this.next++ & (PROBES - 1)]);
+    }
+
+    /**
+     * Adds a member and removes them again, so the database keeps the same size.
+     * @return Returns true if both the add and the remove succeeded.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public boolean addRemove() {
+        Member member = this.absent[this.next++ & (PROBES - 1)];
+        return this.memberDatabase.add(member) & this.memberDatabase.remove(member);
+    }
+
+    /**
+     * @return Returns the members sorted by county then zipcode.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public String printByCounty() {
+        return this.memberDatabase.printByCounty();
+    }
+
+    /**
+     * @return Returns the members sorted by expiration date.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public String printByExpirationDate() {
+        return this.memberDatabase.printByExpirationDate();
+    }
+
+    /**
+     * @return Returns the members sorted by last name then first name.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public String printByName() {
+        return this.memberDatabase.printByName();
+    }
+}
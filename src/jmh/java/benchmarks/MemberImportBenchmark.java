@@ -0,0 +1,82 @@
+package benchmarks;
+
+import date.ClockService;
+import member.ImportResult;
+import member.MemberDatabase;
+import member.MemberImporter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class benchmarks loading a member file into an empty member database, the way {@code loadHistoricalMembers()} loads
+ * {@code memberList.txt}. The member file is generated with {@code memberCount} members once per trial.
+ * @author Hasnain Ali, Carolette Saguil
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class MemberImportBenchmark {
+    /**
+     * Number of members in the member file.
+     */
+    @Param({"1000", "100000", "1000000", "10000000"})
+    private int memberCount;
+    /**
+     * Generated member file.
+     */
+    private Path memberFile;
+
+    /**
+     * Writes the member file.
+     * @throws IOException If the member file cannot be written.
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        ClockService.setClock(Workload.fixedClock());
+        this.memberFile = Files.createTempFile("memberList", ".txt");
+        Workload.writeMemberFile(this.memberFile, this.memberCount);
+    }
+
+    /**
+     * Deletes the member file and puts the system clock back.
+     * @throws IOException If the member file cannot be deleted.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(this.memberFile);
+        ClockService.useSystemClock();
+    }
+
+    /**
+     * @return Returns the result of importing the member file without listing the members.
+     * @throws IOException If the member file cannot be read.
+     */
+    @Benchmark
+    public ImportResult importMembers() throws IOException {
+        return MemberImporter.importMembers(this.memberFile, new MemberDatabase(), null);
+    }
+
+    /**
+     * @return Returns the listing of every member loaded, built the same way {@code loadHistoricalMembers()} builds it for the GUI.
+     * @throws IOException If the member file cannot be read.
+     */
+    @Benchmark
+    public StringBuilder importMembersWithListing() throws IOException {
+        StringBuilder loadedMembers = new StringBuilder("-List of Members Loaded-\n");
+        MemberImporter.importMembers(this.memberFile, new MemberDatabase(), loadedMembers);
+        return loadedMembers;
+    }
+}
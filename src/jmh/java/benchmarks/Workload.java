@@ -0,0 +1,126 @@
+package benchmarks;
+
+import date.Date;
+import date.PackedDate;
+import fitness_classes.FitnessClass;
+import member.Member;
+import workload.WorkloadGenerator;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+/**
+ * This class generates the synthetic members and fitness classes the benchmarks run against, with a {@code WorkloadGenerator} and its
+ * default settings. Everything is derived from {@code SEED}, so every run of a benchmark sees exactly the same data, and today's date
+ * is fixed at the generator's reference date so the same members are expired in every run.
+ * @author Hasnain Ali, Carolette Saguil
+ */
+public final class Workload {
+    /**
+     * Seed every benchmark generates its data from.
+     */
+    public static final long SEED = 20230115L;
+    /**
+     * Generator of the benchmark data.
+     */
+    private static final WorkloadGenerator GENERATOR = new WorkloadGenerator(SEED);
+
+    /**
+     * Not instantiable; every method is static.
+     */
+    private Workload() {
+    }
+
+    /**
+     * @return Returns a clock fixed at midnight of the generator's reference date, to pass to {@code ClockService.setClock()}.
+     */
+    public static Clock fixedClock() {
+        Date today = GENERATOR.getReferenceDate();
+        ZoneId zone = ZoneId.systemDefault();
+        return Clock.fixed(LocalDate.of(today.getYear(), today.getMonth(), today.getDay()).atStartOfDay(zone).toInstant(), zone);
+    }
+
+    /**
+     * @param count Number of members to generate.
+     * @return Returns {@code count} members with unique names.
+     */
+    public static Member[] members(int count) {
+        return members(0, count);
+    }
+
+    /**
+     * Generates members numbered from {@code first}, so members generated with a different {@code first} never collide with them.
+     * @param first Number of the first member to generate.
+     * @param count Number of members to generate.
+     * @return Returns {@code count} members with unique names.
+     */
+    public static Member[] members(int first, int count) {
+        Member[] members = new Member[count];
+        for (int x = 0; x < count; x++) {
+            members[x] = GENERATOR.member(first + x);
+        }
+        return members;
+    }
+
+    /**
+     * @param first Number of the first member to generate.
+     * @param count Number of members to generate.
+     * @return Returns {@code count} members with unique names, none of which have expired. A member
+     * who had expired is replaced by a standard member with the same name whose membership runs five years longer.
+     */
+    public static Member[] activeMembers(int first, int count) {
+        Member[] members = members(first, count);
+        int today = GENERATOR.getReferenceDate().toPacked();
+
+        for (int x = 0; x < count; x++) {
+            Member member = members[x];
+            if (member.getExpire().toPacked() <= today) {
+                members[x] = new Member(member.getFname(), member.getLname(), member.getDob(),
+                        new Date(PackedDate.plusYears(member.getExpire().toPacked(), 5)), member.getLocation());
+            }
+        }
+        return members;
+    }
+
+    /**
+     * Generates a class schedule with every class name, instructor, time, and location spread evenly. Every group of 15 classes
+     * covers each time at each location once.
+     * @param count Number of fitness classes to generate.
+     * @return Returns {@code count} fitness classes, in the order they should be added to a class schedule.
+     */
+    public static FitnessClass[] fitnessClasses(int count) {
+        FitnessClass[] fitnessClasses = new FitnessClass[count];
+        for (int x = 0; x < count; x++) {
+            fitnessClasses[x] = GENERATOR.fitnessClass(x);
+        }
+        return fitnessClasses;
+    }
+
+    /**
+     * Writes a member file in the format of {@code memberList.txt}, one member per line.
+     * @param file File to write.
+     * @param count Number of members to write.
+     * @throws IOException If the file cannot be written.
+     */
+    public static void writeMemberFile(Path file, int count) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            GENERATOR.writeMembers(writer, count);
+        }
+    }
+
+    /**
+     * @param member Member to check into or out of a fitness class.
+     * @param fitnessClass Fitness class to check into or out of.
+     * @return Returns the input data the GUI builds from the fitness class tab for the member and the class.
+     */
+    public static String[] inputData(Member member, FitnessClass fitnessClass) {
+        return new String[] {null, fitnessClass.getClassName(), fitnessClass.getInstructorName(), fitnessClass.getLocation().getTown(),
+                member.getFname(), member.getLname(), member.getDob().toString()};
+    }
+}
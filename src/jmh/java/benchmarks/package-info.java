@@ -0,0 +1,12 @@
+/**
+ * Contains all JMH benchmarks, run with {@code ./gradlew jmh}. Specifically the following:
+ * <ul>
+ *     <li>CheckInBenchmark</li>
+ *     <li>MemberDatabaseBenchmark</li>
+ *     <li>MemberImportBenchmark</li>
+ *     <li>Workload</li>
+ * </ul>
+ *
+ * @author Hasnain Ali, Carolette Saguil
+ */
+package benchmarks;
@@ -0,0 +1,58 @@
+package checkin;
+
+import enums.CheckInStatus;
+
+/**
+ * This class holds the outcome of one check in or check out: its status, and the arguments of the message the GUI shows for it. The
+ * message is only formatted when it is asked for, so callers that only need the status, such as load tests and kiosks, never pay for
+ * formatting a whole class roster. A roster in the message is read when the message is formatted.
+ * @author Hasnain Ali, Carolette Saguil
+ */
+public class CheckInResult {
+    /**
+     * Outcome of the check in or check out.
+     */
+    private final CheckInStatus status;
+    /**
+     * Arguments of the message.
+     */
+    private final Object[] args;
+
+    /**
+     * @param status Outcome of the check in or check out.
+     * @param args Arguments of the status' message format.
+     */
+    CheckInResult(CheckInStatus status, Object... args) {
+        this.status = status;
+        this.args = args;
+    }
+
+    /**
+     * @return Returns the outcome of the check in or check out.
+     */
+    public CheckInStatus getStatus() {
+        return this.status;
+    }
+
+    /**
+     * @return Returns true if the check in or check out succeeded, false otherwise.
+     */
+    public boolean isSuccess() {
+        return this.status.isSuccess();
+    }
+
+    /**
+     * @return Returns the message the GUI shows for the check in or check out.
+     */
+    public String getMessage() {
+        return String.format(this.status.getFormat(), this.args);
+    }
+
+    /**
+     * @return Returns the message the GUI shows for the check in or check out.
+     */
+    @Override
+    public String toString() {
+        return this.getMessage();
+    }
+}
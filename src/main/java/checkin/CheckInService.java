@@ -0,0 +1,277 @@
+package checkin;
+
+import constants.Constants;
+import date.Date;
+import enums.CheckInAction;
+import enums.CheckInStatus;
+import enums.Location;
+import fitness_classes.ClassSchedule;
+import fitness_classes.FitnessClass;
+import member.Family;
+import member.Member;
+import member.MemberDatabase;
+
+/**
+ * This class checks members and their guests into and out of fitness classes, with the same rules and messages as the fitness class
+ * tab of the GUI, but without any JavaFX dependency. The GUI, kiosks, load tests, and anything else that checks members in all go
+ * through it, and each call returns a {@code CheckInResult} whose status says what happened.
+ * <br><br>
+ * The service is safe to call from many threads at once. Each member maps to one of a fixed set of lock stripes, and every check in or
+ * check out of a member holds its member's stripe from the first rule checked to the last roster change, so no two front desks can
+ * check the same member into two classes at the same time. Guests take no member lock at all: guest passes are spent and given back
+ * with compare and set, and a pass is only given back for a guest actually dropped from a roster. Each fitness class guards its own
+ * roster, and the member database is read under its read lock, so check ins of members on different stripes run in parallel whatever
+ * class they are for.
+ * <br><br>
+ * A member or guest turned away by a full class joins its waitlist, and is checked in by whichever check out frees a seat. Checking
+ * out a member or guest who is still waiting takes them off the waitlist instead, and gives a waiting guest's pass back.
+ * <br><br>
+ * The input data is the same array the GUI builds from the fitness class tab: index 1 is the class name, 2 the instructor name, 3 the
+ * location, 4 the first name, 5 the last name, and 6 the date of birth in the format mm/dd/yyyy.
+ * @author Hasnain Ali, Carolette Saguil
+ */
+public class CheckInService {
+    /**
+     * The member database members are looked up in.
+     */
+    private final MemberDatabase memberDatabase;
+    /**
+     * The class schedule members check into.
+     */
+    private final ClassSchedule classSchedule;
+    /**
+     * The rules a check in or check out must pass.
+     */
+    private final CheckInValidator checkInValidator;
+    /**
+     * Lock stripes, one of which is held for every check in or check out of a member.
+     */
+    private final Object[] memberLocks;
+
+    /**
+     * @param memberDatabase The member database members are looked up in.
+     * @param classSchedule The class schedule members check into.
+     */
+    public CheckInService(MemberDatabase memberDatabase, ClassSchedule classSchedule) {
+        this.memberDatabase = memberDatabase;
+        this.classSchedule = classSchedule;
+        this.checkInValidator = new CheckInValidator(classSchedule);
+        this.memberLocks = new Object[Constants.CHECK_IN_LOCK_STRIPES];
+
+        for (int x = 0; x < this.memberLocks.length; x++) {
+            this.memberLocks[x] = new Object();
+        }
+    }
+
+    /**
+     * @return Returns the rules a check in or check out must pass.
+     */
+    public CheckInValidator getCheckInValidator() {
+        return this.checkInValidator;
+    }
+
+    /**
+     * @param action What the member does.
+     * @param inputData The data passed in the fitness class tab.
+     * @return Returns the outcome of the action.
+     */
+    public CheckInResult perform(CheckInAction action, String[] inputData) {
+        switch (action) {
+            case CHECK_IN:
+                return this.checkInMember(inputData);
+            case CHECK_OUT:
+                return this.checkOutMember(inputData);
+            case GUEST_CHECK_IN:
+                return this.checkInGuest(inputData);
+            default:
+                return this.checkOutGuest(inputData);
+        }
+    }
+
+    /**
+     * Checks a member into a fitness class if they pass every check in rule, or puts them on its waitlist if the class is full.
+     * @param inputData The data passed in the fitness class tab.
+     * @return Returns the outcome of the check in.
+     */
+    public CheckInResult checkInMember(String[] inputData) {
+        Member memberToCheckIn = this.findMember(inputData);
+
+        synchronized (this.lockFor(memberToCheckIn)) {
+            CheckInResult error = this.checkInValidator.checkFitnessClassesWithCheckInClass(inputData, memberToCheckIn);
+
+            if (error != null) {
+                return error;
+            }
+
+            FitnessClass fitnessClass = this.classSchedule.getSpecificClass(this.returnClassIndex(inputData));
+            if (fitnessClass.checkIn(memberToCheckIn)) {
+                return new CheckInResult(CheckInStatus.CHECKED_IN, memberToCheckIn.getFname(), memberToCheckIn.getLname(), fitnessClass);
+            }
+
+            error = this.checkInValidator.checkFitnessClassesWithCheckInClass(inputData, memberToCheckIn);
+            if (error != null) { // A waitlist promotion checked the member in since the rules were checked
+                return error;
+            }
+
+            if (!fitnessClass.joinWaitlist(memberToCheckIn)) {
+                return new CheckInResult(CheckInStatus.ALREADY_WAITLISTED, memberToCheckIn.getFname(), memberToCheckIn.getLname(),
+                        fitnessClass.getClassName());
+            }
+            if (fitnessClass.isCheckedIn(memberToCheckIn)) { // A seat was freed while the member joined the waitlist
+                return new CheckInResult(CheckInStatus.CHECKED_IN, memberToCheckIn.getFname(), memberToCheckIn.getLname(), fitnessClass);
+            }
+            return new CheckInResult(CheckInStatus.WAITLISTED, fitnessClass.getClassName(), memberToCheckIn.getFname(),
+                    memberToCheckIn.getLname());
+        }
+    }
+
+    /**
+     * Checks a member's guest into a fitness class if the member has a guest pass left and the class is at their location, or puts the
+     * guest on its waitlist if the class is full. A waiting guest holds the guest pass.
+     * @param inputData The data passed in the fitness class tab.
+     * @return Returns the outcome of the check in.
+     */
+    public CheckInResult checkInGuest(String[] inputData) {
+        Member member = this.findMember(inputData);
+        Location location = Location.returnEnumFromString(inputData[3]);
+
+        if (!(member instanceof Family)) { // If member is a family instance, that means it may also be a Premium. Either way, they have guest permissions
+            return new CheckInResult(CheckInStatus.GUESTS_NOT_ALLOWED);
+        }
+
+        Family family = (Family) member;
+        if (family.getGuestPasses() <= 0) {
+            return new CheckInResult(CheckInStatus.NO_GUEST_PASSES, member.getFname(), member.getLname());
+        }
+
+        if (!member.getLocation().equals(location)) {
+            return new CheckInResult(CheckInStatus.GUEST_LOCATION_RESTRICTED, inputData[4], inputData[5], location);
+        }
+
+        FitnessClass fitnessClass = this.findClass(inputData, location, null);
+        if (fitnessClass == null) {
+            return new CheckInResult(CheckInStatus.INVALID_CLASS);
+        }
+
+        if (!family.tryConsumeGuestPass()) { // Another terminal spent the last pass since it was checked above
+            return new CheckInResult(CheckInStatus.NO_GUEST_PASSES, member.getFname(), member.getLname());
+        }
+        if (!fitnessClass.checkInGuestMember(member)) {
+            fitnessClass.joinGuestWaitlist(member);
+            return new CheckInResult(CheckInStatus.GUEST_WAITLISTED, fitnessClass.getClassName(), member.getFname(), member.getLname());
+        }
+        return new CheckInResult(CheckInStatus.GUEST_CHECKED_IN, member.getFname(), member.getLname(), fitnessClass);
+    }
+
+    /**
+     * Checks a member out of a fitness class if they are checked into it, or takes them off its waitlist if they are waiting for it.
+     * @param inputData The data passed in the fitness class tab.
+     * @return Returns the outcome of the check out.
+     */
+    public CheckInResult checkOutMember(String[] inputData) {
+        Member memberToRemove = this.findMember(inputData);
+
+        synchronized (this.lockFor(memberToRemove)) {
+            CheckInResult error = this.checkInValidator.checkGeneralInput(inputData, memberToRemove);
+
+            if (error != null) {
+                return error;
+            }
+
+            FitnessClass fitnessClass = this.classSchedule.getSpecificClass(this.returnClassIndex(inputData));
+            if (!fitnessClass.isCheckedIn(memberToRemove)) {
+                if (fitnessClass.leaveWaitlist(memberToRemove)) {
+                    return new CheckInResult(CheckInStatus.LEFT_WAITLIST, memberToRemove.getFname(), memberToRemove.getLname(),
+                            fitnessClass.getClassName());
+                }
+                return new CheckInResult(CheckInStatus.NOT_CHECKED_IN, memberToRemove.getFname(), memberToRemove.getLname());
+            }
+
+            fitnessClass.dropClass(memberToRemove);
+            return new CheckInResult(CheckInStatus.CHECKED_OUT, memberToRemove.getFname(), memberToRemove.getLname(),
+                    fitnessClass.getClassName());
+        }
+    }
+
+    /**
+     * Checks a member's guest out of a fitness class if the guest is checked into it, or takes the guest off its waitlist if they are
+     * waiting for it, and gives the member their guest pass back.
+     * @param inputData The data passed in the fitness class tab.
+     * @return Returns the outcome of the check out.
+     */
+    public CheckInResult checkOutGuest(String[] inputData) {
+        Member member = this.findMember(inputData);
+        CheckInResult error = this.checkInValidator.checkGeneralInput(inputData, member);
+
+        if (error != null) {
+            return error;
+        }
+
+        if (!(member instanceof Family)) {
+            return new CheckInResult(CheckInStatus.NO_GUESTS);
+        }
+
+        Location location = Location.returnEnumFromString(inputData[3]);
+        FitnessClass fitnessClass = this.findClass(inputData, location, member);
+        if (fitnessClass != null && fitnessClass.dropGuestMember(member)) { // Another terminal may have checked the guest out first
+            ((Family) member).refundGuestPass();
+            return new CheckInResult(CheckInStatus.GUEST_CHECKED_OUT, member.getFname(), member.getLname(), fitnessClass.getClassName());
+        }
+
+        for (FitnessClass session : this.classSchedule.findSessions(inputData[1], inputData[2], location)) {
+            if (session.leaveGuestWaitlist(member)) {
+                ((Family) member).refundGuestPass();
+                return new CheckInResult(CheckInStatus.GUEST_LEFT_WAITLIST, member.getFname(), member.getLname(), session.getClassName());
+            }
+        }
+
+        return new CheckInResult(CheckInStatus.INVALID_CLASS);
+    }
+
+    /**
+     * @param member Member being checked in or out, or null if they are not in the member database.
+     * @return Returns the lock stripe of the member. Members that are not in the database share the first stripe; nothing is changed
+     * for them, so the stripe is only held while their check in is rejected.
+     */
+    private Object lockFor(Member member) {
+        if (member == null) {
+            return this.memberLocks[0];
+        }
+
+        int hash = member.hashCode();
+        return this.memberLocks[(hash ^ (hash >>> 16)) & (this.memberLocks.length - 1)];
+    }
+
+    /**
+     * @param inputData The data passed in the fitness class tab.
+     * @return Returns the member named in the input data, or null if they are not in the member database.
+     */
+    private Member findMember(String[] inputData) {
+        return this.memberDatabase.getMember(Member.probe(inputData[4], inputData[5], new Date(inputData[6])));
+    }
+
+    /**
+     * @param inputData The data passed in the fitness class tab.
+     * @return Returns the index of the fitness class named in the input data, or -1 if it is not in the class schedule.
+     */
+    private int returnClassIndex(String[] inputData) {
+        return this.checkInValidator.returnClassIndex(inputData[1], inputData[2], Location.returnEnumFromString(inputData[3]));
+    }
+
+    /**
+     * @param inputData The data passed in the fitness class tab.
+     * @param location Location of the fitness class.
+     * @param guestOf Member whose guest must be checked into the fitness class, or null to find the class whoever is in it.
+     * @return Returns the first fitness class with the class name and instructor in the input data at the location, or null if there
+     * is none.
+     */
+    private FitnessClass findClass(String[] inputData, Location location, Member guestOf) {
+        for (FitnessClass fitnessClass : this.classSchedule.findSessions(inputData[1], inputData[2], location)) {
+            if (guestOf == null || fitnessClass.hasGuest(guestOf)) {
+                return fitnessClass;
+            }
+        }
+
+        return null;
+    }
+}
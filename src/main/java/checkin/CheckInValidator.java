@@ -0,0 +1,150 @@
+package checkin;
+
+import constants.Constants;
+import date.Date;
+import enums.CheckInStatus;
+import enums.Location;
+import fitness_classes.ClassSchedule;
+import fitness_classes.FitnessClass;
+import member.Family;
+import member.Member;
+
+/**
+ * This class holds the rules that decide whether a member may check into or out of a fitness class, without any JavaFX dependency, so
+ * that they can be reused by the GUI, by benchmarks, and by anything else that checks members in. Each check returns the result of a
+ * failed check, with its status and message, or null when it passes.
+ * <br><br>
+ * The checks read the class schedule and the rosters without locking a member, so a check only stays true while the caller holds
+ * whatever stops the member's check ins from changing, as {@code CheckInService} does.
+ * <br><br>
+ * The input data is the same array the GUI builds from the fitness class tab: index 1 is the class name, 2 the instructor name, 3 the
+ * location, 4 the first name, 5 the last name, and 6 the date of birth in the format mm/dd/yyyy.
+ * @author Hasnain Ali, Carolette Saguil
+ */
+public class CheckInValidator {
+    /**
+     * The class schedule that check ins are validated against.
+     */
+    private final ClassSchedule classSchedule;
+
+    /**
+     * @param classSchedule The class schedule that check ins are validated against.
+     */
+    public CheckInValidator(ClassSchedule classSchedule) {
+        this.classSchedule = classSchedule;
+    }
+
+    /**
+     * @param className The name of the class.
+     * @param instructorName The name of the instructor.
+     * @param location The name of the location.
+     * @return The index of the specified class in the class schedule, -1 if it is not in it. Found through the schedule's hash index.
+     */
+    public int returnClassIndex(String className, String instructorName, Location location) {
+        return this.classSchedule.indexOf(className, instructorName, location);
+    }
+
+    /**
+     * @param memberToAdd The member we want to check for a time conflict
+     * @param fitnessClass The fitness class desired to check in the class schedule for a time conflict
+     * @return The fitness class the member is already checked into at the same time as {@code fitnessClass}, or null if there is none.
+     * Found in constant time from the member's time slots.
+     */
+    public FitnessClass checkForTimeConflict(Member memberToAdd, FitnessClass fitnessClass) {
+        FitnessClass checkedIn = memberToAdd.getClassAt(fitnessClass.getTimeOfDay());
+
+        if (checkedIn == null || fitnessClass.equalsNonVerbose(checkedIn)) {
+            return null;
+        }
+
+        return checkedIn;
+    }
+
+    /**
+     * @param className The name of the class
+     * @return Whether the class name is valid against the class schedule.
+     */
+    public boolean checkValidClassName(String className) {
+        return this.classSchedule.hasClassName(className);
+    }
+
+    /**
+     * @param instructorName The name of the instructor
+     * @return Whether the instructor is valid against the class schedule.
+     */
+    public boolean checkValidInstructor(String instructorName) {
+        return this.classSchedule.hasInstructor(instructorName);
+    }
+
+    /**
+     * @param location The fitness class location as a {@code String}
+     * @return Checks whether the {@code location} is valid.
+     */
+    public boolean checkValidLocation(String location) {
+        return Location.returnEnumFromString(location) != null;
+    }
+
+    /**
+     * Checks the rules shared by every check in and check out: the class, instructor and location exist, the date of birth is valid,
+     * the member exists, and their membership has not expired.
+     * @param inputData The data passed in the fitness class tab when the client is interacting with fitness class database.
+     * @param member The member that we want to check for, or null if they are not in the member database.
+     * @return Returns the result explaining why the member cannot be checked in or out, or null if they can.
+     */
+    public CheckInResult checkGeneralInput(String[] inputData, Member member) {
+        if (!this.checkValidClassName(inputData[1])) {
+            return new CheckInResult(CheckInStatus.UNKNOWN_CLASS, inputData[1]);
+        } else if (!this.checkValidInstructor(inputData[2])) {
+            return new CheckInResult(CheckInStatus.UNKNOWN_INSTRUCTOR, inputData[2]);
+        } else if (!this.checkValidLocation(inputData[3])) {
+            return new CheckInResult(CheckInStatus.UNKNOWN_LOCATION, inputData[3]);
+        }
+
+        int classIndex = this.returnClassIndex(inputData[1], inputData[2], Location.returnEnumFromString(inputData[3]));
+
+        if (classIndex == Constants.NOT_FOUND) {
+            return new CheckInResult(CheckInStatus.CLASS_NOT_FOUND, inputData[1], inputData[2]);
+        } else if (!(new Date(inputData[6]).isValid())) {
+            return new CheckInResult(CheckInStatus.INVALID_DOB, new Date(inputData[6]));
+        } else if (member == null) {
+            return new CheckInResult(CheckInStatus.MEMBER_NOT_FOUND, inputData[4], inputData[5], new Date(inputData[6]));
+        } else if (this.classSchedule.getSpecificClass(classIndex).checkIfMemberExpired(member)) {
+            return new CheckInResult(CheckInStatus.MEMBERSHIP_EXPIRED, inputData[4], inputData[5], member.getDob());
+        }
+
+        return null;
+    }
+
+    /**
+     * Checks every rule for checking a member into a class: the general rules, the location restriction of standard memberships,
+     * that the member has not already checked in, and that the member is not in another class at the same time.
+     * @param inputData The data passed in the fitness class tab when the client is interacting with fitness class database.
+     * @param memberToCheckIn The member we want to check in, or null if they are not in the member database.
+     * @return Returns the result explaining why the member cannot check in, or null if they can.
+     */
+    public CheckInResult checkFitnessClassesWithCheckInClass(String[] inputData, Member memberToCheckIn) {
+        CheckInResult generalError = this.checkGeneralInput(inputData, memberToCheckIn);
+
+        if (generalError != null) {
+            return generalError;
+        }
+
+        FitnessClass fitnessClass = this.classSchedule.getSpecificClass(this.returnClassIndex(inputData[1], inputData[2],
+                Location.returnEnumFromString(inputData[3])));
+
+        if (!(memberToCheckIn instanceof Family) && !memberToCheckIn.getLocation().equals(fitnessClass.getLocation())) {
+            return new CheckInResult(CheckInStatus.LOCATION_RESTRICTED, inputData[4], inputData[5], Location.returnEnumFromString(inputData[3]));
+        } else if (fitnessClass.isCheckedIn(memberToCheckIn)) {
+            return new CheckInResult(CheckInStatus.ALREADY_CHECKED_IN, inputData[4], inputData[5], fitnessClass.getClassName());
+        }
+
+        FitnessClass timeConflict = this.checkForTimeConflict(memberToCheckIn, fitnessClass);
+
+        if (timeConflict != null) {
+            return new CheckInResult(CheckInStatus.TIME_CONFLICT, fitnessClass.getClassName(), inputData[4], inputData[5],
+                    timeConflict.getClassName());
+        }
+
+        return null;
+    }
+}
@@ -0,0 +1,12 @@
+/**
+ * Contains all classes related to checking members into and out of fitness classes, without any dependency on the GUI. Specifically
+ * the following:
+ * <ul>
+ *     <li>CheckInResult</li>
+ *     <li>CheckInService</li>
+ *     <li>CheckInValidator</li>
+ * </ul>
+ *
+ * @author Hasnain Ali, Carolette Saguil
+ */
+package checkin;
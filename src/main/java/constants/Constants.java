@@ -26,9 +26,17 @@ public class Constants {
 
     public static final int ARRAY_DEFAULT_SIZE = 4;
     public static final int ARRAY_INCREMENT_SIZE = 4;
+    public static final int ARRAY_GROWTH_FACTOR = 2;
 
     public static final int NOT_FOUND = -1;
 
+    public static final int NAME_DICTIONARY_INITIAL_SIZE = 1024;
+
+    public static final int UNLIMITED_CAPACITY = Integer.MAX_VALUE;
+    public static final int CLASS_CAPACITY_FIELD = 4;
+
+    public static final int REPORT_CHUNK_SIZE = 8192;
+
     public static final double STANDARD_ONE_TIME_MEMBER_FEE = 29.99;
     public static final double STANDARD_MONTHLY_FEE = 39.99;
     public static final double STANDARD_MEMBERSHIP_PAYMENT_FREQUENCY = 3.0;
@@ -48,6 +56,51 @@ public class Constants {
     public static final String CLASS_SCHEDULE_FROM_CONTENT_ROOT = "src/main/java/data/classSchedule.txt";
     public static final String MEMBER_LIST_FROM_CONTENT_ROOT = "src/main/java/data/memberList.txt";
 
+    public static final int MEMBER_FILE_FIELDS = 5;
+    public static final int ESTIMATED_MEMBER_LINE_LENGTH = 48;
+    public static final int IMPORT_WINDOW_SIZE = 64 * 1024 * 1024;
+    public static final int IMPORT_TASK_WINDOW_SIZE = 256 * 1024;
+    public static final int MIN_IMPORT_CHUNK_SIZE = 1024 * 1024;
+    public static final int IMPORT_CHUNKS_PER_THREAD = 4;
+    public static final int MAX_REPORTED_REJECTS = 100;
+
+    public static final String SNAPSHOT_FROM_CONTENT_ROOT = "src/main/java/data/gymManager.snapshot";
+    public static final int SNAPSHOT_MAGIC = 0x47594D53;
+    public static final short SNAPSHOT_FIRST_VERSION = 1;
+    public static final short SNAPSHOT_VERSION = 3;
+    public static final short SNAPSHOT_CAPACITY_VERSION = 3;
+    public static final int SNAPSHOT_BUFFER_SIZE = 64 * 1024;
+
+    public static final String JOURNAL_FROM_CONTENT_ROOT = "src/main/java/data/gymManager.journal";
+    public static final int JOURNAL_MAGIC = 0x47594D4A;
+    public static final int JOURNAL_BUFFER_SIZE = 256 * 1024;
+    public static final int JOURNAL_MAX_BATCH = 4096;
+    public static final int JOURNAL_CHECKPOINT_RECORDS = 100_000;
+
+    public static final String WORKLOAD_REFERENCE_DATE = "6/1/2026";
+    public static final int WORKLOAD_STANDARD_PERCENT = 60;
+    public static final int WORKLOAD_FAMILY_PERCENT = 25;
+    public static final int WORKLOAD_EXPIRE_FROM_MONTHS = -24;
+    public static final int WORKLOAD_EXPIRE_TO_MONTHS = 48;
+    public static final int WORKLOAD_GUEST_PERCENT = 20;
+    public static final int WORKLOAD_CHECK_OUT_PERCENT = 40;
+    public static final int WORKLOAD_WRONG_LOCATION_PERCENT = 5;
+    public static final int WORKLOAD_MAX_OPEN_CHECK_INS = 4096;
+    public static final int WORKLOAD_WRITE_BUFFER_SIZE = 1024 * 1024;
+    public static final String WORKLOAD_MEMBER_FILE = "memberList.txt";
+    public static final String WORKLOAD_CLASS_SCHEDULE_FILE = "classSchedule.txt";
+    public static final String WORKLOAD_TRACE_FILE = "checkIns.trace";
+    public static final int TRACE_FIELDS = 7;
+    public static final int REPLAY_WARMUP_PERCENT = 10;
+    public static final int CHECK_IN_LOCK_STRIPES = 256;
+    public static final int SEARCH_RESULT_LIMIT = 8;
+    public static final int SEARCH_FUZZY_MIN_LENGTH = 3;
+    public static final int SEARCH_FUZZY_MIN_PERCENT = 40;
+    public static final int CONSOLE_RETAINED_LINES = 10_000;
+    public static final boolean CONSOLE_SPILL_TO_FILE = true;
+    public static final String CONSOLE_SPILL_FROM_CONTENT_ROOT = "src/main/java/data/console.log";
+    public static final double CONSOLE_CELL_HEIGHT = 20.0;
+
     public static final int MONTHS_SET_TO_EXPIRE = 3;
     public static final int YEAR_SET_TO_EXPIRE = 1;
 }
@@ -0,0 +1,108 @@
+package date;
+
+import java.time.Clock;
+import java.time.LocalDate;
+
+/**
+ * This class tells the rest of the gym manager what day it is. Today's date is worked out once and cached as a packed date until the
+ * next midnight, so checking whether a membership has expired costs one clock read and one int compare instead of building a
+ * {@code Calendar} every time.
+ * <br><br>
+ * The clock can be replaced with {@code setClock()}, for example with {@code Clock.fixed()}, so that time dependent behavior is the
+ * same in every test and benchmark run.
+ * @author Hasnain Ali, Carolette Saguil
+ */
+public final class ClockService {
+    /**
+     * Clock today's date is read from.
+     */
+    private static volatile Clock clock = Clock.systemDefaultZone();
+    /**
+     * Today's date as read from the clock, with the time it stops being today.
+     */
+    private static volatile Today today;
+
+    /**
+     * Not instantiable; every method is static.
+     */
+    private ClockService() {
+    }
+
+    /**
+     * @return Returns today's date packed as yyyymmdd, read again from the clock only once the cached day is over (or the clock was
+     * set back before it).
+     */
+    public static int today() {
+        Clock current = clock;
+        Today cached = today;
+
+        if (cached == null || cached.clock != current || !cached.contains(current.millis())) {
+            cached = new Today(current);
+            today = cached;
+        }
+        return cached.packed;
+    }
+
+    /**
+     * @return Returns the clock today's date is read from.
+     */
+    public static Clock getClock() {
+        return clock;
+    }
+
+    /**
+     * Replaces the clock today's date is read from.
+     * @param clock Clock to read today's date from.
+     */
+    public static void setClock(Clock clock) {
+        ClockService.clock = clock;
+    }
+
+    /**
+     * Reads today's date from the system clock in the default time zone again.
+     */
+    public static void useSystemClock() {
+        setClock(Clock.systemDefaultZone());
+    }
+
+    /**
+     * Today's date as read from one clock, and the time it stops being today.
+     */
+    private static class Today {
+        /**
+         * Clock the date was read from.
+         */
+        private final Clock clock;
+        /**
+         * Today's date packed as yyyymmdd.
+         */
+        private final int packed;
+        /**
+         * Time of the midnight that started the day, in milliseconds since the epoch.
+         */
+        private final long midnight;
+        /**
+         * Time of the next midnight, in milliseconds since the epoch.
+         */
+        private final long nextMidnight;
+
+        /**
+         * @param clock Clock to read today's date from.
+         */
+        private Today(Clock clock) {
+            LocalDate date = LocalDate.now(clock);
+            this.clock = clock;
+            this.packed = PackedDate.of(date.getYear(), date.getMonthValue(), date.getDayOfMonth());
+            this.midnight = date.atStartOfDay(clock.getZone()).toInstant().toEpochMilli();
+            this.nextMidnight = date.plusDays(1).atStartOfDay(clock.getZone()).toInstant().toEpochMilli();
+        }
+
+        /**
+         * @param millis Time in milliseconds since the epoch.
+         * @return Returns true if the time is on the cached day, false otherwise.
+         */
+        private boolean contains(long millis) {
+            return millis >= this.midnight && millis < this.nextMidnight;
+        }
+    }
+}
@@ -1,37 +1,22 @@
 package date;
 
-import java.util.Calendar;
-import constants.Constants;
-
 /**
- * This class defines a date using a year, month, and day. In this class, it can check whether the date is a valid date, compare dates to one
- * another, check if a date is in the future, and use dates to check a member's age.
+ * This class defines a date using a year, month, and day, packed into a single int by {@code PackedDate}. In this class, it can check
+ * whether the date is a valid date, compare dates to one another, check if a date is in the future, and use dates to check a member's age.
  * @author Hasnain Ali, Carolette Saguil
  */
 public class Date implements Comparable<Date> {
 
     /**
-     * The year.
-     */
-    private int year;
-    /**
-     * The month.
+     * The date packed into an int as yyyymmdd. See {@code PackedDate}.
      */
-    private int month;
-    /**
-     * The day.
-     */
-    private int day;
+    private int packed;
 
     /**
      * Default constructor that instantiates today's date if there is no input.
      */
     public Date() {
-        Calendar calendar = Calendar.getInstance();
-
-        this.year = calendar.get(Calendar.YEAR);
-        this.month = calendar.get(Calendar.MONTH) + 1;
-        this.day = calendar.get(Calendar.DAY_OF_MONTH);
+        this.packed = PackedDate.today();
     }
 
     /**
@@ -39,31 +24,53 @@ public class Date implements Comparable<Date> {
      * @param date Date in the format mm/dd/yyyy. Allows for single digit month and day inputs. Year must be four digits.
      */
     public Date(String date) {
-        String[] dateParts = date.split("/");
-        this.year = Integer.parseInt(dateParts[2]);
-        this.day = Integer.parseInt(dateParts[1]);
-        this.month = Integer.parseInt(dateParts[0]);
+        this.packed = PackedDate.parse(date);
+    }
+
+    /**
+     * Constructor that instantiates a new date from its numeric parts, without parsing a {@code String}.
+     * @param month Month, 1 through 12 for a valid date.
+     * @param day Day of the month.
+     * @param year Four digit year.
+     */
+    public Date(int month, int day, int year) {
+        this.packed = PackedDate.of(year, month, day);
+    }
+
+    /**
+     * Constructor that instantiates a new date from a packed date.
+     * @param packed Date packed into an int as yyyymmdd.
+     */
+    public Date(int packed) {
+        this.packed = packed;
     }
 
     /**
      * @return Returns year.
      */
     public int getYear() {
-        return this.year;
+        return PackedDate.year(this.packed);
     }
 
     /**
      * @return Returns month.
      */
     public int getMonth() {
-        return this.month;
+        return PackedDate.month(this.packed);
     }
 
     /**
      * @return Returns day.
      */
     public int getDay() {
-        return this.day;
+        return PackedDate.day(this.packed);
+    }
+
+    /**
+     * @return Returns the date packed into an int as yyyymmdd.
+     */
+    public int toPacked() {
+        return this.packed;
     }
 
     /**
@@ -77,23 +84,7 @@ public class Date implements Comparable<Date> {
      */
     @Override
     public int compareTo(Date date) {
-        if (this.year == date.getYear() && this.month == date.getMonth() && this.day == date.getDay()) {
-            return 0;
-        }
-
-        if (this.year > date.getYear()) {
-            return 1;
-        } else if (this.year == date.getYear()) {
-            if (this.month > date.getMonth()) {
-                return 1;
-            } else if (this.month == date.getMonth()) {
-                if (this.day > date.getDay()) {
-                    return 1;
-                }
-            }
-        }
-
-        return -1;
+        return PackedDate.compare(this.packed, date.packed);
     }
 
     /**
@@ -101,7 +92,7 @@ public class Date implements Comparable<Date> {
      * @return true if date is in the past, false if date is in the future or is today
      */
     public boolean checkIfDobIsFuture() {
-        return this.compareTo(new Date()) < 0;
+        return this.packed < PackedDate.today();
     }
 
     /**
@@ -109,44 +100,7 @@ public class Date implements Comparable<Date> {
      * @return true if member is 18 years or older, false otherwise.
      */
     public boolean checkMemberAge() {
-        Date today = new Date();
-        int currentYear = today.getYear();
-        int currentMonth = today.getMonth();
-        int currentDay = today.getDay();
-
-        int yearDifference = currentYear - this.year;
-
-        if (yearDifference > Constants.MINIMUM_AGE) {
-            return true;
-        } else if (yearDifference == Constants.MINIMUM_AGE) {
-            if ((currentMonth - this.month) > 0) {
-                return true;
-            } else if ((currentMonth - this.month) == 0) {
-                if ((currentDay - this.day) >= 0) {
-                    return true;
-                }
-            }
-        }
-
-        return false;
-    }
-
-    /**
-     * Checks if year given is a leap year.
-     * @param year Year to be checked.
-     * @return true if year is a leap year, false otherwise.
-     */
-    private boolean isLeapYear(int year) {
-        if (year % Constants.QUADRENNIAL == 0) {
-            if (year % Constants.CENTENNIAL == 0) {
-                if (year % Constants.QUATERCENTENNIAL == 0) {
-                    return true;
-                }
-            } else {
-                return true;
-            }
-        }
-        return false;
+        return PackedDate.isOfAge(this.packed, PackedDate.today());
     }
 
     /**
@@ -157,42 +111,15 @@ public class Date implements Comparable<Date> {
      * @return true if the date is valid calendar date, false otherwise.
      */
     public boolean isValid() {
-        if (this.year < Constants.MIN_YEAR) {
-            return false;
-        }
-
-        if (this.month < Constants.MIN_MONTH || this.month > Constants.MAX_MONTH) {
-            return false;
-        }
-
-        if (this.day < Constants.MIN_DAYS){
-            return false;
-        }
-
-        if (isLeapYear(this.year) && this.month == Constants.FEBRUARY && this.day > Constants.MAX_LEAP_FEB_DAYS) {
-            return false;
-        } else if (!isLeapYear(this.year) && this.month == Constants.FEBRUARY && this.day > Constants.MAX_NORM_FEB_DAYS) {
-            return false;
-        }
-
-
-        if (this.month == Constants.APRIL || this.month == Constants.JUNE || this.month == Constants.SEPTEMBER || this.month == Constants.NOVEMBER) {
-            return this.day <= Constants.MAX_DAYS_ONE;
-        } else return this.month == Constants.FEBRUARY || this.day <= Constants.MAX_DAYS_TWO;
+        return PackedDate.isValid(this.packed);
     }
 
     /**
-     * Increments the month by the amount inputted by the client.
+     * Increments the month by the amount inputted by the client, carrying into the year.
      * @param increment Number of months we want to increment month by.
      */
     public void incrementMonth(int increment) {
-        int incrementedMonth = this.month + increment;
-        if (incrementedMonth > Constants.MAX_MONTH) {
-            this.year += incrementedMonth / Constants.MAX_MONTH;
-            this.month = incrementedMonth % Constants.MAX_MONTH;
-        } else {
-            this.month = incrementedMonth;
-        }
+        this.packed = PackedDate.plusMonths(this.packed, increment);
     }
 
     /**
@@ -200,7 +127,7 @@ public class Date implements Comparable<Date> {
      * @param increment Number of years we want to increment year by.
      */
     public void incrementYear(int increment) {
-        this.year += increment;
+        this.packed = PackedDate.plusYears(this.packed, increment);
     }
 
     /**
@@ -208,7 +135,7 @@ public class Date implements Comparable<Date> {
      */
     @Override
     public String toString() {
-        return String.format("%d/%d/%d", this.month, this.day, this.year);
+        return PackedDate.toString(this.packed);
     }
 
     /**
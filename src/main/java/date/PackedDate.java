@@ -0,0 +1,215 @@
+package date;
+
+import constants.Constants;
+
+import java.time.LocalDate;
+
+/**
+ * This class works with dates packed into a single {@code int} as yyyymmdd, for example 20300115 for 1/15/2030. Packed dates order the
+ * same way as the dates they hold, so comparing two dates is a single int compare, and every helper here works on primitives without
+ * allocating. {@code Date} is a thin view over a packed date.
+ * <br><br>
+ * A month or day outside 0 to 99 does not fit in its two digits and is clamped to that range. Such a date is never a valid calendar
+ * date, so it is still rejected by {@code isValid()}.
+ * @author Hasnain Ali, Carolette Saguil
+ */
+public final class PackedDate {
+    /**
+     * Factor of the year in a packed date.
+     */
+    private static final int YEAR_FACTOR = 10000;
+    /**
+     * Factor of the month in a packed date.
+     */
+    private static final int MONTH_FACTOR = 100;
+    /**
+     * Largest month or day that fits in a packed date.
+     */
+    private static final int MAX_PART = 99;
+
+    /**
+     * Not instantiable; every method is static.
+     */
+    private PackedDate() {
+    }
+
+    /**
+     * @param year Four digit year.
+     * @param month Month, 1 through 12 for a valid date.
+     * @param day Day of the month.
+     * @return Returns the date packed as yyyymmdd.
+     */
+    public static int of(int year, int month, int day) {
+        return year * YEAR_FACTOR + clamp(month) * MONTH_FACTOR + clamp(day);
+    }
+
+    /**
+     * Parses a date in the format mm/dd/yyyy without splitting the string. Allows for single digit month and day inputs.
+     * @param date Date in the format mm/dd/yyyy.
+     * @return Returns the date packed as yyyymmdd.
+     * @throws NumberFormatException If {@code date} is not three numbers separated by '/'.
+     */
+    public static int parse(CharSequence date) {
+        int[] parts = new int[3];
+        int part = 0;
+        int digits = 0;
+
+        for (int x = 0; x < date.length(); x++) {
+            char c = date.charAt(x);
+
+            if (c == '/' && part < 2 && digits > 0) {
+                part++;
+                digits = 0;
+            } else if (c >= '0' && c <= '9' && parts[part] <= (Integer.MAX_VALUE - 9) / 10) {
+                parts[part] = parts[part] * 10 + (c - '0');
+                digits++;
+            } else {
+                throw new NumberFormatException("For input string: \"" + date + "\"");
+            }
+        }
+
+        if (part != 2 || digits == 0) {
+            throw new NumberFormatException("For input string: \"" + date + "\"");
+        }
+        return of(parts[2], parts[0], parts[1]);
+    }
+
+    /**
+     * @return Returns today's date from {@code ClockService}, packed as yyyymmdd.
+     */
+    public static int today() {
+        return ClockService.today();
+    }
+
+    /**
+     * @param date Packed date.
+     * @return Returns the year of the date.
+     */
+    public static int year(int date) {
+        return date / YEAR_FACTOR;
+    }
+
+    /**
+     * @param date Packed date.
+     * @return Returns the month of the date.
+     */
+    public static int month(int date) {
+        return date / MONTH_FACTOR % MONTH_FACTOR;
+    }
+
+    /**
+     * @param date Packed date.
+     * @return Returns the day of the date.
+     */
+    public static int day(int date) {
+        return date % MONTH_FACTOR;
+    }
+
+    /**
+     * @param date Packed date.
+     * @param other Packed date to compare to.
+     * @return Returns -1 if {@code date} is before {@code other}, 0 if they are the same day, 1 if {@code date} is after {@code other}.
+     */
+    public static int compare(int date, int other) {
+        return Integer.compare(date, other);
+    }
+
+    /**
+     * @param year Year to be checked.
+     * @return Returns true if year is a leap year, false otherwise.
+     */
+    public static boolean isLeapYear(int year) {
+        if (year % Constants.QUADRENNIAL == 0) {
+            if (year % Constants.CENTENNIAL == 0) {
+                return year % Constants.QUATERCENTENNIAL == 0;
+            }
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * @param year Year of the month.
+     * @param month Month, 1 through 12.
+     * @return Returns the number of days in the month.
+     */
+    public static int daysInMonth(int year, int month) {
+        if (month == Constants.FEBRUARY) {
+            return isLeapYear(year) ? Constants.MAX_LEAP_FEB_DAYS : Constants.MAX_NORM_FEB_DAYS;
+        } else if (month == Constants.APRIL || month == Constants.JUNE || month == Constants.SEPTEMBER || month == Constants.NOVEMBER) {
+            return Constants.MAX_DAYS_ONE;
+        }
+        return Constants.MAX_DAYS_TWO;
+    }
+
+    /**
+     * Checks if the year is not before 1900, the month is 1 through 12, and the day is within the month.
+     * @param date Packed date.
+     * @return Returns true if the date is a valid calendar date, false otherwise.
+     */
+    public static boolean isValid(int date) {
+        int year = year(date);
+        int month = month(date);
+        int day = day(date);
+
+        if (year < Constants.MIN_YEAR || month < Constants.MIN_MONTH || month > Constants.MAX_MONTH || day < Constants.MIN_DAYS) {
+            return false;
+        }
+        return day <= daysInMonth(year, month);
+    }
+
+    /**
+     * Moves the date forward by whole months, carrying into the year. The day of the month is kept as it is.
+     * @param date Packed date.
+     * @param months Number of months to add.
+     * @return Returns the packed date {@code months} months later.
+     */
+    public static int plusMonths(int date, int months) {
+        int monthIndex = year(date) * Constants.MAX_MONTH + month(date) - 1 + months;
+        return of(Math.floorDiv(monthIndex, Constants.MAX_MONTH), Math.floorMod(monthIndex, Constants.MAX_MONTH) + 1, day(date));
+    }
+
+    /**
+     * @param date Packed date.
+     * @param years Number of years to add.
+     * @return Returns the packed date {@code years} years later.
+     */
+    public static int plusYears(int date, int years) {
+        return date + years * YEAR_FACTOR;
+    }
+
+    /**
+     * @param date Packed date of a valid calendar date.
+     * @param days Number of days to add, may be negative.
+     * @return Returns the packed date {@code days} days later.
+     */
+    public static int plusDays(int date, int days) {
+        LocalDate later = LocalDate.of(year(date), month(date), day(date)).plusDays(days);
+        return of(later.getYear(), later.getMonthValue(), later.getDayOfMonth());
+    }
+
+    /**
+     * @param dob Packed date of birth.
+     * @param today Packed date of today.
+     * @return Returns true if someone born on {@code dob} is at least 18 years old on {@code today}, false otherwise.
+     */
+    public static boolean isOfAge(int dob, int today) {
+        return plusYears(dob, Constants.MINIMUM_AGE) <= today;
+    }
+
+    /**
+     * @param date Packed date.
+     * @return Returns string representation of the date in the format m/d/yyyy.
+     */
+    public static String toString(int date) {
+        return month(date) + "/" + day(date) + "/" + year(date);
+    }
+
+    /**
+     * @param part Month or day.
+     * @return Returns the part clamped to the two digits it is packed into.
+     */
+    private static int clamp(int part) {
+        return Math.max(0, Math.min(part, MAX_PART));
+    }
+}
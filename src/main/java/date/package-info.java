@@ -1,5 +1,5 @@
 /**
- * Contains {@code Date.java} used in {@code GymManager} and its dependencies.
+ * Contains {@code Date.java}, {@code PackedDate.java} and {@code ClockService.java} used in {@code GymManager} and its dependencies.
  *
  * @author Hasnain Ali, Carolette Saguil
  */
@@ -0,0 +1,25 @@
+package enums;
+
+/**
+ * CheckInAction enum defines every action of the fitness class tab that a check in trace can replay: checking a member in, checking a
+ * member out, checking a guest in, and checking a guest out.
+ * @author Hasnain Ali, Carolette Saguil
+ */
+public enum CheckInAction {
+    /**
+     * A member checks into a fitness class.
+     */
+    CHECK_IN,
+    /**
+     * A member checks out of a fitness class.
+     */
+    CHECK_OUT,
+    /**
+     * A member brings a guest into a fitness class.
+     */
+    GUEST_CHECK_IN,
+    /**
+     * A member's guest checks out of a fitness class.
+     */
+    GUEST_CHECK_OUT
+}
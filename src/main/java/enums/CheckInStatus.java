@@ -0,0 +1,142 @@
+package enums;
+
+/**
+ * CheckInStatus enum defines every outcome of checking a member or guest into or out of a fitness class, so callers can act on the
+ * outcome without parsing the message. Enum also stores whether the outcome is a success, and the format of the message the GUI shows
+ * for it.
+ * @author Hasnain Ali, Carolette Saguil
+ */
+public enum CheckInStatus {
+    /**
+     * "fname lname checked into fitness class"
+     */
+    CHECKED_IN(true, "%s %s checked into %s\n"),
+    /**
+     * "fname lname (guest) checked into fitness class"
+     */
+    GUEST_CHECKED_IN(true, "%s %s (guest) checked into %s\n"),
+    /**
+     * "fname lname is done with class name"
+     */
+    CHECKED_OUT(true, "%s %s is done with %s\n"),
+    /**
+     * "fname lname (guest) is done with class name"
+     */
+    GUEST_CHECKED_OUT(true, "%s %s (guest) is done with %s\n"),
+    /**
+     * "class name is full -- fname lname is on the waitlist"
+     */
+    WAITLISTED(true, "%s is full -- %s %s is on the waitlist\n"),
+    /**
+     * "class name is full -- fname lname (guest) is on the waitlist"
+     */
+    GUEST_WAITLISTED(true, "%s is full -- %s %s (guest) is on the waitlist\n"),
+    /**
+     * "fname lname left the waitlist for class name"
+     */
+    LEFT_WAITLIST(true, "%s %s left the waitlist for %s\n"),
+    /**
+     * "fname lname (guest) left the waitlist for class name"
+     */
+    GUEST_LEFT_WAITLIST(true, "%s %s (guest) left the waitlist for %s\n"),
+    /**
+     * "class name — class does not exist."
+     */
+    UNKNOWN_CLASS(false, "%s — class does not exist.\n"),
+    /**
+     * "instructor name — instructor does not exist."
+     */
+    UNKNOWN_INSTRUCTOR(false, "%s — instructor does not exist.\n"),
+    /**
+     * "location — location does not exist."
+     */
+    UNKNOWN_LOCATION(false, "%s — location does not exist.\n"),
+    /**
+     * "class name class by instructor name does not exist."
+     */
+    CLASS_NOT_FOUND(false, "%s class by %s does not exist.\n"),
+    /**
+     * "DOB dob: invalid calendar date!"
+     */
+    INVALID_DOB(false, "DOB %s: invalid calendar date!\n"),
+    /**
+     * "fname lname dob does not exist in database."
+     */
+    MEMBER_NOT_FOUND(false, "%s %s %s does not exist in database.\n"),
+    /**
+     * "fname lname dob membership expired."
+     */
+    MEMBERSHIP_EXPIRED(false, "%s %s %s membership expired.\n"),
+    /**
+     * "fname lname checking in location - standard membership location restriction"
+     */
+    LOCATION_RESTRICTED(false, "%s %s checking in %s - standard membership location restriction"),
+    /**
+     * "fname lname has already checked into class name."
+     */
+    ALREADY_CHECKED_IN(false, "%s %s has already checked into %s.\n"),
+    /**
+     * "class name time conflict -- fname lname has already checked into class name"
+     */
+    TIME_CONFLICT(false, "%s time conflict -- %s %s has already checked into %s\n"),
+    /**
+     * "fname lname is already on the waitlist for class name."
+     */
+    ALREADY_WAITLISTED(false, "%s %s is already on the waitlist for %s.\n"),
+    /**
+     * "fname lname did not check in"
+     */
+    NOT_CHECKED_IN(false, "%s %s did not check in\n"),
+    /**
+     * "Standard membership - guest check-in is not allowed."
+     */
+    GUESTS_NOT_ALLOWED(false, "Standard membership - guest check-in is not allowed.\n"),
+    /**
+     * "fname lname ran out of guest passes"
+     */
+    NO_GUEST_PASSES(false, "%s %s ran out of guest passes\n"),
+    /**
+     * "fname lname Guest checking in location - guest location restricted"
+     */
+    GUEST_LOCATION_RESTRICTED(false, "%s %s Guest checking in %s - guest location restricted\n"),
+    /**
+     * "Invalid class!"
+     */
+    INVALID_CLASS(false, "Invalid class!\n"),
+    /**
+     * "Standard Membership - No guests to check out!"
+     */
+    NO_GUESTS(false, "Standard Membership - No guests to check out!\n");
+
+    /**
+     * Whether the outcome is a success.
+     */
+    private final boolean SUCCESS;
+    /**
+     * Format of the message the GUI shows for the outcome.
+     */
+    private final String FORMAT;
+
+    /**
+     * @param success Whether the outcome is a success.
+     * @param format Format of the message the GUI shows for the outcome, as for {@code String.format()}.
+     */
+    private CheckInStatus(boolean success, String format) {
+        this.SUCCESS = success;
+        this.FORMAT = format;
+    }
+
+    /**
+     * @return Returns true if the outcome is a success, false otherwise.
+     */
+    public final boolean isSuccess() {
+        return this.SUCCESS;
+    }
+
+    /**
+     * @return Returns the format of the message the GUI shows for the outcome, as for {@code String.format()}.
+     */
+    public final String getFormat() {
+        return this.FORMAT;
+    }
+}
@@ -0,0 +1,48 @@
+package enums;
+
+/**
+ * MemberReport enum defines every list of members the member database can print: unsorted, unsorted with membership fees,
+ * sorted by county, sorted by expiration date, and sorted by name. Enum also stores the header line of each list.
+ * @author Hasnain Ali, Carolette Saguil
+ */
+public enum MemberReport {
+    /**
+     * "-list of members-"
+     */
+    UNSORTED("-list of members-\n"),
+    /**
+     * "-list of members with membership fees-"
+     */
+    WITH_MEMBERSHIP_FEE("-list of members with membership fees-\n"),
+    /**
+     * "-list of members sorted by county and zipcode-"
+     */
+    BY_COUNTY("-list of members sorted by county and zipcode-\n"),
+    /**
+     * "-list of members sorted by member expiration date-"
+     */
+    BY_EXPIRATION_DATE("-list of members sorted by member expiration date-\n"),
+    /**
+     * "-list of members sorted by last name, and first name-"
+     */
+    BY_NAME("-list of members sorted by last name, and first name-\n");
+
+    /**
+     * The header line of the list.
+     */
+    private final String HEADER;
+
+    /**
+     * @param header Header line of the list, including the trailing new line.
+     */
+    private MemberReport(String header) {
+        this.HEADER = header;
+    }
+
+    /**
+     * @return Returns the header line of the list, including the trailing new line.
+     */
+    public final String getHeader() {
+        return this.HEADER;
+    }
+}
@@ -1,7 +1,10 @@
 /**
  * Contains all enums related gym manager. Specifically the following enums:
  * <ul>
+ *     <li>CheckInAction</li>
+ *     <li>CheckInStatus</li>
  *     <li>Location</li>
+ *     <li>MemberReport</li>
  *     <li>Time</li>
  * </ul>
  *
@@ -3,27 +3,61 @@ package fitness_classes;
 import constants.Constants;
 import enums.Location;
 import enums.Time;
-import javafx.scene.control.ChoiceBox;
+import names.NameDictionary;
+import persistence.Journal;
 
-import java.io.File;
-import java.io.FileNotFoundException;
-import java.util.Scanner;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongConsumer;
 
 /**
  * This class defines the class schedule using a single one dimensional array.
- * That array will store all the fitness classes loaded into the schedule.
+ * That array will store all the fitness classes loaded into the schedule. Alongside the array, a hash index maps the name dictionary
+ * ids of each class's name and instructor to the positions of its sessions, and sets hold the id of every class name and instructor,
+ * so finding a class or validating a check in never scans the schedule, however large the timetable. Lookups only read the name
+ * dictionary, so a name typed in that was never loaded is a miss without being added to it.
+ * <br><br>
+ * Fitness classes can be added while other threads check members in. Classes are only ever added, the array is only ever replaced
+ * by a larger copy, and a class is put in the array before it is indexed, so a reader that reads {@code getNumClasses()} before
+ * {@code getAllClasses()} always sees that many classes, and an index read from any lookup is always in the array.
  * @author Hasnain Ali, Carolette Saguil
  */
 public class ClassSchedule {
     /**
      * Classes array / schedule
      */
-    private FitnessClass[] classes;
+    private volatile FitnessClass[] classes;
 
     /**
      * Current size of class schedule.
      */
-    private int numClasses;
+    private volatile int numClasses;
+    /**
+     * Index from the name ids of the name and instructor of a class to the indexes in {@code classes} of its sessions at every
+     * location and time, in schedule order. Each array is replaced, never changed, when a session is added.
+     */
+    private final ConcurrentHashMap<Long, int[]> sessionIndex;
+    /**
+     * Name id of every class in the schedule.
+     */
+    private final Set<Integer> classNames;
+    /**
+     * Name id of every instructor in the schedule.
+     */
+    private final Set<Integer> instructors;
+    /**
+     * Journal every class added, and every change to the rosters of the classes, is recorded to, null if the schedule is not journaled.
+     * Guarded by the schedule's lock.
+     */
+    private Journal journal;
 
     /**
      * Instantiates an empty class schedule where it's size is 0. Instantiates a fitness class array of default array size of 4
@@ -32,6 +66,9 @@ public class ClassSchedule {
     public ClassSchedule() {
         this.classes = new FitnessClass[Constants.ARRAY_DEFAULT_SIZE];
         this.numClasses = 0;
+        this.sessionIndex = new ConcurrentHashMap<>();
+        this.classNames = ConcurrentHashMap.newKeySet();
+        this.instructors = ConcurrentHashMap.newKeySet();
     }
 
     /**
@@ -56,35 +93,155 @@ public class ClassSchedule {
         return this.numClasses;
     }
 
+    /**
+     * Looks for a fitness class at any time of day.
+     * @param className Name of the class.
+     * @param instructorName Name of the instructor.
+     * @param location Location of the class.
+     * @return Returns the index of the first class in the schedule with that name, instructor and location, -1 otherwise.
+     */
+    public int indexOf(String className, String instructorName, Location location) {
+        int[] sessions = this.sessionsOf(NameDictionary.find(className), NameDictionary.find(instructorName));
+
+        if (sessions != null) {
+            for (int index : sessions) {
+                if (this.classes[index].getLocation() == location) {
+                    return index;
+                }
+            }
+        }
+        return Constants.NOT_FOUND;
+    }
+
+    /**
+     * @param className Name of the class.
+     * @param instructorName Name of the instructor.
+     * @param location Location of the class.
+     * @return Returns every class in the schedule with that name, instructor and location, at any time of day, in schedule order.
+     */
+    public List<FitnessClass> findSessions(String className, String instructorName, Location location) {
+        int[] sessions = this.sessionsOf(NameDictionary.find(className), NameDictionary.find(instructorName));
+
+        if (sessions == null) {
+            return Collections.emptyList();
+        }
+
+        List<FitnessClass> fitnessClasses = new ArrayList<>(sessions.length);
+        for (int index : sessions) {
+            if (this.classes[index].getLocation() == location) {
+                fitnessClasses.add(this.classes[index]);
+            }
+        }
+        return fitnessClasses;
+    }
+
+    /**
+     * @param fitnessClass Fitness class to look for, compared by name, instructor, time and location.
+     * @return Returns the same fitness class in the schedule, null if it is not in it.
+     */
+    public FitnessClass find(FitnessClass fitnessClass) {
+        int[] sessions = this.sessionsOf(fitnessClass.getClassNameId(), fitnessClass.getInstructorNameId());
+
+        if (sessions != null) {
+            for (int index : sessions) {
+                if (this.classes[index].equals(fitnessClass)) {
+                    return this.classes[index];
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @param className Name of a class, in any case.
+     * @return true if a class of that name is in the schedule, false otherwise.
+     */
+    public boolean hasClassName(String className) {
+        return this.classNames.contains(NameDictionary.find(className));
+    }
+
+    /**
+     * @param instructorName Name of an instructor, in any case.
+     * @return true if the instructor teaches a class in the schedule, false otherwise.
+     */
+    public boolean hasInstructor(String instructorName) {
+        return this.instructors.contains(NameDictionary.find(instructorName));
+    }
+
     /**
      * Adds fitness class to the class schedule.
      * Fails if fitness class already exists in the class schedule.
      * @param fitnessClass Fitness class to add.
      * @return true if fitness class was added, false otherwise.
      */
-    public boolean addClass(FitnessClass fitnessClass) {
-        for (int x = 0; x < numClasses; x++) {
-            if (this.classes[x].equals(fitnessClass)) {
-                return false;
-            }
+    public synchronized boolean addClass(FitnessClass fitnessClass) {
+        if (this.find(fitnessClass) != null) {
+            return false;
         }
 
         if (this.classes.length == numClasses) {
             this.grow();
         }
 
-
-        this.classes[numClasses] = fitnessClass;
+        int index = numClasses;
+        this.classes[index] = fitnessClass;
         numClasses++;
+
+        this.sessionIndex.merge(sessionKey(fitnessClass.getClassNameId(), fitnessClass.getInstructorNameId()), new int[] {index},
+                (sessions, session) -> {
+                    int[] merged = Arrays.copyOf(sessions, sessions.length + 1);
+                    merged[sessions.length] = session[0];
+                    return merged;
+                });
+        this.classNames.add(fitnessClass.getClassNameId());
+        this.instructors.add(fitnessClass.getInstructorNameId());
+        fitnessClass.setJournal(this.journal);
+        if (this.journal != null) {
+            this.journal.recordAddClass(fitnessClass);
+        }
         return true;
     }
 
     /**
-     * Grows the class schedule when the current schedule is full.
+     * Starts or stops journaling the classes added to the schedule and the changes to the rosters of its classes. Classes added from
+     * then on are journaled with it.
+     * @param journal Journal to record the changes to, null to stop journaling them.
+     */
+    public synchronized void setJournal(Journal journal) {
+        this.journal = journal;
+        for (int x = 0; x < this.numClasses; x++) {
+            this.classes[x].setJournal(journal);
+        }
+    }
+
+    /**
+     * @param classNameId Name id of the class, -1 if the name is not in the name dictionary.
+     * @param instructorNameId Name id of the instructor, -1 if the name is not in the name dictionary.
+     * @return Returns the indexes of the class's sessions at every location and time, null if it has none.
+     */
+    private int[] sessionsOf(int classNameId, int instructorNameId) {
+        if (classNameId == Constants.NOT_FOUND || instructorNameId == Constants.NOT_FOUND) {
+            return null;
+        }
+        return this.sessionIndex.get(sessionKey(classNameId, instructorNameId));
+    }
+
+    /**
+     * @param classNameId Name id of the class.
+     * @param instructorNameId Name id of the instructor.
+     * @return Returns the key of the class's sessions in {@code sessionIndex}.
+     */
+    private static long sessionKey(int classNameId, int instructorNameId) {
+        return ((long) classNameId << Integer.SIZE) | (instructorNameId & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Grows the class schedule when the current schedule is full. The array grows geometrically, so loading a timetable of N classes
+     * costs O(N) copies in total.
      * Size limited by JVM memory allocation. (How big Java will let you make an array before you run out of space).
      */
     private void grow() {
-        FitnessClass[] fitnessClasses = new FitnessClass[this.numClasses + Constants.ARRAY_INCREMENT_SIZE];
+        FitnessClass[] fitnessClasses = new FitnessClass[this.numClasses * Constants.ARRAY_GROWTH_FACTOR];
         for (int x = 0; x < this.numClasses; x++) {
             fitnessClasses[x] = this.classes[x];
         }
@@ -93,50 +250,90 @@ public class ClassSchedule {
     }
 
     /**
-     * @param classChoiceBox The class choice box for the GUI
-     * @param instructorChoiceBox The instructor choice box for the GUI
-     * @return A string with the output designated for output text area in the GUI.
-     * This method will also load in all fitness classes into the Class Schedule database.
+     * Loads every fitness class in a class schedule file without the GUI, for load tests and other headless tools. Blank and malformed
+     * lines are skipped.
+     * @param file Class schedule file, one fitness class per line in the format of {@code classSchedule.txt}.
+     * @return Returns the number of fitness classes added. Classes already in the schedule are not added again.
+     * @throws IOException If the file cannot be read.
      */
-    public String loadFitnessClasses(ChoiceBox<String> classChoiceBox, ChoiceBox<String> instructorChoiceBox) {
-        StringBuilder outputTextArea = new StringBuilder();
-
-        try {
-            File file = new File(Constants.CLASS_SCHEDULE_FROM_CONTENT_ROOT);
-            Scanner sc = new Scanner(file);
-            outputTextArea.append("-Fitness classes loaded-\n");
+    public int loadFitnessClasses(Path file) throws IOException {
+        return this.loadFitnessClasses(file, null, null);
+    }
 
-            while (sc.hasNextLine()) {
-                String[] line = sc.nextLine().split("\\s+");
+    /**
+     * Loads every fitness class in a class schedule file, listing each class as it is read. If {@code listing} fails, the load stops
+     * there, and the classes already added stay in the schedule. Blank lines are skipped, and a malformed line, such as one with a
+     * capacity that is not a positive number, is listed as rejected with its line number and the load goes on with the next line.
+     * @param file Class schedule file, one fitness class per line in the format of {@code classSchedule.txt}.
+     * @param listing Where every fitness class read and every line rejected is listed, in file order; {@code null} to skip the
+     * listing.
+     * @param progress Told the number of bytes of the file read so far after every line; {@code null} to skip progress.
+     * @return Returns the number of fitness classes added. Classes already in the schedule are listed but not added again.
+     * @throws IOException If the file cannot be read, or {@code listing} fails to accept a class.
+     */
+    public int loadFitnessClasses(Path file, Appendable listing, LongConsumer progress) throws IOException {
+        int added = 0;
+        long read = 0;
+        long lineNumber = 0;
 
-                String className = line[0];
+        try (BufferedReader reader = Files.newBufferedReader(file)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (!line.isBlank()) {
+                    FitnessClass fitnessClass;
+                    try {
+                        fitnessClass = parseFitnessClass(line.trim().split("\\s+"));
+                    } catch (IllegalArgumentException illegalArgumentException) {
+                        fitnessClass = null;
+                        if (listing != null) {
+                            listing.append(String.format("Line %d rejected: %s: %s\n", lineNumber, illegalArgumentException.getMessage(),
+                                    line.trim()));
+                        }
+                    }
 
-                if (!classChoiceBox.getItems().contains(className)) {
-                    classChoiceBox.getItems().add(className);
+                    if (fitnessClass != null) {
+                        if (listing != null) {
+                            listing.append(fitnessClass.toString());
+                        }
+                        if (this.addClass(fitnessClass)) {
+                            added++;
+                        }
+                    }
                 }
 
-                String instructorName = line[1];
-
-                if (!instructorChoiceBox.getItems().contains(instructorName)) {
-                    instructorChoiceBox.getItems().add(instructorName);
+                read += line.length() + 1;
+                if (progress != null) {
+                    progress.accept(read);
                 }
+            }
+        }
 
-                Time time = Time.returnTimeEnumFromTimeOfDay(line[2]);
-                Location location = Location.returnEnumFromString(line[3]);
+        return added;
+    }
 
-                FitnessClass fitnessClass = new FitnessClass(time, className, instructorName, location);
-                outputTextArea.append(fitnessClass.toString());
+    /**
+     * @param line One line of a class schedule file, split into the class name, instructor name, time of day, location, and optionally
+     * the capacity of the class. A class without a capacity has no limit.
+     * @return Returns the fitness class on the line.
+     * @throws IllegalArgumentException If a field is missing, the time of day is not valid, or the capacity is not a positive number.
+     */
+    private static FitnessClass parseFitnessClass(String[] line) {
+        if (line.length < Constants.CLASS_CAPACITY_FIELD) {
+            throw new IllegalArgumentException("Fields: " + line.length + " not valid.");
+        }
 
-                this.addClass(fitnessClass);
+        Time time = Time.returnTimeEnumFromTimeOfDay(line[2]);
+        Location location = Location.returnEnumFromString(line[3]);
+        int capacity = Constants.UNLIMITED_CAPACITY;
+        if (line.length > Constants.CLASS_CAPACITY_FIELD) {
+            try {
+                capacity = Integer.parseInt(line[Constants.CLASS_CAPACITY_FIELD]);
+            } catch (NumberFormatException numberFormatException) {
+                throw new IllegalArgumentException("Class capacity: " + line[Constants.CLASS_CAPACITY_FIELD] + " not valid.");
             }
-        } catch (FileNotFoundException fileNotFoundException) {
-            outputTextArea.append("File is not found!\n");
-            return outputTextArea.toString();
         }
 
-        outputTextArea.append("-end of list-\n");
-
-        return outputTextArea.toString();
+        return new FitnessClass(time, line[0], line[1], location, capacity);
     }
-
 }
@@ -4,31 +4,63 @@ import enums.Location;
 import enums.Time;
 import member.Family;
 import member.Member;
-import date.Date;
+import names.NameDictionary;
 import constants.Constants;
+import persistence.Journal;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * This class defines all the characteristics of a fitness class. This includes:
  * <ul> <b>
- *     <li>ArrayList Members In Class</li>
- *     <li>ArrayList Guest Members In Class</li>
+ *     <li>LinkedHashMap Members In Class</li>
+ *     <li>LinkedHashMap Guest Members In Class</li>
  *     <li>Time Time</li>
  *     <li>String Class Name</li>
  *     <li>String Instructor Name</li>
  *     <li>Location Gym Location</li>
+ *     <li>int Capacity</li>
+ *     <li>ConcurrentLinkedQueue Waitlist</li>
  * </ul> </b>
+ * The rosters are insertion ordered hash maps, so checking in, dropping, and looking up a member take constant time however large the
+ * class, while the roster still lists members and guests in check in order. A member can bring several guests, so each guest is keyed
+ * by their check in number, and each member's guests are found through a queue of their check in numbers, oldest first.
+ * <br><br>
+ * The rosters are guarded by the fitness class itself, so members can check into different classes from different threads at the
+ * same time. The roster lists are copies taken under the same guard.
+ * <br><br>
+ * A class holds at most its capacity of members and guests together. Admission is lock-free: a seat is claimed with compare and set on
+ * an atomic counter before the roster is touched, so a full class turns check ins away without ever blocking on its roster. Members
+ * and guests turned away can join a FIFO waitlist, and whichever thread frees a seat promotes the head of the waitlist into it. A
+ * waitlisted member who has since checked into another class at the same time, or whose membership has expired, is skipped. Waitlists
+ * are not saved with the rosters.
  * @author Hasnain Ali, Carolette Saguil
  */
 public class FitnessClass {
     /**
-     * Array list of members in a fitness class.
+     * Members in a fitness class in check in order, each mapped to itself so an equal copy of a member finds the member who checked in.
      */
-    private ArrayList<Member> membersInClass;
+    private final LinkedHashMap<Member, Member> membersInClass;
     /**
-     * Array list of guest members in a fitness class.
+     * Guests in a fitness class in check in order, each keyed by their check in number and mapped to the member who brought them.
      */
-    private ArrayList<Member> guestMembersInClass;
+    private final LinkedHashMap<Long, Member> guestMembersInClass;
+    /**
+     * Members with guests in a fitness class, each mapped to the check in numbers of their guests, oldest first.
+     */
+    private final HashMap<Member, ArrayDeque<Long>> guestsByMember;
+    /**
+     * Check in number of the next guest.
+     */
+    private long nextGuest;
     /**
      * Time of fitness class.
      */
@@ -41,27 +73,80 @@ public class FitnessClass {
      * Name of the instructor for fitness class.
      */
     private final String INSTRUCTOR_NAME;
+    /**
+     * Dictionary id of the case-folded name of fitness class.
+     */
+    private final int CLASS_NAME_ID;
+    /**
+     * Dictionary id of the case-folded name of the instructor for fitness class.
+     */
+    private final int INSTRUCTOR_NAME_ID;
     /**
      * Location of fitness class.
      */
     private final Location LOCATION;
+    /**
+     * Most members and guests the fitness class holds at once.
+     */
+    private final int CAPACITY;
+    /**
+     * Seats taken by members and guests, including seats claimed by check ins that have not reached the roster yet.
+     */
+    private final AtomicInteger seatsTaken;
+    /**
+     * Members and guests waiting for a seat, in the order they joined the waitlist.
+     */
+    private final ConcurrentLinkedQueue<WaitlistEntry> waitlist;
+    /**
+     * Members waiting for a seat themselves, so a member joins the waitlist at most once.
+     */
+    private final Set<Member> waitlistedMembers;
+    /**
+     * Journal every change to the rosters is recorded to, null if the class is not journaled. Guarded by the class's lock.
+     */
+    private Journal journal;
 
+    /**
+     * Constructor that instantiates the state of a new fitness class with no limit on its size.
+     * The rosters for members in class and guest members in class are new and empty.
+     * @param time Time of fitness class.
+     * @param className Name of fitness class.
+     * @param instructorName Name of instructor for fitness class.
+     * @param location Location of fitness class.
+     */
+    public FitnessClass(Time time, String className, String instructorName, Location location) {
+        this(time, className, instructorName, location, Constants.UNLIMITED_CAPACITY);
+    }
 
     /**
      * Constructor that instantiates the state of a new fitness class.
-     * The array list for members in class and guest members in class are new and empty.
+     * The rosters for members in class and guest members in class, and the waitlist, are new and empty.
      * @param time Time of fitness class.
      * @param className Name of fitness class.
      * @param instructorName Name of instructor for fitness class.
      * @param location Location of fitness class.
+     * @param capacity Most members and guests the fitness class holds at once.
+     * @throws IllegalArgumentException If the capacity is not positive.
      */
-    public FitnessClass(Time time, String className, String instructorName, Location location) {
-        this.membersInClass = new ArrayList<>();
-        this.guestMembersInClass = new ArrayList<>();
+    public FitnessClass(Time time, String className, String instructorName, Location location, int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Class capacity: " + capacity + " not valid.");
+        }
+
+        this.membersInClass = new LinkedHashMap<>();
+        this.guestMembersInClass = new LinkedHashMap<>();
+        this.guestsByMember = new HashMap<>();
+        this.nextGuest = 0;
         this.TIME = time;
-        this.CLASS_NAME = className;
-        this.INSTRUCTOR_NAME = instructorName;
+        this.CLASS_NAME_ID = NameDictionary.idOf(className);
+        this.INSTRUCTOR_NAME_ID = NameDictionary.idOf(instructorName);
+        this.CLASS_NAME = NameDictionary.intern(this.CLASS_NAME_ID, className);
+        this.INSTRUCTOR_NAME = NameDictionary.intern(this.INSTRUCTOR_NAME_ID, instructorName);
         this.LOCATION = location;
+        this.CAPACITY = capacity;
+        this.seatsTaken = new AtomicInteger();
+        this.waitlist = new ConcurrentLinkedQueue<>();
+        this.waitlistedMembers = ConcurrentHashMap.newKeySet();
     }
 
     /**
@@ -71,6 +156,13 @@ public class FitnessClass {
         return this.TIME.getTime();
     }
 
+    /**
+     * @return Returns time of fitness class as a {@code Time}.
+     */
+    public Time getTimeOfDay() {
+        return this.TIME;
+    }
+
     /**
      * @return Returns name of fitness class.
      */
@@ -85,6 +177,20 @@ public class FitnessClass {
         return this.INSTRUCTOR_NAME;
     }
 
+    /**
+     * @return Returns the dictionary id of the name of fitness class, the same for every spelling that is equal ignoring case.
+     */
+    public int getClassNameId() {
+        return this.CLASS_NAME_ID;
+    }
+
+    /**
+     * @return Returns the dictionary id of the name of the instructor, the same for every spelling that is equal ignoring case.
+     */
+    public int getInstructorNameId() {
+        return this.INSTRUCTOR_NAME_ID;
+    }
+
     /**
      * @return Returns location of fitness class.
      */
@@ -93,41 +199,89 @@ public class FitnessClass {
     }
 
     /**
-     * Looks for a guest member in the guest members in class array list.
-     * @param member Guest member to find array list index for.
-     * @return index of guest member in the guest members in class array list, -1 otherwise.
+     * @return Returns most members and guests the fitness class holds at once, {@code Constants.UNLIMITED_CAPACITY} if it has no limit.
      */
-    public int findGuestMemberInClass(Member member) {
-        for (int x = 0; x < this.guestMembersInClass.size(); x++) {
-            if (this.guestMembersInClass.get(x).equals(member)) {
-                return x;
-            }
-        }
+    public int getCapacity() {
+        return this.CAPACITY;
+    }
+
+    /**
+     * @return Returns true if every seat in the fitness class is taken, false otherwise.
+     */
+    public boolean isFull() {
+        return this.seatsTaken.get() >= this.CAPACITY;
+    }
 
-        return Constants.NOT_FOUND;
+    /**
+     * @param member Member to look for.
+     * @return true if the member is waiting for a seat themselves, false otherwise.
+     */
+    public boolean isWaitlisted(Member member) {
+        return this.waitlistedMembers.contains(member);
+    }
+
+    /**
+     * @return Returns the number of members and guests waiting for a seat. Counts the whole waitlist, so it is not constant time.
+     */
+    public int getWaitlistLength() {
+        return this.waitlist.size();
     }
 
+    /**
+     * @param member Member to look for.
+     * @return true if the member has a guest in the fitness class, false otherwise.
+     */
+    public synchronized boolean hasGuest(Member member) {
+        return this.guestsByMember.containsKey(member);
+    }
+
+    /**
+     * @return Returns a read-only copy of the members checked into the fitness class, in check in order.
+     */
+    public synchronized List<Member> getMembersInClass() {
+        return Collections.unmodifiableList(new ArrayList<>(this.membersInClass.values()));
+    }
+
+    /**
+     * @return Returns a read-only copy of the guests checked into the fitness class, in check in order. A member appears once per guest
+     * they brought.
+     */
+    public synchronized List<Member> getGuestMembersInClass() {
+        return Collections.unmodifiableList(new ArrayList<>(this.guestMembersInClass.values()));
+    }
 
     /**
-     * @return The size of the combined class. Only used for testing purposes.
+     * @return The size of the combined class, members and guests, from the admission counter.
      */
     public int getClassSize() {
-        return this.guestMembersInClass.size() + this.membersInClass.size();
+        return this.seatsTaken.get();
     }
 
     /**
-     * Looks for member in the members in class array list.
-     * @param member Member to find the array list index for.
-     * @return index of the member in the members in class array list, -1 otherwise.
+     * Looks for member in the members in class roster.
+     * @param member Member to look for. An equal copy of the member who checked in is found too.
+     * @return true if the member is in the members in class roster, false otherwise.
      */
-    public int findMemberInClass(Member member) {
-        for (int i = 0; i < this.membersInClass.size(); i++) {
-            if (this.membersInClass.get(i).equals(member)) {
-                return i;
-            }
-        }
+    public synchronized boolean hasMember(Member member) {
+        return this.membersInClass.containsKey(member);
+    }
 
-        return Constants.NOT_FOUND;
+    /**
+     * Checks if a member is checked into the fitness class in constant time, through the member's own time slots instead of the
+     * roster. The member must be the same object that checked in, as members from the member database are.
+     * @param member Member to look for.
+     * @return true if the member is checked into the fitness class, false otherwise.
+     */
+    public boolean isCheckedIn(Member member) {
+        return this.TIME != null && member.getClassAt(this.TIME) == this;
+    }
+
+    /**
+     * Starts or stops journaling the changes to the rosters of the class. The class schedule sets it for the classes it holds.
+     * @param journal Journal to record the changes to, null to stop journaling them.
+     */
+    public synchronized void setJournal(Journal journal) {
+        this.journal = journal;
     }
 
     /**
@@ -136,49 +290,265 @@ public class FitnessClass {
      * @return true if membership has expired, false otherwise.
      */
     public boolean checkIfMemberExpired(Member member) {
-        return member.getExpire().compareTo(new Date()) <= 0;
+        return member.isExpired();
     }
 
     /**
      * Drops guest member from fitness class.
-     * Removes guest member from guest members in class array list.
+     * Removes the member's guest who checked in first from the guest members in class roster.
      * @param member Guest member to drop from fitness class.
+     * @return true if a guest of the member was dropped, false if the member has no guest in the class.
      */
-    public void dropGuestMember(Member member) {
-        this.guestMembersInClass.remove(member);
+    public boolean dropGuestMember(Member member) {
+        synchronized (this) {
+            ArrayDeque<Long> guests = this.guestsByMember.get(member);
+
+            if (guests == null) {
+                return false;
+            }
+
+            this.guestMembersInClass.remove(guests.poll());
+            if (guests.isEmpty()) {
+                this.guestsByMember.remove(member);
+            }
+            if (this.journal != null) {
+                this.journal.recordDropGuest(this, member);
+            }
+        }
+
+        this.releaseSeat();
+        return true;
     }
 
     /**
      * Checks in guest member to fitness class.
-     * Adds guest member to guest members in class array list.
+     * Adds one more guest of the member to the guest members in class roster.
+     * Fails if: every seat in the class is taken.
      * @param member Guest member to add to fitness class.
+     * @return true if the guest is added to the guest members in class roster, false otherwise.
      */
-    public void checkInGuestMember(Member member) {
-        this.guestMembersInClass.add(member);
+    public boolean checkInGuestMember(Member member) {
+        if (!this.tryReserveSeat()) {
+            return false;
+        }
+
+        this.addGuest(member);
+        return true;
+    }
+
+    /**
+     * Puts a member's guest back into the fitness class without any checks. Only used to restore a saved roster, which may hold more
+     * guests than the class now has seats for.
+     * @param member Guest member to restore.
+     */
+    public synchronized void restoreGuestMember(Member member) {
+        this.seatsTaken.incrementAndGet();
+        this.putGuest(member);
+    }
+
+    /**
+     * Adds one more guest of the member to the guest members in class roster, into a seat already claimed for them.
+     * @param member Guest member to add to fitness class.
+     */
+    private synchronized void addGuest(Member member) {
+        this.putGuest(member);
+        if (this.journal != null) {
+            this.journal.recordCheckInGuest(this, member);
+        }
+    }
+
+    /**
+     * Adds a guest of the member at the end of the guest members in class roster. Must hold the fitness class.
+     * @param member Guest member to add.
+     */
+    private void putGuest(Member member) {
+        long guest = this.nextGuest++;
+        this.guestMembersInClass.put(guest, member);
+        this.guestsByMember.computeIfAbsent(member, guests -> new ArrayDeque<>()).add(guest);
     }
 
     /**
      * Checks in member to fitness class.
-     * Adds member to members in class array list.
-     * Fails if: member's membership is expired or if they are already in class.
+     * Adds member to members in class roster.
+     * Fails if: member's membership is expired, if they are already in class, if they are in another class at the same time, or if
+     * every seat in the class is taken.
      * @param member Member to check in.
-     * @return true if member is added to members in class array list, false otherwise.
+     * @return true if member is added to members in class roster, false otherwise.
      */
     public boolean checkIn(Member member) { // Assuming that they allowed to do this if they are calling this method.
-        if (!checkIfMemberExpired(member) && !this.membersInClass.contains(member)) {
-            this.membersInClass.add(member);
+        if (checkIfMemberExpired(member) || !this.tryReserveSeat()) {
+            return false;
+        }
+
+        if (this.addMember(member)) {
             return true;
         }
 
+        this.releaseSeat();
         return false;
     }
 
     /**
-     * Drops member from the members in class array list. Fails if member is not found with no return type.
+     * Adds member to members in class roster, into a seat already claimed for them.
+     * @param member Member to check in.
+     * @return true if member is added to members in class roster, false if they are already in class or in another class at the same
+     * time.
+     */
+    private synchronized boolean addMember(Member member) {
+        if (this.membersInClass.containsKey(member) || !member.occupyTimeSlot(this)) {
+            return false;
+        }
+
+        this.membersInClass.put(member, member);
+        if (this.journal != null) {
+            this.journal.recordCheckIn(this, member);
+        }
+        return true;
+    }
+
+    /**
+     * Puts a member back into the fitness class without any checks. Only used to restore a saved roster, where the member may have
+     * expired since they checked in.
+     * @param member Member to restore.
+     */
+    public synchronized void restoreMember(Member member) {
+        if (this.membersInClass.putIfAbsent(member, member) == null) {
+            this.seatsTaken.incrementAndGet();
+            member.occupyTimeSlot(this);
+        }
+    }
+
+    /**
+     * Drops member from the members in class roster. Fails if member is not found with no return type.
      * @param member Member to drop from class
      */
     public void dropClass(Member member) {
-       this.membersInClass.remove(member);
+        synchronized (this) {
+            Member removed = this.membersInClass.remove(member);
+
+            if (removed == null) {
+                return;
+            }
+
+            removed.freeTimeSlot(this);
+            if (this.journal != null) {
+                this.journal.recordDropClass(this, member);
+            }
+        }
+
+        this.releaseSeat();
+    }
+
+    /**
+     * Puts a member on the waitlist of the fitness class, then fills any seat that is free.
+     * Fails if the member is already on the waitlist.
+     * @param member Member to wait for a seat.
+     * @return true if the member joined the waitlist, false otherwise. The member may already be checked in when this returns, if a
+     * seat was free by then.
+     */
+    public boolean joinWaitlist(Member member) {
+        if (!this.waitlistedMembers.add(member)) {
+            return false;
+        }
+
+        this.waitlist.offer(new WaitlistEntry(member, false));
+        this.promoteWaitlist();
+        return true;
+    }
+
+    /**
+     * Puts a member's guest on the waitlist of the fitness class, then fills any seat that is free. The caller spends the guest pass
+     * when the guest joins the waitlist, and gives it back if the guest leaves it.
+     * @param member Member whose guest waits for a seat.
+     */
+    public void joinGuestWaitlist(Member member) {
+        this.waitlist.offer(new WaitlistEntry(member, true));
+        this.promoteWaitlist();
+    }
+
+    /**
+     * Takes a member off the waitlist of the fitness class.
+     * @param member Member to take off the waitlist.
+     * @return true if the member was on the waitlist, false if they were not, or were promoted first.
+     */
+    public boolean leaveWaitlist(Member member) {
+        return this.waitlistedMembers.contains(member) && this.removeFromWaitlist(member, false);
+    }
+
+    /**
+     * Takes one of a member's guests off the waitlist of the fitness class.
+     * @param member Member whose guest leaves the waitlist.
+     * @return true if a guest of the member was on the waitlist, false otherwise.
+     */
+    public boolean leaveGuestWaitlist(Member member) {
+        return this.removeFromWaitlist(member, true);
+    }
+
+    /**
+     * Removes the first waitlist entry of a member or of one of their guests. Whoever removes an entry from the queue, this method or
+     * a promotion, owns it, so an entry is never both promoted and removed.
+     * @param member Member whose entry to remove.
+     * @param guest True to remove an entry of one of the member's guests, false to remove the member's own entry.
+     * @return true if an entry was removed, false otherwise.
+     */
+    private boolean removeFromWaitlist(Member member, boolean guest) {
+        for (WaitlistEntry entry : this.waitlist) {
+            if (entry.guest == guest && entry.member.equals(member) && this.waitlist.remove(entry)) {
+                if (!guest) {
+                    this.waitlistedMembers.remove(member);
+                }
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Claims a seat with compare and set, without taking any lock.
+     * @return true if a seat was claimed, false if every seat is taken.
+     */
+    private boolean tryReserveSeat() {
+        int taken;
+
+        do {
+            taken = this.seatsTaken.get();
+            if (taken >= this.CAPACITY) {
+                return false;
+            }
+        } while (!this.seatsTaken.compareAndSet(taken, taken + 1));
+
+        return true;
+    }
+
+    /**
+     * Gives a seat back, then fills it from the waitlist.
+     */
+    private void releaseSeat() {
+        this.seatsTaken.decrementAndGet();
+        this.promoteWaitlist();
+    }
+
+    /**
+     * Moves members and guests from the head of the waitlist into free seats until the class is full or the waitlist is empty. A seat
+     * is claimed before an entry is taken, and the waitlist is checked again after a seat is given back, so a seat freed while a member
+     * joins the waitlist is never left empty.
+     */
+    private void promoteWaitlist() {
+        while (!this.waitlist.isEmpty() && this.tryReserveSeat()) {
+            WaitlistEntry entry = this.waitlist.poll();
+
+            if (entry == null) {
+                this.seatsTaken.decrementAndGet();
+            } else if (entry.guest) {
+                this.addGuest(entry.member);
+            } else {
+                this.waitlistedMembers.remove(entry.member);
+                if (checkIfMemberExpired(entry.member) || !this.addMember(entry.member)) {
+                    this.seatsTaken.decrementAndGet();
+                }
+            }
+        }
     }
 
     /**
@@ -189,7 +559,7 @@ public class FitnessClass {
      * guest members in class
      */
     @Override
-    public String toString() {
+    public synchronized String toString() {
         String returnString = String.format("%s - %s %s, %s\n", this.CLASS_NAME.toUpperCase(),
                 this.INSTRUCTOR_NAME.toUpperCase(), this.TIME.getTime(), this.LOCATION.getTown());
         StringBuilder sb = new StringBuilder(returnString);
@@ -197,7 +567,7 @@ public class FitnessClass {
         if (!this.membersInClass.isEmpty()) {
             sb.append("- Participants -\n");
 
-            for (Member inClass : this.membersInClass) {
+            for (Member inClass : this.membersInClass.values()) {
                 sb.append(String.format("\t %s\n", inClass));
             }
         }
@@ -205,8 +575,8 @@ public class FitnessClass {
         if (!this.guestMembersInClass.isEmpty()) {
             sb.append("- Guests -\n");
 
-            for (Member inClass : this.guestMembersInClass) {
-                sb.append(String.format("\t %s\n", inClass));
+            for (Member guest : this.guestMembersInClass.values()) {
+                sb.append(String.format("\t %s\n", guest));
             }
         }
 
@@ -215,26 +585,49 @@ public class FitnessClass {
 
 
     /**
-     * Checks if fitness class to compare is equal to current instance of fitness class using class name and instructor name.
+     * Checks if fitness class to compare is equal to current instance of fitness class using class name, instructor name and
+     * location. Names are compared ignoring case, through their dictionary ids.
      * @param fitnessClass Fitness class object to compare.
      * @return true if equal, false otherwise.
      */
     public boolean equalsNonVerbose(FitnessClass fitnessClass) {
-        return this.CLASS_NAME.equalsIgnoreCase(fitnessClass.getClassName())
-                && this.INSTRUCTOR_NAME.equalsIgnoreCase(fitnessClass.getInstructorName()) && this.LOCATION.equals(fitnessClass.getLocation());
+        return this.CLASS_NAME_ID == fitnessClass.CLASS_NAME_ID && this.INSTRUCTOR_NAME_ID == fitnessClass.INSTRUCTOR_NAME_ID
+                && this.LOCATION == fitnessClass.getLocation();
     }
 
     /**
      * Checks if fitness class to compare is equal to current instance of fitness class using class name, instructor name, time and location.
+     * Names are compared ignoring case, through their dictionary ids.
      * @param obj Fitness class object to compare.
      * @return true if equal, false otherwise.
      */
     @Override
     public boolean equals(Object obj) {
         FitnessClass fitnessClass = (FitnessClass) obj;
-        return this.CLASS_NAME.equalsIgnoreCase(fitnessClass.getClassName())
-                && this.INSTRUCTOR_NAME.equalsIgnoreCase(fitnessClass.getInstructorName())
-                && this.TIME.getTime().equalsIgnoreCase(fitnessClass.getTime()) && this.LOCATION.equals(fitnessClass.getLocation());
+        return this.equalsNonVerbose(fitnessClass) && this.TIME == fitnessClass.getTimeOfDay();
+    }
+
+    /**
+     * A member or a member's guest waiting for a seat. Entries are compared by identity, so each guest of a member is its own entry.
+     */
+    private static class WaitlistEntry {
+        /**
+         * The member waiting, or whose guest is waiting.
+         */
+        private final Member member;
+        /**
+         * True if the entry is for one of the member's guests.
+         */
+        private final boolean guest;
+
+        /**
+         * @param member The member waiting, or whose guest is waiting.
+         * @param guest True if the entry is for one of the member's guests.
+         */
+        private WaitlistEntry(Member member, boolean guest) {
+            this.member = member;
+            this.guest = guest;
+        }
     }
 }
 
@@ -0,0 +1,237 @@
+package gymmanager;
+
+import javafx.collections.ObservableListBase;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * This class holds the lines of the output console in a ring buffer of a fixed number of lines. Once the buffer is full, every new line
+ * evicts the oldest one, so appending a line costs the same however long the program has been running, and memory stays bounded.
+ * Evicted lines can be spilled to a log file, so nothing printed is lost, only moved out of the console.
+ * <br><br>
+ * The buffer is an observable list, so a {@code ListView} can show it directly and is told exactly which lines were added at the end and
+ * removed from the start, instead of laying out the whole text again like a {@code TextArea}. Every {@code write()} is reported as one
+ * change. Text is written the way {@code TextArea.appendText()} takes it: a write that does not end with a new line leaves the last line
+ * open, and the next write continues it.
+ * @author Hasnain Ali, Carolette Saguil
+ */
+public class ConsoleBuffer extends ObservableListBase<String> {
+    /**
+     * Lines in the buffer, from {@code head}, wrapping around.
+     */
+    private final String[] lines;
+    /**
+     * Index in {@code lines} of the oldest line.
+     */
+    private int head;
+    /**
+     * Number of lines in the buffer.
+     */
+    private int size;
+    /**
+     * Whether the last line is still open, because the text written so far did not end with a new line.
+     */
+    private boolean lastOpen;
+    /**
+     * Log file evicted lines are spilled to, null if they are dropped.
+     */
+    private BufferedWriter spill;
+    /**
+     * Number of lines evicted from the buffer.
+     */
+    private long evicted;
+    /**
+     * Error the log file failed with during the current write, null if none. Written to the buffer once the write is done.
+     */
+    private IOException spillError;
+
+    /**
+     * Instantiates an empty buffer that drops evicted lines.
+     * @param retainedLines Number of lines the buffer keeps.
+     * @throws IllegalArgumentException If {@code retainedLines} is not positive.
+     */
+    public ConsoleBuffer(int retainedLines) {
+        if (retainedLines <= 0) {
+            throw new IllegalArgumentException("Retained lines: " + retainedLines + " not valid.");
+        }
+
+        this.lines = new String[retainedLines];
+        this.head = 0;
+        this.size = 0;
+        this.lastOpen = false;
+        this.spill = null;
+        this.evicted = 0;
+        this.spillError = null;
+    }
+
+    /**
+     * Instantiates an empty buffer that appends evicted lines to a log file.
+     * @param retainedLines Number of lines the buffer keeps.
+     * @param spillFile Log file evicted lines are appended to. Created if it does not exist.
+     * @throws IllegalArgumentException If {@code retainedLines} is not positive.
+     * @throws IOException If the log file cannot be opened.
+     */
+    public ConsoleBuffer(int retainedLines, Path spillFile) throws IOException {
+        this(retainedLines);
+        this.spill = Files.newBufferedWriter(spillFile, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    /**
+     * @param index Index of a line, 0 for the oldest line in the buffer.
+     * @return Returns the line at that index.
+     */
+    @Override
+    public String get(int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException("Line: " + index + " not in console of " + this.size + " lines.");
+        }
+        return this.lines[(this.head + index) % this.lines.length];
+    }
+
+    /**
+     * @return Returns the number of lines in the buffer.
+     */
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * @return Returns the number of lines evicted from the buffer since it was created, whether spilled or dropped.
+     */
+    public long getEvictedLines() {
+        return this.evicted;
+    }
+
+    /**
+     * Appends text to the buffer, one line per new line in the text, evicting the oldest lines once the buffer is full. If spilling,
+     * the evicted lines are written to the log file and flushed before this returns. If the log file fails, spilling stops and the error
+     * is written to the buffer as a line.
+     * @param text Text to append.
+     */
+    public void write(String text) {
+        this.beginChange();
+        try {
+            int start = 0;
+            while (true) {
+                int end = text.indexOf('\n', start);
+                String piece = end < 0 ? text.substring(start) : text.substring(start, end);
+
+                if (this.lastOpen) {
+                    if (!piece.isEmpty()) {
+                        this.extendLast(piece);
+                    }
+                } else if (end >= 0 || !piece.isEmpty()) {
+                    this.push(piece);
+                }
+                this.lastOpen = end < 0 && (this.lastOpen || !piece.isEmpty());
+
+                if (end < 0) {
+                    break;
+                }
+                start = end + 1;
+            }
+            this.flushSpill();
+
+            if (this.spillError != null) {
+                this.lastOpen = false;
+                this.push(String.format("Console log could not be written, older lines are no longer kept: %s",
+                        this.spillError.getMessage()));
+                this.spillError = null;
+            }
+        } finally {
+            this.endChange();
+        }
+    }
+
+    /**
+     * Flushes and closes the log file, if spilling. Lines evicted afterwards are dropped.
+     * @throws IOException If the log file cannot be written.
+     */
+    public void close() throws IOException {
+        if (this.spill != null) {
+            BufferedWriter spill = this.spill;
+            this.spill = null;
+            spill.close();
+        }
+    }
+
+    /**
+     * Adds a line at the end, evicting the oldest line first if the buffer is full.
+     * @param line Line to add.
+     */
+    private void push(String line) {
+        if (this.size == this.lines.length) {
+            String oldest = this.lines[this.head];
+            this.lines[this.head] = null;
+            this.head = (this.head + 1) % this.lines.length;
+            this.size--;
+            this.evicted++;
+            this.nextRemove(0, oldest);
+            this.spillLine(oldest);
+        }
+
+        this.lines[(this.head + this.size) % this.lines.length] = line;
+        this.size++;
+        this.nextAdd(this.size - 1, this.size);
+    }
+
+    /**
+     * Continues the open last line.
+     * @param piece Text to add to the end of the last line.
+     */
+    private void extendLast(String piece) {
+        int last = (this.head + this.size - 1) % this.lines.length;
+        String line = this.lines[last];
+        this.lines[last] = line + piece;
+        this.nextSet(this.size - 1, line);
+    }
+
+    /**
+     * @param line Evicted line to write to the log file, if spilling.
+     */
+    private void spillLine(String line) {
+        if (this.spill == null) {
+            return;
+        }
+
+        try {
+            this.spill.write(line);
+            this.spill.newLine();
+        } catch (IOException ioException) {
+            this.stopSpilling(ioException);
+        }
+    }
+
+    /**
+     * Flushes the log file, if spilling.
+     */
+    private void flushSpill() {
+        if (this.spill == null) {
+            return;
+        }
+
+        try {
+            this.spill.flush();
+        } catch (IOException ioException) {
+            this.stopSpilling(ioException);
+        }
+    }
+
+    /**
+     * Stops spilling after the log file failed. The error is kept to be written to the buffer once the current write is done.
+     * @param ioException Error writing the log file.
+     */
+    private void stopSpilling(IOException ioException) {
+        try {
+            this.close();
+        } catch (IOException closeException) {
+            ioException.addSuppressed(closeException);
+        }
+        this.spillError = ioException;
+    }
+}
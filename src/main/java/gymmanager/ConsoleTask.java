@@ -0,0 +1,263 @@
+package gymmanager;
+
+import constants.Constants;
+import javafx.application.Platform;
+import javafx.concurrent.Task;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongConsumer;
+
+/**
+ * This class is a background task whose output goes to the output console, for loads and reports too slow to run on the JavaFX
+ * application thread. The work writes to a {@code Writer} that hands its text to the application thread in chunks of whole lines, up to
+ * {@code Constants.REPORT_CHUNK_SIZE} characters, and all the chunks waiting when the application thread gets to them are appended to
+ * the console at once, so a long report costs the application thread a few appends a frame instead of one per line. The work never
+ * waits for the application thread, so it can hold the member database's lock while it writes without the two ever waiting on each
+ * other.
+ * <br><br>
+ * The task reports progress either from the work, through {@code progressOf()}, or from the number of lines written out of the lines
+ * the work said to expect. Once the task is cancelled, its output is dropped and the next write fails, so the work stops at its next
+ * line even if it never checks for cancellation itself.
+ * @author Hasnain Ali, Carolette Saguil
+ */
+public class ConsoleTask extends Task<Void> {
+    /**
+     * The work of a console task, run on a background thread.
+     */
+    @FunctionalInterface
+    public interface Work {
+        /**
+         * Does the work of the task.
+         * @param task The task, to report progress through.
+         * @param out Where the output of the work is written to, for the output console.
+         * @throws IOException If the work fails, or {@code out} fails because the task was cancelled.
+         */
+        void run(ConsoleTask task, Writer out) throws IOException;
+    }
+
+    /**
+     * Console the output of the task is appended to.
+     */
+    private final OutputConsole console;
+    /**
+     * The work of the task.
+     */
+    private final Work work;
+    /**
+     * Chunks of output written but not yet appended to the console, oldest first.
+     */
+    private final ConcurrentLinkedQueue<String> chunks;
+    /**
+     * Whether the application thread has been asked to append the chunks waiting and has not started yet.
+     */
+    private final AtomicBoolean drainScheduled;
+    /**
+     * Number of lines the work expects to write, 0 if the work reports its own progress.
+     */
+    private volatile long expectedLines;
+
+    /**
+     * Instantiates a task that is not yet running, without a name.
+     * @param console Console the output of the task is appended to.
+     * @param work The work of the task.
+     */
+    private ConsoleTask(OutputConsole console, Work work) {
+        this.console = console;
+        this.work = work;
+        this.chunks = new ConcurrentLinkedQueue<>();
+        this.drainScheduled = new AtomicBoolean(false);
+        this.expectedLines = 0;
+    }
+
+    /**
+     * @param title Name of the task, as shown next to its progress.
+     * @param console Console the output of the task is appended to.
+     * @param work The work of the task.
+     * @return Returns a task that is not yet running.
+     */
+    public static ConsoleTask create(String title, OutputConsole console, Work work) {
+        ConsoleTask task = new ConsoleTask(console, work);
+        task.updateTitle(title);
+        return task;
+    }
+
+    /**
+     * Runs the work, then appends whatever output is still buffered.
+     * @return Returns null.
+     * @throws IOException If the work fails or was cancelled.
+     */
+    @Override
+    protected Void call() throws IOException {
+        try (ChunkWriter out = new ChunkWriter()) {
+            this.work.run(this, out);
+        }
+        return null;
+    }
+
+    /**
+     * Reports progress from the number of lines written, once the work knows how many lines it will write.
+     * @param lines Number of lines the work will write.
+     */
+    public void expectLines(long lines) {
+        this.expectedLines = lines;
+        this.updateProgress(0, lines);
+    }
+
+    /**
+     * @param workDone Work done so far.
+     * @param max Work to do in total.
+     */
+    public void reportProgress(long workDone, long max) {
+        this.updateProgress(workDone, max);
+    }
+
+    /**
+     * @param file File the work reads from start to end.
+     * @return Returns a listener that reports the number of bytes of {@code file} read so far as the progress of the task. It reports
+     * nothing if the file is not found.
+     * @throws IOException If the size of the file cannot be read.
+     */
+    public LongConsumer progressOf(Path file) throws IOException {
+        if (Files.notExists(file)) {
+            return bytesRead -> {
+            };
+        }
+
+        long fileSize = Files.size(file);
+        return bytesRead -> this.updateProgress(bytesRead, fileSize);
+    }
+
+    /**
+     * Hands a chunk of output to the application thread, asking it to append the chunks waiting unless it has already been asked.
+     * @param chunk Chunk of output.
+     */
+    private void post(String chunk) {
+        this.chunks.add(chunk);
+        if (this.drainScheduled.compareAndSet(false, true)) {
+            Platform.runLater(this::drain);
+        }
+    }
+
+    /**
+     * Appends every chunk waiting to the console as one piece of text, unless the task was cancelled. Runs on the application thread.
+     */
+    private void drain() {
+        this.drainScheduled.set(false);
+
+        StringBuilder text = new StringBuilder();
+        String chunk;
+        while ((chunk = this.chunks.poll()) != null) {
+            text.append(chunk);
+        }
+        if (!this.isCancelled()) {
+            this.console.appendText(text.toString());
+        }
+    }
+
+    /**
+     * This class is the {@code Writer} the work writes its output to. It buffers up to {@code Constants.REPORT_CHUNK_SIZE} characters
+     * before handing the whole lines among them to the application thread, so the output of tasks running at once never splits a line,
+     * counts the lines handed over for progress, and fails once the task is cancelled.
+     */
+    private class ChunkWriter extends Writer {
+        /**
+         * Characters waiting to be handed over.
+         */
+        private final char[] buffer;
+        /**
+         * Number of characters currently in {@code buffer}.
+         */
+        private int count;
+        /**
+         * Number of lines handed over.
+         */
+        private long lines;
+
+        /**
+         * Instantiates an empty writer.
+         */
+        ChunkWriter() {
+            this.buffer = new char[Constants.REPORT_CHUNK_SIZE];
+            this.count = 0;
+            this.lines = 0;
+        }
+
+        /**
+         * Buffers {@code length} characters of {@code chars}, handing the whole lines buffered to the application thread every time the
+         * buffer fills up. A line longer than the buffer is handed over in pieces.
+         * @param chars Characters to write.
+         * @param offset Index of the first character to write.
+         * @param length Number of characters to write.
+         * @throws InterruptedIOException If the task was cancelled.
+         */
+        @Override
+        public void write(char[] chars, int offset, int length) throws InterruptedIOException {
+            if (ConsoleTask.this.isCancelled()) {
+                throw new InterruptedIOException("Task cancelled");
+            }
+
+            while (length > 0) {
+                int copied = Math.min(length, this.buffer.length - this.count);
+                System.arraycopy(chars, offset, this.buffer, this.count, copied);
+                this.count += copied;
+                offset += copied;
+                length -= copied;
+
+                if (this.count == this.buffer.length) {
+                    int lineEnd = this.count;
+                    while (lineEnd > 0 && this.buffer[lineEnd - 1] != '\n') {
+                        lineEnd--;
+                    }
+                    this.handOver(lineEnd == 0 ? this.count : lineEnd);
+                }
+            }
+        }
+
+        /**
+         * Hands whatever is buffered to the application thread.
+         */
+        @Override
+        public void flush() {
+            this.handOver(this.count);
+        }
+
+        /**
+         * Hands the first {@code length} characters buffered to the application thread, keeping the rest, and reports the lines written
+         * so far if the work expects a number of lines.
+         * @param length Number of characters to hand over.
+         */
+        private void handOver(int length) {
+            if (length == 0 || ConsoleTask.this.isCancelled()) {
+                return;
+            }
+
+            for (int x = 0; x < length; x++) {
+                if (this.buffer[x] == '\n') {
+                    this.lines++;
+                }
+            }
+            ConsoleTask.this.post(new String(this.buffer, 0, length));
+            System.arraycopy(this.buffer, length, this.buffer, 0, this.count - length);
+            this.count -= length;
+
+            long expected = ConsoleTask.this.expectedLines;
+            if (expected > 0) {
+                ConsoleTask.this.updateProgress(Math.min(this.lines, expected), expected);
+            }
+        }
+
+        /**
+         * Hands whatever is buffered to the application thread.
+         */
+        @Override
+        public void close() {
+            this.flush();
+        }
+    }
+}
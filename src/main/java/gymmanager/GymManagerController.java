@@ -1,9 +1,10 @@
 package gymmanager;
 
+import checkin.CheckInService;
 import constants.Constants;
 import date.Date;
 import enums.Location;
-import enums.Time;
+import enums.MemberReport;
 import fitness_classes.ClassSchedule;
 import fitness_classes.FitnessClass;
 import javafx.fxml.FXML;
@@ -13,11 +14,17 @@ import member.Family;
 import member.Member;
 import member.MemberDatabase;
 import member.Premium;
+import persistence.Journal;
 
+import java.io.IOException;
 import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.format.DateTimeFormatter;
-import java.util.Objects;
+import java.util.ArrayList;
 import java.util.ResourceBundle;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * This is the controller class for the Gym Manager application. It will handle all ActionEvents, button clicks, and any other
@@ -26,6 +33,24 @@ import java.util.ResourceBundle;
  * @author Hasnain Ali, Carolette Saguil
  */
 public class GymManagerController implements Initializable {
+    /**
+     * Thread the loads run on, one at a time, so that a load only starts once the load before it has stopped, even if it was cancelled,
+     * and two loads never interleave their changes.
+     */
+    private static final ExecutorService LOAD_EXECUTOR = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "gym-manager-load");
+        thread.setDaemon(true);
+        return thread;
+    });
+    /**
+     * Threads the reports run on. Reports only read, so they run alongside each other, a load, and the front desk.
+     */
+    private static final ExecutorService REPORT_EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "gym-manager-report");
+        thread.setDaemon(true);
+        return thread;
+    });
+
     /**
      * The first name text field for the member tab.
      */
@@ -68,10 +93,33 @@ public class GymManagerController implements Initializable {
     @FXML
     private RadioButton premiumMembershipRadioButton;
     /**
-     * This is the text area where all the program output will be displayed.
+     * This is the list view where all the program output will be displayed.
+     */
+    @FXML
+    private ListView<String> outputListView;
+    /**
+     * This is the console shown in the output list view, which keeps the latest lines of program output.
+     */
+    private OutputConsole outputConsole;
+    /**
+     * The progress bar of the load or report running.
      */
     @FXML
-    private TextArea outputTextArea;
+    private ProgressBar taskProgressBar;
+    /**
+     * The label naming the load or report shown.
+     */
+    @FXML
+    private Label taskStatusLabel;
+    /**
+     * The button that cancels the load or report shown. Disabled while none is running.
+     */
+    @FXML
+    private Button cancelTaskButton;
+    /**
+     * The loads and reports running or waiting to run, in the order they were started. The progress of the last one is shown.
+     */
+    private ArrayList<ConsoleTask> runningTasks;
     /**
      * This is the choice box for selecting a class when adding a member to a class. It will not be selectable until the user loads a class schedule.
      */
@@ -105,6 +153,10 @@ public class GymManagerController implements Initializable {
      * This is the class schedule that will be initialized once the controller has been loaded.
      */
     private static ClassSchedule classSchedule;
+    /**
+     * This checks members into and out of the fitness classes in the class schedule.
+     */
+    private static CheckInService checkInService;
 
     /**
      * @param arg0 The location used to resolve relative paths for the root object, or
@@ -112,13 +164,48 @@ public class GymManagerController implements Initializable {
      * @param arg1 The resources used to localize the root object, or {@code null} if
      *             the root object was not localized.
      * This is method will initialize the class schedule and the member database state for the Gym Manager GUI. It will be called automatically upon the start of the program.
+     * The state saved by the last run is restored from the snapshot and the journal, and every change from now on is journaled. The first
+     * and last name fields of both tabs suggest members from the member database as names are typed. The output console keeps the latest
+     * {@code Constants.CONSOLE_RETAINED_LINES} lines, and older lines are moved to the console log file.
      */
     @Override
     public void initialize(URL arg0, ResourceBundle arg1) {
+        this.runningTasks = new ArrayList<>();
+        if (Constants.CONSOLE_SPILL_TO_FILE) {
+            try {
+                this.outputConsole = new OutputConsole(this.outputListView, Constants.CONSOLE_RETAINED_LINES,
+                        Path.of(Constants.CONSOLE_SPILL_FROM_CONTENT_ROOT));
+            } catch (IOException ioException) {
+                this.outputConsole = new OutputConsole(this.outputListView, Constants.CONSOLE_RETAINED_LINES);
+                this.outputConsole.appendText(String.format("Console log could not be opened: %s\n", ioException.getMessage()));
+            }
+        } else {
+            this.outputConsole = new OutputConsole(this.outputListView, Constants.CONSOLE_RETAINED_LINES);
+        }
+
         this.locationChoiceBox.getItems().addAll(Constants.LOCATIONS);
         this.locationFitnessClassChoiceBox.getItems().addAll(Constants.LOCATIONS);
-        memberDatabase = new MemberDatabase();
-        classSchedule = new ClassSchedule();
+
+        try {
+            Journal journal = Journal.open(Path.of(Constants.SNAPSHOT_FROM_CONTENT_ROOT), Path.of(Constants.JOURNAL_FROM_CONTENT_ROOT));
+            memberDatabase = journal.getMemberDatabase();
+            classSchedule = journal.getClassSchedule();
+
+            this.addClassChoices();
+
+            if (memberDatabase.getSize() > 0 || classSchedule.getNumClasses() > 0) {
+                this.outputConsole.appendText(String.format("Restored %d members and %d fitness classes.\n", memberDatabase.getSize(),
+                        classSchedule.getNumClasses()));
+            }
+        } catch (IOException exception) {
+            memberDatabase = new MemberDatabase();
+            classSchedule = new ClassSchedule();
+            this.outputConsole.appendText(String.format("Saved state could not be restored: %s\n", exception.getMessage()));
+        }
+        checkInService = new CheckInService(memberDatabase, classSchedule);
+        new MemberTypeAhead(memberDatabase, this.firstNameTextField, this.lastNameTextField, this.dobDatePicker);
+        new MemberTypeAhead(memberDatabase, this.firstNameFitnessClassTextField, this.lastNameFitnessClassTextField,
+                this.fitnessClassDobDatePicker);
     }
 
     /**
@@ -127,23 +214,23 @@ public class GymManagerController implements Initializable {
      */
     private boolean checkAddInputs() {
         if (this.firstNameTextField.getText().trim().isEmpty()) {
-            this.outputTextArea.appendText("First Name Field Empty!\n");
+            this.outputConsole.appendText("First Name Field Empty!\n");
             this.clearMembershipArea();
             return false;
         } else if (this.lastNameTextField.getText().trim().isEmpty()) {
-            this.outputTextArea.appendText("Last Name Field Empty\n");
+            this.outputConsole.appendText("Last Name Field Empty\n");
             this.clearMembershipArea();
             return false;
         } else if (this.dobDatePicker.getValue() == null) {
-            this.outputTextArea.appendText("Date Not Selected and / or Date is invalid\n");
+            this.outputConsole.appendText("Date Not Selected and / or Date is invalid\n");
             this.clearMembershipArea();
             return false;
         } else if (this.locationChoiceBox.getValue() == null) {
-            this.outputTextArea.appendText("Location Is Empty\n");
+            this.outputConsole.appendText("Location Is Empty\n");
             this.clearMembershipArea();
             return false;
         } else if (!(this.standardMembershipRadioButton.isSelected() || this.familyMembershipRadioButton.isSelected() || this.premiumMembershipRadioButton.isSelected())) {
-            this.outputTextArea.appendText("Membership Not Selected\n");
+            this.outputConsole.appendText("Membership Not Selected\n");
             this.clearMembershipArea();
             return false;
         }
@@ -172,7 +259,7 @@ public class GymManagerController implements Initializable {
      * Fails if: date of birth is invalid, date of birth is in the future, member is younger than 18 years old,
      * location is invalid, or if member is already in the database. The corresponding error message will be displayed
      * in the output text field. Otherwise, upon success, the member will be added to the database successfully and a corresponding message
-     * will be displayed in the output text area. Additionally, any invalid dates entered will be rejected.
+     * will be displayed in the output console. Additionally, any invalid dates entered will be rejected.
      */
     @FXML
     protected void addMember() {
@@ -184,13 +271,13 @@ public class GymManagerController implements Initializable {
             Location location = Location.returnEnumFromString(this.locationChoiceBox.getValue());
 
             if (location == null) {
-                this.outputTextArea.appendText("Invalid Location\n");
+                this.outputConsole.appendText("Invalid Location\n");
                 return;
             } else if (!dob.isValid()) {
-                this.outputTextArea.appendText(String.format("DOB %s: invalid calendar date!\n", dob));
+                this.outputConsole.appendText(String.format("DOB %s: invalid calendar date!\n", dob));
                 return;
             } else if (!dob.checkMemberAge()) {
-                this.outputTextArea.appendText(String.format("DOB %s: must be 18 or older to join!\n", dob));
+                this.outputConsole.appendText(String.format("DOB %s: must be 18 or older to join!\n", dob));
                 return;
             }
 
@@ -208,10 +295,10 @@ public class GymManagerController implements Initializable {
 
             if (memberDatabase.add(member)) {
                 String outputString = String.format("%s %s added.\n", member.getFname(), member.getLname());
-                this.outputTextArea.appendText(outputString);
+                this.outputConsole.appendText(outputString);
             } else {
                 String outputString = String.format("%s %s is already in the database.\n", member.getFname(), member.getLname());
-                this.outputTextArea.appendText(outputString);
+                this.outputConsole.appendText(outputString);
             }
 
             this.clearMembershipArea();
@@ -228,13 +315,13 @@ public class GymManagerController implements Initializable {
     @FXML
     protected void removeMember() {
         if (this.firstNameTextField.getText().trim().isEmpty()) {
-            this.outputTextArea.appendText("First Name Field Empty!\n");
+            this.outputConsole.appendText("First Name Field Empty!\n");
             return;
         } else if (this.lastNameTextField.getText().trim().isEmpty()) {
-            this.outputTextArea.appendText("Last Name Field Empty\n");
+            this.outputConsole.appendText("Last Name Field Empty\n");
             return;
         } else if (this.dobDatePicker.getValue() == null) {
-            this.outputTextArea.appendText("Date Not Selected and / or the Date is Invalid\n");
+            this.outputConsole.appendText("Date Not Selected and / or the Date is Invalid\n");
             return;
         }
 
@@ -242,177 +329,20 @@ public class GymManagerController implements Initializable {
         String lastName = this.lastNameTextField.getText().trim();
         Date dob = new Date(this.dobDatePicker.getValue().format(DateTimeFormatter.ofPattern("MM/dd/yyyy")));
 
-        Member member = new Member(firstName, lastName, dob, null, null);
+        Member member = Member.probe(firstName, lastName, dob);
         Member memberToRemove = memberDatabase.getMember(memberDatabase.find(member));
         this.clearMembershipArea();
         if (memberToRemove == null) {
             String outputText = String.format("Member %s %s - %s not found in database.\n", firstName, lastName, dob);
-            this.outputTextArea.appendText(outputText);
+            this.outputConsole.appendText(outputText);
             return;
         } else if (memberDatabase.remove(memberToRemove)) {
             String outputText = String.format("Removed %s %s - %s from the database.\n", firstName, lastName, dob);
-            this.outputTextArea.appendText(outputText);
+            this.outputConsole.appendText(outputText);
             return;
         }
 
-        outputTextArea.appendText(String.format("Something went seriously wrong when trying to remove %s %s - %s\n", firstName, lastName, dob));
-    }
-
-    /**
-     * @param classSchedule The ClassSchedule Object that has all the class schedules.
-     * @param className The name of the class.
-     * @param instructorName The name of the instructor.
-     * @param location The name of the location.
-     * @return The index of the specified class in the class schedule.
-     */
-    private int returnClassIndex(ClassSchedule classSchedule, String className, String instructorName, Location location) {
-        FitnessClass[] fitnessClasses = classSchedule.getAllClasses();
-        FitnessClass fitnessClass = new FitnessClass(null, className, instructorName, location);
-
-        for (int x = 0; x < classSchedule.getNumClasses(); x++) {
-            if (fitnessClass.equalsNonVerbose(fitnessClasses[x])) {
-                return x;
-            }
-        }
-
-        return Constants.NOT_FOUND;
-    }
-
-    /**
-     * @param classSchedule Schedule of all fitness classes
-     * @param memberToAdd The member we want to check for a time conflict
-     * @param fitnessClass The fitness class desired to check in the {@code classSchedule} for a time conflict
-     * @return The fitness class that has a time conflict in {@code fitnessClass}.
-     */
-    private FitnessClass checkForTimeConflict(ClassSchedule classSchedule, Member memberToAdd, FitnessClass fitnessClass) {
-        Time time = Time.returnTimeFromString(fitnessClass.getTime());
-        FitnessClass[] allClasses = classSchedule.getAllClasses();
-
-        for (int x = 0; x < classSchedule.getNumClasses(); x++) {
-            if (fitnessClass.equalsNonVerbose(allClasses[x])) {
-                continue;
-            }
-            if (allClasses[x].findMemberInClass(memberToAdd) != Constants.NOT_FOUND && allClasses[x].getTime().equalsIgnoreCase(time.getTime())) {
-                return allClasses[x];
-            }
-        }
-
-        return null;
-    }
-
-    /**
-     * @param className The name of the class
-     * @param classSchedule The ClassSchedule Object that has all the class schedules.
-     * @return Whether the class name is valid against the {@code classSchedule}.
-     */
-    private boolean checkValidClassName(String className, ClassSchedule classSchedule) {
-        FitnessClass[] fitnessClasses = classSchedule.getAllClasses();
-        for (int x = 0; x < classSchedule.getNumClasses(); x++) {
-            if (fitnessClasses[x].getClassName().equalsIgnoreCase(className)) {
-                return true;
-            }
-        }
-
-        return false;
-    }
-
-    /**
-     * @param instructorName The name of the instructor
-     * @param classSchedule The ClassSchedule Object that has all the class schedules.
-     * @return Whether the instructor is valid against the {@code classSchedule}.
-     */
-    private boolean checkValidInstructor(String instructorName, ClassSchedule classSchedule) {
-        FitnessClass[] fitnessClasses = classSchedule.getAllClasses();
-        for (int x = 0; x < classSchedule.getNumClasses(); x++) {
-            if (fitnessClasses[x].getInstructorName().equalsIgnoreCase(instructorName)) {
-                return true;
-            }
-        }
-
-        return false;
-    }
-
-    /**
-     * @param location The fitness class location as a {@code String}
-     * @return Checks whether the {@code location} is valid.
-     */
-    private boolean checkValidLocation(String location) {
-        return Location.returnEnumFromString(location) != null;
-    }
-
-
-    /**
-     * @param inputData The data passed in the fitness class tab when the client is interacting with fitness class database.
-     * @param member The member that we want to check for.
-     * @param classSchedule The ClassSchedule Object that has all the class schedules.
-     * @return Whether the input from the fitness class tab in the GUI is valid and whether this user / gust is able to be added / removed
-     * from the fitness class database.
-     */
-    public boolean checkGeneralInput(String[] inputData, Member member, ClassSchedule classSchedule) {
-        FitnessClass[] fitnessClasses = classSchedule.getAllClasses();
-
-        if (!checkValidClassName(inputData[1], classSchedule)) {
-            this.outputTextArea.appendText(String.format("%s — class does not exist.\n", inputData[1]));
-            return false;
-        } else if (!checkValidInstructor(inputData[2], classSchedule)) {
-            this.outputTextArea.appendText(String.format("%s — instructor does not exist.\n", inputData[2]));
-            return false;
-        } else if (!checkValidLocation(inputData[3])) {
-            this.outputTextArea.appendText(String.format("%s — location does not exist.\n", inputData[3]));
-            return false;
-        }
-
-        int classIndex = returnClassIndex(classSchedule, inputData[1], inputData[2], Location.returnEnumFromString(inputData[3]));
-
-        if (classIndex == Constants.NOT_FOUND) {
-            this.outputTextArea.appendText(String.format("%s class by %s does not exist.\n", inputData[1], inputData[2]));
-            return false;
-        } else if (!(new Date(inputData[6]).isValid())) {
-            this.outputTextArea.appendText(String.format("DOB %s: invalid calendar date!\n", new Date(inputData[6])));
-            return false;
-        } else if (member == null) {
-            this.outputTextArea.appendText(String.format("%s %s %s does not exist in database.\n", inputData[4], inputData[5], new Date(inputData[6])));
-            return false;
-        } else if (fitnessClasses[classIndex].checkIfMemberExpired(member)) {
-            this.outputTextArea.appendText(String.format("%s %s %s membership expired.\n", inputData[4], inputData[5], member.getDob()));
-            return false;
-        }
-
-        return true;
-    }
-
-    /**
-     * @param inputData The data passed in the fitness class tab when the client is interacting with fitness class database.
-     * @param memberToCheckIn The member we want to check in.
-     * @param classSchedule The ClassSchedule Object that has all the class schedules.
-     * @return Checks whether the entered fitness class corresponds to a fitness class in the database and whether the member / guest is able to
-     * actually check in. This function checks and calls all related helper functions to check if a member is able to be added into the member database.
-     */
-    private boolean checkFitnessClassesWithCheckInClass(String[] inputData, Member memberToCheckIn, ClassSchedule classSchedule) {
-        FitnessClass[] fitnessClasses = classSchedule.getAllClasses();
-
-        if (!checkGeneralInput(inputData, memberToCheckIn, classSchedule)) {
-            return false;
-        }
-
-        int classIndex = returnClassIndex(classSchedule, inputData[1], inputData[2], Location.returnEnumFromString(inputData[3]));
-
-        if (!(memberToCheckIn instanceof Family) && !memberToCheckIn.getLocation().equals(fitnessClasses[classIndex].getLocation())) {
-            this.outputTextArea.appendText(String.format("%s %s checking in %s - standard membership location restriction", inputData[4], inputData[5], Location.returnEnumFromString(inputData[3])));
-            return false;
-        } else if ( !(fitnessClasses[classIndex].findMemberInClass(memberToCheckIn) == Constants.NOT_FOUND) ) {
-            this.outputTextArea.appendText(String.format("%s %s has already checked into %s.\n", inputData[4], inputData[5], fitnessClasses[classIndex].getClassName()));
-            return false;
-        }
-
-        FitnessClass timeConflict = this.checkForTimeConflict(classSchedule, memberToCheckIn, fitnessClasses[classIndex]);
-
-        if (timeConflict != null) {
-            this.outputTextArea.appendText(String.format("%s time conflict -- %s %s has already checked into %s\n", fitnessClasses[classIndex].getClassName(), inputData[4], inputData[5], Objects.requireNonNull(this.checkForTimeConflict(classSchedule, memberToCheckIn, fitnessClasses[classIndex])).getClassName()));
-            return false;
-        }
-
-        return true;
+        this.outputConsole.appendText(String.format("Something went seriously wrong when trying to remove %s %s - %s\n", firstName, lastName, dob));
     }
 
     /**
@@ -421,27 +351,27 @@ public class GymManagerController implements Initializable {
      */
     private boolean checkFitnessClassInputs() {
         if (classSchedule.getNumClasses() == 0) {
-            this.outputTextArea.appendText("No classes have been added yet. Please go to the information hub to load all fitness classes\n");
+            this.outputConsole.appendText("No classes have been added yet. Please go to the information hub to load all fitness classes\n");
             return false;
         }
 
         if (this.classChoiceBox.getValue() == null) {
-            this.outputTextArea.appendText("Class Field Empty! Please go to the information hub to load in the fitness classes.\n");
+            this.outputConsole.appendText("Class Field Empty! Please go to the information hub to load in the fitness classes.\n");
             return false;
         } else if (this.instructorChoiceBox.getValue() == null) {
-            this.outputTextArea.appendText("Instructor Name Field Empty! Please go to the information hub to load in the fitness classes to get a list of instructor names.\n");
+            this.outputConsole.appendText("Instructor Name Field Empty! Please go to the information hub to load in the fitness classes to get a list of instructor names.\n");
             return false;
         } else if (this.firstNameFitnessClassTextField.getText().trim().isEmpty()) {
-            this.outputTextArea.appendText("First Name Field Empty!\n");
+            this.outputConsole.appendText("First Name Field Empty!\n");
             return false;
         } else if (this.lastNameFitnessClassTextField.getText().trim().isEmpty()) {
-            this.outputTextArea.appendText("Last Name Field Empty\n");
+            this.outputConsole.appendText("Last Name Field Empty\n");
             return false;
         } else if (this.fitnessClassDobDatePicker.getValue() == null) {
-            this.outputTextArea.appendText("DOB Not Selected\n");
+            this.outputConsole.appendText("DOB Not Selected\n");
             return false;
         } else if (this.locationFitnessClassChoiceBox.getValue() == null) {
-            this.outputTextArea.appendText("Location Is Empty\n");
+            this.outputConsole.appendText("Location Is Empty\n");
             return false;
         }
 
@@ -459,6 +389,21 @@ public class GymManagerController implements Initializable {
         this.fitnessClassDobDatePicker.setValue(null);
     }
 
+    /**
+     * @return Returns the data entered in the fitness class tab as the input data the check in service takes: index 1 is the class name,
+     * 2 the instructor name, 3 the location, 4 the first name, 5 the last name, and 6 the date of birth.
+     */
+    private String[] fitnessClassInputData() {
+        String firstName = this.firstNameFitnessClassTextField.getText().trim();
+        String lastName = this.lastNameFitnessClassTextField.getText().trim();
+        Date dob = new Date(this.fitnessClassDobDatePicker.getValue().format(DateTimeFormatter.ofPattern("MM/dd/yyyy")));
+        Location location = Location.returnEnumFromString(this.locationFitnessClassChoiceBox.getValue());
+
+        assert location != null;
+        return new String[] {null, this.classChoiceBox.getValue(), this.instructorChoiceBox.getValue(), location.getTown(), firstName, lastName,
+                dob.toString()};
+    }
+
     /**
      * Will check in a member into a fitness class if they are allowed into the fitness class. We will check for invalid or missing inputs
      * in the GUI and we will check for all possible reasons a member may not be allowed to check into the fitness class (like location errors or expired memberships). If they
@@ -467,28 +412,7 @@ public class GymManagerController implements Initializable {
     @FXML
     protected void checkInMember() {
         if (checkFitnessClassInputs()) {
-            FitnessClass[] fitnessClasses = classSchedule.getAllClasses();
-            String firstName = this.firstNameFitnessClassTextField.getText().trim();
-            String lastName = this.lastNameFitnessClassTextField.getText().trim();
-            Date dob = new Date(this.fitnessClassDobDatePicker.getValue().format(DateTimeFormatter.ofPattern("MM/dd/yyyy")));
-            Location location = Location.returnEnumFromString(this.locationFitnessClassChoiceBox.getValue());
-            String className = this.classChoiceBox.getValue();
-            String instructorName = this.instructorChoiceBox.getValue();
-
-            Member memberToCheckIn = memberDatabase.getMember(memberDatabase.find(new Member(firstName, lastName, dob, null, location)));
-
-            assert location != null;
-            String[] dataArray = {null, className, instructorName, location.getTown(), firstName, lastName, dob.toString()};
-
-            if (!checkFitnessClassesWithCheckInClass(dataArray, memberToCheckIn, classSchedule)) {
-                return;
-            }
-
-            int classIndex = returnClassIndex(classSchedule, dataArray[1], dataArray[2], Location.returnEnumFromString(dataArray[3]));
-
-            fitnessClasses[classIndex].checkIn(memberToCheckIn);
-            String outputText = String.format("%s %s checked into %s\n", memberToCheckIn.getFname(), memberToCheckIn.getLname(), fitnessClasses[classIndex]);
-            this.outputTextArea.appendText(outputText);
+            this.outputConsole.appendText(checkInService.checkInMember(this.fitnessClassInputData()).getMessage());
         }
     }
 
@@ -500,48 +424,8 @@ public class GymManagerController implements Initializable {
     @FXML
     protected void checkInGuest() {
         if (checkFitnessClassInputs()) {
-            FitnessClass[] fitnessClasses = classSchedule.getAllClasses();
-            String firstName = this.firstNameFitnessClassTextField.getText().trim();
-            String lastName = this.lastNameFitnessClassTextField.getText().trim();
-            Date dob = new Date(this.fitnessClassDobDatePicker.getValue().format(DateTimeFormatter.ofPattern("MM/dd/yyyy")));
-            Location location = Location.returnEnumFromString(this.locationFitnessClassChoiceBox.getValue());
-            String className = this.classChoiceBox.getValue();
-            String instructorName = this.instructorChoiceBox.getValue();
-
-            Member member = new Member(firstName, lastName, dob, null, location);
-            member = memberDatabase.getMember(memberDatabase.find(member));
-
-            if (member instanceof Family) { // If member is a family instance, that means it may also be a Premium. Either way, they have guest permissions
-                FitnessClass fitnessClassToCheckInto;
-
-                if (((Family) member).getGuestPasses() <= 0) {
-                    this.outputTextArea.appendText(String.format("%s %s ran out of guest passes\n", member.getFname(), member.getLname()));
-                    return;
-                }
-
-                if (!member.getLocation().equals(location)) {
-                    this.outputTextArea.appendText(String.format("%s %s Guest checking in %s - guest location restricted\n", firstName, lastName, location));
-                    return;
-                }
-
-                for (int x = 0; x < classSchedule.getNumClasses(); x++) {
-                    if (fitnessClasses[x].getClassName().equalsIgnoreCase(className) &&
-                            fitnessClasses[x].getInstructorName().equalsIgnoreCase(instructorName) && fitnessClasses[x].getLocation().equals(location)) {
-                        fitnessClassToCheckInto = fitnessClasses[x];
-
-                        ((Family) member).setGuestPasses((short) (((Family) member).getGuestPasses() - 1));
-                        fitnessClassToCheckInto.checkInGuestMember(member);
-                        this.outputTextArea.appendText(String.format("%s %s (guest) checked into %s\n", member.getFname(), member.getLname(), fitnessClasses[x]));
-                        return;
-                    }
-                }
-
-                this.outputTextArea.appendText("Invalid class!\n");
-            } else {
-                this.outputTextArea.appendText("Standard membership - guest check-in is not allowed.\n");
-            }
+            this.outputConsole.appendText(checkInService.checkInGuest(this.fitnessClassInputData()).getMessage());
         }
-
     }
 
     /**
@@ -552,38 +436,7 @@ public class GymManagerController implements Initializable {
     @FXML
     protected void checkOutMember() {
         if (checkFitnessClassInputs()) {
-            FitnessClass[] fitnessClasses = classSchedule.getAllClasses();
-            String firstName = this.firstNameFitnessClassTextField.getText().trim();
-            String lastName = this.lastNameFitnessClassTextField.getText().trim();
-            Date dob = new Date(this.fitnessClassDobDatePicker.getValue().format(DateTimeFormatter.ofPattern("MM/dd/yyyy")));
-            Location location = Location.returnEnumFromString(this.locationFitnessClassChoiceBox.getValue());
-            String className = this.classChoiceBox.getValue();
-            String instructorName = this.instructorChoiceBox.getValue();
-
-            assert location != null;
-            String[] inputData = {null, className, instructorName, location.getTown(), firstName, lastName, dob.toString()};
-            Member memberToRemove = memberDatabase.getMember(memberDatabase.find(new Member(inputData[4], inputData[5], new Date(inputData[6]), null, null)));
-
-            if (!checkGeneralInput(inputData, memberToRemove, classSchedule)) {
-                return;
-            }
-
-            int classIndex = returnClassIndex(classSchedule, inputData[1], inputData[2], Location.returnEnumFromString(inputData[3]));
-
-
-            if (classIndex == Constants.NOT_FOUND) {
-                this.outputTextArea.appendText("Class Not Found\n");
-                return;
-            }
-
-            if (classSchedule.getSpecificClass(classIndex).findMemberInClass(memberToRemove) == Constants.NOT_FOUND) {
-                this.outputTextArea.appendText(String.format("%s %s did not check in\n", memberToRemove.getFname(), memberToRemove.getLname()));
-                return;
-            }
-
-
-            fitnessClasses[classIndex].dropClass(memberToRemove);
-            this.outputTextArea.appendText(String.format("%s %s is done with %s\n", memberToRemove.getFname(), memberToRemove.getLname(), fitnessClasses[classIndex].getClassName()));
+            this.outputConsole.appendText(checkInService.checkOutMember(this.fitnessClassInputData()).getMessage());
         }
     }
 
@@ -595,41 +448,7 @@ public class GymManagerController implements Initializable {
     @FXML
     protected void checkOutGuest() {
         if (checkFitnessClassInputs()) {
-            FitnessClass[] fitnessClasses = classSchedule.getAllClasses();
-            String firstName = this.firstNameFitnessClassTextField.getText().trim();
-            String lastName = this.lastNameFitnessClassTextField.getText().trim();
-            Date dob = new Date(this.fitnessClassDobDatePicker.getValue().format(DateTimeFormatter.ofPattern("MM/dd/yyyy")));
-            Location location = Location.returnEnumFromString(this.locationFitnessClassChoiceBox.getValue());
-            String className = this.classChoiceBox.getValue();
-            String instructorName = this.instructorChoiceBox.getValue();
-
-            Member member = new Member(firstName, lastName, dob, null, location);
-            member = memberDatabase.getMember(memberDatabase.find(member));
-            assert location != null;
-            String[] inputData = {null, className, instructorName, location.getTown(), firstName, lastName, dob.toString()};
-
-            if (!checkGeneralInput(inputData, member, classSchedule)) {
-                return;
-            }
-
-            if (member instanceof Family) {
-                for (int x = 0; x < classSchedule.getNumClasses(); x++) {
-                    if (fitnessClasses[x].findGuestMemberInClass(member) != Constants.NOT_FOUND &&
-                            fitnessClasses[x].getClassName().equalsIgnoreCase(className) &&
-                            fitnessClasses[x].getInstructorName().equalsIgnoreCase(instructorName) &&
-                            fitnessClasses[x].getLocation().equals(location)) {
-
-                        ((Family) member).setGuestPasses((short) (((Family) member).getGuestPasses() + 1));
-                        fitnessClasses[x].dropGuestMember(member);
-                        outputTextArea.appendText(String.format("%s %s (guest) is done with %s\n", member.getFname(), member.getLname(), fitnessClasses[x].getClassName()));
-                        return;
-                    }
-                }
-
-                this.outputTextArea.appendText("Invalid class!\n");
-            } else {
-                this.outputTextArea.appendText("Standard Membership - No guests to check out!\n");
-            }
+            this.outputConsole.appendText(checkInService.checkOutGuest(this.fitnessClassInputData()).getMessage());
         }
     }
 
@@ -639,7 +458,7 @@ public class GymManagerController implements Initializable {
      */
     @FXML
     protected void print() {
-        this.outputTextArea.appendText(memberDatabase.print());
+        this.writeReport(MemberReport.UNSORTED);
     }
 
     /**
@@ -647,7 +466,7 @@ public class GymManagerController implements Initializable {
      */
     @FXML
     protected void printByCounty() {
-        this.outputTextArea.appendText(memberDatabase.printByCounty());
+        this.writeReport(MemberReport.BY_COUNTY);
     }
 
     /**
@@ -655,7 +474,7 @@ public class GymManagerController implements Initializable {
      */
     @FXML
     protected void printByExpiration() {
-        this.outputTextArea.appendText(memberDatabase.printByExpirationDate());
+        this.writeReport(MemberReport.BY_EXPIRATION_DATE);
     }
 
     /**
@@ -663,7 +482,7 @@ public class GymManagerController implements Initializable {
      */
     @FXML
     protected void printByName() {
-        this.outputTextArea.appendText(memberDatabase.printByName());
+        this.writeReport(MemberReport.BY_NAME);
     }
 
     /**
@@ -671,44 +490,157 @@ public class GymManagerController implements Initializable {
      */
     @FXML
     protected void printWithMembershipFee() {
-        this.outputTextArea.appendText(memberDatabase.printWithMembershipFee());
+        this.writeReport(MemberReport.WITH_MEMBERSHIP_FEE);
+    }
+
+    /**
+     * Streams a member report into the output console in the background, chunk by chunk, instead of building the whole report as one
+     * {@code String} on the JavaFX application thread.
+     * @param report Which list of members to print.
+     */
+    private void writeReport(MemberReport report) {
+        this.runTask("Printing members", REPORT_EXECUTOR, (task, out) -> {
+            task.expectLines(memberDatabase.getSize() + 2);
+            memberDatabase.writeReport(report, out);
+        }, null);
     }
 
     /**
-     * Loads in historical members to member database from memberList.txt.
-     * Prints out members loaded in to GUI.
+     * Loads in historical members to member database from memberList.txt in the background.
+     * Prints out members loaded in to GUI as they are loaded.
      */
     @FXML
     protected void loadHistoricalMembers() {
-        this.outputTextArea.appendText(memberDatabase.loadHistoricalMembers());
+        this.runTask("Loading members", LOAD_EXECUTOR, (task, out) -> {
+            Path file = Path.of(Constants.MEMBER_LIST_FROM_CONTENT_ROOT);
+            memberDatabase.loadMembers(file, out, task.progressOf(file));
+        }, null);
     }
 
     /**
-     * Loads in fitness class schedule to class schedule from the file classSchedule.txt.
-     * Prints out fitness class loaded in to GUI.
+     * Loads in fitness class schedule to class schedule from the file classSchedule.txt in the background.
+     * Prints out fitness class loaded in to GUI as they are loaded, and adds their names and instructors to the choice boxes once done.
      */
     @FXML
     protected void loadFitnessClasses() {
-        this.outputTextArea.appendText(classSchedule.loadFitnessClasses(this.classChoiceBox, this.instructorChoiceBox));
+        this.runTask("Loading fitness classes", LOAD_EXECUTOR, (task, out) -> {
+            Path file = Path.of(Constants.CLASS_SCHEDULE_FROM_CONTENT_ROOT);
+            if (Files.notExists(file)) {
+                out.write("File is not found!\n");
+                return;
+            }
+
+            out.write("-Fitness classes loaded-\n");
+            classSchedule.loadFitnessClasses(file, out, task.progressOf(file));
+            out.write("-end of list-\n");
+        }, this::addClassChoices);
     }
 
     /**
-     * Prints out class schedule to text area in GUI.
+     * Prints out class schedule to the output console in GUI, in the background.
      */
     @FXML
     protected void printFitnessClassSchedule() {
-        FitnessClass[] fitnessClasses = classSchedule.getAllClasses();
+        this.runTask("Printing fitness classes", REPORT_EXECUTOR, (task, out) -> {
+            int numClasses = classSchedule.getNumClasses();
+            FitnessClass[] fitnessClasses = classSchedule.getAllClasses();
 
-        if (classSchedule.getNumClasses() <= 0) {
-            this.outputTextArea.appendText("Fitness class schedule is empty.\n");
-            return;
+            if (numClasses <= 0) {
+                out.write("Fitness class schedule is empty.\n");
+                return;
+            }
+
+            out.write("-Fitness classes-\n");
+            for (int x = 0; x < numClasses; x++) {
+                out.write(fitnessClasses[x].toString());
+                task.reportProgress(x + 1, numClasses);
+            }
+            out.write("-end of class list-\n");
+        }, null);
+    }
+
+    /**
+     * Cancels the load or report shown. What it already printed stays in the console, and what it already loaded stays loaded.
+     */
+    @FXML
+    protected void cancelTask() {
+        if (!this.runningTasks.isEmpty()) {
+            this.runningTasks.get(this.runningTasks.size() - 1).cancel(false);
+        }
+    }
+
+    /**
+     * Runs a load or report in the background and shows its progress. The front desk carries on while it runs: check ins only need the
+     * read lock of the member database, which a report shares, and a load only holds the write lock for one batch at a time.
+     * @param title Name of the task, shown next to its progress and in its failure or cancellation message.
+     * @param executor {@code LOAD_EXECUTOR} for a load, which waits for any load before it, or {@code REPORT_EXECUTOR} for a report.
+     * @param work The work of the task.
+     * @param whenDone Run on the JavaFX application thread once the task has succeeded, failed or been cancelled; null if nothing.
+     */
+    private void runTask(String title, ExecutorService executor, ConsoleTask.Work work, Runnable whenDone) {
+        ConsoleTask task = ConsoleTask.create(title, this.outputConsole, work);
+        task.setOnSucceeded(event -> this.finishTask(task, whenDone));
+        task.setOnFailed(event -> {
+            this.outputConsole.appendText(String.format("%s failed: %s\n", title, task.getException().getMessage()));
+            this.finishTask(task, whenDone);
+        });
+        task.setOnCancelled(event -> {
+            this.outputConsole.appendText(String.format("%s cancelled.\n", title));
+            this.finishTask(task, whenDone);
+        });
+
+        this.runningTasks.add(task);
+        this.showTask(task);
+        executor.submit(task);
+    }
+
+    /**
+     * Shows the progress of the task that finished, if it was shown, by the task started last of those still running.
+     * @param task Task that finished.
+     * @param whenDone Run once the progress is updated; null if nothing.
+     */
+    private void finishTask(ConsoleTask task, Runnable whenDone) {
+        this.runningTasks.remove(task);
+        if (this.runningTasks.isEmpty()) {
+            this.showTask(null);
+        } else {
+            this.showTask(this.runningTasks.get(this.runningTasks.size() - 1));
         }
 
-        this.outputTextArea.appendText("-Fitness classes-\n");
+        if (whenDone != null) {
+            whenDone.run();
+        }
+    }
 
+    /**
+     * @param task Task whose name and progress to show, and which the cancel button cancels; null to clear them.
+     */
+    private void showTask(ConsoleTask task) {
+        this.taskProgressBar.progressProperty().unbind();
+        if (task == null) {
+            this.taskStatusLabel.setText("");
+            this.taskProgressBar.setProgress(0);
+            this.cancelTaskButton.setDisable(true);
+        } else {
+            this.taskStatusLabel.setText(task.getTitle());
+            this.taskProgressBar.progressProperty().bind(task.progressProperty());
+            this.cancelTaskButton.setDisable(false);
+        }
+    }
+
+    /**
+     * Adds the name and the instructor of every class in the schedule to the class and instructor choice boxes, unless they are in
+     * them already.
+     */
+    private void addClassChoices() {
         for (int x = 0; x < classSchedule.getNumClasses(); x++) {
-            this.outputTextArea.appendText(fitnessClasses[x].toString());
+            FitnessClass fitnessClass = classSchedule.getSpecificClass(x);
+            if (!this.classChoiceBox.getItems().contains(fitnessClass.getClassName())) {
+                this.classChoiceBox.getItems().add(fitnessClass.getClassName());
+            }
+            if (!this.instructorChoiceBox.getItems().contains(fitnessClass.getInstructorName())) {
+                this.instructorChoiceBox.getItems().add(fitnessClass.getInstructorName());
+            }
         }
-        this.outputTextArea.appendText("-end of class list-\n");
     }
-}
\ No newline at end of file
+}
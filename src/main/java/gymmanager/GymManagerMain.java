@@ -5,6 +5,7 @@ import javafx.fxml.FXMLLoader;
 import javafx.scene.Parent;
 import javafx.scene.Scene;
 import javafx.stage.Stage;
+import persistence.Journal;
 
 import java.io.IOException;
 
@@ -39,6 +40,15 @@ public class GymManagerMain extends Application {
         stage.show();
     }
 
+    /**
+     * @throws IOException If the journal cannot be written.
+     * This is called when the application exits. Every change still waiting in the journal is made durable before the program ends.
+     */
+    @Override
+    public void stop() throws IOException {
+        Journal.closeCurrent();
+    }
+
     /**
      * @param args Command line arguments that will not be used here.
      * This is the main method that calls Application.launch() to launch the application.
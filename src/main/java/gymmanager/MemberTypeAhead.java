@@ -0,0 +1,167 @@
+package gymmanager;
+
+import constants.Constants;
+import date.Date;
+import javafx.application.Platform;
+import javafx.geometry.Side;
+import javafx.scene.control.ContextMenu;
+import javafx.scene.control.DatePicker;
+import javafx.scene.control.MenuItem;
+import javafx.scene.control.TextField;
+import member.Member;
+import member.MemberDatabase;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * This class adds type-ahead to a pair of first and last name text fields. Every time either name changes, the member database is
+ * searched for the members whose names best match what has been typed so far, and they are listed under the last name field; picking
+ * one fills in the member's name and date of birth.
+ * <br><br>
+ * Searches run on one background thread, never on the JavaFX application thread, so typing never waits for a search. A search still
+ * waiting to run when the names change again is cancelled, and the results of a search overtaken by a newer one are dropped instead of
+ * shown.
+ * @author Hasnain Ali, Carolette Saguil
+ */
+public class MemberTypeAhead {
+    /**
+     * Thread the searches of every type-ahead run on, one at a time.
+     */
+    private static final ExecutorService SEARCH_EXECUTOR = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "member-search");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Member database searched.
+     */
+    private final MemberDatabase memberDatabase;
+    /**
+     * The first name text field.
+     */
+    private final TextField firstNameTextField;
+    /**
+     * The last name text field, which the suggestions are listed under.
+     */
+    private final TextField lastNameTextField;
+    /**
+     * The date of birth picker filled in when a suggestion is picked.
+     */
+    private final DatePicker dobDatePicker;
+    /**
+     * The members suggested for the names typed.
+     */
+    private final ContextMenu suggestions;
+    /**
+     * The search waiting or running for the names last typed, null if there is none.
+     */
+    private Future<?> pendingSearch;
+    /**
+     * Number of searches started. Only read and written on the JavaFX application thread.
+     */
+    private long generation;
+    /**
+     * Whether the name fields are being filled in from a suggestion, which should not start another search.
+     */
+    private boolean filling;
+
+    /**
+     * Adds type-ahead to a pair of name fields.
+     * @param memberDatabase Member database searched.
+     * @param firstNameTextField The first name text field.
+     * @param lastNameTextField The last name text field, which the suggestions are listed under.
+     * @param dobDatePicker The date of birth picker filled in when a suggestion is picked.
+     */
+    public MemberTypeAhead(MemberDatabase memberDatabase, TextField firstNameTextField, TextField lastNameTextField,
+                           DatePicker dobDatePicker) {
+        this.memberDatabase = memberDatabase;
+        this.firstNameTextField = firstNameTextField;
+        this.lastNameTextField = lastNameTextField;
+        this.dobDatePicker = dobDatePicker;
+        this.suggestions = new ContextMenu();
+
+        this.firstNameTextField.textProperty().addListener((observable, oldValue, newValue) -> this.namesChanged());
+        this.lastNameTextField.textProperty().addListener((observable, oldValue, newValue) -> this.namesChanged());
+    }
+
+    /**
+     * Cancels the search for the names typed before, if it has not started yet, and starts a search for the names typed now.
+     */
+    private void namesChanged() {
+        if (this.filling) {
+            return;
+        }
+        if (this.pendingSearch != null) {
+            this.pendingSearch.cancel(false);
+        }
+
+        long searchGeneration = ++this.generation;
+        String firstName = this.firstNameTextField.getText() == null ? "" : this.firstNameTextField.getText();
+        String lastName = this.lastNameTextField.getText() == null ? "" : this.lastNameTextField.getText();
+
+        if (firstName.isBlank() && lastName.isBlank()) {
+            this.pendingSearch = null;
+            this.suggestions.hide();
+            return;
+        }
+
+        this.pendingSearch = SEARCH_EXECUTOR.submit(() -> {
+            List<Member> members = this.memberDatabase.search(firstName, lastName, Constants.SEARCH_RESULT_LIMIT);
+            Platform.runLater(() -> this.show(searchGeneration, members));
+        });
+    }
+
+    /**
+     * Lists the members found under the last name field, unless the names have changed since the search started.
+     * @param searchGeneration Number of the search the members were found by.
+     * @param members Members found, best match first.
+     */
+    private void show(long searchGeneration, List<Member> members) {
+        if (searchGeneration != this.generation) {
+            return;
+        }
+
+        this.suggestions.getItems().clear();
+        if (members.isEmpty()) {
+            this.suggestions.hide();
+            return;
+        }
+
+        for (Member member : members) {
+            MenuItem item = new MenuItem(String.format("%s %s - %s", member.getFname(), member.getLname(), member.getDob()));
+            item.setOnAction(event -> this.fill(member));
+            this.suggestions.getItems().add(item);
+        }
+        if (!this.suggestions.isShowing()) {
+            this.suggestions.show(this.lastNameTextField, Side.BOTTOM, 0, 0);
+        }
+    }
+
+    /**
+     * Fills in the name fields and the date of birth picker with a member picked from the suggestions.
+     * @param member Member picked.
+     */
+    private void fill(Member member) {
+        Date dob = member.getDob();
+
+        if (this.pendingSearch != null) {
+            this.pendingSearch.cancel(false);
+            this.pendingSearch = null;
+        }
+        this.generation++;
+        this.filling = true;
+        try {
+            this.firstNameTextField.setText(member.getFname());
+            this.lastNameTextField.setText(member.getLname());
+            this.dobDatePicker.setValue(LocalDate.of(dob.getYear(), dob.getMonth(), dob.getDay()));
+        } finally {
+            this.filling = false;
+        }
+        this.suggestions.hide();
+    }
+}
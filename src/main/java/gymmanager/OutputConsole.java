@@ -0,0 +1,74 @@
+package gymmanager;
+
+import constants.Constants;
+import javafx.scene.control.ListView;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * This class is the output console of the GUI: a {@code ListView} showing the lines of a {@link ConsoleBuffer}. The list view only
+ * creates cells for the lines on screen and reuses them as it scrolls, and every line has the same fixed height, so neither appending
+ * nor scrolling ever measures or lays out the lines off screen. Together with the bounded buffer, appending costs the same however long
+ * the program has been running.
+ * @author Hasnain Ali, Carolette Saguil
+ */
+public class OutputConsole {
+    /**
+     * List view showing the lines of the console.
+     */
+    private final ListView<String> listView;
+    /**
+     * Lines of the console.
+     */
+    private final ConsoleBuffer buffer;
+
+    /**
+     * Shows a console that drops its oldest lines once it holds {@code retainedLines} lines.
+     * @param listView List view to show the console in.
+     * @param retainedLines Number of lines the console keeps.
+     * @throws IllegalArgumentException If {@code retainedLines} is not positive.
+     */
+    public OutputConsole(ListView<String> listView, int retainedLines) {
+        this(listView, new ConsoleBuffer(retainedLines));
+    }
+
+    /**
+     * Shows a console that appends its oldest lines to a log file once it holds {@code retainedLines} lines.
+     * @param listView List view to show the console in.
+     * @param retainedLines Number of lines the console keeps.
+     * @param spillFile Log file older lines are appended to.
+     * @throws IllegalArgumentException If {@code retainedLines} is not positive.
+     * @throws IOException If the log file cannot be opened.
+     */
+    public OutputConsole(ListView<String> listView, int retainedLines, Path spillFile) throws IOException {
+        this(listView, new ConsoleBuffer(retainedLines, spillFile));
+    }
+
+    /**
+     * Shows a console buffer in a list view.
+     * @param listView List view to show the console in.
+     * @param buffer Lines of the console.
+     */
+    private OutputConsole(ListView<String> listView, ConsoleBuffer buffer) {
+        this.listView = listView;
+        this.buffer = buffer;
+        this.listView.setFixedCellSize(Constants.CONSOLE_CELL_HEIGHT);
+        this.listView.setItems(this.buffer);
+    }
+
+    /**
+     * Appends text to the console and scrolls to its last line.
+     * @param text Text to append. A line not ended by a new line is continued by the next append.
+     */
+    public void appendText(String text) {
+        if (text.isEmpty()) {
+            return;
+        }
+
+        this.buffer.write(text);
+        if (this.buffer.size() > 0) {
+            this.listView.scrollTo(this.buffer.size() - 1);
+        }
+    }
+}
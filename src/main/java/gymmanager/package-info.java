@@ -1,8 +1,12 @@
 /**
  * Contains all classes related to the Gym Manager GUI. Specifically:
  * <ul>
+ *     <li>ConsoleBuffer</li>
+ *     <li>ConsoleTask</li>
  *     <li>GymManagerController</li>
  *     <li>GymManagerMain</li>
+ *     <li>MemberTypeAhead</li>
+ *     <li>OutputConsole</li>
  * </ul>
  *
  * @author Hasnain Ali, Carolette Saguil
@@ -0,0 +1,436 @@
+package member;
+
+import constants.Constants;
+import enums.MemberReport;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+
+/**
+ * This class stores members as columns instead of objects: one primitive array per field, where row {@code x} of every array holds
+ * one member. The columns are the packed date of birth and expiration date, the location ordinal, the membership type, and the first
+ * and last name as ids into a dictionary of the store that holds each distinct spelling once, next to the id of the name in the shared
+ * {@code NameDictionary}. A member takes about 20 bytes of columns plus a slot of the identity index, instead of a {@code Member}, two
+ * {@code Date}s and two {@code String}s, and a scan or a sort reads a few contiguous arrays instead of chasing a pointer per field.
+ * <br><br>
+ * Only the fields that never change after a member is added have a column; guest passes, rosters and time slots stay on the member
+ * objects, which {@code MemberDatabase} keeps row for row with the store. Lookups by identity (case-folded first and last name plus
+ * date of birth) go through an open addressing hash table of rows, and the sorted orders of the member reports are built from the
+ * columns with primitive sorts and cached until the store next changes.
+ * <br><br>
+ * The store is not thread safe; {@code MemberDatabase} guards it with its read write lock.
+ * @author Hasnain Ali, Carolette Saguil
+ */
+public class ColumnarMemberStore {
+    /**
+     * Type tag of a standard member.
+     */
+    static final byte STANDARD = 0;
+    /**
+     * Type tag of a family member.
+     */
+    static final byte FAMILY = 1;
+    /**
+     * Type tag of a premium member.
+     */
+    static final byte PREMIUM = 2;
+    /**
+     * Marks an empty slot of the identity index.
+     */
+    private static final int EMPTY = -1;
+
+    /**
+     * Packed date of birth of each row.
+     */
+    private int[] dobs;
+    /**
+     * Packed expiration date of each row.
+     */
+    private int[] expires;
+    /**
+     * Location ordinal of each row.
+     */
+    private byte[] locations;
+    /**
+     * Membership type tag of each row.
+     */
+    private byte[] types;
+    /**
+     * First name id of each row, an index into {@code names}.
+     */
+    private int[] firstNames;
+    /**
+     * Last name id of each row, an index into {@code names}.
+     */
+    private int[] lastNames;
+    /**
+     * Identity hash of each row, as {@code Member.hashCode()} computes it.
+     */
+    private int[] hashes;
+    /**
+     * Number of rows.
+     */
+    private int size;
+    /**
+     * Every distinct name, indexed by name id.
+     */
+    private String[] names;
+    /**
+     * Shared {@code NameDictionary} id of each name in {@code names}, which is the same for spellings that are equal ignoring case.
+     */
+    private int[] nameIdsShared;
+    /**
+     * Number of names in {@code names}.
+     */
+    private int nameCount;
+    /**
+     * Id of each distinct name.
+     */
+    private final HashMap<String, Integer> nameIds;
+    /**
+     * Identity index: open addressing hash table with linear probing of rows, {@code EMPTY} in unused slots. Its length is a power of
+     * two at least twice the number of rows.
+     */
+    private int[] slots;
+    /**
+     * Rows in the order of each member report, indexed by report ordinal, or null until the report is next asked for.
+     */
+    private final int[][] reportOrders;
+
+    /**
+     * Instantiates an empty store.
+     * @param initialCapacity Number of members the store should hold before it needs to grow.
+     */
+    public ColumnarMemberStore(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Initial capacity: " + initialCapacity + " not valid.");
+        }
+
+        int capacity = Math.max(initialCapacity, Constants.ARRAY_DEFAULT_SIZE);
+        this.dobs = new int[capacity];
+        this.expires = new int[capacity];
+        this.locations = new byte[capacity];
+        this.types = new byte[capacity];
+        this.firstNames = new int[capacity];
+        this.lastNames = new int[capacity];
+        this.hashes = new int[capacity];
+        this.size = 0;
+        this.names = new String[capacity];
+        this.nameIdsShared = new int[capacity];
+        this.nameCount = 0;
+        this.nameIds = HashMap.newHashMap(capacity);
+        this.slots = new int[Integer.highestOneBit(capacity * 2 - 1) << 1];
+        Arrays.fill(this.slots, EMPTY);
+        this.reportOrders = new int[MemberReport.values().length][];
+    }
+
+    /**
+     * @return Returns the number of members in the store.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * @return Returns the number of distinct first and last names in the store.
+     */
+    public int getNameCount() {
+        return this.nameCount;
+    }
+
+    /**
+     * Looks for a member by identity.
+     * @param member Member to look for. Only the first name, last name and date of birth are used.
+     * @return Returns the row of the member, -1 if they are not in the store.
+     */
+    public int find(Member member) {
+        int dob = member.getDob().toPacked();
+        int mask = this.slots.length - 1;
+
+        for (int slot = spread(member.hashCode()) & mask; this.slots[slot] != EMPTY; slot = (slot + 1) & mask) {
+            int row = this.slots[slot];
+            if (this.dobs[row] == dob && this.nameIdsShared[this.firstNames[row]] == member.getFnameId()
+                    && this.nameIdsShared[this.lastNames[row]] == member.getLnameId()) {
+                return row;
+            }
+        }
+
+        return Constants.NOT_FOUND;
+    }
+
+    /**
+     * Adds a member as a new last row.
+     * @param member Member to add. Their current guest passes are stored.
+     * @return Returns the row of the member, -1 if a member with the same identity is already in the store.
+     */
+    public int add(Member member) {
+        if (this.find(member) != Constants.NOT_FOUND) {
+            return Constants.NOT_FOUND;
+        }
+        if (this.size == this.dobs.length) {
+            this.ensureCapacity(this.size * Constants.ARRAY_GROWTH_FACTOR);
+        }
+
+        int row = this.size;
+        this.dobs[row] = member.getDob().toPacked();
+        this.expires[row] = member.getExpire().toPacked();
+        this.locations[row] = (byte) member.getLocation().ordinal();
+        this.types[row] = member instanceof Premium ? PREMIUM : member instanceof Family ? FAMILY : STANDARD;
+        this.firstNames[row] = this.nameId(member.getFname(), member.getFnameId());
+        this.lastNames[row] = this.nameId(member.getLname(), member.getLnameId());
+        this.hashes[row] = member.hashCode();
+        this.size++;
+        this.insertSlot(row);
+        this.changed();
+        return row;
+    }
+
+    /**
+     * Removes a row. The last row is moved into its place, so removal is O(1) and the order of the other rows is not preserved.
+     * @param row Row to remove.
+     */
+    public void remove(int row) {
+        this.deleteSlot(row);
+
+        int last = this.size - 1;
+        if (row != last) {
+            this.deleteSlot(last);
+            this.dobs[row] = this.dobs[last];
+            this.expires[row] = this.expires[last];
+            this.locations[row] = this.locations[last];
+            this.types[row] = this.types[last];
+            this.firstNames[row] = this.firstNames[last];
+            this.lastNames[row] = this.lastNames[last];
+            this.hashes[row] = this.hashes[last];
+            this.insertSlot(row);
+        }
+
+        this.size--;
+        this.changed();
+    }
+
+    /**
+     * @param row Row of a member.
+     * @return Returns true if the member is a family or premium member, false otherwise.
+     */
+    public boolean isFamily(int row) {
+        return this.types[row] != STANDARD;
+    }
+
+    /**
+     * Lists the rows in the order a member report lists members in: by last name then first name, by county then zipcode, by
+     * expiration date, or in row order for the unsorted reports. Members with the same sort key are ordered by identity, as in
+     * {@code MemberDatabase}, and members expiring on the same date by row. The order is sorted from the columns the first time it is
+     * asked for, and cached until the store next changes; the array returned must not be changed.
+     * @param report Report to order the rows for.
+     * @return Returns the rows in report order.
+     */
+    public int[] rowsFor(MemberReport report) {
+        int[] rows = this.reportOrders[report.ordinal()];
+
+        if (rows == null) {
+            rows = this.sortRows(report);
+            this.reportOrders[report.ordinal()] = rows;
+        }
+        return rows;
+    }
+
+    /**
+     * @param report Report to check.
+     * @return Returns true if the order of {@code report} is not cached and the next {@code rowsFor()} call sorts it, false otherwise.
+     */
+    public boolean isStale(MemberReport report) {
+        return this.reportOrders[report.ordinal()] == null;
+    }
+
+    /**
+     * @param report Report to order the rows for.
+     * @return Returns the rows in report order, sorted as a series of stable primitive sorts from the last sort key to the first.
+     */
+    private int[] sortRows(MemberReport report) {
+        int[] rows = new int[this.size];
+        for (int row = 0; row < this.size; row++) {
+            rows[row] = row;
+        }
+
+        switch (report) {
+            case BY_NAME:
+                int[] nameRanks = this.nameRanks(String::compareTo);
+                rows = sortRowsBy(rows, this.dobs);
+                rows = sortRowsBy(rows, mapNames(this.firstNames, nameRanks, this.size));
+                return sortRowsBy(rows, mapNames(this.lastNames, nameRanks, this.size));
+            case BY_COUNTY:
+                int[] foldedRanks = this.nameRanks(String::compareToIgnoreCase);
+                int[] countyRanks = new int[this.size];
+                for (int row = 0; row < this.size; row++) {
+                    countyRanks[row] = MemberDatabase.countyRank(this.locations[row]);
+                }
+                rows = sortRowsBy(rows, this.dobs);
+                rows = sortRowsBy(rows, mapNames(this.firstNames, foldedRanks, this.size));
+                rows = sortRowsBy(rows, mapNames(this.lastNames, foldedRanks, this.size));
+                return sortRowsBy(rows, countyRanks);
+            case BY_EXPIRATION_DATE:
+                return sortRowsBy(rows, this.expires);
+            default:
+                return rows;
+        }
+    }
+
+    /**
+     * Stably sorts rows by one non-negative key. Each row is packed into a {@code long} with the key in the high half and its position
+     * in {@code rows} in the low half, so one primitive sort orders the rows by key and keeps rows with the same key in their order.
+     * @param rows Rows to sort.
+     * @param keys Key of each row, indexed by row.
+     * @return Returns the rows sorted by key.
+     */
+    private static int[] sortRowsBy(int[] rows, int[] keys) {
+        long[] packed = new long[rows.length];
+        for (int x = 0; x < rows.length; x++) {
+            packed[x] = ((long) keys[rows[x]] << Integer.SIZE) | x;
+        }
+        Arrays.sort(packed);
+
+        int[] sorted = new int[rows.length];
+        for (int x = 0; x < rows.length; x++) {
+            sorted[x] = rows[(int) packed[x]];
+        }
+        return sorted;
+    }
+
+    /**
+     * @param nameColumn Name id of each row.
+     * @param ranks Rank of each name id.
+     * @param size Number of rows.
+     * @return Returns the rank of the name of each row.
+     */
+    private static int[] mapNames(int[] nameColumn, int[] ranks, int size) {
+        int[] mapped = new int[size];
+        for (int row = 0; row < size; row++) {
+            mapped[row] = ranks[nameColumn[row]];
+        }
+        return mapped;
+    }
+
+    /**
+     * Ranks the names of the dictionary. Only the distinct names are compared as strings, so sorting the rows never compares a string.
+     * @param order Order of the names.
+     * @return Returns the rank of each name id in {@code order}. Names that {@code order} finds equal share a rank.
+     */
+    private int[] nameRanks(Comparator<String> order) {
+        Integer[] ids = new Integer[this.nameCount];
+        for (int id = 0; id < this.nameCount; id++) {
+            ids[id] = id;
+        }
+        Arrays.sort(ids, (id1, id2) -> order.compare(this.names[id1], this.names[id2]));
+
+        int[] ranks = new int[this.nameCount];
+        for (int x = 1; x < ids.length; x++) {
+            boolean sameName = order.compare(this.names[ids[x]], this.names[ids[x - 1]]) == 0;
+            ranks[ids[x]] = sameName ? ranks[ids[x - 1]] : x;
+        }
+        return ranks;
+    }
+
+    /**
+     * @param name A first or last name.
+     * @param sharedId Id of the name in the shared {@code NameDictionary}.
+     * @return Returns the id of the name, adding it to the dictionary if it is new.
+     */
+    private int nameId(String name, int sharedId) {
+        Integer id = this.nameIds.get(name);
+
+        if (id != null) {
+            return id;
+        }
+        if (this.nameCount == this.names.length) {
+            this.names = Arrays.copyOf(this.names, this.names.length * Constants.ARRAY_GROWTH_FACTOR);
+            this.nameIdsShared = Arrays.copyOf(this.nameIdsShared, this.names.length);
+        }
+        this.names[this.nameCount] = name;
+        this.nameIdsShared[this.nameCount] = sharedId;
+        this.nameIds.put(name, this.nameCount);
+        return this.nameCount++;
+    }
+
+    /**
+     * Makes sure the store can hold at least {@code capacity} members without growing again.
+     * @param capacity Number of members the store should be able to hold.
+     */
+    public void ensureCapacity(int capacity) {
+        if (capacity <= this.dobs.length) {
+            return;
+        }
+
+        this.dobs = Arrays.copyOf(this.dobs, capacity);
+        this.expires = Arrays.copyOf(this.expires, capacity);
+        this.locations = Arrays.copyOf(this.locations, capacity);
+        this.types = Arrays.copyOf(this.types, capacity);
+        this.firstNames = Arrays.copyOf(this.firstNames, capacity);
+        this.lastNames = Arrays.copyOf(this.lastNames, capacity);
+        this.hashes = Arrays.copyOf(this.hashes, capacity);
+
+        if (this.slots.length < capacity * 2) {
+            this.slots = new int[Integer.highestOneBit(capacity * 2 - 1) << 1];
+            Arrays.fill(this.slots, EMPTY);
+            for (int row = 0; row < this.size; row++) {
+                this.insertSlot(row);
+            }
+        }
+    }
+
+    /**
+     * Puts a row into the identity index.
+     * @param row Row to index.
+     */
+    private void insertSlot(int row) {
+        int mask = this.slots.length - 1;
+        int slot = spread(this.hashes[row]) & mask;
+
+        while (this.slots[slot] != EMPTY) {
+            slot = (slot + 1) & mask;
+        }
+        this.slots[slot] = row;
+    }
+
+    /**
+     * Takes a row out of the identity index, shifting back the rows after it in its probe sequence so no lookup stops early.
+     * @param row Row to take out.
+     */
+    private void deleteSlot(int row) {
+        int mask = this.slots.length - 1;
+        int slot = spread(this.hashes[row]) & mask;
+
+        while (this.slots[slot] != row) {
+            slot = (slot + 1) & mask;
+        }
+
+        int next = (slot + 1) & mask;
+        while (this.slots[next] != EMPTY) {
+            int home = spread(this.hashes[this.slots[next]]) & mask;
+            if (((next - home) & mask) >= ((next - slot) & mask)) {
+                this.slots[slot] = this.slots[next];
+                slot = next;
+            }
+            next = (next + 1) & mask;
+        }
+        this.slots[slot] = EMPTY;
+    }
+
+    /**
+     * @param hash Identity hash of a member.
+     * @return Returns the hash multiplied by the golden ratio and with its high bits mixed into the low bits, which pick the slot, so
+     * members whose name ids and birthdays are close together do not probe the same run of slots.
+     */
+    private static int spread(int hash) {
+        int mixed = hash * 0x9E3779B9;
+        return mixed ^ (mixed >>> 16);
+    }
+
+    /**
+     * Drops the cached report orders after a change.
+     */
+    private void changed() {
+        Arrays.fill(this.reportOrders, null);
+    }
+}
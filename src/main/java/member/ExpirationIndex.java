@@ -0,0 +1,198 @@
+package member;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * This class indexes the members of a member database by expiration date. Members are kept in two parallel arrays sorted by packed
+ * expiration date: one of {@code int} keys and one of members. Members with the same expiration date stay in the order they were
+ * added. A range of dates is found with two binary searches on the keys, so counting the members that expire in a range is O(log N) and
+ * listing them is O(log N + k), with no full scan and no date objects created.
+ * <br><br>
+ * Members added are first appended to an unsorted batch, and the batch is sorted and merged into the arrays in one pass before the index
+ * is next read or a member is removed. The batch is sorted as primitive {@code long}s (the expiration date in the high half, the position
+ * in the batch in the low half), so a bulk import costs one primitive sort instead of one sorted insert or comparator call per member.
+ * @author Hasnain Ali, Carolette Saguil
+ */
+class ExpirationIndex {
+    /**
+     * Packed expiration date of each member in {@code members}, in ascending order.
+     */
+    private int[] keys;
+    /**
+     * Indexed members, in the order of {@code keys}.
+     */
+    private Member[] members;
+    /**
+     * Number of members in the sorted arrays.
+     */
+    private int size;
+    /**
+     * Members added since the sorted arrays were last merged, in the order they were added.
+     */
+    private Member[] pending;
+    /**
+     * Number of members in {@code pending}.
+     */
+    private int pendingCount;
+
+    /**
+     * Instantiates an empty index.
+     * @param initialCapacity Number of members the index should hold before it needs to grow.
+     */
+    ExpirationIndex(int initialCapacity) {
+        this.keys = new int[initialCapacity];
+        this.members = new Member[initialCapacity];
+        this.pending = new Member[0];
+    }
+
+    /**
+     * @return Returns the number of members in the index.
+     */
+    int size() {
+        return this.size + this.pendingCount;
+    }
+
+    /**
+     * Adds a member to the index. The member is merged into the sorted arrays when the index is next read.
+     * @param member Member to add.
+     */
+    void add(Member member) {
+        if (this.pendingCount == this.pending.length) {
+            this.pending = Arrays.copyOf(this.pending, Math.max(this.pending.length * 2, 16));
+        }
+        this.pending[this.pendingCount++] = member;
+    }
+
+    /**
+     * Removes a member from the index.
+     * @param member Member to remove, the same instance that was added.
+     * @return Returns true if the member was in the index, false otherwise.
+     */
+    boolean remove(Member member) {
+        this.merge();
+        int index = this.indexOf(member);
+
+        if (index < 0) {
+            return false;
+        }
+
+        System.arraycopy(this.keys, index + 1, this.keys, index, this.size - index - 1);
+        System.arraycopy(this.members, index + 1, this.members, index, this.size - index - 1);
+        this.size--;
+        this.members[this.size] = null;
+        return true;
+    }
+
+    /**
+     * @param from First packed expiration date of the range, inclusive.
+     * @param to Last packed expiration date of the range, exclusive.
+     * @return Returns the number of members whose membership expires in the range.
+     */
+    int count(int from, int to) {
+        this.merge();
+        return Math.max(0, this.lowerBound(to) - this.lowerBound(from));
+    }
+
+    /**
+     * The index must have been merged since it was last added to.
+     * @param from First packed expiration date of the range, inclusive.
+     * @param to Last packed expiration date of the range, exclusive.
+     * @return Returns a copy of the members whose membership expires in the range, in order of expiration date.
+     */
+    List<Member> copyBetween(int from, int to) {
+        int start = this.lowerBound(from);
+        int end = Math.max(start, this.lowerBound(to));
+        return Arrays.asList(Arrays.copyOfRange(this.members, start, end));
+    }
+
+    /**
+     * The index must have been merged since it was last added to.
+     * @return Returns a copy of every member in the index, in order of expiration date.
+     */
+    Member[] toArray() {
+        return Arrays.copyOf(this.members, this.size);
+    }
+
+    /**
+     * @return Returns true if members were added since the index was last merged, false otherwise.
+     */
+    boolean isStale() {
+        return this.pendingCount > 0;
+    }
+
+    /**
+     * @param key Packed expiration date.
+     * @return Returns the index of the first member whose expiration date is not before {@code key}, or {@code size} if there is none.
+     */
+    private int lowerBound(int key) {
+        int low = 0;
+        int high = this.size;
+
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (this.keys[middle] < key) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Finds a member among the members with the same expiration date, which is a short run of the sorted arrays.
+     * @param member Member to find, the same instance that was added.
+     * @return Returns the index of the member in the sorted arrays, or a negative number if they are not in them.
+     */
+    private int indexOf(Member member) {
+        int key = member.getExpire().toPacked();
+
+        for (int x = this.lowerBound(key); x < this.size && this.keys[x] == key; x++) {
+            if (this.members[x] == member) {
+                return x;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Sorts the members added since the last merge and merges them into the sorted arrays, filling the arrays from the back so no
+     * temporary copy of the sorted arrays is needed.
+     */
+    void merge() {
+        if (this.pendingCount == 0) {
+            return;
+        }
+
+        long[] order = new long[this.pendingCount];
+        for (int x = 0; x < this.pendingCount; x++) {
+            order[x] = (long) this.pending[x].getExpire().toPacked() << Integer.SIZE | x;
+        }
+        Arrays.sort(order);
+
+        int total = this.size + this.pendingCount;
+        if (total > this.members.length) {
+            int capacity = Math.max(total, this.members.length * 2);
+            this.keys = Arrays.copyOf(this.keys, capacity);
+            this.members = Arrays.copyOf(this.members, capacity);
+        }
+
+        int sorted = this.size - 1;
+        int added = this.pendingCount - 1;
+        for (int x = total - 1; added >= 0; x--) {
+            int key = (int) (order[added] >> Integer.SIZE);
+            if (sorted >= 0 && this.keys[sorted] > key) {
+                this.keys[x] = this.keys[sorted];
+                this.members[x] = this.members[sorted--];
+            } else {
+                this.keys[x] = key;
+                this.members[x] = this.pending[(int) order[added--]];
+            }
+        }
+
+        Arrays.fill(this.pending, 0, this.pendingCount, null);
+        this.size = total;
+        this.pendingCount = 0;
+    }
+}
@@ -3,6 +3,10 @@ package member;
 import constants.Constants;
 import date.Date;
 import enums.Location;
+import persistence.Journal;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 
 /**
  * This class inherits all the characteristics of a member and defines new characteristics for a family. These include:
@@ -14,13 +18,33 @@ import enums.Location;
  *     <li>Location Gym Location</li>
  *     <li>Short Guest Passes</li>
  * </ul> </b>
+ * Guest passes can be spent and given back from many terminals at once without a lock: every change goes through compare and set or an
+ * atomic add, so no update is lost and the count never goes below 0. Each change is journaled as the number of passes it added or took,
+ * taken from the atomic update itself, while the member is in a journaled member database.
  * @author Hasnain Ali, Carolette Saguil
  */
 public class Family extends Member {
+    /**
+     * Atomic access to {@code guestPasses}.
+     */
+    private static final VarHandle GUEST_PASSES;
+
+    static {
+        try {
+            GUEST_PASSES = MethodHandles.lookup().findVarHandle(Family.class, "guestPasses", short.class);
+        } catch (ReflectiveOperationException reflectiveOperationException) {
+            throw new ExceptionInInitializerError(reflectiveOperationException);
+        }
+    }
+
     /**
      * Guest passes.
      */
-    private short guestPasses;
+    private volatile short guestPasses;
+    /**
+     * Journal the changes to the guest passes are recorded to, null if the member is not in a journaled member database.
+     */
+    private volatile Journal journal;
 
     /**
      * Constructor that instantiates the state of a Member.
@@ -46,7 +70,8 @@ public class Family extends Member {
             return false;
         }
 
-        this.guestPasses = guestPasses;
+        short previous = (short) GUEST_PASSES.getAndSet(this, guestPasses);
+        this.recordGuestPasses(guestPasses - previous);
         return true;
     }
 
@@ -57,6 +82,77 @@ public class Family extends Member {
         return this.guestPasses;
     }
 
+    /**
+     * @return Returns the number of guest passes the membership comes with.
+     */
+    public short getGuestPassAllowance() {
+        return Constants.FAMILY_GUEST_PASSES;
+    }
+
+    /**
+     * Spends one guest pass, if the member has one left.
+     * @return true if a guest pass was spent, false if the member has none left.
+     */
+    public boolean tryConsumeGuestPass() {
+        short guestPasses;
+
+        do {
+            guestPasses = this.guestPasses;
+            if (guestPasses <= 0) {
+                return false;
+            }
+        } while (!GUEST_PASSES.compareAndSet(this, guestPasses, (short) (guestPasses - 1)));
+
+        this.recordGuestPasses(-1);
+        return true;
+    }
+
+    /**
+     * Gives back one guest pass, when a guest checks out.
+     */
+    public void refundGuestPass() {
+        GUEST_PASSES.getAndAdd(this, (short) 1);
+        this.recordGuestPasses(1);
+    }
+
+    /**
+     * Adds guest passes, or takes them if {@code change} is negative, without checking the count. Used to replay journaled changes:
+     * their records may be queued in a different order than the changes were made, so the count can go below 0 part way through, but
+     * not once every change is replayed.
+     * @param change Number of guest passes to add, negative to take.
+     */
+    public void addGuestPasses(short change) {
+        GUEST_PASSES.getAndAdd(this, change);
+        this.recordGuestPasses(change);
+    }
+
+    /**
+     * Resets the member's guest passes to the number the membership comes with, for example at the start of a billing term.
+     */
+    public void resetGuestPasses() {
+        short previous = (short) GUEST_PASSES.getAndSet(this, this.getGuestPassAllowance());
+        this.recordGuestPasses(this.getGuestPassAllowance() - previous);
+    }
+
+    /**
+     * Starts or stops journaling the changes to the member's guest passes. The member database sets it for the members it holds.
+     * @param journal Journal to record the changes to, null to stop journaling them.
+     */
+    public void setJournal(Journal journal) {
+        this.journal = journal;
+    }
+
+    /**
+     * @param change Number of guest passes added, negative if taken, to journal if the member is journaled.
+     */
+    private void recordGuestPasses(int change) {
+        Journal journal = this.journal;
+
+        if (journal != null) {
+            journal.recordGuestPasses(this, change);
+        }
+    }
+
     /**
      * @return Returns family membership fee.
      */
@@ -72,7 +168,7 @@ public class Family extends Member {
      */
     @Override
     public String toString(double fee){
-        if (super.getExpire().compareTo(new Date()) <= 0) {
+        if (super.isExpired()) {
             return String.format("%s %s, DOB: %s, Membership expired: %s, Location: %s, (Family) guest-pass remaining = %d, Membership fee: $%.2f",
                     super.getFname(), super.getLname(), super.getDob(), super.getExpire(), super.getLocation(), this.guestPasses, fee);
         }
@@ -86,7 +182,7 @@ public class Family extends Member {
      */
     @Override
     public String toString() {
-        if (super.getExpire().compareTo(new Date()) <= 0) {
+        if (super.isExpired()) {
             return String.format("%s %s, DOB: %s, Membership expired: %s, Location: %s, (Family) guest-pass remaining = %d",
                     super.getFname(), super.getLname(), super.getDob(), super.getExpire(), super.getLocation(), this.guestPasses);
         }
@@ -0,0 +1,159 @@
+package member;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * This class holds the outcome of importing a member file: how many lines were read, how many members were parsed and added, how many
+ * were duplicates, and which lines were rejected as malformed and why.
+ * @author Hasnain Ali, Carolette Saguil
+ */
+public class ImportResult {
+    /**
+     * Number of lines read from the file, including blank and rejected lines.
+     */
+    private long linesRead;
+    /**
+     * Number of lines parsed into a member.
+     */
+    private long membersParsed;
+    /**
+     * Number of parsed members actually added to the member database.
+     */
+    private long membersAdded;
+    /**
+     * Number of malformed lines.
+     */
+    private long linesRejected;
+    /**
+     * Messages describing the first rejected lines, in file order.
+     */
+    private final List<String> rejectMessages;
+    /**
+     * Time the import took, in nanoseconds.
+     */
+    private long elapsedNanos;
+    /**
+     * Number of threads that parsed the file.
+     */
+    private int threads;
+
+    /**
+     * Instantiates an empty result where every count is 0.
+     */
+    ImportResult() {
+        this.rejectMessages = new ArrayList<>();
+        this.threads = 1;
+    }
+
+    /**
+     * Adds the counts of one parsed chunk of the file to this result.
+     * @param chunk Chunk that was parsed.
+     * @param firstLine Line number of the first line of the chunk in the file.
+     * @param added Number of members of the chunk that were added to the member database.
+     * @param maxMessages Number of reject messages kept at most.
+     */
+    void addChunk(MemberImporter.ParsedChunk chunk, long firstLine, int added, int maxMessages) {
+        this.linesRead += chunk.getLines();
+        this.membersParsed += chunk.getCount();
+        this.membersAdded += added;
+        this.linesRejected += chunk.getRejected();
+
+        for (int x = 0; x < chunk.getRejectMessages().size() && this.rejectMessages.size() < maxMessages; x++) {
+            this.rejectMessages.add(String.format("Line %d rejected: %s", firstLine + chunk.getRejectLines().get(x),
+                    chunk.getRejectMessages().get(x)));
+        }
+    }
+
+    /**
+     * @param elapsedNanos Time the import took, in nanoseconds.
+     */
+    void setElapsedNanos(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * @param threads Number of threads that parsed the file.
+     */
+    void setThreads(int threads) {
+        this.threads = threads;
+    }
+
+    /**
+     * @return Returns the number of lines read from the file, including blank and rejected lines.
+     */
+    public long getLinesRead() {
+        return this.linesRead;
+    }
+
+    /**
+     * @return Returns the number of lines parsed into a member.
+     */
+    public long getMembersParsed() {
+        return this.membersParsed;
+    }
+
+    /**
+     * @return Returns the number of members added to the member database.
+     */
+    public long getMembersAdded() {
+        return this.membersAdded;
+    }
+
+    /**
+     * @return Returns the number of parsed members that were already in the member database.
+     */
+    public long getDuplicates() {
+        return this.membersParsed - this.membersAdded;
+    }
+
+    /**
+     * @return Returns the number of malformed lines.
+     */
+    public long getLinesRejected() {
+        return this.linesRejected;
+    }
+
+    /**
+     * @return Returns messages describing the first rejected lines, in file order.
+     */
+    public List<String> getRejectMessages() {
+        return Collections.unmodifiableList(this.rejectMessages);
+    }
+
+    /**
+     * @return Returns the time the import took, in nanoseconds.
+     */
+    public long getElapsedNanos() {
+        return this.elapsedNanos;
+    }
+
+    /**
+     * @return Returns the number of threads that parsed the file.
+     */
+    public int getThreads() {
+        return this.threads;
+    }
+
+    /**
+     * @return Returns the number of lines imported per second.
+     */
+    public double getLinesPerSecond() {
+        if (this.elapsedNanos == 0) {
+            return 0;
+        }
+        return this.linesRead * 1_000_000_000.0 / this.elapsedNanos;
+    }
+
+    /**
+     * @return Returns a one line summary of the import in the format Loaded added members (duplicates duplicates, rejected rejected lines)
+     * from lines lines in ms ms (lines/s lines/s, threads: threads).
+     */
+    @Override
+    public String toString() {
+        return String.format("Loaded %d members (%d duplicates, %d rejected lines) from %d lines in %.1f ms (%.0f lines/s, threads: %d)",
+                this.membersAdded, this.getDuplicates(), this.linesRejected, this.linesRead, this.elapsedNanos / 1_000_000.0,
+                this.getLinesPerSecond(), this.threads);
+    }
+}
@@ -1,8 +1,15 @@
 package member;
 
 import constants.Constants;
+import date.ClockService;
 import date.Date;
 import enums.Location;
+import enums.Time;
+import fitness_classes.FitnessClass;
+import names.NameDictionary;
+
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * This class defines all the characteristics of a Member. These include:
@@ -13,6 +20,13 @@ import enums.Location;
  *     <li>Date Expiration Date</li>
  *     <li>Location Gym Location</li>
  * </ul> </b>
+ * Names are interned through the shared {@code NameDictionary}, and a member keeps the dictionary id of each name, so identity checks
+ * and hashing compare ints instead of folding case. Members built only to look a member up, from names typed in at the front desk, come
+ * from {@code probe()} and leave the dictionary as it is, so names that are typed but never stored do not grow it.
+ * <br><br>
+ * A member also knows which fitness class they are checked into at each time of day, kept up to date by {@code FitnessClass} as they
+ * check in and drop classes, so time conflicts and "which classes am I in" are answered without scanning the class schedule. The
+ * time slots are guarded by the member, since a fitness class can check a waiting member in on whichever thread frees a seat.
  * @author Hasnain Ali, Carolette Saguil
  */
 public class Member implements Comparable<Member> {
@@ -24,6 +38,14 @@ public class Member implements Comparable<Member> {
      * Last Name
      */
     private final String lname;
+    /**
+     * Dictionary id of the case-folded first name.
+     */
+    private final int fnameId;
+    /**
+     * Dictionary id of the case-folded last name.
+     */
+    private final int lnameId;
     /**
      * Date of Birth
      */
@@ -36,6 +58,16 @@ public class Member implements Comparable<Member> {
      * Gym Location
      */
     private final Location location;
+    /**
+     * Times of day the member is checked into a fitness class at, one bit per {@code Time} ordinal. The time slots are guarded by the
+     * member, since a fitness class can check a member in from its waitlist on whichever thread frees a seat.
+     */
+    private byte timeSlots;
+    /**
+     * Fitness class the member is checked into at each time of day, indexed by {@code Time} ordinal. Null until the member first
+     * checks in, so members that never check in do not pay for it.
+     */
+    private FitnessClass[] classesByTime;
 
     /*
         A John Doe 9/2/2022 BRIDGEWATER
@@ -57,13 +89,41 @@ public class Member implements Comparable<Member> {
      * @param location Member's location.
      */
     public Member(String fname, String lname, Date dob, Date expire, Location location) {
-        this.fname = fname;
-        this.lname = lname;
+        this(fname, lname, NameDictionary.idOf(fname), NameDictionary.idOf(lname), dob, expire, location);
+    }
+
+    /**
+     * Constructor that instantiates the state of a Member whose names have already been looked up in the name dictionary.
+     * @param fname Member's first name.
+     * @param lname Member's last name.
+     * @param fnameId Dictionary id of the first name, -1 if it is not in the dictionary.
+     * @param lnameId Dictionary id of the last name, -1 if it is not in the dictionary.
+     * @param dob Member's date of birth.
+     * @param expire Member's expiration date.
+     * @param location Member's location.
+     */
+    private Member(String fname, String lname, int fnameId, int lnameId, Date dob, Date expire, Location location) {
+        this.fnameId = fnameId;
+        this.lnameId = lnameId;
+        this.fname = fnameId == Constants.NOT_FOUND ? fname : NameDictionary.intern(fnameId, fname);
+        this.lname = lnameId == Constants.NOT_FOUND ? lname : NameDictionary.intern(lnameId, lname);
         this.dob = dob;
         this.expire = expire;
         this.location = location;
     }
 
+    /**
+     * Builds a member to look up by identity, without adding their names to the name dictionary. A name that is not in the dictionary
+     * belongs to no stored member, so the probe then matches no member. Probes are only for lookups and are never stored.
+     * @param fname First name to look up.
+     * @param lname Last name to look up.
+     * @param dob Date of birth to look up.
+     * @return Returns a member holding only the name and date of birth.
+     */
+    public static Member probe(String fname, String lname, Date dob) {
+        return new Member(fname, lname, NameDictionary.find(fname), NameDictionary.find(lname), dob, null, null);
+    }
+
     /**
      * @return Returns member's first name.
      */
@@ -78,6 +138,20 @@ public class Member implements Comparable<Member> {
         return this.lname;
     }
 
+    /**
+     * @return Returns the dictionary id of the member's first name, the same for every spelling of the name that is equal ignoring case.
+     */
+    public int getFnameId() {
+        return this.fnameId;
+    }
+
+    /**
+     * @return Returns the dictionary id of the member's last name, the same for every spelling of the name that is equal ignoring case.
+     */
+    public int getLnameId() {
+        return this.lnameId;
+    }
+
     /**
      * @return Returns member's date of birth.
      */
@@ -99,6 +173,77 @@ public class Member implements Comparable<Member> {
         return this.location;
     }
 
+    /**
+     * Checks if the membership has expired, using today's date from {@code ClockService}. A membership that expires today has expired.
+     * @return true if the membership has expired, false otherwise.
+     */
+    public boolean isExpired() {
+        return this.expire.toPacked() <= ClockService.today();
+    }
+
+    /**
+     * @param time Time of day.
+     * @return true if the member is checked into a fitness class at that time, false otherwise.
+     */
+    public synchronized boolean isCheckedInAt(Time time) {
+        return (this.timeSlots & (1 << time.ordinal())) != 0;
+    }
+
+    /**
+     * @param time Time of day.
+     * @return Returns the fitness class the member is checked into at that time, null if there is none.
+     */
+    public synchronized FitnessClass getClassAt(Time time) {
+        return this.isCheckedInAt(time) ? this.classesByTime[time.ordinal()] : null;
+    }
+
+    /**
+     * @return Returns the fitness classes the member is checked into, in order of time of day.
+     */
+    public synchronized List<FitnessClass> getCheckedInClasses() {
+        List<FitnessClass> checkedInClasses = new ArrayList<>(Integer.bitCount(this.timeSlots));
+        for (Time time : Time.values()) {
+            if (this.isCheckedInAt(time)) {
+                checkedInClasses.add(this.classesByTime[time.ordinal()]);
+            }
+        }
+        return checkedInClasses;
+    }
+
+    /**
+     * Records that the member checked into a fitness class, taking its time slot. Only called by {@code FitnessClass}.
+     * @param fitnessClass Fitness class the member checked into.
+     * @return true if the time slot was taken, false if the member is already checked into another class at that time.
+     */
+    public synchronized boolean occupyTimeSlot(FitnessClass fitnessClass) {
+        int slot = fitnessClass.getTimeOfDay().ordinal();
+
+        if (this.isCheckedInAt(fitnessClass.getTimeOfDay())) {
+            return this.classesByTime[slot] == fitnessClass;
+        }
+
+        if (this.classesByTime == null) {
+            this.classesByTime = new FitnessClass[Time.values().length];
+        }
+        this.classesByTime[slot] = fitnessClass;
+        this.timeSlots |= (byte) (1 << slot);
+        return true;
+    }
+
+    /**
+     * Records that the member dropped a fitness class, freeing its time slot if the member holds it with that class. Only called by
+     * {@code FitnessClass}.
+     * @param fitnessClass Fitness class the member dropped.
+     */
+    public synchronized void freeTimeSlot(FitnessClass fitnessClass) {
+        int slot = fitnessClass.getTimeOfDay().ordinal();
+
+        if (this.isCheckedInAt(fitnessClass.getTimeOfDay()) && this.classesByTime[slot] == fitnessClass) {
+            this.classesByTime[slot] = null;
+            this.timeSlots &= (byte) ~(1 << slot);
+        }
+    }
+
     /**
      * @return Returns standard membership fee.
      */
@@ -112,7 +257,7 @@ public class Member implements Comparable<Member> {
      * Membership expires: mm/dd/yy, Location: location, Membership fee: $fee.
      */
     public String toString(double fee){
-        if (this.expire.compareTo(new Date()) <= 0) {
+        if (this.isExpired()) {
             return String.format("%s %s, DOB: %s, Membership expired: %s, Location: %s, Membership fee: $%.2f",
                     this.fname, this.lname, this.dob, this.expire, this.location, fee);
         }
@@ -126,7 +271,7 @@ public class Member implements Comparable<Member> {
      */
     @Override
     public String toString() {
-        if (this.expire.compareTo(new Date()) <= 0) {
+        if (this.isExpired()) {
             return String.format("%s %s, DOB: %s, Membership expired: %s, Location: %s",
                     this.fname, this.lname, this.dob, this.expire, this.location);
         }
@@ -137,15 +282,30 @@ public class Member implements Comparable<Member> {
 
     /**
      * @param obj Member object to compare.
-     * @return Whether the {@code obj} is equal to the current instance of member when comparing first names, last names,
-     * and dates of births.
+     * @return Whether the {@code obj} is equal to the current instance of member when comparing first names and last names ignoring
+     * case, through their dictionary ids, and dates of births.
      */
     @Override
     public boolean equals(Object obj) {
+        if (!(obj instanceof Member)) {
+            return false;
+        }
+
         Member member = (Member) obj;
 
-        return this.fname.equalsIgnoreCase(member.getFname()) && this.lname.equalsIgnoreCase(member.getLname())
-                && this.dob.compareTo(member.getDob()) == 0;
+        return this.fnameId == member.fnameId && this.lnameId == member.lnameId && this.dob.compareTo(member.getDob()) == 0;
+    }
+
+    /**
+     * @return Returns a hash code consistent with {@code equals()}; it is built from the dictionary ids of the first and last name and
+     * the date of birth, so members that are equal ignoring case land in the same bucket of the member database index.
+     */
+    @Override
+    public int hashCode() {
+        int hash = this.fnameId;
+        hash = 31 * hash + this.lnameId;
+        hash = 31 * hash + this.dob.toPacked();
+        return hash;
     }
 
 
@@ -3,17 +3,45 @@ package member;
 import constants.Constants;
 import date.Date;
 import enums.Location;
-
-import java.io.File;
-import java.io.FileNotFoundException;
-import java.util.Scanner;
+import enums.MemberReport;
+import persistence.Journal;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.LongConsumer;
 
 /**
  * This class defines the Member Database using a single one dimensional array.
- * That array will store all the added members to the database.
+ * That array will store all the added members to the database. Alongside the array, a {@code ColumnarMemberStore} holds the same
+ * members row for row as primitive columns. Its identity index maps each member's identity (case-folded first and last name plus date
+ * of birth) to its position in the array, so lookups, duplicate checks, and removals do not have to scan the whole database, and the
+ * orders by name and by county are sorted from its columns with primitive sorts when a report next asks for them, so the sorted print
+ * methods never reorder the member array or compare member objects. The expiration date view is an {@code ExpirationIndex}, which also
+ * answers range queries such as who expires in the next week, and a {@code MemberSearchIndex} finds members from part of their name, for
+ * type-ahead at the front desk. Every list can also be streamed one member at a time to any
+ * {@code Appendable} (a file, the console, or the GUI) through the write methods.
+ * <br><br>
+ * The member objects in the array stay the members of record, since rosters, time slots and guest passes live on them; the columns
+ * only mirror the fields that never change after a member is added.
+ * <br><br>
+ * The database is guarded by a read write lock, so any number of threads can look members up at once, for example front desks checking
+ * members in, while adds and removes wait for the lookups in progress and run one at a time.
  * @author Hasnain Ali, Carolette Saguil
  */
 public class MemberDatabase {
+    /**
+     * Rank of each location (indexed by ordinal) when ordered by county then zipcode. Locations with the same county and zipcode
+     * share a rank.
+     */
+    private static final int[] COUNTY_RANK = countyRanks();
+
     /**
      * Members array / database
      */
@@ -22,14 +50,107 @@ public class MemberDatabase {
      * Current size of member database.
      */
     private int size;
+    /**
+     * Columns of the members in {@code mlist}, row for row, with the identity index and the sorted orders of the reports.
+     */
+    private final ColumnarMemberStore columns;
+    /**
+     * Members sorted by expiration date, with range queries over expiration dates.
+     */
+    private final ExpirationIndex byExpiration;
+    /**
+     * Members by first and last name, for finding members from part of their name.
+     */
+    private final MemberSearchIndex searchIndex;
+    /**
+     * Lock guarding the member array, the columns, the sorted views, and the search index. Lookups hold the read lock; everything that changes the
+     * database, including bringing the sorted views up to date, holds the write lock.
+     */
+    private final ReentrantReadWriteLock lock;
+    /**
+     * Journal every change to the database is recorded to, null if the database is not journaled. Guarded by {@code lock}.
+     */
+    private Journal journal;
 
     /**
      * Instantiates an empty Member Database where it's size is 0. Instantiates a member array of default array size of 4
      * that will store members added to the database and later grow as needed.
      */
     public MemberDatabase() {
+        this(Constants.ARRAY_DEFAULT_SIZE);
+    }
+
+    /**
+     * Instantiates an empty Member Database where it's size is 0, sized up front for the number of members expected.
+     * Useful before a bulk import, so the member array and the member index do not have to grow while loading.
+     * @param initialCapacity Number of members the database should hold before it needs to grow.
+     */
+    public MemberDatabase(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Initial capacity: " + initialCapacity + " not valid.");
+        }
+
         this.size = 0;
-        mlist = new Member[Constants.ARRAY_DEFAULT_SIZE];
+        this.mlist = new Member[Math.max(initialCapacity, Constants.ARRAY_DEFAULT_SIZE)];
+        this.columns = new ColumnarMemberStore(this.mlist.length);
+        this.byExpiration = new ExpirationIndex(this.mlist.length);
+        this.searchIndex = new MemberSearchIndex();
+        this.lock = new ReentrantReadWriteLock();
+    }
+
+    /**
+     * Starts or stops journaling the changes to the database, and to the guest passes of its family and premium members. Members
+     * added from then on are journaled with it.
+     * @param journal Journal to record the changes to, null to stop journaling them.
+     */
+    public void setJournal(Journal journal) {
+        this.lock.writeLock().lock();
+        try {
+            this.journal = journal;
+            for (int x = 0; x < this.size; x++) {
+                if (this.mlist[x] instanceof Family) {
+                    ((Family) this.mlist[x]).setJournal(journal);
+                }
+            }
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @return Returns the rank of each location, indexed by ordinal, when ordered by county then zipcode.
+     */
+    private static int[] countyRanks() {
+        Location[] locations = Location.values();
+        Arrays.sort(locations, Comparator.comparing(Location::getCounty).thenComparing(Location::getPostalCode));
+
+        int[] ranks = new int[locations.length];
+        for (int x = 1; x < locations.length; x++) {
+            boolean sameKey = locations[x].getCounty().equals(locations[x - 1].getCounty())
+                    && locations[x].getPostalCode().equals(locations[x - 1].getPostalCode());
+            ranks[locations[x].ordinal()] = sameKey ? ranks[locations[x - 1].ordinal()] : x;
+        }
+        return ranks;
+    }
+
+    /**
+     * @param location Ordinal of a location.
+     * @return Returns the rank of the location when ordered by county then zipcode.
+     */
+    static int countyRank(int location) {
+        return COUNTY_RANK[location];
+    }
+
+    /**
+     * @return Returns the number of members in the member database.
+     */
+    public int getSize() {
+        this.lock.readLock().lock();
+        try {
+            return this.size;
+        } finally {
+            this.lock.readLock().unlock();
+        }
     }
 
     /**
@@ -38,13 +159,12 @@ public class MemberDatabase {
      * @return index of the member in the member database, -1 otherwise.
      */
     public int find(Member member) {
-        for (int x = 0; x < this.size; x++) { // Not binary search, it's fine for this project.
-            if (this.mlist[x].equals(member)) {
-                return x;
-            }
+        this.lock.readLock().lock();
+        try {
+            return this.columns.find(member);
+        } finally {
+            this.lock.readLock().unlock();
         }
-
-        return Constants.NOT_FOUND;
     }
 
     /**
@@ -52,24 +172,74 @@ public class MemberDatabase {
      * @return Returns member at that index in the member database, null if index is invalid / is not in the database.
      */
     public Member getMember(int index) {
-        if (index < 0 || index > this.size) {
-            return null;
+        this.lock.readLock().lock();
+        try {
+            if (index < 0 || index > this.size) {
+                return null;
+            }
+            return this.mlist[index];
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Looks up a member in one step, so a member removed by another thread between finding and getting them cannot be mistaken for
+     * the member moved into their place.
+     * @param member Member to look up. Only the identity (first name, last name and date of birth) is used.
+     * @return Returns the member in the member database with the same identity, null if there is none.
+     */
+    public Member getMember(Member member) {
+        this.lock.readLock().lock();
+        try {
+            int index = this.columns.find(member);
+            return index == Constants.NOT_FOUND ? null : this.mlist[index];
+        } finally {
+            this.lock.readLock().unlock();
         }
-        return this.mlist[index];
     }
 
     /**
-     * Grows the member database when the current database is full.
+     * Copies the members under one hold of the read lock, so the copy is the member database as it was at one moment even while
+     * other threads add and remove members.
+     * @return Returns the members in the member database, in database order.
+     */
+    public Member[] getMembers() {
+        this.lock.readLock().lock();
+        try {
+            return Arrays.copyOf(this.mlist, this.size);
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Grows the member database when the current database is full. The array grows geometrically, so adding N members costs
+     * O(N) copies in total instead of one full copy every few adds.
      * Size limited by JVM memory allocation. (How big Java will let you make an array before you run out of space).
      */
     public void grow() {
-        Member[] newMemberList = new Member[this.size + Constants.ARRAY_INCREMENT_SIZE];
+        this.ensureCapacity(this.mlist.length * Constants.ARRAY_GROWTH_FACTOR);
+    }
 
-        for (int x = 0; x < this.size; x++) {
-            newMemberList[x] = this.mlist[x];
-        }
+    /**
+     * Makes sure the member database can hold at least {@code capacity} members without growing again.
+     * @param capacity Number of members the database should be able to hold.
+     */
+    public void ensureCapacity(int capacity) {
+        this.lock.writeLock().lock();
+        try {
+            if (capacity <= this.mlist.length) {
+                return;
+            }
 
-        this.mlist = newMemberList;
+            Member[] newMemberList = new Member[capacity];
+            System.arraycopy(this.mlist, 0, newMemberList, 0, this.size);
+            this.mlist = newMemberList;
+            this.columns.ensureCapacity(capacity);
+        } finally {
+            this.lock.writeLock().unlock();
+        }
     }
 
     /**
@@ -79,57 +249,191 @@ public class MemberDatabase {
      * @return true if member was added, false otherwise.
      */
     public boolean add(Member member) {
-        if (this.find(member) >= 0) {
-            return false;
+        this.lock.writeLock().lock();
+        try {
+            if (!this.addToStore(member)) {
+                return false;
+            }
+
+            this.byExpiration.add(member);
+            if (this.journal != null) {
+                this.journal.recordAddMember(member);
+            }
+            return true;
+        } finally {
+            this.lock.writeLock().unlock();
         }
+    }
+
+    /**
+     * Adds member given to the member array, the columns, and the search index, but not to the expiration index. A family or premium
+     * member added is journaled with the database.
+     * @param member Member to be added.
+     * @return true if member was added, false if member is already in the member database.
+     */
+    private boolean addToStore(Member member) {
         if (this.size == this.mlist.length) {
             this.grow();
         }
+        if (this.columns.add(member) == Constants.NOT_FOUND) {
+            return false;
+        }
 
-        this.mlist[size] = member;
+        this.mlist[this.size] = member;
         this.size++;
-
+        this.searchIndex.add(member);
+        if (member instanceof Family) {
+            ((Family) member).setJournal(this.journal);
+        }
         return true;
     }
 
+    /**
+     * @param report Report about to be read.
+     * @return Returns true if the view {@code report} is read from has changed since it was last read and must be brought up to date
+     * under the write lock, false if it can be read under the read lock. The unsorted reports read the member array and are never stale.
+     */
+    private boolean isStale(MemberReport report) {
+        switch (report) {
+            case BY_COUNTY:
+            case BY_NAME:
+                return this.columns.isStale(report);
+            case BY_EXPIRATION_DATE:
+                return this.byExpiration.isStale();
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Brings the view {@code report} is read from up to date with the members added and removed since it was last read: the columns
+     * sort the order of the name and county reports, and the expiration index merges the members added since. The view can then be read
+     * under the read lock.
+     * @param report Report about to be read.
+     */
+    private void syncViews(MemberReport report) {
+        switch (report) {
+            case BY_COUNTY:
+            case BY_NAME:
+                this.columns.rowsFor(report);
+                break;
+            case BY_EXPIRATION_DATE:
+                this.byExpiration.merge();
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Adds a batch of members to the member database in one pass. The database grows at most once for the whole batch, and each member
+     * is checked for duplicates through the member index, so the first occurrence of a member wins.
+     * @param members Members to be added.
+     * @param count Number of members of {@code members} to add, starting from index 0.
+     * @return Returns the number of members that were added.
+     */
+    public int addAll(Member[] members, int count) {
+        this.lock.writeLock().lock();
+        try {
+            this.ensureCapacity(this.size + count);
+
+            int added = 0;
+            for (int x = 0; x < count; x++) {
+                if (this.addToStore(members[x])) {
+                    this.byExpiration.add(members[x]);
+                    added++;
+                }
+            }
+            if (added > 0 && this.journal != null) {
+                this.journal.recordAddMembers(members, count);
+            }
+            return added;
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
     /**
      * Removes member given from the member database.
      * Returns false if member is not in the member database.
+     * The last member in the array is moved into the removed member's slot, so removal is O(1). This means the unsorted order
+     * of the remaining members is not preserved.
      * @param member Member to be removed.
      * @return true if member was removed, false otherwise.
      */
     public boolean remove(Member member) {
-        int index = this.find(member);
+        this.lock.writeLock().lock();
+        try {
+            int index = this.columns.find(member);
 
-        if (index == Constants.NOT_FOUND) {
-            return false;
-        }
+            if (index == Constants.NOT_FOUND) {
+                return false;
+            }
 
-        for (int x = index; x < this.size - 1; x++) {
-            this.mlist[x] = this.mlist[x + 1];
-        }
+            Member removed = this.mlist[index];
+            this.byExpiration.remove(removed);
+            this.columns.remove(index);
+            this.searchIndex.remove(removed);
 
-        this.mlist[this.size - 1] = null;
-        this.size--;
+            int last = this.size - 1;
 
-        return true;
+            if (index != last) {
+                this.mlist[index] = this.mlist[last];
+            }
+
+            this.mlist[last] = null;
+            this.size--;
+            if (removed instanceof Family) {
+                ((Family) removed).setJournal(null);
+            }
+            if (this.journal != null) {
+                this.journal.recordRemoveMember(removed);
+            }
+
+            return true;
+        } finally {
+            this.lock.writeLock().unlock();
+        }
     }
 
     /**
-     * @return Returns string of all the members in the database with no sorting.
+     * Finds the members whose names best match a partly typed, possibly misspelled, first and last name, for type-ahead at the front
+     * desk. Members are ranked by last name, then first name, then date of birth, as described in {@code MemberSearchIndex}. Any number of
+     * threads can search at once; the write lock is only taken to merge names new to the index into its sorted vocabulary.
+     * @param firstName First name typed, in any case; empty to match any first name.
+     * @param lastName Last name typed, in any case; empty to match any last name.
+     * @param limit Maximum number of members to return.
+     * @return Returns the best matching members, best first. Empty if both names are empty.
      */
-    public String print() {
-
-        if (this.size == 0) {
-            return ("Member Database is empty!\n");
+    public List<Member> search(String firstName, String lastName, int limit) {
+        this.lock.readLock().lock();
+        if (this.searchIndex.isStale()) {
+            this.lock.readLock().unlock();
+            this.lock.writeLock().lock();
+            try {
+                if (this.searchIndex.isStale()) {
+                    this.searchIndex.merge();
+                }
+                this.lock.readLock().lock();
+            } finally {
+                this.lock.writeLock().unlock();
+            }
         }
 
-        String memberDatabase = "-list of members-\n";
-        for (int x = 0; x < this.size; x++) {
-            memberDatabase = memberDatabase + this.mlist[x] + "\n";
+        try {
+            return this.searchIndex.search(firstName, lastName, limit);
+        } finally {
+            this.lock.readLock().unlock();
         }
-        memberDatabase = memberDatabase + "-end of list-\n";
-        return memberDatabase;
+    }
+
+    /**
+     * @return Returns string of all the members in the database with no sorting.
+     */
+    public String print() {
+        StringBuilder memberDatabase = new StringBuilder();
+        this.writeTo(memberDatabase, MemberReport.UNSORTED);
+        return memberDatabase.toString();
     }
 
 
@@ -137,49 +441,18 @@ public class MemberDatabase {
      * @return Returns string of all the members in the database with their membership fee for the next billing term, with no sorting.
      */
     public String printWithMembershipFee() {
-
-        if (this.size == 0) {
-            return ("Member Database is empty!\n");
-        }
-
-        String memberDatabase = "-list of members with membership fees-\n";
-        for (int x = 0; x < this.size; x++) {
-            memberDatabase = memberDatabase + (this.mlist[x].toString(mlist[x].getMembershipFee())) + "\n";
-        }
-        memberDatabase = memberDatabase + "-end of list-\n";
-        return memberDatabase;
+        StringBuilder memberDatabase = new StringBuilder();
+        this.writeTo(memberDatabase, MemberReport.WITH_MEMBERSHIP_FEE);
+        return memberDatabase.toString();
     }
 
     /**
      * @return Returns string of all the members in the member database, sorted by county then zipcode.
      */
     public String printByCounty() {
-        if (this.size == 0) {
-            return ("Member Database is empty!\n");
-        }
-
-        Member tempMember;
-
-        String memberDatabase = "-list of members sorted by county and zipcode-\n";
-        for (int x = 0; x < this.size; x++) {
-            for (int y = x + 1; y < this.size; y++) {
-                if (this.mlist[x].getLocation().getCounty().compareTo(this.mlist[y].getLocation().getCounty()) > 0) {
-                    tempMember = this.mlist[x];
-                    this.mlist[x] = this.mlist[y];
-                    this.mlist[y] = tempMember;
-                } else if (this.mlist[x].getLocation().getCounty().compareTo(this.mlist[y].getLocation().getCounty()) == 0) {
-                    if (this.mlist[x].getLocation().getPostalCode().compareTo(this.mlist[y].getLocation().getPostalCode()) > 0) {
-                        tempMember = this.mlist[x];
-                        this.mlist[x] = this.mlist[y];
-                        this.mlist[y] = tempMember;
-                    }
-                }
-            }
-
-            memberDatabase = memberDatabase + this.mlist[x] + "\n";
-        }
-        memberDatabase = memberDatabase + "-end of list-\n";
-        return memberDatabase;
+        StringBuilder memberDatabase = new StringBuilder();
+        this.writeTo(memberDatabase, MemberReport.BY_COUNTY);
+        return memberDatabase.toString();
     }
 
 
@@ -187,83 +460,212 @@ public class MemberDatabase {
      * @return Returns string of all the members in the member database, sorted by expiration date.
      */
     public String printByExpirationDate() {
-        if (this.size == 0) {
-            return ("Member Database is empty!\n");
+        StringBuilder memberDatabase = new StringBuilder();
+        this.writeTo(memberDatabase, MemberReport.BY_EXPIRATION_DATE);
+        return memberDatabase.toString();
+    }
+
+    /**
+     * Counts the members whose membership expires in a range of dates, with two binary searches on the expiration index. Members
+     * added since the index was last read are merged into it first, so this holds the write lock.
+     * @param from First expiration date of the range, inclusive.
+     * @param to Last expiration date of the range, exclusive.
+     * @return Returns the number of members whose membership expires on or after {@code from} and before {@code to}.
+     */
+    public int countExpiringBetween(Date from, Date to) {
+        this.lock.writeLock().lock();
+        try {
+            return this.byExpiration.count(from.toPacked(), to.toPacked());
+        } finally {
+            this.lock.writeLock().unlock();
         }
+    }
 
-        Member tempMember;
+    /**
+     * Lists the members whose membership expires in a range of dates, for example everyone expiring in the next week, or everyone
+     * whose membership expired last month. Members added since the index was last read are merged into it under the write lock, then
+     * the range is copied under the read lock, like {@code writeReport()}.
+     * @param from First expiration date of the range, inclusive.
+     * @param to Last expiration date of the range, exclusive.
+     * @return Returns a copy of the members whose membership expires on or after {@code from} and before {@code to}, in order of
+     * expiration date.
+     */
+    public List<Member> expiringBetween(Date from, Date to) {
+        this.lock.writeLock().lock();
+        try {
+            this.byExpiration.merge();
+            this.lock.readLock().lock();
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+
+        try {
+            return this.byExpiration.copyBetween(from.toPacked(), to.toPacked());
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
 
-        String memberDatabase = "-list of members sorted by member expiration date-\n";
-        for (int x = 0; x < this.size; x++) {
-            for (int y = x + 1; y < this.size; y++) { // x = 09/29/2022 y
-                if (this.mlist[x].getExpire().compareTo(this.mlist[y].getExpire()) > 0) {
-                    tempMember = this.mlist[x];
-                    this.mlist[x] = this.mlist[y];
-                    this.mlist[y] = tempMember;
+    /**
+     * Resets the guest passes of every family and premium member to the number their membership comes with, for example at the start
+     * of a billing term. Only the read lock is held, so check ins go on while the passes are reset.
+     * @return Returns the number of members whose guest passes were reset.
+     */
+    public int resetGuestPasses() {
+        this.lock.readLock().lock();
+        try {
+            int reset = 0;
+            for (int x = 0; x < this.size; x++) {
+                if (this.columns.isFamily(x)) {
+                    ((Family) this.mlist[x]).resetGuestPasses();
+                    reset++;
                 }
             }
-
-            memberDatabase = memberDatabase + this.mlist[x] + "\n";
+            return reset;
+        } finally {
+            this.lock.readLock().unlock();
         }
-        memberDatabase = memberDatabase + "-end of list-\n";
-        return memberDatabase;
     }
 
     /**
      * @return Returns string of all the members in the member database, sorted by last name then first name.
      */
     public String printByName() {
-        if (this.size == 0) {
-            return ("Member Database is empty!\n");
-        }
-
-        Member tempMember;
-
-        String memberDatabase = "-list of members sorted by last name, and first name-\n";
-        for (int x = 0; x < this.size; x++) {
-            for (int y = x + 1; y < this.size; y++) {
-                if (this.mlist[x].getLname().compareTo(this.mlist[y].getLname()) > 0) {
-                    tempMember = this.mlist[x];
-                    this.mlist[x] = this.mlist[y];
-                    this.mlist[y] = tempMember;
-                } else if (this.mlist[x].getLname().compareTo(this.mlist[y].getLname()) == 0) {
-                    if (this.mlist[x].getFname().compareTo(this.mlist[y].getFname()) > 0) {
-                        tempMember = this.mlist[x];
-                        this.mlist[x] = this.mlist[y];
-                        this.mlist[y] = tempMember;
-                    }
+        StringBuilder memberDatabase = new StringBuilder();
+        this.writeTo(memberDatabase, MemberReport.BY_NAME);
+        return memberDatabase.toString();
+    }
+
+    /**
+     * Writes {@code report} into a {@code StringBuilder}, which never throws an {@code IOException}.
+     * @param memberDatabase Builder to write into.
+     * @param report Report to write.
+     */
+    private void writeTo(StringBuilder memberDatabase, MemberReport report) {
+        try {
+            this.writeReport(report, memberDatabase);
+        } catch (IOException ioException) {
+            throw new UncheckedIOException(ioException);
+        }
+    }
+
+    /**
+     * Streams a member report to {@code out}, one member per line. The members of the report are copied under the lock, which only
+     * copies references, and the lines are written after the lock is released, so a report of any size can be written to a file, the
+     * console, or the GUI without adds, removes, or lookups waiting for it. The write lock is only taken when the sorted view the
+     * report is read from has changed since it was last read.
+     * @param report Which list of members to write.
+     * @param out Where the list is written to.
+     * @throws IOException If {@code out} fails to accept a line.
+     */
+    public void writeReport(MemberReport report, Appendable out) throws IOException {
+        Member[] members = this.membersFor(report);
+
+        if (members.length == 0) {
+            out.append("Member Database is empty!\n");
+            return;
+        }
+
+        out.append(report.getHeader());
+        for (Member member : members) {
+            if (report == MemberReport.WITH_MEMBERSHIP_FEE) {
+                out.append(member.toString(member.getMembershipFee()));
+            } else {
+                out.append(member.toString());
+            }
+            out.append('\n');
+        }
+        out.append("-end of list-\n");
+    }
+
+    /**
+     * Copies the members of a report. The view of the report is brought up to date under the write lock if it is stale, and the
+     * members are copied from it under the read lock.
+     * @param report Report to copy the members of.
+     * @return Returns a copy of the members of the database in the order {@code report} lists them in. The unsorted reports copy the
+     * member array, the expiration date report copies the expiration index, and the others copy the member array in the order the
+     * columns sorted the rows in.
+     */
+    private Member[] membersFor(MemberReport report) {
+        this.lock.readLock().lock();
+        if (this.isStale(report)) {
+            this.lock.readLock().unlock();
+            this.lock.writeLock().lock();
+            try {
+                if (this.isStale(report)) {
+                    this.syncViews(report);
                 }
+                this.lock.readLock().lock();
+            } finally {
+                this.lock.writeLock().unlock();
             }
+        }
 
-            memberDatabase = memberDatabase + this.mlist[x] + "\n";
+        try {
+            switch (report) {
+                case BY_COUNTY:
+                case BY_NAME:
+                    int[] rows = this.columns.rowsFor(report);
+                    Member[] members = new Member[rows.length];
+                    for (int x = 0; x < rows.length; x++) {
+                        members[x] = this.mlist[rows[x]];
+                    }
+                    return members;
+                case BY_EXPIRATION_DATE:
+                    return this.byExpiration.toArray();
+                default:
+                    return Arrays.copyOf(this.mlist, this.size);
+            }
+        } finally {
+            this.lock.readLock().unlock();
         }
-        memberDatabase = memberDatabase + "-end of list-\n";
-        return memberDatabase;
     }
 
     /**
      * @return A string with a list of all the historical members that we have added in already from the historical member list file.
      * We will load all of these members into the member database and then return upon success and / or return an error message that will be
-     * displayed to the user.
+     * displayed to the user. Malformed lines are skipped and listed after the loaded members.
      */
     public String loadHistoricalMembers() {
-        StringBuilder loadedMembers;
+        StringBuilder loadedMembers = new StringBuilder("-List of Members Loaded-\n");
+        ImportResult result;
+
         try {
-            File file = new File(Constants.MEMBER_LIST_FROM_CONTENT_ROOT);
-            Scanner sc = new Scanner(file);
-            loadedMembers = new StringBuilder(("-List of Members Loaded-\n"));
-
-            while (sc.hasNextLine()) {
-                String[] line = sc.nextLine().split("\\s+");
-                Member member = new Member(line[0], line[1], new Date(line[2]), new Date(line[3]), Location.returnEnumFromString(line[4]));
-                this.add(member);
-                loadedMembers.append(member).append("\n");
-            }
-        } catch (FileNotFoundException fileNotFoundException) {
+            result = MemberImporter.importMembers(Path.of(Constants.MEMBER_LIST_FROM_CONTENT_ROOT), this, loadedMembers);
+        } catch (NoSuchFileException noSuchFileException) {
             return "File is not found";
+        } catch (IOException ioException) {
+            return String.format("File could not be read: %s\n", ioException.getMessage());
         }
 
         loadedMembers.append("-end of list-\n");
+        for (String rejectMessage : result.getRejectMessages()) {
+            loadedMembers.append(rejectMessage).append("\n");
+        }
         return loadedMembers.toString();
     }
+
+    /**
+     * Loads a member file like {@code loadHistoricalMembers()}, but streams the listing to {@code out} while the members are added
+     * instead of returning it as one {@code String}. The file is added a window of {@code Constants.IMPORT_TASK_WINDOW_SIZE} bytes at
+     * a time, so lookups on other threads never wait long for the load. If {@code out} fails, the load stops after the window being
+     * listed, and the members already added stay in the database.
+     * @param file Member file to load, in the format of {@code memberList.txt}.
+     * @param out Where the members loaded are listed, followed by the malformed lines skipped.
+     * @param progress Told the number of bytes of the file loaded so far; {@code null} to skip progress.
+     * @throws IOException If the file cannot be read, or {@code out} fails to accept a line.
+     */
+    public void loadMembers(Path file, Appendable out, LongConsumer progress) throws IOException {
+        if (Files.notExists(file)) {
+            out.append("File is not found\n");
+            return;
+        }
+
+        out.append("-List of Members Loaded-\n");
+        ImportResult result = MemberImporter.importMembers(file, this, out, Constants.IMPORT_TASK_WINDOW_SIZE, progress);
+        out.append("-end of list-\n");
+        for (String rejectMessage : result.getRejectMessages()) {
+            out.append(rejectMessage).append("\n");
+        }
+    }
 }
@@ -0,0 +1,669 @@
+package member;
+
+import constants.Constants;
+import date.Date;
+import enums.Location;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.LongConsumer;
+
+/**
+ * This class bulk loads member files in the {@code memberList.txt} format (first name, last name, date of birth, expiration date,
+ * location, separated by whitespace) into a member database. The file is memory mapped and tokenized byte by byte: no regular
+ * expressions, no {@code Scanner}, and no intermediate {@code String[]} per line. Dates are parsed straight from the bytes, locations
+ * are matched without building a {@code String}, and every parsed window of the file is added to the database in one batch.
+ * Malformed lines are counted and reported instead of aborting the load. Large files can also be split into chunks that are parsed on
+ * several threads at once and merged back in file order.
+ * @author Hasnain Ali, Carolette Saguil
+ */
+public class MemberImporter {
+    /**
+     * All gym locations, cached so matching a location does not copy the enum values on every line.
+     */
+    private static final Location[] LOCATIONS = Location.values();
+
+    /**
+     * Utility class; not meant to be instantiated.
+     */
+    private MemberImporter() {
+    }
+
+    /**
+     * Loads every well-formed line of {@code file} into {@code memberDatabase}. Members already in the database are skipped, so the
+     * first occurrence of a member wins.
+     * @param file Member file to load.
+     * @param memberDatabase Member database to load the members into.
+     * @param listing Where every parsed member is listed, one per line, in file order; {@code null} to skip the listing.
+     * @return Returns the counts and reject messages of the import.
+     * @throws IOException If the file cannot be read, or {@code listing} fails to accept a line.
+     */
+    public static ImportResult importMembers(Path file, MemberDatabase memberDatabase, Appendable listing) throws IOException {
+        return importMembers(file, memberDatabase, listing, Constants.IMPORT_WINDOW_SIZE, null);
+    }
+
+    /**
+     * Loads every well-formed line of {@code file} into {@code memberDatabase}, mapping and adding at most {@code windowSize} bytes of
+     * the file at a time. The member database is only locked while a window is added, so smaller windows keep lookups on other threads
+     * waiting for less time, and give finer progress.
+     * @param file Member file to load.
+     * @param memberDatabase Member database to load the members into.
+     * @param listing Where every parsed member is listed, one per line, in file order; {@code null} to skip the listing.
+     * @param windowSize Most bytes of the file parsed and added at once.
+     * @param progress Told the number of bytes of the file loaded after every window; {@code null} to skip progress.
+     * @return Returns the counts and reject messages of the import.
+     * @throws IOException If the file cannot be read, or {@code listing} fails to accept a line.
+     */
+    public static ImportResult importMembers(Path file, MemberDatabase memberDatabase, Appendable listing, int windowSize,
+                                             LongConsumer progress) throws IOException {
+        if (windowSize <= 0) {
+            throw new IllegalArgumentException("Window size: " + windowSize + " not valid.");
+        }
+
+        long startTime = System.nanoTime();
+        ImportResult result = new ImportResult();
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            long position = 0;
+            long nextLine = 1;
+
+            while (position < fileSize) {
+                long mapped = Math.min(windowSize, fileSize - position);
+                MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, position, mapped);
+                int end = (int) mapped;
+                ParsedChunk chunk;
+
+                if (position + mapped < fileSize) {
+                    end = lastLineEnd(window, end);
+                }
+
+                if (end == 0) { // One line longer than the whole window; it cannot be a member line, so it is skipped whole.
+                    long lineEnd = lineStartAfter(channel, position + mapped,
+                            ByteBuffer.allocate(Constants.ESTIMATED_MEMBER_LINE_LENGTH * 16));
+                    chunk = ParsedChunk.longLine(lineEnd - position);
+                    merge(chunk, nextLine, memberDatabase, listing, result);
+                    position = lineEnd;
+                } else {
+                    chunk = parse(window, 0, end);
+                    merge(chunk, nextLine, memberDatabase, listing, result);
+                    position += end;
+                }
+
+                nextLine += chunk.getLines();
+                if (progress != null) {
+                    progress.accept(position);
+                }
+            }
+        }
+
+        result.setElapsedNanos(System.nanoTime() - startTime);
+        return result;
+    }
+
+    /**
+     * Loads every well-formed line of {@code file} into {@code memberDatabase}, parsing on {@code threads} worker threads. The file is
+     * split at line boundaries into chunks that are mapped and parsed independently on a fork-join pool, then merged into the member
+     * database strictly in file order on the calling thread. Duplicates therefore resolve exactly as in {@code importMembers()}: the
+     * first occurrence of a member wins. At most two chunks per thread are parsed ahead of the merge, so memory stays bounded however
+     * large the file is.
+     * @param file Member file to load.
+     * @param memberDatabase Member database to load the members into.
+     * @param listing Where every parsed member is listed, one per line, in file order; {@code null} to skip the listing.
+     * @param threads Number of threads parsing chunks.
+     * @return Returns the counts, throughput, and reject messages of the import.
+     * @throws IOException If the file cannot be read, or {@code listing} fails to accept a line.
+     */
+    public static ImportResult importMembersParallel(Path file, MemberDatabase memberDatabase, Appendable listing, int threads)
+            throws IOException {
+        return importMembersParallel(file, memberDatabase, listing, threads, Constants.IMPORT_WINDOW_SIZE);
+    }
+
+    /**
+     * Loads a member file like {@code importMembersParallel()}, with chunks of at most {@code windowSize} bytes. A line longer than a
+     * whole chunk is rejected as one line without being mapped, as {@code importMembers()} does with a line longer than its window.
+     * @param file Member file to load.
+     * @param memberDatabase Member database to load the members into.
+     * @param listing Where every parsed member is listed, one per line, in file order; {@code null} to skip the listing.
+     * @param threads Number of threads parsing chunks.
+     * @param windowSize Most bytes of the file mapped and parsed as one chunk.
+     * @return Returns the counts, throughput, and reject messages of the import.
+     * @throws IOException If the file cannot be read, or {@code listing} fails to accept a line.
+     */
+    public static ImportResult importMembersParallel(Path file, MemberDatabase memberDatabase, Appendable listing, int threads,
+                                                     int windowSize) throws IOException {
+        if (threads < 1) {
+            throw new IllegalArgumentException("Threads: " + threads + " not valid.");
+        }
+        if (windowSize <= 0) {
+            throw new IllegalArgumentException("Window size: " + windowSize + " not valid.");
+        }
+
+        long startTime = System.nanoTime();
+        ImportResult result = new ImportResult();
+        result.setThreads(threads);
+        ForkJoinPool pool = new ForkJoinPool(threads);
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long[] boundaries = chunkBoundaries(channel, threads, windowSize);
+            ArrayDeque<Future<ParsedChunk>> inFlight = new ArrayDeque<>();
+            int nextChunk = 0;
+            long nextLine = 1;
+
+            while (nextChunk < boundaries.length - 1 || !inFlight.isEmpty()) {
+                while (nextChunk < boundaries.length - 1 && inFlight.size() < threads * 2) {
+                    long start = boundaries[nextChunk];
+                    long end = boundaries[nextChunk + 1];
+                    if (end - start > windowSize) { // Only ever one line, too long to be a member line, so it is skipped whole.
+                        inFlight.add(CompletableFuture.completedFuture(ParsedChunk.longLine(end - start)));
+                    } else {
+                        inFlight.add(pool.submit(() -> parse(channel.map(FileChannel.MapMode.READ_ONLY, start, end - start), 0,
+                                (int) (end - start))));
+                    }
+                    nextChunk++;
+                }
+
+                ParsedChunk chunk = awaitChunk(inFlight.poll());
+                merge(chunk, nextLine, memberDatabase, listing, result);
+                nextLine += chunk.getLines();
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        result.setElapsedNanos(System.nanoTime() - startTime);
+        return result;
+    }
+
+    /**
+     * Splits the file into chunks that each start at the beginning of a line. There are a few chunks per thread so that a slow chunk
+     * does not leave the other threads idle, and no chunk is larger than {@code windowSize} so it can be mapped and indexed with an
+     * {@code int}. A chunk ends after the first line that crosses its target size; if that line would make the chunk larger than the
+     * window, the chunk ends before the line instead and the line is a chunk of its own, the only chunk that can be larger.
+     * @param channel Channel of the member file.
+     * @param threads Number of threads parsing chunks.
+     * @param windowSize Most bytes of a chunk that holds more than one line.
+     * @return Returns the file offset of the start of every chunk, followed by the size of the file.
+     * @throws IOException If the file cannot be read.
+     */
+    private static long[] chunkBoundaries(FileChannel channel, int threads, int windowSize) throws IOException {
+        long fileSize = channel.size();
+        long chunkSize = Math.max(Constants.MIN_IMPORT_CHUNK_SIZE, fileSize / ((long) threads * Constants.IMPORT_CHUNKS_PER_THREAD));
+        chunkSize = Math.max(1, Math.min(chunkSize, windowSize / 2));
+
+        ArrayList<Long> boundaries = new ArrayList<>();
+        ByteBuffer probe = ByteBuffer.allocate(Constants.ESTIMATED_MEMBER_LINE_LENGTH * 16);
+        long position = 0;
+        boundaries.add(position);
+
+        while (position + chunkSize < fileSize) {
+            long next = lineStartAfter(channel, position + chunkSize, probe);
+            if (next - position > windowSize) {
+                long lineStart = lineStartBefore(channel, position + chunkSize, position, probe);
+                if (lineStart > position) {
+                    boundaries.add(lineStart);
+                }
+            }
+            if (next >= fileSize) {
+                break;
+            }
+            boundaries.add(next);
+            position = next;
+        }
+        boundaries.add(fileSize);
+
+        long[] offsets = new long[boundaries.size()];
+        for (int x = 0; x < offsets.length; x++) {
+            offsets[x] = boundaries.get(x);
+        }
+        return offsets;
+    }
+
+    /**
+     * @param channel Channel of the member file.
+     * @param position File offset to start searching from.
+     * @param probe Reused buffer the file is read through.
+     * @return Returns the file offset just past the first new line at or after {@code position}, or the size of the file if there is none.
+     * @throws IOException If the file cannot be read.
+     */
+    private static long lineStartAfter(FileChannel channel, long position, ByteBuffer probe) throws IOException {
+        while (true) {
+            probe.clear();
+            int read = channel.read(probe, position);
+            if (read <= 0) {
+                return channel.size();
+            }
+
+            for (int x = 0; x < read; x++) {
+                if (probe.get(x) == '\n') {
+                    return position + x + 1;
+                }
+            }
+            position += read;
+        }
+    }
+
+    /**
+     * @param channel Channel of the member file.
+     * @param position File offset to search back from.
+     * @param start File offset to stop the search at.
+     * @param probe Reused buffer the file is read through.
+     * @return Returns the file offset just past the last new line before {@code position}, or {@code start} if there is none between
+     * them.
+     * @throws IOException If the file cannot be read.
+     */
+    private static long lineStartBefore(FileChannel channel, long position, long start, ByteBuffer probe) throws IOException {
+        while (position > start) {
+            int length = (int) Math.min(probe.capacity(), position - start);
+            long from = position - length;
+            probe.clear().limit(length);
+            while (probe.hasRemaining() && channel.read(probe, from + probe.position()) > 0) {
+                continue;
+            }
+
+            for (int x = probe.position() - 1; x >= 0; x--) {
+                if (probe.get(x) == '\n') {
+                    return from + x + 1;
+                }
+            }
+            position = from;
+        }
+        return start;
+    }
+
+    /**
+     * @param future Parse of a chunk.
+     * @return Returns the parsed chunk once it is done.
+     * @throws IOException If the chunk could not be mapped, or the import was interrupted.
+     */
+    private static ParsedChunk awaitChunk(Future<ParsedChunk> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException interruptedException) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Member import interrupted");
+        } catch (ExecutionException executionException) {
+            if (executionException.getCause() instanceof IOException) {
+                throw (IOException) executionException.getCause();
+            }
+            throw new IllegalStateException("Member import failed", executionException.getCause());
+        }
+    }
+
+    /**
+     * Adds a parsed chunk to the member database in one batch, lists its members, and records its counts.
+     * @param chunk Chunk to add.
+     * @param firstLine Line number of the first line of the chunk in the file, used in reject messages.
+     * @param memberDatabase Member database to add the members to.
+     * @param listing Where the chunk's members are listed; {@code null} to skip the listing.
+     * @param result Result the chunk's counts are added to.
+     * @throws IOException If {@code listing} fails to accept a line.
+     */
+    static void merge(ParsedChunk chunk, long firstLine, MemberDatabase memberDatabase, Appendable listing, ImportResult result)
+            throws IOException {
+        int added = memberDatabase.addAll(chunk.getMembers(), chunk.getCount());
+
+        if (listing != null) {
+            for (int x = 0; x < chunk.getCount(); x++) {
+                listing.append(chunk.getMembers()[x].toString()).append('\n');
+            }
+        }
+
+        result.addChunk(chunk, firstLine, added, Constants.MAX_REPORTED_REJECTS);
+    }
+
+    /**
+     * @param buffer Buffer to search.
+     * @param end Index one past the last byte to search.
+     * @return Returns the index just past the last new line before {@code end}, or 0 if there is none.
+     */
+    static int lastLineEnd(ByteBuffer buffer, int end) {
+        for (int x = end - 1; x >= 0; x--) {
+            if (buffer.get(x) == '\n') {
+                return x + 1;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Parses every line in {@code buffer} from {@code start} up to {@code end}.
+     * @param buffer Bytes of the member file.
+     * @param start Index of the first byte of the first line.
+     * @param end Index one past the last byte to parse. Should be just past a new line, or the end of the file.
+     * @return Returns the members parsed and the lines rejected. Rejected lines are numbered from the start of the chunk, since a chunk
+     * parsed in parallel does not know how many lines come before it.
+     */
+    static ParsedChunk parse(ByteBuffer buffer, int start, int end) {
+        ParsedChunk chunk = new ParsedChunk(Math.max(Constants.ARRAY_DEFAULT_SIZE, (end - start) / Constants.ESTIMATED_MEMBER_LINE_LENGTH));
+        int[] tokens = new int[Constants.MEMBER_FILE_FIELDS * 2];
+        byte[] scratch = new byte[Constants.ESTIMATED_MEMBER_LINE_LENGTH];
+        int position = start;
+
+        while (position < end) {
+            int lineEnd = position;
+            while (lineEnd < end && buffer.get(lineEnd) != '\n') {
+                lineEnd++;
+            }
+
+            String reason = parseLine(buffer, position, lineEnd, tokens, scratch, chunk);
+            if (reason != null) {
+                chunk.reject(String.format("%s: %s", reason, text(buffer, position, lineEnd)));
+            }
+
+            chunk.lines++;
+            position = lineEnd + 1;
+        }
+
+        return chunk;
+    }
+
+    /**
+     * Parses one line into a member and adds it to {@code chunk}. Blank lines are skipped. Tokens past the fifth are ignored.
+     * @param buffer Bytes of the member file.
+     * @param start Index of the first byte of the line.
+     * @param end Index of the new line ending the line, or the end of the buffer.
+     * @param tokens Reused array holding the start and end index of each token.
+     * @param scratch Reused array the name bytes are copied into.
+     * @param chunk Chunk the member is added to.
+     * @return Returns null if the line was parsed or is blank, otherwise the reason the line was rejected.
+     */
+    private static String parseLine(ByteBuffer buffer, int start, int end, int[] tokens, byte[] scratch, ParsedChunk chunk) {
+        int found = 0;
+        int position = start;
+
+        while (found < Constants.MEMBER_FILE_FIELDS) {
+            while (position < end && isWhitespace(buffer.get(position))) {
+                position++;
+            }
+            if (position == end) {
+                break;
+            }
+
+            tokens[found * 2] = position;
+            while (position < end && !isWhitespace(buffer.get(position))) {
+                position++;
+            }
+            tokens[found * 2 + 1] = position;
+            found++;
+        }
+
+        if (found == 0) {
+            return null;
+        } else if (found < Constants.MEMBER_FILE_FIELDS) {
+            return String.format("expected %d fields, found %d", Constants.MEMBER_FILE_FIELDS, found);
+        }
+
+        Date dob = parseDate(buffer, tokens[4], tokens[5]);
+        if (dob == null || !dob.isValid()) {
+            return "invalid date of birth";
+        }
+
+        Date expire = parseDate(buffer, tokens[6], tokens[7]);
+        if (expire == null || !expire.isValid()) {
+            return "invalid expiration date";
+        }
+
+        Location location = parseLocation(buffer, tokens[8], tokens[9]);
+        if (location == null) {
+            return "invalid location";
+        }
+
+        chunk.add(new Member(name(buffer, tokens[0], tokens[1], scratch), name(buffer, tokens[2], tokens[3], scratch), dob, expire, location));
+        return null;
+    }
+
+    /**
+     * @param value Byte to check.
+     * @return Returns true if {@code value} is a space, tab, or carriage return / other ASCII whitespace, false otherwise.
+     */
+    private static boolean isWhitespace(byte value) {
+        return value == ' ' || value == '\t' || value == '\r' || value == '\f' || value == 0x0B;
+    }
+
+    /**
+     * Parses a date in the format mm/dd/yyyy straight from the bytes. Allows for single digit month and day inputs.
+     * @param buffer Bytes of the member file.
+     * @param start Index of the first byte of the date.
+     * @param end Index one past the last byte of the date.
+     * @return Returns the date, or null if the bytes are not in the format mm/dd/yyyy.
+     */
+    private static Date parseDate(ByteBuffer buffer, int start, int end) {
+        int month = 0;
+        int day = 0;
+        int year = 0;
+        int part = 0;
+        int digits = 0;
+
+        for (int x = start; x < end; x++) {
+            byte value = buffer.get(x);
+
+            if (value >= '0' && value <= '9') {
+                if (++digits > 4) {
+                    return null;
+                }
+                if (part == 0) {
+                    month = month * 10 + (value - '0');
+                } else if (part == 1) {
+                    day = day * 10 + (value - '0');
+                } else {
+                    year = year * 10 + (value - '0');
+                }
+            } else if (value == '/' && digits > 0 && part < 2) {
+                part++;
+                digits = 0;
+            } else {
+                return null;
+            }
+        }
+
+        if (part != 2 || digits == 0) {
+            return null;
+        }
+
+        return new Date(month, day, year);
+    }
+
+    /**
+     * Matches the bytes against the town names of the gym locations, ignoring case.
+     * @param buffer Bytes of the member file.
+     * @param start Index of the first byte of the location.
+     * @param end Index one past the last byte of the location.
+     * @return Returns the matching location, or null if the bytes do not name a gym location.
+     */
+    private static Location parseLocation(ByteBuffer buffer, int start, int end) {
+        for (Location location : LOCATIONS) {
+            String town = location.getTown();
+
+            if (town.length() != end - start) {
+                continue;
+            }
+
+            boolean matches = true;
+            for (int x = 0; x < town.length() && matches; x++) {
+                matches = Character.toUpperCase(town.charAt(x)) == Character.toUpperCase((char) buffer.get(start + x));
+            }
+
+            if (matches) {
+                return location;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * @param buffer Bytes of the member file.
+     * @param start Index of the first byte of the name.
+     * @param end Index one past the last byte of the name.
+     * @param scratch Reused array the bytes are copied into when the name fits.
+     * @return Returns the name decoded as UTF-8.
+     */
+    private static String name(ByteBuffer buffer, int start, int end, byte[] scratch) {
+        byte[] bytes = end - start <= scratch.length ? scratch : new byte[end - start];
+        buffer.get(start, bytes, 0, end - start);
+        return new String(bytes, 0, end - start, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @param buffer Bytes of the member file.
+     * @param start Index of the first byte of the line.
+     * @param end Index one past the last byte of the line.
+     * @return Returns the line decoded as UTF-8 with surrounding whitespace removed, for reject messages.
+     */
+    private static String text(ByteBuffer buffer, int start, int end) {
+        byte[] bytes = new byte[end - start];
+        buffer.get(start, bytes);
+        return new String(bytes, StandardCharsets.UTF_8).trim();
+    }
+
+    /**
+     * Imports a member file into an empty member database and prints a throughput summary. Meant for bulk syncs run outside the GUI.
+     * @param args The member file, optionally followed by the number of threads (defaults to the number of available processors).
+     * @throws IOException If the file cannot be read.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.out.println("Usage: MemberImporter <member file> [threads]");
+            return;
+        }
+
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        ImportResult result = importMembersParallel(Path.of(args[0]), new MemberDatabase(), null, threads);
+
+        System.out.println(result);
+        for (String rejectMessage : result.getRejectMessages()) {
+            System.out.println(rejectMessage);
+        }
+    }
+
+    /**
+     * This class holds the members parsed from one contiguous run of lines of a member file, in file order, along with the lines
+     * that were rejected.
+     */
+    static class ParsedChunk {
+        /**
+         * Parsed members, in file order.
+         */
+        private Member[] members;
+        /**
+         * Number of parsed members.
+         */
+        private int count;
+        /**
+         * Number of lines in the chunk, including blank and rejected lines.
+         */
+        private long lines;
+        /**
+         * Number of rejected lines.
+         */
+        private long rejected;
+        /**
+         * Messages describing the first rejected lines.
+         */
+        private final List<String> rejectMessages;
+        /**
+         * Line of each message in {@code rejectMessages}, counted from 0 at the start of the chunk.
+         */
+        private final List<Long> rejectLines;
+
+        /**
+         * @param capacity Number of members expected in the chunk.
+         */
+        ParsedChunk(int capacity) {
+            this.members = new Member[capacity];
+            this.rejectMessages = new ArrayList<>();
+            this.rejectLines = new ArrayList<>();
+        }
+
+        /**
+         * @param length Length in bytes of a line too long to fit in a window, including its new line.
+         * @return Returns a chunk of that one line, rejected without being parsed.
+         */
+        static ParsedChunk longLine(long length) {
+            ParsedChunk chunk = new ParsedChunk(0);
+            chunk.reject(String.format("line of %d bytes is too long", length));
+            chunk.lines++;
+            return chunk;
+        }
+
+        /**
+         * @param member Member parsed from the next well-formed line.
+         */
+        private void add(Member member) {
+            if (this.count == this.members.length) {
+                Member[] grown = new Member[this.members.length * Constants.ARRAY_GROWTH_FACTOR];
+                System.arraycopy(this.members, 0, grown, 0, this.count);
+                this.members = grown;
+            }
+            this.members[this.count++] = member;
+        }
+
+        /**
+         * Rejects the line currently being parsed.
+         * @param message Message describing the rejected line.
+         */
+        private void reject(String message) {
+            this.rejected++;
+            if (this.rejectMessages.size() < Constants.MAX_REPORTED_REJECTS) {
+                this.rejectMessages.add(message);
+                this.rejectLines.add(this.lines);
+            }
+        }
+
+        /**
+         * @return Returns the parsed members, in file order. Only the first {@code getCount()} entries are used.
+         */
+        Member[] getMembers() {
+            return this.members;
+        }
+
+        /**
+         * @return Returns the number of parsed members.
+         */
+        int getCount() {
+            return this.count;
+        }
+
+        /**
+         * @return Returns the number of lines in the chunk.
+         */
+        long getLines() {
+            return this.lines;
+        }
+
+        /**
+         * @return Returns the number of rejected lines.
+         */
+        long getRejected() {
+            return this.rejected;
+        }
+
+        /**
+         * @return Returns messages describing the first rejected lines.
+         */
+        List<String> getRejectMessages() {
+            return this.rejectMessages;
+        }
+
+        /**
+         * @return Returns the line of each reject message, counted from 0 at the start of the chunk.
+         */
+        List<Long> getRejectLines() {
+            return this.rejectLines;
+        }
+    }
+}
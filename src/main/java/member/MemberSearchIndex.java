@@ -0,0 +1,555 @@
+package member;
+
+import constants.Constants;
+import names.NameDictionary;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * This class indexes the members of a member database by first and last name for the front desk, which types part of a name and picks
+ * the member from a short list instead of retyping it until the exact name and date of birth match.
+ * <br><br>
+ * Every first and last name ever added (the vocabulary) is kept case-folded in one sorted array, so the names starting with what was
+ * typed are one range found with two binary searches. Each name in the vocabulary is also broken into trigrams (every three letters,
+ * padded at the ends), and a trigram index maps each trigram to the names that contain it, so names that share enough trigrams with a
+ * misspelled query are found without comparing against every name. Members are looked up from a name through postings keyed by the
+ * name's {@code NameDictionary} id.
+ * <br><br>
+ * Members are added to and removed from the postings, and new names to the trigram index, as the database changes. New names are merged
+ * into the sorted vocabulary in one pass before the index is next searched, the same way {@code ExpirationIndex} merges new members, so
+ * a bulk import sorts its new names once. Names are never removed from the vocabulary; a name no member has anymore just finds no one.
+ * The index is not thread-safe; the member database guards it with its lock.
+ * @author Hasnain Ali, Carolette Saguil
+ */
+class MemberSearchIndex {
+    /**
+     * Rank of a name that is exactly the name searched for.
+     */
+    private static final int EXACT = 0;
+    /**
+     * Rank of a name that starts with the name searched for.
+     */
+    private static final int PREFIX = 1;
+    /**
+     * Rank of a name that shares enough trigrams with the name searched for.
+     */
+    private static final int FUZZY = 2;
+    /**
+     * Position of a name added to the vocabulary but not merged into the sorted array yet.
+     */
+    private static final int PENDING = -2;
+    /**
+     * Padding before and after a name when it is broken into trigrams.
+     */
+    private static final char PAD = ' ';
+    /**
+     * Bits each character of a trigram is packed into.
+     */
+    private static final int TRIGRAM_CHAR_BITS = 21;
+    /**
+     * Bits the rank of a name is shifted by to sort ahead of its position in the vocabulary.
+     */
+    private static final int RANK_SHIFT = 29;
+
+    /**
+     * Members with each last name, keyed by name id.
+     */
+    private final HashMap<Integer, Postings> byLastName;
+    /**
+     * Members with each first name, keyed by name id.
+     */
+    private final HashMap<Integer, Postings> byFirstName;
+    /**
+     * Name ids of the names containing each trigram.
+     */
+    private final HashMap<Long, NameIds> trigrams;
+    /**
+     * Case-folded names of the vocabulary, sorted.
+     */
+    private String[] names;
+    /**
+     * Name id of each name in {@code names}.
+     */
+    private int[] nameIds;
+    /**
+     * Number of names in {@code names}.
+     */
+    private int size;
+    /**
+     * Position in {@code names} of each name id, -1 for names not in the vocabulary, {@code PENDING} for names not merged yet.
+     */
+    private int[] positions;
+    /**
+     * Number of distinct trigrams of each name in the vocabulary, by name id.
+     */
+    private int[] trigramCounts;
+    /**
+     * Names added to the vocabulary since it was last merged.
+     */
+    private final NameIds pending;
+
+    /**
+     * Instantiates an empty index.
+     */
+    MemberSearchIndex() {
+        this.byLastName = new HashMap<>();
+        this.byFirstName = new HashMap<>();
+        this.trigrams = new HashMap<>();
+        this.names = new String[0];
+        this.nameIds = new int[0];
+        this.positions = new int[0];
+        this.trigramCounts = new int[0];
+        this.pending = new NameIds();
+    }
+
+    /**
+     * Adds a member to the index.
+     * @param member Member to add.
+     */
+    void add(Member member) {
+        postingsOf(this.byLastName, member.getLnameId()).add(member);
+        postingsOf(this.byFirstName, member.getFnameId()).add(member);
+        this.addName(member.getLnameId());
+        this.addName(member.getFnameId());
+    }
+
+    /**
+     * Removes a member from the index.
+     * @param member Member to remove, the same instance that was added.
+     */
+    void remove(Member member) {
+        Postings lastNamePostings = this.byLastName.get(member.getLnameId());
+        Postings firstNamePostings = this.byFirstName.get(member.getFnameId());
+
+        if (lastNamePostings != null) {
+            lastNamePostings.remove(member);
+        }
+        if (firstNamePostings != null) {
+            firstNamePostings.remove(member);
+        }
+    }
+
+    /**
+     * @return Returns true if new names have to be merged into the vocabulary with {@code merge()} before the index is searched.
+     */
+    boolean isStale() {
+        return this.pending.size > 0;
+    }
+
+    /**
+     * Merges the names added since the last merge into the sorted vocabulary: the new names are sorted, then merged with the vocabulary
+     * in one pass, which also updates the positions of the names that moved.
+     */
+    void merge() {
+        String[] added = new String[this.pending.size];
+        for (int x = 0; x < added.length; x++) {
+            added[x] = NameDictionary.fold(NameDictionary.nameOf(this.pending.ids[x]));
+        }
+        Arrays.sort(added);
+
+        int total = this.size + added.length;
+        String[] mergedNames = new String[total];
+        int[] mergedIds = new int[total];
+        int old = 0;
+        int fresh = 0;
+        for (int x = 0; x < total; x++) {
+            if (fresh == added.length || (old < this.size && this.names[old].compareTo(added[fresh]) < 0)) {
+                mergedNames[x] = this.names[old];
+                mergedIds[x] = this.nameIds[old++];
+            } else {
+                mergedNames[x] = added[fresh];
+                mergedIds[x] = NameDictionary.find(added[fresh++]);
+            }
+            this.positions[mergedIds[x]] = x;
+        }
+
+        this.names = mergedNames;
+        this.nameIds = mergedIds;
+        this.size = total;
+        this.pending.size = 0;
+    }
+
+    /**
+     * Finds the members whose names best match a partly typed first and last name. Members are ranked by their last name first: names
+     * equal to the last name typed, then names starting with it in alphabetical order, then misspellings of it from most to least
+     * similar. Members with the same last name are ranked the same way by first name, then by date of birth. When only a first name is
+     * typed, the first name ranks the members instead. A name of {@code Constants.SEARCH_FUZZY_MIN_LENGTH} letters or more also matches
+     * names that share at least {@code Constants.SEARCH_FUZZY_MIN_PERCENT} percent of their trigrams with it. Misspellings are only
+     * looked for when the names starting with what was typed do not fill the results.
+     * @param firstName First name typed, in any case; empty to match any first name.
+     * @param lastName Last name typed, in any case; empty to match any last name.
+     * @param limit Maximum number of members to return.
+     * @return Returns the best matching members, best first. Empty if both names are empty.
+     */
+    List<Member> search(String firstName, String lastName, int limit) {
+        String firstQuery = NameDictionary.fold(firstName.trim());
+        String lastQuery = NameDictionary.fold(lastName.trim());
+        boolean byLast = !lastQuery.isEmpty();
+
+        if (!byLast && firstQuery.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Matches leading = this.match(byLast ? lastQuery : firstQuery);
+        Matches other = byLast && !firstQuery.isEmpty() ? this.match(firstQuery) : null;
+        HashMap<Integer, Postings> postings = byLast ? this.byLastName : this.byFirstName;
+        List<Member> results = new ArrayList<>(limit);
+
+        for (int position = leading.from; position < leading.to && results.size() < limit; position++) {
+            this.addRanked(postings.get(this.nameIds[position]), byLast, other, results, limit);
+        }
+        if (results.size() < limit) {
+            int[] misspellings = this.misspellingsOf(leading);
+            for (int x = 0; x < misspellings.length && results.size() < limit; x++) {
+                this.addRanked(postings.get(misspellings[x]), byLast, other, results, limit);
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Adds the members with one leading name to the results, ranked by their other name and then date of birth.
+     * @param members Members with the leading name, null if no member has it as the leading name.
+     * @param byLast Whether the leading name is the last name.
+     * @param other Matches of the other name typed, null if it was left empty.
+     * @param results Results to add to.
+     * @param limit Maximum number of results.
+     */
+    private void addRanked(Postings members, boolean byLast, Matches other, List<Member> results, int limit) {
+        if (members == null) {
+            return;
+        }
+
+        long[] ranked = new long[members.size];
+        int count = 0;
+
+        for (int x = 0; x < members.size; x++) {
+            Member member = members.members[x];
+            int nameId = byLast ? member.getFnameId() : member.getLnameId();
+            int rank = other == null ? EXACT : this.rankOf(other, nameId);
+
+            if (rank != Constants.NOT_FOUND) {
+                ranked[count++] = ((long) rank << RANK_SHIFT | this.positions[nameId]) << Integer.SIZE | x;
+            }
+        }
+        Arrays.sort(ranked, 0, count);
+
+        for (int start = 0; start < count && results.size() < limit; ) {
+            int end = start + 1;
+            while (end < count && ranked[end] >>> Integer.SIZE == ranked[start] >>> Integer.SIZE) {
+                end++;
+            }
+
+            List<Member> sameName = new ArrayList<>(end - start);
+            for (int x = start; x < end; x++) {
+                sameName.add(members.members[(int) ranked[x]]);
+            }
+            sameName.sort(Comparator.comparing(Member::getDob));
+            for (int x = 0; x < sameName.size() && results.size() < limit; x++) {
+                results.add(sameName.get(x));
+            }
+            start = end;
+        }
+    }
+
+    /**
+     * @param query Case-folded name typed.
+     * @return Returns the range of the vocabulary starting with the query, and the query's trigrams.
+     */
+    private Matches match(String query) {
+        return new Matches(query, query.length() < Constants.SEARCH_FUZZY_MIN_LENGTH ? null : trigramsOf(query),
+                this.lowerBound(query), this.lowerBound(query + Character.MAX_VALUE));
+    }
+
+    /**
+     * @param matches Matches of a name typed.
+     * @param nameId Id of a name in the vocabulary.
+     * @return Returns how well the name matches the name typed: {@code EXACT}, {@code PREFIX} or {@code FUZZY}, -1 if it does not.
+     */
+    private int rankOf(Matches matches, int nameId) {
+        int position = this.positions[nameId];
+
+        if (position >= matches.from && position < matches.to) {
+            return this.names[position].equals(matches.query) ? EXACT : PREFIX;
+        } else if (matches.trigrams == null) {
+            return Constants.NOT_FOUND;
+        }
+
+        Integer rank = matches.fuzzyRanks.get(nameId);
+        if (rank == null) {
+            rank = similarity(matches.trigrams, trigramsOf(this.names[position])) >= Constants.SEARCH_FUZZY_MIN_PERCENT ? FUZZY
+                    : Constants.NOT_FOUND;
+            matches.fuzzyRanks.put(nameId, rank);
+        }
+        return rank;
+    }
+
+    /**
+     * Finds the names that do not start with a name typed but share enough trigrams with it, by walking the names containing each of
+     * its trigrams and counting how many each name shares.
+     * @param matches Matches of a name typed.
+     * @return Returns the ids of the misspellings of the name typed, most similar first, then in alphabetical order.
+     */
+    private int[] misspellingsOf(Matches matches) {
+        if (matches.trigrams == null) {
+            return new int[0];
+        }
+
+        int touchedLimit = 0;
+        for (long trigram : matches.trigrams) {
+            NameIds withTrigram = this.trigrams.get(trigram);
+            touchedLimit += withTrigram == null ? 0 : withTrigram.size;
+        }
+
+        int[] shared = new int[this.positions.length];
+        int[] touched = new int[Math.min(touchedLimit, this.size)];
+        int touchedCount = 0;
+        for (long trigram : matches.trigrams) {
+            NameIds withTrigram = this.trigrams.get(trigram);
+            if (withTrigram == null) {
+                continue;
+            }
+            for (int x = 0; x < withTrigram.size; x++) {
+                int nameId = withTrigram.ids[x];
+                int position = this.positions[nameId];
+                if ((position < matches.from || position >= matches.to) && shared[nameId]++ == 0) {
+                    touched[touchedCount++] = nameId;
+                }
+            }
+        }
+
+        long[] similar = new long[touchedCount];
+        int count = 0;
+        for (int x = 0; x < touchedCount; x++) {
+            int nameId = touched[x];
+            int percent = 200 * shared[nameId] / (matches.trigrams.length + this.trigramCounts[nameId]);
+            if (percent >= Constants.SEARCH_FUZZY_MIN_PERCENT) {
+                similar[count++] = (long) (100 - percent) << Integer.SIZE | this.positions[nameId];
+            }
+        }
+        Arrays.sort(similar, 0, count);
+
+        int[] misspellings = new int[count];
+        for (int x = 0; x < count; x++) {
+            misspellings[x] = this.nameIds[(int) similar[x]];
+        }
+        return misspellings;
+    }
+
+    /**
+     * Adds a name to the trigram index and the names waiting to be merged into the vocabulary, if it is not in the vocabulary yet.
+     * @param nameId Name id.
+     */
+    private void addName(int nameId) {
+        if (nameId >= this.positions.length) {
+            int length = Math.max(nameId + 1, this.positions.length * Constants.ARRAY_GROWTH_FACTOR);
+            int oldLength = this.positions.length;
+            this.positions = Arrays.copyOf(this.positions, length);
+            Arrays.fill(this.positions, oldLength, length, Constants.NOT_FOUND);
+            this.trigramCounts = Arrays.copyOf(this.trigramCounts, length);
+        }
+        if (this.positions[nameId] != Constants.NOT_FOUND) {
+            return;
+        }
+
+        long[] nameTrigrams = trigramsOf(NameDictionary.fold(NameDictionary.nameOf(nameId)));
+        for (long trigram : nameTrigrams) {
+            NameIds withTrigram = this.trigrams.get(trigram);
+            if (withTrigram == null) {
+                withTrigram = new NameIds();
+                this.trigrams.put(trigram, withTrigram);
+            }
+            withTrigram.add(nameId);
+        }
+        this.trigramCounts[nameId] = nameTrigrams.length;
+        this.positions[nameId] = PENDING;
+        this.pending.add(nameId);
+    }
+
+    /**
+     * @param postings Postings of the first or last names.
+     * @param nameId Name id.
+     * @return Returns the postings of the name, added if it had none.
+     */
+    private static Postings postingsOf(HashMap<Integer, Postings> postings, int nameId) {
+        Postings members = postings.get(nameId);
+
+        if (members == null) {
+            members = new Postings();
+            postings.put(nameId, members);
+        }
+        return members;
+    }
+
+    /**
+     * @param name Name to look for.
+     * @return Returns the position of the first name in the vocabulary not less than {@code name}.
+     */
+    private int lowerBound(String name) {
+        int low = 0;
+        int high = this.size;
+
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (this.names[middle].compareTo(name) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * @param first Sorted distinct trigrams of one name.
+     * @param second Sorted distinct trigrams of another name.
+     * @return Returns the percent of their trigrams the two names share (the Dice coefficient).
+     */
+    private static int similarity(long[] first, long[] second) {
+        int shared = 0;
+
+        for (int x = 0, y = 0; x < first.length && y < second.length; ) {
+            if (first[x] == second[y]) {
+                shared++;
+                x++;
+                y++;
+            } else if (first[x] < second[y]) {
+                x++;
+            } else {
+                y++;
+            }
+        }
+        return 200 * shared / (first.length + second.length);
+    }
+
+    /**
+     * @param name Case-folded name.
+     * @return Returns the distinct trigrams of the name padded with two spaces before and one after, sorted. Each is packed into a
+     * {@code long} one character per 21 bits, so the halves {@code Long.hashCode()} folds together do not overlap for ASCII names.
+     */
+    private static long[] trigramsOf(String name) {
+        String padded = "" + PAD + PAD + name + PAD;
+        long[] trigrams = new long[padded.length() - 2];
+
+        for (int x = 0; x < trigrams.length; x++) {
+            trigrams[x] = (long) padded.charAt(x) << TRIGRAM_CHAR_BITS * 2 | (long) padded.charAt(x + 1) << TRIGRAM_CHAR_BITS
+                    | padded.charAt(x + 2);
+        }
+        Arrays.sort(trigrams);
+
+        int distinct = 0;
+        for (int x = 0; x < trigrams.length; x++) {
+            if (x == 0 || trigrams[x] != trigrams[x - 1]) {
+                trigrams[distinct++] = trigrams[x];
+            }
+        }
+        return Arrays.copyOf(trigrams, distinct);
+    }
+
+    /**
+     * The names in the vocabulary matching one name typed.
+     */
+    private static class Matches {
+        /**
+         * Case-folded name typed.
+         */
+        private final String query;
+        /**
+         * Trigrams of the query, null if it is too short to match misspellings.
+         */
+        private final long[] trigrams;
+        /**
+         * Position of the first name starting with the query.
+         */
+        private final int from;
+        /**
+         * Position just past the last name starting with the query.
+         */
+        private final int to;
+        /**
+         * Rank of each name not starting with the query compared with it so far, by name id.
+         */
+        private final HashMap<Integer, Integer> fuzzyRanks;
+
+        /**
+         * @param query Case-folded name typed.
+         * @param trigrams Trigrams of the query, null if it is too short to match misspellings.
+         * @param from Position of the first name starting with the query.
+         * @param to Position just past the last name starting with the query.
+         */
+        private Matches(String query, long[] trigrams, int from, int to) {
+            this.query = query;
+            this.trigrams = trigrams;
+            this.from = from;
+            this.to = to;
+            this.fuzzyRanks = new HashMap<>();
+        }
+    }
+
+    /**
+     * The members with one name, unordered.
+     */
+    private static class Postings {
+        /**
+         * Members with the name.
+         */
+        private Member[] members = new Member[1];
+        /**
+         * Number of members in {@code members}.
+         */
+        private int size;
+
+        /**
+         * @param member Member to add.
+         */
+        private void add(Member member) {
+            if (this.size == this.members.length) {
+                this.members = Arrays.copyOf(this.members, this.size * Constants.ARRAY_GROWTH_FACTOR);
+            }
+            this.members[this.size++] = member;
+        }
+
+        /**
+         * Removes a member by moving the last member into its place.
+         * @param member Member to remove, the same instance that was added.
+         */
+        private void remove(Member member) {
+            for (int x = 0; x < this.size; x++) {
+                if (this.members[x] == member) {
+                    this.members[x] = this.members[--this.size];
+                    this.members[this.size] = null;
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * A growable list of name ids.
+     */
+    private static class NameIds {
+        /**
+         * Name ids.
+         */
+        private int[] ids = new int[1];
+        /**
+         * Number of name ids in {@code ids}.
+         */
+        private int size;
+
+        /**
+         * @param nameId Name id to add.
+         */
+        private void add(int nameId) {
+            if (this.size == this.ids.length) {
+                this.ids = Arrays.copyOf(this.ids, this.size * Constants.ARRAY_GROWTH_FACTOR);
+            }
+            this.ids[this.size++] = nameId;
+        }
+    }
+}
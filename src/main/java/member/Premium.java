@@ -31,6 +31,14 @@ public class Premium extends Family {
         super(fname, lname, dob, expire, location, guestPasses);
     }
 
+    /**
+     * @return Returns the number of guest passes the membership comes with.
+     */
+    @Override
+    public short getGuestPassAllowance() {
+        return Constants.PREMIUM_GUEST_PASS;
+    }
+
     /**
      * @return Returns premium membership fee.
      */
@@ -46,7 +54,7 @@ public class Premium extends Family {
      */
     @Override
     public String toString(double fee){
-        if (super.getExpire().compareTo(new Date()) <= 0) {
+        if (super.isExpired()) {
             return String.format("%s %s, DOB: %s, Membership expired: %s, Location: %s, (Premium) guest-pass remaining = %d, Membership fee: $%.2f",
                     super.getFname(), super.getLname(), super.getDob(), super.getExpire(), super.getLocation(), super.getGuestPasses(), fee);
         }
@@ -60,7 +68,7 @@ public class Premium extends Family {
      */
     @Override
     public String toString() {
-        if (super.getExpire().compareTo(new Date()) <= 0) {
+        if (super.isExpired()) {
             return String.format("%s %s, DOB: %s, Membership expired: %s, Location: %s, (Premium) guest-pass remaining = %d",
                     super.getFname(), super.getLname(), super.getDob(), super.getExpire(), super.getLocation(), super.getGuestPasses());
         }
@@ -3,6 +3,11 @@
  * <ul>
  *     <li>Member</li>
  *     <li>MemberDatabase</li>
+ *     <li>MemberImporter</li>
+ *     <li>ImportResult</li>
+ *     <li>ColumnarMemberStore</li>
+ *     <li>ExpirationIndex</li>
+ *     <li>MemberSearchIndex</li>
  *     <li>Family</li>
  *     <li>Premium</li>
  * </ul>
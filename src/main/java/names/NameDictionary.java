@@ -0,0 +1,128 @@
+package names;
+
+import constants.Constants;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * This class is the name dictionary shared by the whole gym manager. It gives every name (first and last names of members, class
+ * names, and instructor names) a stable {@code int} id for its case-folded form, so two names that are equal ignoring case have the
+ * same id. Members and fitness classes keep the id next to the name as it was spelled, and compare and hash the ids instead of folding
+ * case on every call.
+ * <br><br>
+ * The dictionary also keeps the first spelling seen of each name, and {@code intern()} hands that one instance back for every later
+ * name spelled the same way, so a name that appears on thousands of lines of {@code memberList.txt} or {@code classSchedule.txt} is
+ * stored once.
+ * <br><br>
+ * Looking up a known name is lock-free; only adding a new name takes a lock. Ids last as long as the program runs, and names are never
+ * removed, so the dictionary only grows with the number of distinct names.
+ * @author Hasnain Ali, Carolette Saguil
+ */
+public final class NameDictionary {
+    /**
+     * Id of each case-folded name.
+     */
+    private static final ConcurrentHashMap<String, Integer> ids = new ConcurrentHashMap<>();
+    /**
+     * First spelling seen of each name, indexed by id. Written before the id is published in {@code ids}.
+     */
+    private static volatile String[] spellings = new String[Constants.NAME_DICTIONARY_INITIAL_SIZE];
+    /**
+     * Number of names in the dictionary.
+     */
+    private static int size;
+
+    /**
+     * Not instantiable; every method is static.
+     */
+    private NameDictionary() {
+    }
+
+    /**
+     * @param name A name, spelled in any case.
+     * @return Returns the id of the name, adding it to the dictionary if it is new.
+     */
+    public static int idOf(String name) {
+        String folded = fold(name);
+        Integer id = ids.get(folded);
+        return id == null ? add(folded, name) : id;
+    }
+
+    /**
+     * Looks up a name without adding it, for names typed in to search for something that may not exist.
+     * @param name A name, spelled in any case.
+     * @return Returns the id of the name, -1 if it is not in the dictionary.
+     */
+    public static int find(String name) {
+        Integer id = ids.get(fold(name));
+        return id == null ? Constants.NOT_FOUND : id;
+    }
+
+    /**
+     * @param id Id of a name.
+     * @return Returns the first spelling seen of the name.
+     */
+    public static String nameOf(int id) {
+        return spellings[id];
+    }
+
+    /**
+     * @param id Id of a name.
+     * @param name The name, spelled in any case.
+     * @return Returns the instance of the name held by the dictionary if it is spelled the same way, {@code name} otherwise.
+     */
+    public static String intern(int id, String name) {
+        String spelling = spellings[id];
+        return spelling.equals(name) ? spelling : name;
+    }
+
+    /**
+     * @return Returns the number of names in the dictionary.
+     */
+    public static int size() {
+        return ids.size();
+    }
+
+    /**
+     * Folds a name the same way {@code String.equalsIgnoreCase()} compares it, one character at a time.
+     * @param name Name to fold.
+     * @return Returns the case-folded name, {@code name} itself if it is already folded.
+     */
+    public static String fold(String name) {
+        char[] folded = null;
+
+        for (int x = 0; x < name.length(); x++) {
+            char c = name.charAt(x);
+            char foldedChar = Character.toLowerCase(Character.toUpperCase(c));
+
+            if (foldedChar != c && folded == null) {
+                folded = name.toCharArray();
+            }
+            if (folded != null) {
+                folded[x] = foldedChar;
+            }
+        }
+        return folded == null ? name : new String(folded);
+    }
+
+    /**
+     * Adds a name, unless another thread added it first.
+     * @param folded The case-folded name.
+     * @param name The name as spelled.
+     * @return Returns the id of the name.
+     */
+    private static synchronized int add(String folded, String name) {
+        Integer id = ids.get(folded);
+
+        if (id != null) {
+            return id;
+        }
+        if (size == spellings.length) {
+            spellings = Arrays.copyOf(spellings, size * Constants.ARRAY_GROWTH_FACTOR);
+        }
+        spellings[size] = name;
+        ids.put(folded, size);
+        return size++;
+    }
+}
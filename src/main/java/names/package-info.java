@@ -0,0 +1,6 @@
+/**
+ * Contains {@code NameDictionary.java} used in {@code GymManager} and its dependencies.
+ *
+ * @author Hasnain Ali, Carolette Saguil
+ */
+package names;
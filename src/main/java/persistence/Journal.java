@@ -0,0 +1,1050 @@
+package persistence;
+
+import constants.Constants;
+import date.Date;
+import enums.Location;
+import enums.Time;
+import fitness_classes.ClassSchedule;
+import fitness_classes.FitnessClass;
+import member.Family;
+import member.Member;
+import member.MemberDatabase;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.CRC32;
+
+/**
+ * This class is the write-ahead journal of the gym manager. Every change to the member database and the class schedule (adding and
+ * removing members, adding classes, checking members and guests in and out, and changing guest passes) is appended to the journal as a
+ * small binary record, so that no change is lost when the program crashes.
+ * <br><br>
+ * Recording a change only encodes it and hands it to a background writer thread, so the front desk never waits on the disk. The writer
+ * takes every record that is waiting, writes them with one write and makes them durable with one fsync (group commit).
+ * <br><br>
+ * On start up the latest {@link Snapshot} is loaded and the journal is replayed on top of it. The journal is then cut back to its last
+ * intact record and carries on where it stopped, so starting up never rewrites the snapshot. A checkpoint happens every
+ * {@code JOURNAL_CHECKPOINT_RECORDS} records, on a checkpoint thread of its own, so the change that fills the journal never waits for
+ * it and no lock of the member database or class schedule is held while it runs. The checkpoint thread has the writer switch to a new
+ * journal file at one point in the queue of records: every record before that point is in the old file, and every record after it in
+ * the new one. It then loads the previous snapshot, replays the old file on top of it, and saves the result as the next snapshot, which
+ * is exactly the state at that point however much changed since. Only then does the new file replace the old one.
+ * <br><br>
+ * Snapshots and journals carry a generation number, and a journal is only replayed on top of the snapshot of the same generation, or of
+ * the generation before if it was started in the middle of a checkpoint, so a crash in the middle of a checkpoint never replays a change
+ * twice or loses one. A checkpoint the last run stopped in the middle of is finished by the checkpoint thread once the journal is open.
+ * <br><br>
+ * The journal is handed to the member database and class schedule it restored, which hand it on to their fitness classes and family
+ * members, and each reports its own changes through the {@code record} methods. Any other member database or class schedule, such as
+ * the ones a checkpoint rebuilds or a load test creates, is never journaled.
+ * @author Hasnain Ali, Carolette Saguil
+ */
+public class Journal {
+    /**
+     * A member was added to the member database.
+     */
+    private static final byte ADD_MEMBER = 1;
+    /**
+     * A member was removed from the member database.
+     */
+    private static final byte REMOVE_MEMBER = 2;
+    /**
+     * A batch of members was added to the member database.
+     */
+    private static final byte ADD_MEMBERS = 3;
+    /**
+     * A fitness class was added to the class schedule.
+     */
+    private static final byte ADD_CLASS = 4;
+    /**
+     * A member checked into a fitness class.
+     */
+    private static final byte CHECK_IN = 5;
+    /**
+     * A member dropped a fitness class.
+     */
+    private static final byte DROP_CLASS = 6;
+    /**
+     * A member checked a guest into a fitness class.
+     */
+    private static final byte CHECK_IN_GUEST = 7;
+    /**
+     * A member checked a guest out of a fitness class.
+     */
+    private static final byte DROP_GUEST = 8;
+    /**
+     * The guest passes of a member were set, in journals written before guest passes were journaled as changes.
+     */
+    private static final byte SET_GUEST_PASSES = 9;
+    /**
+     * Guest passes were added to or taken from a member.
+     */
+    private static final byte CHANGE_GUEST_PASSES = 10;
+    /**
+     * Size of the length and checksum in front of every record.
+     */
+    private static final int RECORD_HEADER_SIZE = 2 * Integer.BYTES;
+    /**
+     * Size of the magic number and generation at the start of the journal.
+     */
+    private static final int FILE_HEADER_SIZE = Integer.BYTES + Long.BYTES;
+
+    /**
+     * The journal opened last and not closed yet, or null.
+     */
+    private static volatile Journal current;
+
+    /**
+     * Snapshot file the journal checkpoints to.
+     */
+    private final Path snapshotFile;
+    /**
+     * Journal file records are appended to.
+     */
+    private final Path journalFile;
+    /**
+     * Journal file records are appended to during a checkpoint, until it replaces {@code journalFile}.
+     */
+    private final Path nextJournalFile;
+    /**
+     * The journaled member database.
+     */
+    private final MemberDatabase memberDatabase;
+    /**
+     * The journaled class schedule.
+     */
+    private final ClassSchedule classSchedule;
+    /**
+     * Records and commands waiting for the writer thread, in the order they were recorded.
+     */
+    private final LinkedBlockingQueue<Object> queue;
+    /**
+     * Thread that writes and fsyncs the records.
+     */
+    private final Thread writer;
+    /**
+     * Checkpoints asked for and waiting for the checkpoint thread.
+     */
+    private final LinkedBlockingQueue<Command> checkpoints;
+    /**
+     * Thread that checkpoints the journal.
+     */
+    private final Thread checkpointer;
+    /**
+     * Number of records recorded since the journal last switched files for a checkpoint.
+     */
+    private final AtomicInteger recordsSinceCheckpoint;
+    /**
+     * Channel of the journal file, only used by the writer thread once the journal is open.
+     */
+    private FileChannel channel;
+    /**
+     * Generation of the latest snapshot, continued by {@code journalFile}. Only used by the checkpoint thread once the journal is open.
+     */
+    private long generation;
+    /**
+     * True if the writer has switched to {@code nextJournalFile} for the checkpoint under way.
+     */
+    private boolean rotated;
+    /**
+     * True if the snapshot of the next generation has been saved for the checkpoint under way.
+     */
+    private boolean saved;
+    /**
+     * Number of records replayed when the journal was opened.
+     */
+    private int recordsReplayed;
+    /**
+     * First failure of the writer thread, after which nothing more is written.
+     */
+    private volatile IOException failure;
+    /**
+     * Failure of the last checkpoint, null if it succeeded. The records stay in the journal and the checkpoint is tried again later.
+     */
+    private volatile IOException checkpointFailure;
+
+    /**
+     * @param snapshotFile Snapshot file the journal checkpoints to.
+     * @param journalFile Journal file records are appended to.
+     * @param snapshot Snapshot the journal continues.
+     */
+    private Journal(Path snapshotFile, Path journalFile, Snapshot snapshot) {
+        this.snapshotFile = snapshotFile;
+        this.journalFile = journalFile;
+        this.nextJournalFile = journalFile.resolveSibling(journalFile.getFileName() + ".next");
+        this.memberDatabase = snapshot.getMemberDatabase();
+        this.classSchedule = snapshot.getClassSchedule();
+        this.generation = snapshot.getGeneration();
+        this.queue = new LinkedBlockingQueue<>();
+        this.writer = new Thread(this::write, "journal-writer");
+        this.writer.setDaemon(true);
+        this.checkpoints = new LinkedBlockingQueue<>();
+        this.checkpointer = new Thread(this::checkpoints, "journal-checkpoint");
+        this.checkpointer.setDaemon(true);
+        this.recordsSinceCheckpoint = new AtomicInteger();
+    }
+
+    /**
+     * Restores the state saved in {@code snapshotFile} and {@code journalFile}, and starts journaling every change to it. The journal
+     * file is appended to from its last intact record; the snapshot is only rewritten by checkpoints, on the checkpoint thread, so
+     * opening costs one load of the snapshot and one replay of the journal. Any journal opened before is closed first.
+     * @param snapshotFile Snapshot file to restore from and checkpoint to. May not exist yet.
+     * @param journalFile Journal file to replay and append to. May not exist yet.
+     * @return Returns the open journal, holding the restored member database and class schedule.
+     * @throws IOException If the snapshot or journal cannot be read, or the journal cannot be written.
+     */
+    public static Journal open(Path snapshotFile, Path journalFile) throws IOException {
+        closeCurrent();
+
+        Snapshot snapshot = loadSnapshot(snapshotFile);
+        Journal journal = new Journal(snapshotFile, journalFile, snapshot);
+        long journalGeneration = readGeneration(journalFile);
+        long nextGeneration = readGeneration(journal.nextJournalFile);
+        if (nextGeneration == snapshot.getGeneration() && journalGeneration != snapshot.getGeneration()) {
+            Files.move(journal.nextJournalFile, journalFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            journalGeneration = nextGeneration;
+            nextGeneration = -1;
+        }
+
+        Replay resumed = null;
+        if (journalGeneration == snapshot.getGeneration()) {
+            resumed = replay(journalFile, snapshot);
+            journal.recordsReplayed += resumed.records;
+            if (nextGeneration == snapshot.getGeneration() + 1) {
+                resumed = replay(journal.nextJournalFile, snapshot);
+                journal.recordsReplayed += resumed.records;
+                journal.rotated = true;
+            }
+        }
+
+        if (resumed == null) {
+            journal.channel = FileChannel.open(journalFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING);
+            writeFileHeader(journal.channel, journal.generation);
+        } else {
+            journal.channel = FileChannel.open(journal.rotated ? journal.nextJournalFile : journalFile, StandardOpenOption.WRITE);
+            journal.channel.truncate(resumed.end);
+            journal.channel.position(resumed.end);
+            journal.channel.force(true);
+            journal.recordsSinceCheckpoint.set(resumed.records);
+        }
+        if (!journal.rotated) {
+            Files.deleteIfExists(journal.nextJournalFile);
+        }
+
+        journal.memberDatabase.setJournal(journal);
+        journal.classSchedule.setJournal(journal);
+        journal.writer.start();
+        journal.checkpointer.start();
+        if (journal.rotated || journal.recordsSinceCheckpoint.get() >= Constants.JOURNAL_CHECKPOINT_RECORDS) {
+            journal.checkpoints.add(new Command(Command.SYNC, 0));
+        }
+
+        current = journal;
+        return journal;
+    }
+
+    /**
+     * Closes the open journal, if any, after every record has been made durable.
+     * @throws IOException If the remaining records cannot be written.
+     */
+    public static void closeCurrent() throws IOException {
+        Journal journal = current;
+
+        if (journal != null) {
+            journal.close();
+        }
+    }
+
+    /**
+     * @return Returns the journaled member database.
+     */
+    public MemberDatabase getMemberDatabase() {
+        return this.memberDatabase;
+    }
+
+    /**
+     * @return Returns the journaled class schedule.
+     */
+    public ClassSchedule getClassSchedule() {
+        return this.classSchedule;
+    }
+
+    /**
+     * @return Returns the number of records replayed on top of the snapshot when the journal was opened.
+     */
+    public int getRecordsReplayed() {
+        return this.recordsReplayed;
+    }
+
+    /**
+     * @return Returns the failure of the last checkpoint, null if it succeeded or none has run.
+     */
+    public IOException getCheckpointFailure() {
+        return this.checkpointFailure;
+    }
+
+    /**
+     * Waits until every change recorded so far is durable on disk.
+     * @throws IOException If the journal cannot be written.
+     */
+    public void flush() throws IOException {
+        this.submit(new Command(Command.SYNC, 0));
+    }
+
+    /**
+     * Has the checkpoint thread save every change recorded so far to a new snapshot and empty the journal of them, and waits for it.
+     * Changes can go on while it runs; they stay in the journal for the next checkpoint.
+     * @throws IOException If the snapshot or the journal cannot be written.
+     */
+    public void checkpoint() throws IOException {
+        if (!this.checkpointer.isAlive()) {
+            throw new IOException("Journal " + this.journalFile + " is closed");
+        }
+
+        Command command = new Command(Command.SYNC, 0);
+        this.checkpoints.add(command);
+        command.await();
+    }
+
+    /**
+     * Stops journaling the member database and class schedule, waits for any checkpoint under way, then makes every record durable.
+     * @throws IOException If the remaining records cannot be written.
+     */
+    public synchronized void close() throws IOException {
+        if (current == this) {
+            current = null;
+        }
+        this.memberDatabase.setJournal(null);
+        this.classSchedule.setJournal(null);
+        if (this.checkpointer.isAlive()) {
+            Command command = new Command(Command.CLOSE, 0);
+            this.checkpoints.add(command);
+            command.await();
+        }
+        if (this.writer.isAlive()) {
+            this.submit(new Command(Command.CLOSE, 0));
+        }
+    }
+
+    /**
+     * @param member Member added to the member database.
+     */
+    public void recordAddMember(Member member) {
+        try {
+            RecordOutput out = this.begin(ADD_MEMBER);
+            Snapshot.writeMember(out, member);
+            this.append(out);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    /**
+     * @param member Member removed from the member database.
+     */
+    public void recordRemoveMember(Member member) {
+        try {
+            RecordOutput out = this.begin(REMOVE_MEMBER);
+            Snapshot.writeMember(out, member);
+            this.append(out);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    /**
+     * @param members Members added to the member database in one batch.
+     * @param count Number of members in {@code members}.
+     */
+    public void recordAddMembers(Member[] members, int count) {
+        if (count <= 0) {
+            return;
+        }
+
+        try {
+            RecordOutput out = this.begin(ADD_MEMBERS);
+            out.writeInt(count);
+            for (int x = 0; x < count; x++) {
+                Snapshot.writeMember(out, members[x]);
+            }
+            this.append(out);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    /**
+     * @param fitnessClass Fitness class added to the class schedule.
+     */
+    public void recordAddClass(FitnessClass fitnessClass) {
+        try {
+            RecordOutput out = this.begin(ADD_CLASS);
+            writeClass(out, fitnessClass);
+            out.writeInt(fitnessClass.getCapacity());
+            this.append(out);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    /**
+     * @param fitnessClass Fitness class the member checked into.
+     * @param member Member that checked in.
+     */
+    public void recordCheckIn(FitnessClass fitnessClass, Member member) {
+        this.recordRoster(CHECK_IN, fitnessClass, member);
+    }
+
+    /**
+     * @param fitnessClass Fitness class the member dropped.
+     * @param member Member that dropped the class.
+     */
+    public void recordDropClass(FitnessClass fitnessClass, Member member) {
+        this.recordRoster(DROP_CLASS, fitnessClass, member);
+    }
+
+    /**
+     * @param fitnessClass Fitness class the guest checked into.
+     * @param member Member that brought the guest.
+     */
+    public void recordCheckInGuest(FitnessClass fitnessClass, Member member) {
+        this.recordRoster(CHECK_IN_GUEST, fitnessClass, member);
+    }
+
+    /**
+     * @param fitnessClass Fitness class the guest was checked out of.
+     * @param member Member that brought the guest.
+     */
+    public void recordDropGuest(FitnessClass fitnessClass, Member member) {
+        this.recordRoster(DROP_GUEST, fitnessClass, member);
+    }
+
+    /**
+     * Guest passes are journaled as the number added or taken, not the number left, so changes made at once from many terminals restore
+     * to the same number whatever order their records were queued in.
+     * @param member Member whose guest passes changed.
+     * @param change Number of guest passes added, negative if taken.
+     */
+    public void recordGuestPasses(Family member, int change) {
+        if (change == 0) {
+            return;
+        }
+
+        try {
+            RecordOutput out = this.begin(CHANGE_GUEST_PASSES);
+            writeKey(out, member);
+            out.writeShort(change);
+            this.append(out);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    /**
+     * @param type Type of the roster change.
+     * @param fitnessClass Fitness class whose roster changed.
+     * @param member Member checked in or out.
+     */
+    private void recordRoster(byte type, FitnessClass fitnessClass, Member member) {
+        try {
+            RecordOutput out = this.begin(type);
+            writeClass(out, fitnessClass);
+            Snapshot.writeMember(out, member);
+            this.append(out);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    /**
+     * @param type Type of the record.
+     * @return Returns a stream to encode the record into, with room left for the record header.
+     * @throws IOException If the stream fails.
+     */
+    private RecordOutput begin(byte type) throws IOException {
+        RecordOutput out = new RecordOutput();
+        out.writeLong(0);
+        out.writeByte(type);
+        return out;
+    }
+
+    /**
+     * Fills in the record header and hands the record to the writer thread. Asks the checkpoint thread for a checkpoint when enough
+     * records have been recorded, without waiting for it.
+     * @param out Stream holding the encoded record.
+     */
+    private void append(RecordOutput out) {
+        byte[] record = out.toByteArray();
+        CRC32 crc = new CRC32();
+        crc.update(record, RECORD_HEADER_SIZE, record.length - RECORD_HEADER_SIZE);
+
+        ByteBuffer.wrap(record).putInt(record.length - RECORD_HEADER_SIZE).putInt((int) crc.getValue());
+        this.queue.add(record);
+
+        if (this.recordsSinceCheckpoint.incrementAndGet() == Constants.JOURNAL_CHECKPOINT_RECORDS) {
+            this.checkpoints.add(new Command(Command.SYNC, 0));
+        }
+    }
+
+    /**
+     * @param command Command for the writer thread.
+     * @throws IOException If the writer thread has failed.
+     */
+    private void submit(Command command) throws IOException {
+        this.queue.add(command);
+        command.await();
+    }
+
+    /**
+     * Body of the checkpoint thread. Runs one checkpoint for all the checkpoints asked for while the last one ran, until asked to stop.
+     */
+    private void checkpoints() {
+        ArrayList<Command> batch = new ArrayList<>();
+        boolean running = true;
+
+        while (running) {
+            try {
+                batch.add(this.checkpoints.take());
+            } catch (InterruptedException exception) {
+                return;
+            }
+            this.checkpoints.drainTo(batch);
+
+            boolean requested = false;
+            for (Command command : batch) {
+                requested |= command.action == Command.SYNC;
+                running &= command.action != Command.CLOSE;
+            }
+
+            IOException failure = null;
+            if (requested) {
+                try {
+                    this.compact();
+                } catch (IOException exception) {
+                    failure = exception;
+                    this.recordsSinceCheckpoint.set(0);
+                }
+                this.checkpointFailure = failure;
+            }
+            for (Command command : batch) {
+                command.complete(command.action == Command.CLOSE ? null : failure);
+            }
+            batch.clear();
+        }
+    }
+
+    /**
+     * Checkpoints the journal: switches the writer to the next journal file, saves the previous snapshot with the old journal file
+     * replayed on top of it as the next snapshot, then replaces the old journal file with the next one. A checkpoint that failed part way
+     * carries on from the step that failed.
+     * @throws IOException If the journal or the snapshot cannot be read or written.
+     */
+    private void compact() throws IOException {
+        if (!this.rotated) {
+            this.recordsSinceCheckpoint.set(0);
+            this.submit(new Command(Command.ROTATE, this.generation + 1));
+            this.rotated = true;
+        }
+
+        if (!this.saved) {
+            Snapshot snapshot = loadSnapshot(this.snapshotFile);
+            if (snapshot.getGeneration() != this.generation || readGeneration(this.journalFile) != this.generation) {
+                throw new IOException("Journal " + this.journalFile + " does not continue snapshot " + this.snapshotFile);
+            }
+            replay(this.journalFile, snapshot);
+            Snapshot.save(this.snapshotFile, snapshot.getMemberDatabase(), snapshot.getClassSchedule(), this.generation + 1);
+            this.saved = true;
+        }
+
+        Files.move(this.nextJournalFile, this.journalFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        this.generation++;
+        this.rotated = false;
+        this.saved = false;
+    }
+
+    /**
+     * Body of the writer thread. Writes every record that is waiting with one write and one fsync, then runs any command.
+     */
+    private void write() {
+        ArrayList<Object> batch = new ArrayList<>();
+        ByteBuffer buffer = ByteBuffer.allocateDirect(Constants.JOURNAL_BUFFER_SIZE);
+        boolean running = true;
+
+        while (running) {
+            try {
+                batch.add(this.queue.take());
+            } catch (InterruptedException exception) {
+                return;
+            }
+            this.queue.drainTo(batch, Constants.JOURNAL_MAX_BATCH);
+
+            for (Object entry : batch) {
+                if (entry instanceof byte[]) {
+                    this.writeRecord(buffer, (byte[]) entry);
+                } else {
+                    Command command = (Command) entry;
+                    this.sync(buffer);
+                    if (command.action == Command.ROTATE) {
+                        command.complete(this.failure != null ? this.failure : this.rotate(command.generation));
+                    } else {
+                        if (command.action == Command.CLOSE) {
+                            this.closeChannel();
+                            running = false;
+                        }
+                        command.complete(this.failure);
+                    }
+                }
+            }
+
+            this.sync(buffer);
+            batch.clear();
+        }
+    }
+
+    /**
+     * @param buffer Buffer of records not yet written.
+     * @param record Record to add to the buffer, writing the buffer first if it is full.
+     */
+    private void writeRecord(ByteBuffer buffer, byte[] record) {
+        if (this.failure != null) {
+            return;
+        }
+
+        try {
+            if (record.length > buffer.remaining()) {
+                this.drain(buffer);
+            }
+            if (record.length > buffer.capacity()) {
+                ByteBuffer large = ByteBuffer.wrap(record);
+                while (large.hasRemaining()) {
+                    this.channel.write(large);
+                }
+            } else {
+                buffer.put(record);
+            }
+        } catch (IOException exception) {
+            this.failure = exception;
+        }
+    }
+
+    /**
+     * Writes the buffered records and makes everything written durable.
+     * @param buffer Buffer of records not yet written.
+     */
+    private void sync(ByteBuffer buffer) {
+        if (this.failure != null) {
+            buffer.clear();
+            return;
+        }
+
+        try {
+            boolean written = buffer.position() > 0;
+            this.drain(buffer);
+            if (written) {
+                this.channel.force(false);
+            }
+        } catch (IOException exception) {
+            this.failure = exception;
+        }
+    }
+
+    /**
+     * @param buffer Buffer of records to write to the journal file.
+     * @throws IOException If the journal file cannot be written.
+     */
+    private void drain(ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            this.channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Switches to the next journal file, once every record before the switch is durable in the current one. If the next journal file
+     * cannot be started, records go on being written to the current one.
+     * @param generation Generation of the next journal file.
+     * @return Returns the failure starting the next journal file, or null.
+     */
+    private IOException rotate(long generation) {
+        FileChannel next = null;
+
+        try {
+            next = FileChannel.open(this.nextJournalFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING);
+            writeFileHeader(next, generation);
+        } catch (IOException exception) {
+            if (next != null) {
+                try {
+                    next.close();
+                } catch (IOException closeException) {
+                    exception.addSuppressed(closeException);
+                }
+            }
+            return exception;
+        }
+
+        this.closeChannel();
+        this.channel = next;
+        return null;
+    }
+
+    /**
+     * Closes the journal file, keeping the first failure.
+     */
+    private void closeChannel() {
+        try {
+            this.channel.close();
+        } catch (IOException exception) {
+            if (this.failure == null) {
+                this.failure = exception;
+            }
+        }
+    }
+
+    /**
+     * Writes the magic number and generation at the start of an empty journal file and makes them durable.
+     * @param channel Channel of the journal file.
+     * @param generation Generation of the journal file.
+     * @throws IOException If the journal file cannot be written.
+     */
+    private static void writeFileHeader(FileChannel channel, long generation) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(FILE_HEADER_SIZE).putInt(Constants.JOURNAL_MAGIC).putLong(generation).flip();
+        while (header.hasRemaining()) {
+            channel.write(header);
+        }
+        channel.force(true);
+    }
+
+    /**
+     * @param snapshotFile Snapshot file, which may not exist yet.
+     * @return Returns the snapshot saved in the file, or an empty snapshot of generation 0 if there is none.
+     * @throws IOException If the snapshot file cannot be read.
+     */
+    private static Snapshot loadSnapshot(Path snapshotFile) throws IOException {
+        try {
+            return Snapshot.load(snapshotFile);
+        } catch (NoSuchFileException exception) {
+            return Snapshot.empty();
+        }
+    }
+
+    /**
+     * @param file Journal file.
+     * @return Returns the generation of the journal file, -1 if it does not exist or is not a journal.
+     * @throws IOException If the journal file cannot be read.
+     */
+    private static long readGeneration(Path file) throws IOException {
+        if (!Files.exists(file)) {
+            return -1;
+        }
+
+        try (FileChannel in = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(FILE_HEADER_SIZE);
+            while (header.hasRemaining() && in.read(header) >= 0) {
+                continue;
+            }
+            header.flip();
+            if (header.remaining() < FILE_HEADER_SIZE || header.getInt() != Constants.JOURNAL_MAGIC) {
+                return -1;
+            }
+            return header.getLong();
+        }
+    }
+
+    /**
+     * Applies every intact record of a journal file to a restored state. Stops at the first torn or corrupt record, which is where the
+     * program crashed while writing.
+     * @param file Journal file, continuing {@code state}.
+     * @param state Restored state to apply the records to.
+     * @return Returns the number of records applied and where the intact records end.
+     * @throws IOException If the journal file cannot be read.
+     */
+    private static Replay replay(Path file, Snapshot state) throws IOException {
+        int replayed = 0;
+        long end = FILE_HEADER_SIZE;
+
+        try (FileChannel in = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer journal = in.map(FileChannel.MapMode.READ_ONLY, 0, in.size());
+            journal.position(FILE_HEADER_SIZE);
+
+            CRC32 crc = new CRC32();
+            while (journal.remaining() >= RECORD_HEADER_SIZE) {
+                int length = journal.getInt();
+                int checksum = journal.getInt();
+                if (length <= 0 || length > journal.remaining()) {
+                    break;
+                }
+
+                ByteBuffer record = journal.slice(journal.position(), length);
+                crc.reset();
+                crc.update(record.duplicate());
+                if ((int) crc.getValue() != checksum) {
+                    break;
+                }
+
+                try {
+                    apply(record, state);
+                } catch (BufferUnderflowException | IllegalArgumentException | IndexOutOfBoundsException exception) {
+                    break;
+                }
+                journal.position(journal.position() + length);
+                end = journal.position();
+                replayed++;
+            }
+        }
+        return new Replay(replayed, end);
+    }
+
+    /**
+     * @param record Record to apply to the restored state.
+     * @param state Restored state.
+     */
+    private static void apply(ByteBuffer record, Snapshot state) {
+        MemberDatabase memberDatabase = state.getMemberDatabase();
+        byte type = record.get();
+
+        if (type == ADD_MEMBER) {
+            memberDatabase.add(Snapshot.readMember(record));
+        } else if (type == REMOVE_MEMBER) {
+            memberDatabase.remove(Snapshot.readMember(record));
+        } else if (type == ADD_MEMBERS) {
+            int count = record.getInt();
+            Member[] members = new Member[count];
+            for (int x = 0; x < count; x++) {
+                members[x] = Snapshot.readMember(record);
+            }
+            memberDatabase.addAll(members, count);
+        } else if (type == ADD_CLASS) {
+            state.getClassSchedule().addClass(readAddedClass(record));
+        } else if (type == SET_GUEST_PASSES) {
+            Member member = resolve(readKey(record), memberDatabase);
+            short guestPasses = record.getShort();
+            if (member instanceof Family) {
+                ((Family) member).setGuestPasses(guestPasses);
+            }
+        } else if (type == CHANGE_GUEST_PASSES) {
+            Member member = resolve(readKey(record), memberDatabase);
+            short change = record.getShort();
+            if (member instanceof Family) {
+                ((Family) member).addGuestPasses(change);
+            }
+        } else {
+            FitnessClass fitnessClass = state.getClassSchedule().find(readClass(record));
+            Member member = resolve(Snapshot.readMember(record), memberDatabase);
+            if (fitnessClass == null) {
+                return;
+            }
+
+            if (type == CHECK_IN) {
+                fitnessClass.restoreMember(member);
+            } else if (type == DROP_CLASS) {
+                fitnessClass.dropClass(member);
+            } else if (type == CHECK_IN_GUEST) {
+                fitnessClass.restoreGuestMember(member);
+            } else if (type == DROP_GUEST) {
+                fitnessClass.dropGuestMember(member);
+            } else {
+                throw new IllegalArgumentException("Journal record type: " + type + " not valid.");
+            }
+        }
+    }
+
+    /**
+     * @param member Member read from a record.
+     * @param memberDatabase Restored member database.
+     * @return Returns the same member in the member database, or {@code member} if they are no longer in it.
+     */
+    private static Member resolve(Member member, MemberDatabase memberDatabase) {
+        Member found = memberDatabase.getMember(member);
+        return found == null ? member : found;
+    }
+
+    /**
+     * @param record Add class record to read from.
+     * @return Returns the fitness class added, with empty rosters. Journals written before classes had a capacity hold no capacity, and
+     * their classes have no limit.
+     */
+    private static FitnessClass readAddedClass(ByteBuffer record) {
+        FitnessClass fitnessClass = readClass(record);
+
+        if (!record.hasRemaining()) {
+            return fitnessClass;
+        }
+        return new FitnessClass(fitnessClass.getTimeOfDay(), fitnessClass.getClassName(), fitnessClass.getInstructorName(),
+                fitnessClass.getLocation(), record.getInt());
+    }
+
+    /**
+     * @param out Stream to write to.
+     * @param fitnessClass Fitness class to write without its rosters.
+     * @throws IOException If the stream fails.
+     */
+    private static void writeClass(DataOutputStream out, FitnessClass fitnessClass) throws IOException {
+        Snapshot.writeName(out, fitnessClass.getClassName());
+        Snapshot.writeName(out, fitnessClass.getInstructorName());
+        out.writeByte(fitnessClass.getTimeOfDay().ordinal());
+        out.writeByte(fitnessClass.getLocation().ordinal());
+    }
+
+    /**
+     * @param record Record to read from.
+     * @return Returns the fitness class read, with empty rosters.
+     */
+    private static FitnessClass readClass(ByteBuffer record) {
+        String className = Snapshot.readName(record);
+        String instructorName = Snapshot.readName(record);
+        Time time = Time.values()[record.get()];
+        Location location = Location.values()[record.get()];
+        return new FitnessClass(time, className, instructorName, location);
+    }
+
+    /**
+     * @param out Stream to write to.
+     * @param member Member whose name and date of birth identify them.
+     * @throws IOException If the stream fails.
+     */
+    private static void writeKey(DataOutputStream out, Member member) throws IOException {
+        Snapshot.writeName(out, member.getFname());
+        Snapshot.writeName(out, member.getLname());
+        out.writeInt(member.getDob().toPacked());
+    }
+
+    /**
+     * @param record Record to read from.
+     * @return Returns a member holding only the name and date of birth read.
+     */
+    private static Member readKey(ByteBuffer record) {
+        String fname = Snapshot.readName(record);
+        String lname = Snapshot.readName(record);
+        Date dob = new Date(record.getInt());
+        return Member.probe(fname, lname, dob);
+    }
+
+    /**
+     * A data output stream that encodes one record into memory.
+     */
+    private static class RecordOutput extends DataOutputStream {
+        /**
+         * Instantiates an empty record.
+         */
+        private RecordOutput() {
+            super(new ByteArrayOutputStream());
+        }
+
+        /**
+         * @return Returns the bytes of the record.
+         */
+        private byte[] toByteArray() {
+            return ((ByteArrayOutputStream) this.out).toByteArray();
+        }
+    }
+
+    /**
+     * The records replayed from a journal file.
+     */
+    private static class Replay {
+        /**
+         * Number of records applied.
+         */
+        private final int records;
+        /**
+         * Offset in the journal file just past the last intact record.
+         */
+        private final long end;
+
+        /**
+         * @param records Number of records applied.
+         * @param end Offset in the journal file just past the last intact record.
+         */
+        private Replay(int records, long end) {
+            this.records = records;
+            this.end = end;
+        }
+    }
+
+    /**
+     * A request to the writer thread, completed once every record queued before it is durable, or to the checkpoint thread.
+     */
+    private static class Command {
+        /**
+         * Only waits for the records queued before, or asks the checkpoint thread for a checkpoint.
+         */
+        private static final byte SYNC = 0;
+        /**
+         * Switches the writer thread to the next journal file after the sync.
+         */
+        private static final byte ROTATE = 1;
+        /**
+         * Stops the thread, after the sync for the writer thread.
+         */
+        private static final byte CLOSE = 2;
+
+        /**
+         * What the command does.
+         */
+        private final byte action;
+        /**
+         * Generation of the next journal file, for {@code ROTATE}.
+         */
+        private final long generation;
+        /**
+         * Released once the command has run.
+         */
+        private final CountDownLatch done;
+        /**
+         * Failure the command ran into, or null.
+         */
+        private IOException failure;
+
+        /**
+         * @param action What the command does.
+         * @param generation Generation of the next journal file, for {@code ROTATE}.
+         */
+        private Command(byte action, long generation) {
+            this.action = action;
+            this.generation = generation;
+            this.done = new CountDownLatch(1);
+        }
+
+        /**
+         * @param failure Failure the command ran into, or null.
+         */
+        private void complete(IOException failure) {
+            this.failure = failure;
+            this.done.countDown();
+        }
+
+        /**
+         * Waits for the command to run.
+         * @throws IOException If the command failed.
+         */
+        private void await() throws IOException {
+            try {
+                this.done.await();
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while waiting for the journal", exception);
+            }
+
+            if (this.failure != null) {
+                throw new IOException("Journal could not be written", this.failure);
+            }
+        }
+    }
+}
@@ -0,0 +1,335 @@
+package persistence;
+
+import constants.Constants;
+import date.Date;
+import enums.Location;
+import enums.Time;
+import fitness_classes.ClassSchedule;
+import fitness_classes.FitnessClass;
+import member.Family;
+import member.Member;
+import member.MemberDatabase;
+import member.Premium;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * This class saves and restores the whole state of the gym manager (the member database and the class schedule, including guest
+ * passes and class rosters) as one compact, versioned binary file. Dates are packed into an {@code int} and locations and times are
+ * stored as enum ordinals, so a snapshot is a fraction of the size of the text files and is restored with a single sequential read of a
+ * memory mapped file instead of a full text re-parse.
+ * <br><br>
+ * Layout, all numbers big-endian:
+ * <ul>
+ *     <li>int magic, short version, long journal generation (the generation of the journal that continues this snapshot)</li>
+ *     <li>int member count, then per member: byte type (standard, family, premium), name, name, int dob, int expire, byte location,
+ *     and short guest passes for family and premium members</li>
+ *     <li>int class count, then per class: name, name, byte time, byte location, int capacity (from version 3), then the members and
+ *     the guests, each as an int count followed by one member reference per entry</li>
+ * </ul>
+ * A name is a short byte length followed by UTF-8 bytes. A member reference is the member's index in the member table, or -1 followed
+ * by a full member record for a member that is checked into a class but is no longer in the member database.
+ * <br><br>
+ * Snapshots are written to a temporary file and moved into place, so a crash while saving leaves the previous snapshot intact.
+ * @author Hasnain Ali, Carolette Saguil
+ */
+public class Snapshot {
+    /**
+     * Type tag of a standard member.
+     */
+    private static final byte STANDARD = 0;
+    /**
+     * Type tag of a family member.
+     */
+    private static final byte FAMILY = 1;
+    /**
+     * Type tag of a premium member.
+     */
+    private static final byte PREMIUM = 2;
+
+    /**
+     * The restored member database.
+     */
+    private final MemberDatabase memberDatabase;
+    /**
+     * The restored class schedule.
+     */
+    private final ClassSchedule classSchedule;
+    /**
+     * Generation of the journal that continues the snapshot.
+     */
+    private final long generation;
+
+    /**
+     * @param memberDatabase The restored member database.
+     * @param classSchedule The restored class schedule.
+     * @param generation Generation of the journal that continues the snapshot.
+     */
+    private Snapshot(MemberDatabase memberDatabase, ClassSchedule classSchedule, long generation) {
+        this.memberDatabase = memberDatabase;
+        this.classSchedule = classSchedule;
+        this.generation = generation;
+    }
+
+    /**
+     * @return Returns the restored member database.
+     */
+    public MemberDatabase getMemberDatabase() {
+        return this.memberDatabase;
+    }
+
+    /**
+     * @return Returns the restored class schedule.
+     */
+    public ClassSchedule getClassSchedule() {
+        return this.classSchedule;
+    }
+
+    /**
+     * @return Returns the generation of the journal that continues the snapshot. Snapshots not written by a journal have generation 0.
+     */
+    public long getGeneration() {
+        return this.generation;
+    }
+
+    /**
+     * @return Returns a snapshot of an empty member database and class schedule, of generation 0.
+     */
+    static Snapshot empty() {
+        return new Snapshot(new MemberDatabase(), new ClassSchedule(), 0);
+    }
+
+    /**
+     * Saves the member database and the class schedule to {@code file}, replacing any previous snapshot atomically.
+     * @param file Snapshot file to write.
+     * @param memberDatabase Member database to save.
+     * @param classSchedule Class schedule to save.
+     * @throws IOException If the snapshot cannot be written.
+     */
+    public static void save(Path file, MemberDatabase memberDatabase, ClassSchedule classSchedule) throws IOException {
+        save(file, memberDatabase, classSchedule, 0);
+    }
+
+    /**
+     * Saves the member database and the class schedule to {@code file}, replacing any previous snapshot atomically.
+     * @param file Snapshot file to write.
+     * @param memberDatabase Member database to save.
+     * @param classSchedule Class schedule to save.
+     * @param generation Generation of the journal that continues the snapshot.
+     * @throws IOException If the snapshot cannot be written.
+     */
+    static void save(Path file, MemberDatabase memberDatabase, ClassSchedule classSchedule, long generation) throws IOException {
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        HashMap<Member, Integer> memberTable = new HashMap<>();
+
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary),
+                Constants.SNAPSHOT_BUFFER_SIZE))) {
+            out.writeInt(Constants.SNAPSHOT_MAGIC);
+            out.writeShort(Constants.SNAPSHOT_VERSION);
+            out.writeLong(generation);
+
+            Member[] members = memberDatabase.getMembers();
+            out.writeInt(members.length);
+            for (int x = 0; x < members.length; x++) {
+                memberTable.put(members[x], x);
+                writeMember(out, members[x]);
+            }
+
+            out.writeInt(classSchedule.getNumClasses());
+            for (int x = 0; x < classSchedule.getNumClasses(); x++) {
+                FitnessClass fitnessClass = classSchedule.getSpecificClass(x);
+                writeName(out, fitnessClass.getClassName());
+                writeName(out, fitnessClass.getInstructorName());
+                out.writeByte(fitnessClass.getTimeOfDay().ordinal());
+                out.writeByte(fitnessClass.getLocation().ordinal());
+                out.writeInt(fitnessClass.getCapacity());
+
+                List<Member> membersInClass = fitnessClass.getMembersInClass();
+                out.writeInt(membersInClass.size());
+                for (Member member : membersInClass) {
+                    writeReference(out, member, memberTable);
+                }
+                List<Member> guestMembersInClass = fitnessClass.getGuestMembersInClass();
+                out.writeInt(guestMembersInClass.size());
+                for (Member member : guestMembersInClass) {
+                    writeReference(out, member, memberTable);
+                }
+            }
+        }
+
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+        Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Restores a member database and a class schedule from {@code file} in one sequential pass over the memory mapped file.
+     * @param file Snapshot file to read.
+     * @return Returns the restored member database and class schedule.
+     * @throws IOException If the file cannot be read, or is not a snapshot of a supported version, or is truncated or corrupt.
+     */
+    public static Snapshot load(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return read(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        } catch (BufferUnderflowException | IllegalArgumentException | IndexOutOfBoundsException exception) {
+            throw new IOException("Snapshot " + file + " is corrupt", exception);
+        }
+    }
+
+    /**
+     * @param in Bytes of the snapshot.
+     * @return Returns the restored member database and class schedule.
+     * @throws IOException If the bytes are not a snapshot of a supported version.
+     */
+    private static Snapshot read(ByteBuffer in) throws IOException {
+        if (in.getInt() != Constants.SNAPSHOT_MAGIC) {
+            throw new IOException("Not a gym manager snapshot");
+        }
+        short version = in.getShort();
+        if (version < Constants.SNAPSHOT_FIRST_VERSION || version > Constants.SNAPSHOT_VERSION) {
+            throw new IOException("Snapshot version " + version + " is not supported");
+        }
+        long generation = version == Constants.SNAPSHOT_FIRST_VERSION ? 0 : in.getLong();
+
+        int memberCount = in.getInt();
+        Member[] members = new Member[memberCount];
+        for (int x = 0; x < memberCount; x++) {
+            members[x] = readMember(in);
+        }
+
+        MemberDatabase memberDatabase = new MemberDatabase(memberCount);
+        memberDatabase.addAll(members, memberCount);
+
+        ClassSchedule classSchedule = new ClassSchedule();
+        int classCount = in.getInt();
+        for (int x = 0; x < classCount; x++) {
+            String className = readName(in);
+            String instructorName = readName(in);
+            Time time = Time.values()[in.get()];
+            Location location = Location.values()[in.get()];
+            int capacity = version < Constants.SNAPSHOT_CAPACITY_VERSION ? Constants.UNLIMITED_CAPACITY : in.getInt();
+            FitnessClass fitnessClass = new FitnessClass(time, className, instructorName, location, capacity);
+
+            int participants = in.getInt();
+            for (int y = 0; y < participants; y++) {
+                fitnessClass.restoreMember(readReference(in, members));
+            }
+            int guests = in.getInt();
+            for (int y = 0; y < guests; y++) {
+                fitnessClass.restoreGuestMember(readReference(in, members));
+            }
+
+            classSchedule.addClass(fitnessClass);
+        }
+
+        return new Snapshot(memberDatabase, classSchedule, generation);
+    }
+
+    /**
+     * @param out Stream to write to.
+     * @param member Member to write, including its type and guest passes.
+     * @throws IOException If the stream fails.
+     */
+    static void writeMember(DataOutputStream out, Member member) throws IOException {
+        if (member instanceof Premium) {
+            out.writeByte(PREMIUM);
+        } else if (member instanceof Family) {
+            out.writeByte(FAMILY);
+        } else {
+            out.writeByte(STANDARD);
+        }
+
+        writeName(out, member.getFname());
+        writeName(out, member.getLname());
+        out.writeInt(member.getDob().toPacked());
+        out.writeInt(member.getExpire().toPacked());
+        out.writeByte(member.getLocation().ordinal());
+
+        if (member instanceof Family) {
+            out.writeShort(((Family) member).getGuestPasses());
+        }
+    }
+
+    /**
+     * @param in Bytes of the snapshot.
+     * @return Returns the member read, of the type it was saved as.
+     */
+    static Member readMember(ByteBuffer in) {
+        byte type = in.get();
+        String fname = readName(in);
+        String lname = readName(in);
+        Date dob = new Date(in.getInt());
+        Date expire = new Date(in.getInt());
+        Location location = Location.values()[in.get()];
+
+        if (type == PREMIUM) {
+            return new Premium(fname, lname, dob, expire, location, in.getShort());
+        } else if (type == FAMILY) {
+            return new Family(fname, lname, dob, expire, location, in.getShort());
+        } else if (type == STANDARD) {
+            return new Member(fname, lname, dob, expire, location);
+        }
+        throw new IllegalArgumentException("Member type: " + type + " not valid.");
+    }
+
+    /**
+     * @param out Stream to write to.
+     * @param member Member checked into a class.
+     * @param memberTable Index of every member of the member table.
+     * @throws IOException If the stream fails.
+     */
+    private static void writeReference(DataOutputStream out, Member member, HashMap<Member, Integer> memberTable) throws IOException {
+        Integer index = memberTable.get(member);
+
+        if (index == null) {
+            out.writeInt(Constants.NOT_FOUND);
+            writeMember(out, member);
+        } else {
+            out.writeInt(index);
+        }
+    }
+
+    /**
+     * @param in Bytes of the snapshot.
+     * @param members The member table.
+     * @return Returns the member referenced.
+     */
+    private static Member readReference(ByteBuffer in, Member[] members) {
+        int index = in.getInt();
+        return index == Constants.NOT_FOUND ? readMember(in) : members[index];
+    }
+
+    /**
+     * @param out Stream to write to.
+     * @param name Name to write as a short length followed by UTF-8 bytes.
+     * @throws IOException If the stream fails.
+     */
+    static void writeName(DataOutputStream out, String name) throws IOException {
+        byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+        out.writeShort(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * @param in Bytes of the snapshot.
+     * @return Returns the name read.
+     */
+    static String readName(ByteBuffer in) {
+        byte[] bytes = new byte[in.getShort() & 0xFFFF];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
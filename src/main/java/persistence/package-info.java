@@ -0,0 +1,10 @@
+/**
+ * Contains all classes related to saving and restoring the state of the gym manager. Specifically the following:
+ * <ul>
+ *     <li>Snapshot</li>
+ *     <li>Journal</li>
+ * </ul>
+ *
+ * @author Hasnain Ali, Carolette Saguil
+ */
+package persistence;
@@ -0,0 +1,213 @@
+package tests;
+
+import checkin.CheckInService;
+import date.Date;
+import enums.CheckInStatus;
+import enums.Location;
+import enums.Time;
+import fitness_classes.ClassSchedule;
+import fitness_classes.FitnessClass;
+import member.Family;
+import member.MemberDatabase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is a class using JUnit5 to tests that the CheckInService class reports a status for every check in and check out, and keeps
+ * the check in rules when many front desks check the same members in at once.
+ * @author Hasnain Ali, Carolette Saguil
+ */
+public class CheckInServiceTest {
+    /**
+     * Number of front desk threads.
+     */
+    private static final int DESKS = 8;
+    /**
+     * Number of members every front desk tries to check in.
+     */
+    private static final int MEMBERS = 200;
+    /**
+     * Capacity of the class every front desk checks members into at once.
+     */
+    private static final int CAPACITY = 20;
+
+    /**
+     * Tests the status of each guest check in and check out.
+     */
+    @Test
+    @DisplayName("Testing Check In Statuses")
+    void test_check_in_statuses() {
+        MemberDatabase memberDatabase = new MemberDatabase();
+        ClassSchedule classSchedule = new ClassSchedule();
+        classSchedule.addClass(new FitnessClass(Time.MORNING, "Pilates", "Kim", Location.EDISON));
+        CheckInService checkInService = new CheckInService(memberDatabase, classSchedule);
+
+        Family ron = new Family("Ron", "Weasley", new Date("3/1/1980"), new Date("1/1/2099"), Location.EDISON, (short) 1);
+        memberDatabase.add(ron);
+        String[] ronInPilates = {null, "Pilates", "Kim", "Edison", "Ron", "Weasley", "3/1/1980"};
+
+        assertEquals(checkInService.checkOutGuest(ronInPilates).getStatus(), CheckInStatus.INVALID_CLASS);
+        assertEquals(checkInService.checkInGuest(ronInPilates).getStatus(), CheckInStatus.GUEST_CHECKED_IN);
+        assertEquals(checkInService.checkInGuest(ronInPilates).getStatus(), CheckInStatus.NO_GUEST_PASSES);
+        assertEquals(checkInService.checkInGuest(ronInPilates).getMessage(), "Ron Weasley ran out of guest passes\n");
+        assertEquals(checkInService.checkOutGuest(ronInPilates).getStatus(), CheckInStatus.GUEST_CHECKED_OUT);
+        assertEquals(checkInService.checkOutMember(ronInPilates).getStatus(), CheckInStatus.NOT_CHECKED_IN);
+        assertEquals(checkInService.checkInGuest(new String[] {null, "Pilates", "Kim", "Edison", "Harry", "Potter", "7/31/1980"})
+                .getStatus(), CheckInStatus.GUESTS_NOT_ALLOWED);
+    }
+
+    /**
+     * Tests that when every front desk tries to check the same members into two classes at the same time, and to spend their one guest
+     * pass, each member ends up in exactly one of the classes and each guest pass is spent exactly once.
+     */
+    @Test
+    @DisplayName("Testing Concurrent Check Ins")
+    void test_concurrent_check_ins() throws InterruptedException {
+        MemberDatabase memberDatabase = new MemberDatabase();
+        ClassSchedule classSchedule = new ClassSchedule();
+        FitnessClass pilates = new FitnessClass(Time.MORNING, "Pilates", "Kim", Location.EDISON);
+        FitnessClass cardio = new FitnessClass(Time.MORNING, "Cardio", "Davis", Location.EDISON);
+        classSchedule.addClass(pilates);
+        classSchedule.addClass(cardio);
+        CheckInService checkInService = new CheckInService(memberDatabase, classSchedule);
+
+        Family[] families = new Family[MEMBERS];
+        for (int x = 0; x < MEMBERS; x++) {
+            families[x] = new Family("Member" + x, "Family", new Date(1, x % 28 + 1, 1950 + x / 28), new Date("1/1/2099"),
+                    Location.EDISON, (short) 1);
+            memberDatabase.add(families[x]);
+        }
+
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger checkIns = new AtomicInteger();
+        AtomicInteger guestCheckIns = new AtomicInteger();
+        List<Thread> desks = new ArrayList<>();
+        for (int desk = 0; desk < DESKS; desk++) {
+            String[] fitnessClass = desk % 2 == 0 ? new String[] {"Pilates", "Kim"} : new String[] {"Cardio", "Davis"};
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException interruptedException) {
+                    return;
+                }
+                for (Family family : families) {
+                    String[] inputData = {null, fitnessClass[0], fitnessClass[1], "Edison", family.getFname(), family.getLname(),
+                            family.getDob().toString()};
+                    if (checkInService.checkInMember(inputData).isSuccess()) {
+                        checkIns.incrementAndGet();
+                    }
+                    if (checkInService.checkInGuest(inputData).isSuccess()) {
+                        guestCheckIns.incrementAndGet();
+                    }
+                }
+            });
+            desks.add(thread);
+            thread.start();
+        }
+
+        start.countDown();
+        for (Thread thread : desks) {
+            thread.join();
+        }
+
+        assertEquals(checkIns.get(), MEMBERS);
+        assertEquals(guestCheckIns.get(), MEMBERS);
+        assertEquals(pilates.getClassSize() + cardio.getClassSize(), 2 * MEMBERS);
+        for (Family family : families) {
+            assertEquals(family.getGuestPasses(), 0);
+            assertTrue(pilates.hasMember(family) ^ cardio.hasMember(family));
+        }
+    }
+
+    /**
+     * Tests that when every front desk checks members into a small class at once, exactly its capacity get in and the rest wait, and
+     * that checking the class out fills it again from the waitlist, while waiting members and guests can leave it.
+     */
+    @Test
+    @DisplayName("Testing Class Capacity")
+    void test_class_capacity() throws InterruptedException {
+        MemberDatabase memberDatabase = new MemberDatabase();
+        ClassSchedule classSchedule = new ClassSchedule();
+        FitnessClass spinning = new FitnessClass(Time.EVENING, "Spinning", "Kim", Location.EDISON, CAPACITY);
+        classSchedule.addClass(spinning);
+        CheckInService checkInService = new CheckInService(memberDatabase, classSchedule);
+
+        Family[] families = new Family[MEMBERS];
+        String[][] inputData = new String[MEMBERS][];
+        for (int x = 0; x < MEMBERS; x++) {
+            Family family = families[x] = new Family("Member" + x, "Family", new Date(1, x % 28 + 1, 1950 + x / 28), new Date("1/1/2099"),
+                    Location.EDISON, (short) 1);
+            memberDatabase.add(family);
+            inputData[x] = new String[] {null, "Spinning", "Kim", "Edison", family.getFname(), family.getLname(),
+                    family.getDob().toString()};
+        }
+
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger checkIns = new AtomicInteger();
+        AtomicInteger waitlisted = new AtomicInteger();
+        List<Thread> desks = new ArrayList<>();
+        for (int desk = 0; desk < DESKS; desk++) {
+            int firstMember = desk;
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException interruptedException) {
+                    return;
+                }
+                for (int x = firstMember; x < MEMBERS; x += DESKS) {
+                    CheckInStatus status = checkInService.checkInMember(inputData[x]).getStatus();
+                    if (status == CheckInStatus.CHECKED_IN) {
+                        checkIns.incrementAndGet();
+                    } else if (status == CheckInStatus.WAITLISTED) {
+                        waitlisted.incrementAndGet();
+                    }
+                }
+            });
+            desks.add(thread);
+            thread.start();
+        }
+
+        start.countDown();
+        for (Thread thread : desks) {
+            thread.join();
+        }
+
+        assertEquals(checkIns.get(), CAPACITY);
+        assertEquals(waitlisted.get(), MEMBERS - CAPACITY);
+        assertEquals(spinning.getClassSize(), CAPACITY);
+        assertEquals(spinning.getWaitlistLength(), MEMBERS - CAPACITY);
+
+        int waiting = -1;
+        List<Integer> checkedIn = new ArrayList<>();
+        for (int x = 0; x < MEMBERS; x++) {
+            if (spinning.isCheckedIn(families[x])) {
+                checkedIn.add(x);
+            }
+        }
+        for (int x : checkedIn) {
+            assertEquals(checkInService.checkOutMember(inputData[x]).getStatus(), CheckInStatus.CHECKED_OUT);
+        }
+        for (int x = 0; x < MEMBERS; x++) {
+            if (spinning.isWaitlisted(families[x])) {
+                waiting = x;
+            }
+        }
+        assertEquals(spinning.getClassSize(), CAPACITY);
+        assertEquals(spinning.getWaitlistLength(), MEMBERS - 2 * CAPACITY);
+
+        assertEquals(checkInService.checkOutMember(inputData[waiting]).getStatus(), CheckInStatus.LEFT_WAITLIST);
+        assertEquals(checkInService.checkInMember(inputData[waiting]).getStatus(), CheckInStatus.WAITLISTED);
+        assertEquals(checkInService.checkInMember(inputData[waiting]).getStatus(), CheckInStatus.ALREADY_WAITLISTED);
+        assertEquals(checkInService.checkInGuest(inputData[waiting]).getStatus(), CheckInStatus.GUEST_WAITLISTED);
+        assertEquals(checkInService.checkOutGuest(inputData[waiting]).getStatus(), CheckInStatus.GUEST_LEFT_WAITLIST);
+        assertEquals(families[waiting].getGuestPasses(), 1);
+        assertEquals(spinning.getWaitlistLength(), MEMBERS - 2 * CAPACITY);
+    }
+}
@@ -0,0 +1,64 @@
+package tests;
+
+import checkin.CheckInValidator;
+import date.Date;
+import enums.CheckInStatus;
+import enums.Location;
+import enums.Time;
+import fitness_classes.ClassSchedule;
+import fitness_classes.FitnessClass;
+import member.Family;
+import member.Member;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is a class using JUnit5 to tests that the CheckInValidator class gives the same messages the GUI has always shown, with a
+ * status for each.
+ * @author Hasnain Ali, Carolette Saguil
+ */
+public class CheckInValidatorTest {
+
+    /**
+     * Tests that each reason a member cannot check in is reported, and that a valid check in passes.
+     */
+    @Test
+    @DisplayName("Testing Check In Validation")
+    void test_check_in_validation() {
+        ClassSchedule classSchedule = new ClassSchedule();
+        FitnessClass pilates = new FitnessClass(Time.MORNING, "Pilates", "Kim", Location.EDISON);
+        FitnessClass cardio = new FitnessClass(Time.MORNING, "Cardio", "Davis", Location.FRANKLIN);
+        classSchedule.addClass(pilates);
+        classSchedule.addClass(cardio);
+        CheckInValidator checkInValidator = new CheckInValidator(classSchedule);
+
+        Member harry = new Member("Harry", "Potter", new Date("7/31/1980"), new Date("1/1/2099"), Location.EDISON);
+        Member expired = new Member("Neville", "Longbottom", new Date("7/30/1980"), new Date("1/1/2000"), Location.EDISON);
+        Family ron = new Family("Ron", "Weasley", new Date("3/1/1980"), new Date("1/1/2099"), Location.FRANKLIN, (short) 1);
+        String[] harryInPilates = {null, "Pilates", "Kim", "Edison", "Harry", "Potter", "7/31/1980"};
+
+        assertNull(checkInValidator.checkFitnessClassesWithCheckInClass(harryInPilates, harry));
+        assertEquals(checkInValidator.checkGeneralInput(new String[] {null, "Yoga", "Kim", "Edison", "Harry", "Potter", "7/31/1980"},
+                harry).getMessage(), "Yoga — class does not exist.\n");
+        assertEquals(checkInValidator.checkGeneralInput(new String[] {null, "Pilates", "Davis", "Edison", "Harry", "Potter",
+                "7/31/1980"}, harry).getMessage(), "Pilates class by Davis does not exist.\n");
+        assertEquals(checkInValidator.checkGeneralInput(harryInPilates, null).getMessage(), "Harry Potter 7/31/1980 does not exist in database.\n");
+        assertEquals(checkInValidator.checkGeneralInput(new String[] {null, "Pilates", "Kim", "Edison", "Neville", "Longbottom",
+                "7/30/1980"}, expired).getMessage(), "Neville Longbottom 7/30/1980 membership expired.\n");
+        assertEquals(checkInValidator.checkFitnessClassesWithCheckInClass(new String[] {null, "Cardio", "Davis", "Franklin", "Harry",
+                "Potter", "7/31/1980"}, harry).getMessage(), "Harry Potter checking in Franklin, 08873, Somerset County - standard membership location restriction");
+
+        pilates.checkIn(harry);
+        assertEquals(checkInValidator.checkFitnessClassesWithCheckInClass(harryInPilates, harry).getMessage(),
+                "Harry Potter has already checked into Pilates.\n");
+
+        pilates.checkIn(ron);
+        assertEquals(checkInValidator.checkFitnessClassesWithCheckInClass(new String[] {null, "Cardio", "Davis", "Franklin", "Ron",
+                "Weasley", "3/1/1980"}, ron).getMessage(), "Cardio time conflict -- Ron Weasley has already checked into Pilates\n");
+        assertEquals(checkInValidator.checkFitnessClassesWithCheckInClass(new String[] {null, "Cardio", "Davis", "Franklin", "Ron",
+                "Weasley", "3/1/1980"}, ron).getStatus(), CheckInStatus.TIME_CONFLICT);
+        assertEquals(checkInValidator.checkGeneralInput(harryInPilates, null).getStatus(), CheckInStatus.MEMBER_NOT_FOUND);
+    }
+}
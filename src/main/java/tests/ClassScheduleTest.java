@@ -0,0 +1,129 @@
+package tests;
+
+import constants.Constants;
+import enums.Location;
+import enums.Time;
+import fitness_classes.ClassSchedule;
+import fitness_classes.FitnessClass;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is a class using JUnit5 to tests that the ClassSchedule class finds classes, class names and instructors through its indexes
+ * the same way the schedule used to be scanned: ignoring case, and rejecting duplicate classes.
+ * @author Hasnain Ali, Carolette Saguil
+ */
+public class ClassScheduleTest {
+
+    /**
+     * Tests class lookups by name, instructor, location and time, in any case.
+     */
+    @Test
+    @DisplayName("Testing Class Schedule Lookups")
+    void test_class_schedule_lookups() {
+        ClassSchedule classSchedule = new ClassSchedule();
+        FitnessClass morningPilates = new FitnessClass(Time.MORNING, "Pilates", "Kim", Location.EDISON);
+        FitnessClass eveningPilates = new FitnessClass(Time.EVENING, "Pilates", "Kim", Location.EDISON);
+        FitnessClass cardio = new FitnessClass(Time.MORNING, "Cardio", "Davis", Location.FRANKLIN);
+
+        assertEquals(classSchedule.indexOf("Pilates", "Kim", Location.EDISON), -1);
+        assertTrue(classSchedule.addClass(cardio));
+        assertTrue(classSchedule.addClass(eveningPilates));
+        assertTrue(classSchedule.addClass(morningPilates));
+        assertFalse(classSchedule.addClass(new FitnessClass(Time.MORNING, "PILATES", "kim", Location.EDISON)));
+        assertEquals(classSchedule.getNumClasses(), 3);
+
+        assertEquals(classSchedule.indexOf("pilates", "KIM", Location.EDISON), 1);
+        assertEquals(classSchedule.indexOf("Pilates", "Kim", Location.FRANKLIN), -1);
+        assertEquals(classSchedule.findSessions("Pilates", "Kim", Location.EDISON), List.of(eveningPilates, morningPilates));
+        assertTrue(classSchedule.findSessions("Pilates", "Davis", Location.EDISON).isEmpty());
+        assertSame(classSchedule.find(new FitnessClass(Time.EVENING, "pilates", "kim", Location.EDISON)), eveningPilates);
+        assertNull(classSchedule.find(new FitnessClass(Time.AFTERNOON, "Pilates", "Kim", Location.EDISON)));
+
+        assertTrue(classSchedule.hasClassName("CARDIO"));
+        assertTrue(classSchedule.hasInstructor("davis"));
+        assertFalse(classSchedule.hasClassName("Yoga"));
+        assertFalse(classSchedule.hasInstructor("Pilates"));
+    }
+
+    /**
+     * Tests that a large timetable keeps every class findable at its index.
+     */
+    @Test
+    @DisplayName("Testing Large Class Schedule")
+    void test_large_class_schedule() {
+        ClassSchedule classSchedule = new ClassSchedule();
+        Time[] times = Time.values();
+
+        for (int x = 0; x < 30000; x++) {
+            assertTrue(classSchedule.addClass(new FitnessClass(times[x % times.length], "Class" + x / times.length, "Instructor" + x % 97,
+                    Location.SOMERVILLE)));
+        }
+        for (int x = 0; x < 30000; x += times.length) {
+            assertEquals(classSchedule.indexOf("class" + x / times.length, "instructor" + x % 97, Location.SOMERVILLE), x);
+        }
+        assertEquals(classSchedule.getNumClasses(), 30000);
+    }
+
+    /**
+     * Tests that the optional fifth column of a class schedule file sets the capacity of the class, and that a line with a capacity
+     * that is not a positive number is rejected with its line number while the lines after it still load.
+     */
+    @Test
+    @DisplayName("Testing Class Capacity Column")
+    void test_class_capacity_column() throws IOException {
+        Path file = Files.createTempFile("classSchedule", ".txt");
+        try {
+            Files.writeString(file, "Pilates Kim morning Edison 12\nCardio Davis evening Franklin\n");
+            ClassSchedule classSchedule = new ClassSchedule();
+
+            assertEquals(classSchedule.loadFitnessClasses(file), 2);
+            assertEquals(classSchedule.getSpecificClass(0).getCapacity(), 12);
+            assertEquals(classSchedule.getSpecificClass(1).getCapacity(), Constants.UNLIMITED_CAPACITY);
+
+            Files.writeString(file, "Yoga Kim morning Edison 0\nYoga Kim evening Edison many\nYoga Kim\nYoga Kim afternoon Edison 5\n");
+            StringBuilder listing = new StringBuilder();
+            assertEquals(classSchedule.loadFitnessClasses(file, listing, null), 1);
+            String[] lines = listing.toString().split("\n");
+            assertEquals(lines.length, 4);
+            assertTrue(lines[0].startsWith("Line 1 rejected: Class capacity: 0 not valid."));
+            assertTrue(lines[1].startsWith("Line 2 rejected: Class capacity: many not valid."));
+            assertTrue(lines[2].startsWith("Line 3 rejected"));
+            assertEquals(classSchedule.getSpecificClass(2).getCapacity(), 5);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    /**
+     * Tests that loading a class schedule file lists every class read, including the ones already in the schedule, and reports the
+     * bytes read until the whole file is read.
+     */
+    @Test
+    @DisplayName("Testing Class Schedule Listing And Progress")
+    void test_class_schedule_listing_and_progress() throws IOException {
+        Path file = Files.createTempFile("classSchedule", ".txt");
+        try {
+            Files.writeString(file, "Pilates Kim morning Edison\n\nPilates Kim morning Edison\nCardio Davis evening Franklin\n");
+            ClassSchedule classSchedule = new ClassSchedule();
+            StringBuilder listing = new StringBuilder();
+            List<Long> progress = new ArrayList<>();
+
+            assertEquals(classSchedule.loadFitnessClasses(file, listing, progress::add), 2);
+            assertEquals(listing.toString().split("\n").length, 3);
+            assertTrue(listing.toString().startsWith("PILATES - KIM"));
+            assertEquals(progress.size(), 4);
+            assertEquals((long) progress.get(3), Files.size(file));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package tests;
+
+import constants.Constants;
+import date.Date;
+import enums.Location;
+import enums.MemberReport;
+import member.ColumnarMemberStore;
+import member.Family;
+import member.Member;
+import member.Premium;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is a class using JUnit5 to tests that the ColumnarMemberStore class finds, removes, and sorts members from its columns the same
+ * way the member objects compare.
+ * @author Hasnain Ali, Carolette Saguil
+ */
+public class ColumnarMemberStoreTest {
+
+    /**
+     * Tests that members are found ignoring name case, that removing a member moves the last row into its place, and that rows keep
+     * the type they were added as.
+     */
+    @Test
+    @DisplayName("Testing Columnar Store Rows")
+    void test_columnar_store_rows() {
+        ColumnarMemberStore store = new ColumnarMemberStore(0);
+        Member harry = new Member("Harry", "Potter", new Date("7/31/1980"), new Date("1/1/2030"), Location.EDISON);
+        Family ron = new Family("Ron", "Weasley", new Date("3/1/1980"), new Date("2/1/2030"), Location.FRANKLIN, (short) 1);
+        Premium hermione = new Premium("Hermione", "Granger", new Date("9/19/1979"), new Date("3/1/2030"), Location.SOMERVILLE,
+                (short) 2);
+
+        assertEquals(store.add(harry), 0);
+        assertEquals(store.add(ron), 1);
+        assertEquals(store.add(hermione), 2);
+        assertEquals(store.add(new Member("HARRY", "potter", new Date("7/31/1980"), null, null)), Constants.NOT_FOUND);
+        assertEquals(store.find(new Member("rON", "weasley", new Date("3/1/1980"), null, null)), 1);
+
+        assertFalse(store.isFamily(0));
+        assertTrue(store.isFamily(1));
+        assertTrue(store.isFamily(2));
+
+        store.remove(0);
+        assertEquals(store.size(), 2);
+        assertEquals(store.find(harry), Constants.NOT_FOUND);
+        assertEquals(store.find(hermione), 0);
+        assertEquals(store.find(ron), 1);
+        assertTrue(store.isFamily(0));
+    }
+
+    /**
+     * Tests that after many adds and removes of members with few distinct names, every member is still found and the report orders
+     * sorted from the columns match sorting the member objects.
+     */
+    @Test
+    @DisplayName("Testing Columnar Store Orders")
+    void test_columnar_store_orders() {
+        Random random = new Random(21);
+        String[] names = {"Amy", "amy", "Bob", "BOB", "Zed", "Yan", "al", "Al"};
+        Location[] locations = Location.values();
+        ColumnarMemberStore store = new ColumnarMemberStore(0);
+        List<Member> members = new ArrayList<>();
+        List<Member> rows = new ArrayList<>();
+
+        for (int x = 0; x < 5000; x++) {
+            Member member = new Member(names[random.nextInt(names.length)], names[random.nextInt(names.length)],
+                    new Date(random.nextInt(12) + 1, random.nextInt(28) + 1, 1950 + random.nextInt(50)),
+                    new Date(random.nextInt(12) + 1, 1, 2025 + random.nextInt(3)), locations[random.nextInt(locations.length)]);
+            if (store.add(member) != Constants.NOT_FOUND) {
+                members.add(member);
+                rows.add(member);
+            }
+        }
+        for (int x = 0; x < 1000; x++) {
+            Member removed = members.remove(random.nextInt(members.size()));
+            int row = store.find(removed);
+            store.remove(row);
+            rows.set(row, rows.get(rows.size() - 1));
+            rows.remove(rows.size() - 1);
+        }
+
+        assertEquals(store.size(), members.size());
+        for (Member member : members) {
+            assertSame(rows.get(store.find(member)), member);
+        }
+
+        Comparator<Member> byIdentity = Comparator.comparing(Member::getLname, String::compareToIgnoreCase)
+                .thenComparing(Member::getFname, String::compareToIgnoreCase).thenComparing(Member::getDob);
+        List<Member> byName = new ArrayList<>(members);
+        byName.sort(Comparator.comparing(Member::getLname).thenComparing(Member::getFname).thenComparing(byIdentity));
+        assertEquals(inReportOrder(store, rows, MemberReport.BY_NAME), toStrings(byName));
+        List<Member> byCounty = new ArrayList<>(members);
+        byCounty.sort(Comparator.comparing((Member member) -> member.getLocation().getCounty())
+                .thenComparing(member -> member.getLocation().getPostalCode()).thenComparing(byIdentity));
+        assertEquals(inReportOrder(store, rows, MemberReport.BY_COUNTY), toStrings(byCounty));
+
+        int[] byExpiration = store.rowsFor(MemberReport.BY_EXPIRATION_DATE);
+        assertEquals(byExpiration.length, members.size());
+        for (int x = 1; x < byExpiration.length; x++) {
+            assertTrue(rows.get(byExpiration[x - 1]).getExpire().compareTo(rows.get(byExpiration[x]).getExpire()) <= 0);
+        }
+    }
+
+    /**
+     * @param store Store to read.
+     * @param rows Member added in each row of the store.
+     * @param report Report to order the rows by.
+     * @return Returns the string of each member of the store in report order.
+     */
+    private static List<String> inReportOrder(ColumnarMemberStore store, List<Member> rows, MemberReport report) {
+        List<String> members = new ArrayList<>();
+        for (int row : store.rowsFor(report)) {
+            members.add(rows.get(row).toString());
+        }
+        return members;
+    }
+
+    /**
+     * @param members Members to convert.
+     * @return Returns the string of each member.
+     */
+    private static List<String> toStrings(List<Member> members) {
+        List<String> strings = new ArrayList<>();
+        for (Member member : members) {
+            strings.add(member.toString());
+        }
+        return strings;
+    }
+}
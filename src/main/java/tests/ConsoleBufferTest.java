@@ -0,0 +1,67 @@
+package tests;
+
+import gymmanager.ConsoleBuffer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is a class using JUnit5 to tests that the ConsoleBuffer class splits text into lines the way a text area shows it, keeps only
+ * the latest lines, and spills the older ones to a log file in order.
+ * @author Hasnain Ali, Carolette Saguil
+ */
+public class ConsoleBufferTest {
+
+    /**
+     * Tests that text is split on new lines, that a write not ending with a new line is continued by the next write, and that an
+     * invalid number of retained lines is rejected.
+     */
+    @Test
+    @DisplayName("Testing Lines And Partial Lines")
+    void test_lines_and_partial_lines() {
+        ConsoleBuffer buffer = new ConsoleBuffer(10);
+
+        buffer.write("-Fitness classes-\n");
+        buffer.write("Pilates - ");
+        buffer.write("KIM, 9:30, EDISON\n\n");
+        buffer.write("");
+        buffer.write("-end of class list-");
+
+        assertEquals(buffer, List.of("-Fitness classes-", "Pilates - KIM, 9:30, EDISON", "", "-end of class list-"));
+        assertThrows(IllegalArgumentException.class, () -> new ConsoleBuffer(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> buffer.get(4));
+    }
+
+    /**
+     * Tests that a full buffer evicts its oldest lines first, and that every evicted line is appended to the log file in order.
+     */
+    @Test
+    @DisplayName("Testing Retention And Spill File")
+    void test_retention_and_spill_file() throws IOException {
+        Path file = Files.createTempFile("console", ".log");
+        try {
+            ConsoleBuffer buffer = new ConsoleBuffer(3, file);
+            for (int x = 1; x <= 5; x++) {
+                buffer.write(String.format("Line %d\n", x));
+            }
+            buffer.write("Line 6\nLine 7\n");
+
+            assertEquals(buffer, List.of("Line 5", "Line 6", "Line 7"));
+            assertEquals(buffer.getEvictedLines(), 4);
+            assertEquals(Files.readAllLines(file), List.of("Line 1", "Line 2", "Line 3", "Line 4"));
+
+            buffer.close();
+            buffer.write("Line 8\n");
+            assertEquals(buffer, List.of("Line 6", "Line 7", "Line 8"));
+            assertEquals(Files.readAllLines(file).size(), 4);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
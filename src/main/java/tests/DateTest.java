@@ -1,9 +1,17 @@
 package tests;
 
+import date.ClockService;
 import date.Date;
+import date.PackedDate;
+import enums.Location;
+import member.Member;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneId;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -219,4 +227,60 @@ public class DateTest {
         Date date2 = new Date("11/30/2020");
         assertTrue(date2.isValid());
     }
-}
\ No newline at end of file
+
+    /**
+     * Tests that incrementing the month carries into the year, including a whole number of years.
+     */
+    @Test
+    @DisplayName("Testing Increment Month")
+    void test_increment_month() {
+        Date date1 = new Date("11/15/2022");
+        date1.incrementMonth(3);
+        assertEquals(date1.toString(), "2/15/2023");
+
+        Date date2 = new Date("12/1/2022");
+        date2.incrementMonth(12);
+        assertEquals(date2.toString(), "12/1/2023");
+    }
+
+    /**
+     * Tests that dates compare and print the same through the packed representation as through their parts.
+     */
+    @Test
+    @DisplayName("Testing Packed Dates")
+    void test_packed_dates() {
+        assertEquals(PackedDate.parse("1/15/2030"), 20300115);
+        assertEquals(new Date("01/15/2030").toPacked(), new Date(1, 15, 2030).toPacked());
+        assertEquals(new Date(20300115).toString(), "1/15/2030");
+        assertEquals(new Date("12/31/2029").compareTo(new Date("1/1/2030")), -1);
+        assertEquals(new Date("1/1/2030").compareTo(new Date("12/31/2029")), 1);
+        assertTrue(PackedDate.isOfAge(PackedDate.parse("3/1/2000"), PackedDate.parse("3/1/2018")));
+        assertFalse(PackedDate.isOfAge(PackedDate.parse("3/2/2000"), PackedDate.parse("3/1/2018")));
+        assertThrows(NumberFormatException.class, () -> new Date("1-1-2030"));
+    }
+
+    /**
+     * Tests that expiration and age checks follow the clock set in ClockService, including when the day changes.
+     */
+    @Test
+    @DisplayName("Testing Clock Service")
+    void test_clock_service() {
+        ZoneId zone = ZoneId.of("America/New_York");
+        Member member = new Member("Harry", "Potter", new Date("6/1/2012"), new Date("6/1/2030"), Location.EDISON);
+
+        try {
+            ClockService.setClock(Clock.fixed(LocalDate.of(2030, 5, 31).atTime(23, 59).atZone(zone).toInstant(), zone));
+            assertEquals(ClockService.today(), 20300531);
+            assertFalse(member.isExpired());
+            assertFalse(member.getDob().checkMemberAge());
+
+            ClockService.setClock(Clock.fixed(LocalDate.of(2030, 6, 1).atStartOfDay(zone).toInstant(), zone));
+            assertEquals(ClockService.today(), 20300601);
+            assertTrue(member.isExpired());
+            assertTrue(member.toString().contains("Membership expired: 6/1/2030"));
+            assertTrue(member.getDob().checkMemberAge());
+        } finally {
+            ClockService.useSystemClock();
+        }
+    }
+}
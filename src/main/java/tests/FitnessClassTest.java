@@ -10,6 +10,8 @@ import member.Premium;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -113,4 +115,110 @@ public class FitnessClassTest {
         fitnessClass.dropClass(member2);
         assertEquals(fitnessClass.getClassSize(), 0);
     }
-}
\ No newline at end of file
+
+    /**
+     * Checks that a member's time slots follow the classes they check into and drop, including when dropped through an equal copy.
+     */
+    @Test
+    @DisplayName("Testing Member Time Slots")
+    void memberTimeSlots() {
+        Member member = new Member("Harry", "Potter", new Date("10/17/2000"), new Date("1/1/2099"), Location.SOMERVILLE);
+        FitnessClass cardio = new FitnessClass(Time.MORNING, "Cardio", "Hermonie", Location.SOMERVILLE);
+        FitnessClass pilates = new FitnessClass(Time.EVENING, "Pilates", "Kim", Location.SOMERVILLE);
+        assertTrue(member.getCheckedInClasses().isEmpty());
+
+        cardio.checkIn(member);
+        pilates.checkIn(member);
+        assertTrue(cardio.isCheckedIn(member));
+        assertSame(member.getClassAt(Time.EVENING), pilates);
+        assertNull(member.getClassAt(Time.AFTERNOON));
+        assertEquals(member.getCheckedInClasses(), List.of(cardio, pilates));
+
+        cardio.dropClass(new Member("HARRY", "POTTER", new Date("10/17/2000"), null, null));
+        assertFalse(cardio.isCheckedIn(member));
+        assertFalse(member.isCheckedInAt(Time.MORNING));
+        assertEquals(member.getCheckedInClasses(), List.of(pilates));
+    }
+
+    /**
+     * Checks that guests are counted per member, and that a large roster keeps check in order through drops.
+     */
+    @Test
+    @DisplayName("Testing Roster Order And Guest Counts")
+    void rosterOrderAndGuestCounts() {
+        FitnessClass fitnessClass = new FitnessClass(Time.AFTERNOON, "Open", "Gym", Location.SOMERVILLE);
+        Member[] members = new Member[5000];
+        for (int x = 0; x < members.length; x++) {
+            members[x] = new Member("Member" + x, "Open", new Date("1/1/1990"), new Date("1/1/2099"), Location.SOMERVILLE);
+            assertTrue(fitnessClass.checkIn(members[x]));
+        }
+        assertFalse(fitnessClass.checkIn(members[10]));
+        for (int x = 0; x < members.length; x += 2) {
+            fitnessClass.dropClass(members[x]);
+        }
+        assertEquals(fitnessClass.getClassSize(), members.length / 2);
+        assertSame(fitnessClass.getMembersInClass().get(0), members[1]);
+        assertSame(fitnessClass.getMembersInClass().get(3), members[7]);
+        assertTrue(fitnessClass.hasMember(members[7]));
+        assertFalse(fitnessClass.hasMember(members[8]));
+
+        fitnessClass.checkInGuestMember(members[1]);
+        fitnessClass.checkInGuestMember(members[3]);
+        fitnessClass.checkInGuestMember(members[1]);
+        assertEquals(fitnessClass.getGuestMembersInClass(), List.of(members[1], members[3], members[1]));
+        assertTrue(fitnessClass.toString().endsWith(String.format("- Guests -\n\t %s\n\t %s\n\t %s\n", members[1], members[3],
+                members[1])));
+        assertTrue(fitnessClass.dropGuestMember(members[1]));
+        assertEquals(fitnessClass.getGuestMembersInClass(), List.of(members[3], members[1]));
+        assertTrue(fitnessClass.hasGuest(members[1]));
+        assertTrue(fitnessClass.dropGuestMember(members[1]));
+        assertFalse(fitnessClass.dropGuestMember(members[1]));
+        assertEquals(fitnessClass.getClassSize(), members.length / 2 + 1);
+    }
+
+    /**
+     * Checks that a full class turns members and guests away, and fills each freed seat from the head of its waitlist, skipping
+     * members who checked into another class at the same time.
+     */
+    @Test
+    @DisplayName("Testing Capacity And Waitlist")
+    void capacityAndWaitlist() {
+        FitnessClass fitnessClass = new FitnessClass(Time.EVENING, "Spinning", "Kim", Location.FRANKLIN, 2);
+        FitnessClass otherClass = new FitnessClass(Time.EVENING, "Cardio", "Davis", Location.FRANKLIN);
+        Member[] members = new Member[5];
+        for (int x = 0; x < members.length; x++) {
+            members[x] = new Premium("Member" + x, "Wait", new Date("1/1/1990"), new Date("1/1/2099"), Location.FRANKLIN, (short) 3);
+        }
+
+        assertTrue(fitnessClass.checkIn(members[0]));
+        assertTrue(fitnessClass.checkInGuestMember(members[0]));
+        assertTrue(fitnessClass.isFull());
+        assertFalse(fitnessClass.checkIn(members[1]));
+        assertFalse(fitnessClass.checkInGuestMember(members[0]));
+
+        assertTrue(fitnessClass.joinWaitlist(members[1]));
+        assertFalse(fitnessClass.joinWaitlist(members[1]));
+        assertTrue(fitnessClass.joinWaitlist(members[2]));
+        fitnessClass.joinGuestWaitlist(members[0]);
+        assertTrue(fitnessClass.joinWaitlist(members[3]));
+        assertTrue(fitnessClass.joinWaitlist(members[4]));
+        assertEquals(fitnessClass.getWaitlistLength(), 5);
+        assertTrue(otherClass.checkIn(members[2]));
+        assertTrue(fitnessClass.leaveWaitlist(members[4]));
+        assertFalse(fitnessClass.leaveWaitlist(members[4]));
+
+        fitnessClass.dropClass(members[0]);
+        assertTrue(fitnessClass.isCheckedIn(members[1]));
+        assertFalse(fitnessClass.isWaitlisted(members[1]));
+        assertTrue(fitnessClass.dropGuestMember(members[0]));
+        assertSame(members[2].getClassAt(Time.EVENING), otherClass);
+        assertEquals(fitnessClass.getGuestMembersInClass(), List.of(members[0]));
+        assertEquals(fitnessClass.getClassSize(), 2);
+        assertTrue(fitnessClass.isWaitlisted(members[3]));
+
+        fitnessClass.dropClass(members[1]);
+        assertTrue(fitnessClass.isCheckedIn(members[3]));
+        assertEquals(fitnessClass.getWaitlistLength(), 0);
+        assertEquals(fitnessClass.getClassSize(), 2);
+    }
+}
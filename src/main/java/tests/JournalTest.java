@@ -0,0 +1,330 @@
+package tests;
+
+import date.Date;
+import enums.Location;
+import enums.Time;
+import fitness_classes.ClassSchedule;
+import fitness_classes.FitnessClass;
+import member.Family;
+import member.Member;
+import member.MemberDatabase;
+import member.Premium;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import persistence.Journal;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is a class using JUnit5 to tests that the Journal class restores every change after the program stops or crashes.
+ * @author Hasnain Ali, Carolette Saguil
+ */
+public class JournalTest {
+
+    /**
+     * Tests that members, classes, rosters and guest passes changed after the journal was opened are all restored by the next open.
+     */
+    @Test
+    @DisplayName("Testing Journal Replay")
+    void test_replay() throws IOException {
+        Path directory = Files.createTempDirectory("journal");
+        Path snapshotFile = directory.resolve("gymManager.snapshot");
+        Path journalFile = directory.resolve("gymManager.journal");
+
+        try {
+            Journal journal = Journal.open(snapshotFile, journalFile);
+            MemberDatabase memberDatabase = journal.getMemberDatabase();
+            ClassSchedule classSchedule = journal.getClassSchedule();
+
+            Member harry = new Member("Harry", "Potter", new Date("7/31/1980"), new Date("1/1/2030"), Location.EDISON);
+            Family ron = new Family("Ron", "Weasley", new Date("3/1/1980"), new Date("1/1/2030"), Location.EDISON, (short) 1);
+            Premium hermione = new Premium("Hermione", "Granger", new Date("9/19/1979"), new Date("1/1/2030"), Location.EDISON,
+                    (short) 3);
+            memberDatabase.add(harry);
+            memberDatabase.add(ron);
+            memberDatabase.add(hermione);
+            memberDatabase.remove(new Member("harry", "potter", new Date("7/31/1980"), null, null));
+
+            FitnessClass cardio = new FitnessClass(Time.AFTERNOON, "Cardio", "Kim", Location.EDISON);
+            classSchedule.addClass(cardio);
+            cardio.checkIn(ron);
+            cardio.checkIn(hermione);
+            cardio.dropClass(ron);
+            hermione.setGuestPasses((short) (hermione.getGuestPasses() - 1));
+            cardio.checkInGuestMember(hermione);
+
+            journal.flush();
+            String members = memberDatabase.printWithMembershipFee();
+            String roster = cardio.toString();
+
+            Journal restored = Journal.open(snapshotFile, journalFile);
+            assertEquals(restored.getMemberDatabase().printWithMembershipFee(), members);
+            assertEquals(restored.getClassSchedule().getNumClasses(), 1);
+            assertEquals(restored.getClassSchedule().getSpecificClass(0).toString(), roster);
+
+            Member restoredHermione = restored.getMemberDatabase().getMember(restored.getMemberDatabase().find(hermione));
+            assertEquals(((Premium) restoredHermione).getGuestPasses(), (short) 2);
+            assertSame(restored.getClassSchedule().getSpecificClass(0).getGuestMembersInClass().get(0), restoredHermione);
+        } finally {
+            Journal.closeCurrent();
+            deleteDirectory(directory);
+        }
+    }
+
+    /**
+     * Tests that opening the journal appends to the journal file where it stopped instead of rewriting the snapshot.
+     */
+    @Test
+    @DisplayName("Testing Journal Resumed On Open")
+    void test_resumed_on_open() throws IOException {
+        Path directory = Files.createTempDirectory("journal");
+        Path snapshotFile = directory.resolve("gymManager.snapshot");
+        Path journalFile = directory.resolve("gymManager.journal");
+
+        try {
+            Journal journal = Journal.open(snapshotFile, journalFile);
+            journal.getMemberDatabase().add(new Member("Ron", "Weasley", new Date("3/1/1980"), new Date("1/1/2030"),
+                    Location.FRANKLIN));
+            journal.checkpoint();
+            journal.getMemberDatabase().add(new Member("Ginny", "Weasley", new Date("8/11/1981"), new Date("1/1/2030"),
+                    Location.FRANKLIN));
+            journal.close();
+            byte[] snapshot = Files.readAllBytes(snapshotFile);
+
+            Journal reopened = Journal.open(snapshotFile, journalFile);
+            assertEquals(reopened.getRecordsReplayed(), 1);
+            reopened.getMemberDatabase().add(new Member("Fred", "Weasley", new Date("4/1/1978"), new Date("1/1/2030"),
+                    Location.FRANKLIN));
+            reopened.close();
+            assertArrayEquals(Files.readAllBytes(snapshotFile), snapshot);
+
+            Journal restored = Journal.open(snapshotFile, journalFile);
+            assertEquals(restored.getRecordsReplayed(), 2);
+            assertEquals(restored.getMemberDatabase().getSize(), 3);
+        } finally {
+            Journal.closeCurrent();
+            deleteDirectory(directory);
+        }
+    }
+
+    /**
+     * Tests that a checkpoint stopped after the writer switched to the next journal file, but before the snapshot was saved, is
+     * finished once the journal is opened again, and that nothing in either journal file is lost or replayed twice.
+     */
+    @Test
+    @DisplayName("Testing Checkpoint Finished On Open")
+    void test_checkpoint_finished_on_open() throws IOException {
+        Path directory = Files.createTempDirectory("journal");
+        Path snapshotFile = directory.resolve("gymManager.snapshot");
+        Path journalFile = directory.resolve("gymManager.journal");
+        Path otherDirectory = Files.createTempDirectory("journal");
+        Path otherJournalFile = otherDirectory.resolve("gymManager.journal");
+
+        try {
+            Journal journal = Journal.open(snapshotFile, journalFile);
+            journal.getMemberDatabase().add(new Member("Ron", "Weasley", new Date("3/1/1980"), new Date("1/1/2030"),
+                    Location.FRANKLIN));
+            journal.close();
+
+            Journal other = Journal.open(otherDirectory.resolve("gymManager.snapshot"), otherJournalFile);
+            other.getMemberDatabase().add(new Member("Ginny", "Weasley", new Date("8/11/1981"), new Date("1/1/2030"),
+                    Location.FRANKLIN));
+            other.close();
+            ByteBuffer next = ByteBuffer.wrap(Files.readAllBytes(otherJournalFile));
+            next.putLong(Integer.BYTES, 1);
+            Files.write(directory.resolve("gymManager.journal.next"), next.array());
+
+            Journal resumed = Journal.open(snapshotFile, journalFile);
+            assertEquals(resumed.getRecordsReplayed(), 2);
+            resumed.getMemberDatabase().add(new Member("Fred", "Weasley", new Date("4/1/1978"), new Date("1/1/2030"),
+                    Location.FRANKLIN));
+            resumed.close();
+            assertNull(resumed.getCheckpointFailure());
+            assertFalse(Files.exists(directory.resolve("gymManager.journal.next")));
+
+            Journal restored = Journal.open(snapshotFile, journalFile);
+            assertEquals(restored.getRecordsReplayed(), 2);
+            assertEquals(restored.getMemberDatabase().getSize(), 3);
+        } finally {
+            Journal.closeCurrent();
+            deleteDirectory(directory);
+            deleteDirectory(otherDirectory);
+        }
+    }
+
+    /**
+     * Tests that a record cut short by a crash is ignored and every complete record before it is still restored.
+     */
+    @Test
+    @DisplayName("Testing Torn Journal Tail")
+    void test_torn_tail() throws IOException {
+        Path directory = Files.createTempDirectory("journal");
+        Path snapshotFile = directory.resolve("gymManager.snapshot");
+        Path journalFile = directory.resolve("gymManager.journal");
+
+        try {
+            Journal journal = Journal.open(snapshotFile, journalFile);
+            journal.getMemberDatabase().add(new Member("Ron", "Weasley", new Date("3/1/1980"), new Date("1/1/2030"),
+                    Location.FRANKLIN));
+            journal.close();
+
+            Files.write(journalFile, new byte[] {0, 0, 0, 40, 1, 2, 3}, StandardOpenOption.APPEND);
+
+            Journal restored = Journal.open(snapshotFile, journalFile);
+            assertEquals(restored.getRecordsReplayed(), 1);
+            assertEquals(restored.getMemberDatabase().getSize(), 1);
+
+            restored.getMemberDatabase().add(new Member("Ginny", "Weasley", new Date("8/11/1981"), new Date("1/1/2030"),
+                    Location.FRANKLIN));
+            restored.checkpoint();
+            restored.getMemberDatabase().add(new Member("Fred", "Weasley", new Date("4/1/1978"), new Date("1/1/2030"),
+                    Location.FRANKLIN));
+            restored.close();
+
+            Journal afterCheckpoint = Journal.open(snapshotFile, journalFile);
+            assertEquals(afterCheckpoint.getRecordsReplayed(), 1);
+            assertEquals(afterCheckpoint.getMemberDatabase().getSize(), 3);
+        } finally {
+            Journal.closeCurrent();
+            deleteDirectory(directory);
+        }
+    }
+
+    /**
+     * Tests that changes made while checkpoints run are kept, whether the checkpoint saved them to the snapshot or left them in the
+     * journal.
+     */
+    @Test
+    @DisplayName("Testing Changes During Checkpoints")
+    void test_changes_during_checkpoint() throws IOException, InterruptedException {
+        Path directory = Files.createTempDirectory("journal");
+        Path snapshotFile = directory.resolve("gymManager.snapshot");
+        Path journalFile = directory.resolve("gymManager.journal");
+
+        try {
+            Journal journal = Journal.open(snapshotFile, journalFile);
+            MemberDatabase memberDatabase = journal.getMemberDatabase();
+            Thread frontDesk = new Thread(() -> {
+                for (int x = 0; x < 2000; x++) {
+                    memberDatabase.add(new Member("Member" + x, "Weasley", new Date("3/1/1980"), new Date("1/1/2030"),
+                            Location.FRANKLIN));
+                }
+            });
+
+            frontDesk.start();
+            for (int x = 0; x < 5; x++) {
+                journal.checkpoint();
+            }
+            frontDesk.join();
+            journal.checkpoint();
+            memberDatabase.add(new Member("Fred", "Weasley", new Date("4/1/1978"), new Date("1/1/2030"), Location.FRANKLIN));
+            journal.close();
+
+            assertNull(journal.getCheckpointFailure());
+            assertFalse(Files.exists(directory.resolve("gymManager.journal.next")));
+
+            Journal restored = Journal.open(snapshotFile, journalFile);
+            assertEquals(restored.getRecordsReplayed(), 1);
+            assertEquals(restored.getMemberDatabase().getSize(), 2001);
+        } finally {
+            Journal.closeCurrent();
+            deleteDirectory(directory);
+        }
+    }
+
+    /**
+     * Tests that guest passes spent and given back from many threads at once restore to the number the member was left with.
+     */
+    @Test
+    @DisplayName("Testing Concurrent Guest Passes")
+    void test_concurrent_guest_passes() throws IOException, InterruptedException {
+        Path directory = Files.createTempDirectory("journal");
+        Path snapshotFile = directory.resolve("gymManager.snapshot");
+        Path journalFile = directory.resolve("gymManager.journal");
+
+        try {
+            Journal journal = Journal.open(snapshotFile, journalFile);
+            Family ron = new Family("Ron", "Weasley", new Date("3/1/1980"), new Date("1/1/2030"), Location.EDISON, (short) 3);
+            journal.getMemberDatabase().add(ron);
+
+            Thread[] terminals = new Thread[4];
+            for (int x = 0; x < terminals.length; x++) {
+                terminals[x] = new Thread(() -> {
+                    for (int y = 0; y < 1000; y++) {
+                        if (ron.tryConsumeGuestPass()) {
+                            ron.refundGuestPass();
+                        }
+                    }
+                    ron.tryConsumeGuestPass();
+                });
+                terminals[x].start();
+            }
+            for (Thread terminal : terminals) {
+                terminal.join();
+            }
+            journal.close();
+
+            Journal restored = Journal.open(snapshotFile, journalFile);
+            Member restoredRon = restored.getMemberDatabase().getMember(ron);
+            assertEquals(((Family) restoredRon).getGuestPasses(), ron.getGuestPasses());
+        } finally {
+            Journal.closeCurrent();
+            deleteDirectory(directory);
+        }
+    }
+
+    /**
+     * Tests that only the member database and class schedule a journal restored are journaled: changes to any other, or to the
+     * restored ones once the journal is closed, are not.
+     */
+    @Test
+    @DisplayName("Testing Changes Outside The Journal")
+    void test_no_journal() throws IOException {
+        Path directory = Files.createTempDirectory("journal");
+        Path snapshotFile = directory.resolve("gymManager.snapshot");
+        Path journalFile = directory.resolve("gymManager.journal");
+
+        try {
+            Journal journal = Journal.open(snapshotFile, journalFile);
+            journal.flush();
+            long journalSize = Files.size(journalFile);
+
+            MemberDatabase other = new MemberDatabase();
+            Family ron = new Family("Ron", "Weasley", new Date("3/1/1980"), new Date("1/1/2030"), Location.EDISON, (short) 1);
+            other.add(ron);
+            ron.tryConsumeGuestPass();
+            new ClassSchedule().addClass(new FitnessClass(Time.AFTERNOON, "Cardio", "Kim", Location.EDISON));
+            journal.flush();
+            assertEquals(Files.size(journalFile), journalSize);
+
+            MemberDatabase memberDatabase = journal.getMemberDatabase();
+            journal.close();
+            memberDatabase.add(new Member("Harry", "Potter", new Date("7/31/1980"), new Date("1/1/2030"), Location.EDISON));
+            assertEquals(Files.size(journalFile), journalSize);
+            assertEquals(Journal.open(snapshotFile, journalFile).getMemberDatabase().getSize(), 0);
+        } finally {
+            Journal.closeCurrent();
+            deleteDirectory(directory);
+        }
+    }
+
+    /**
+     * @param directory Directory of files to delete, along with the directory.
+     * @throws IOException If a file cannot be deleted.
+     */
+    private static void deleteDirectory(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.toList()) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(directory);
+    }
+}
@@ -0,0 +1,314 @@
+package tests;
+
+import constants.Constants;
+import date.Date;
+import date.PackedDate;
+import enums.Location;
+import enums.MemberReport;
+import member.Member;
+import member.MemberDatabase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is a class using JUnit5 to tests the find(), add(), and remove() methods in the MemberDatabase class.
+ * @author Hasnain Ali, Carolette Saguil
+ */
+public class MemberDatabaseTest {
+
+    /**
+     * Tests that a member is found regardless of the case of their name, and that a different DOB is a different member.
+     */
+    @Test
+    @DisplayName("Testing Find Ignores Name Case")
+    void test_find_ignores_case() {
+        MemberDatabase memberDatabase = new MemberDatabase();
+        Member member = new Member("Harry", "Potter", new Date("7/31/1980"), new Date("1/1/2030"), Location.EDISON);
+        memberDatabase.add(member);
+
+        assertEquals(memberDatabase.find(new Member("hARRY", "POTTER", new Date("7/31/1980"), null, null)), 0);
+        assertEquals(memberDatabase.find(new Member("Harry", "Potter", new Date("7/30/1980"), null, null)), Constants.NOT_FOUND);
+    }
+
+    /**
+     * Tests that adding the same member twice fails, even with different name case.
+     */
+    @Test
+    @DisplayName("Testing Duplicate Add")
+    void test_duplicate_add() {
+        MemberDatabase memberDatabase = new MemberDatabase();
+        assertTrue(memberDatabase.add(new Member("Ron", "Weasley", new Date("3/1/1980"), new Date("1/1/2030"), Location.FRANKLIN)));
+        assertFalse(memberDatabase.add(new Member("ron", "weasley", new Date("3/1/1980"), new Date("1/1/2030"), Location.EDISON)));
+    }
+
+    /**
+     * Tests that members can still be found at the right index after other members are removed.
+     */
+    @Test
+    @DisplayName("Testing Find After Remove")
+    void test_find_after_remove() {
+        MemberDatabase memberDatabase = new MemberDatabase();
+        Member[] members = new Member[10];
+
+        for (int x = 0; x < members.length; x++) {
+            members[x] = new Member("First" + x, "Last" + x, new Date("1/1/1990"), new Date("1/1/2030"), Location.PISCATAWAY);
+            assertTrue(memberDatabase.add(members[x]));
+        }
+
+        assertTrue(memberDatabase.remove(members[3]));
+        assertFalse(memberDatabase.remove(members[3]));
+        assertEquals(memberDatabase.find(members[3]), Constants.NOT_FOUND);
+
+        for (int x = 0; x < members.length; x++) {
+            if (x != 3) {
+                assertSame(memberDatabase.getMember(memberDatabase.find(members[x])), members[x]);
+            }
+        }
+    }
+
+    /**
+     * Tests that members can still be found at the right index after a sorted print.
+     */
+    @Test
+    @DisplayName("Testing Find After Sorted Print")
+    void test_find_after_print() {
+        MemberDatabase memberDatabase = new MemberDatabase();
+        Member zed = new Member("Zed", "Zulu", new Date("1/1/1990"), new Date("1/1/2030"), Location.SOMERVILLE);
+        Member amy = new Member("Amy", "Alpha", new Date("1/1/1990"), new Date("1/1/2029"), Location.BRIDGEWATER);
+        memberDatabase.add(zed);
+        memberDatabase.add(amy);
+
+        memberDatabase.printByName();
+
+        assertSame(memberDatabase.getMember(memberDatabase.find(zed)), zed);
+        assertSame(memberDatabase.getMember(memberDatabase.find(amy)), amy);
+    }
+
+    /**
+     * Tests that the database grows past its initial capacity and keeps every member reachable through churn.
+     */
+    @Test
+    @DisplayName("Testing Growth And Removal")
+    void test_grow_and_remove_many() {
+        MemberDatabase memberDatabase = new MemberDatabase(2);
+        Member[] members = new Member[1000];
+
+        for (int x = 0; x < members.length; x++) {
+            members[x] = new Member("First" + x, "Last", new Date("1/1/1990"), new Date("1/1/2030"), Location.EDISON);
+            assertTrue(memberDatabase.add(members[x]));
+        }
+        assertEquals(memberDatabase.getSize(), 1000);
+
+        for (int x = 0; x < members.length; x += 2) {
+            assertTrue(memberDatabase.remove(members[x]));
+        }
+        assertEquals(memberDatabase.getSize(), 500);
+
+        for (int x = 0; x < members.length; x++) {
+            if (x % 2 == 0) {
+                assertEquals(memberDatabase.find(members[x]), Constants.NOT_FOUND);
+            } else {
+                assertSame(memberDatabase.getMember(memberDatabase.find(members[x])), members[x]);
+            }
+        }
+    }
+
+    /**
+     * Tests that the sorted prints follow the sorted views, leave the member array alone, and drop removed members.
+     */
+    @Test
+    @DisplayName("Testing Sorted Prints")
+    void test_sorted_prints() {
+        MemberDatabase memberDatabase = new MemberDatabase();
+        Member zed = new Member("Zed", "Zulu", new Date("1/1/1990"), new Date("3/1/2030"), Location.EDISON);
+        Member amy = new Member("Amy", "Alpha", new Date("1/1/1990"), new Date("2/1/2030"), Location.SOMERVILLE);
+        Member bob = new Member("Bob", "Alpha", new Date("1/1/1990"), new Date("1/1/2030"), Location.PISCATAWAY);
+        memberDatabase.add(zed);
+        memberDatabase.add(amy);
+        memberDatabase.add(bob);
+
+        String byName = memberDatabase.printByName();
+        assertTrue(byName.indexOf("Amy Alpha") < byName.indexOf("Bob Alpha"));
+        assertTrue(byName.indexOf("Bob Alpha") < byName.indexOf("Zed Zulu"));
+
+        String byCounty = memberDatabase.printByCounty();
+        assertTrue(byCounty.indexOf("Zed Zulu") < byCounty.indexOf("Bob Alpha"));
+        assertTrue(byCounty.indexOf("Bob Alpha") < byCounty.indexOf("Amy Alpha"));
+
+        String byExpiration = memberDatabase.printByExpirationDate();
+        assertTrue(byExpiration.indexOf("Bob Alpha") < byExpiration.indexOf("Amy Alpha"));
+        assertTrue(byExpiration.indexOf("Amy Alpha") < byExpiration.indexOf("Zed Zulu"));
+
+        assertSame(memberDatabase.getMember(0), zed);
+
+        memberDatabase.remove(new Member("amy", "alpha", new Date("1/1/1990"), null, null));
+        assertFalse(memberDatabase.printByName().contains("Amy Alpha"));
+        assertFalse(memberDatabase.printByCounty().contains("Amy Alpha"));
+        assertFalse(memberDatabase.printByExpirationDate().contains("Amy Alpha"));
+    }
+
+    /**
+     * Tests that streaming a report gives the same text as the matching print method.
+     */
+    @Test
+    @DisplayName("Testing Streamed Reports")
+    void test_streamed_reports() throws IOException {
+        MemberDatabase memberDatabase = new MemberDatabase();
+        StringWriter empty = new StringWriter();
+        memberDatabase.writeReport(MemberReport.BY_NAME, empty);
+        assertEquals(empty.toString(), "Member Database is empty!\n");
+
+        memberDatabase.add(new Member("Zed", "Zulu", new Date("1/1/1990"), new Date("3/1/2030"), Location.EDISON));
+        memberDatabase.add(new Member("Amy", "Alpha", new Date("1/1/1990"), new Date("2/1/2030"), Location.SOMERVILLE));
+
+        StringWriter byName = new StringWriter();
+        memberDatabase.writeReport(MemberReport.BY_NAME, byName);
+        assertEquals(byName.toString(), memberDatabase.printByName());
+
+        StringWriter withFee = new StringWriter();
+        memberDatabase.writeReport(MemberReport.WITH_MEMBERSHIP_FEE, withFee);
+        assertEquals(withFee.toString(), memberDatabase.printWithMembershipFee());
+    }
+
+    /**
+     * Tests that members can be added and removed by another thread while a report is being written, and that the report lists the
+     * members it started with.
+     */
+    @Test
+    @DisplayName("Testing Changes During Report")
+    void test_changes_during_report() throws IOException {
+        MemberDatabase memberDatabase = new MemberDatabase();
+        Member zed = new Member("Zed", "Zulu", new Date("1/1/1990"), new Date("3/1/2030"), Location.EDISON);
+        Member amy = new Member("Amy", "Alpha", new Date("1/1/1990"), new Date("2/1/2030"), Location.SOMERVILLE);
+        memberDatabase.add(zed);
+        memberDatabase.add(amy);
+        String before = memberDatabase.printByName();
+
+        StringBuilder report = new StringBuilder();
+        boolean[] changed = new boolean[1];
+        memberDatabase.writeReport(MemberReport.BY_NAME, new Appendable() {
+            @Override
+            public Appendable append(CharSequence csq) {
+                if (!changed[0]) {
+                    changed[0] = true;
+                    Thread writer = new Thread(() -> {
+                        memberDatabase.remove(zed);
+                        memberDatabase.add(new Member("Bob", "Beta", new Date("1/1/1990"), new Date("1/1/2030"), Location.EDISON));
+                    });
+                    writer.start();
+                    try {
+                        writer.join(5000);
+                    } catch (InterruptedException interruptedException) {
+                        Thread.currentThread().interrupt();
+                    }
+                    assertFalse(writer.isAlive());
+                }
+                report.append(csq);
+                return this;
+            }
+
+            @Override
+            public Appendable append(CharSequence csq, int start, int end) {
+                return this.append(csq.subSequence(start, end));
+            }
+
+            @Override
+            public Appendable append(char c) {
+                return this.append(String.valueOf(c));
+            }
+        });
+
+        assertEquals(report.toString(), before);
+        assertFalse(memberDatabase.printByName().contains("Zed Zulu"));
+        assertTrue(memberDatabase.printByName().contains("Bob Beta"));
+    }
+
+    /**
+     * Tests that range queries on expiration dates match a full scan of the members through adds, bulk adds and removes.
+     */
+    @Test
+    @DisplayName("Testing Expiration Range Queries")
+    void test_expiration_ranges() {
+        MemberDatabase memberDatabase = new MemberDatabase();
+        Random random = new Random(7);
+        Member[] members = new Member[2000];
+
+        for (int x = 0; x < members.length; x++) {
+            members[x] = new Member("First" + x, "Last", new Date("1/1/1990"),
+                    new Date(PackedDate.plusDays(20300101, random.nextInt(365))), Location.EDISON);
+        }
+        for (int x = 0; x < 1000; x++) {
+            memberDatabase.add(members[x]);
+        }
+        memberDatabase.addAll(Arrays.copyOfRange(members, 1000, 2000), 1000);
+        for (int x = 0; x < members.length; x += 3) {
+            memberDatabase.remove(members[x]);
+        }
+
+        Date from = new Date("3/1/2030");
+        Date to = new Date(PackedDate.plusDays(from.toPacked(), 7));
+        int expected = 0;
+        for (int x = 0; x < members.length; x++) {
+            if (x % 3 != 0 && members[x].getExpire().compareTo(from) >= 0 && members[x].getExpire().compareTo(to) < 0) {
+                expected++;
+            }
+        }
+
+        assertEquals(memberDatabase.countExpiringBetween(from, to), expected);
+        int listed = 0;
+        Date previous = from;
+        for (Member member : memberDatabase.expiringBetween(from, to)) {
+            assertTrue(member.getExpire().compareTo(previous) >= 0 && member.getExpire().compareTo(to) < 0);
+            assertSame(memberDatabase.getMember(memberDatabase.find(member)), member);
+            previous = member.getExpire();
+            listed++;
+        }
+        assertEquals(listed, expected);
+        List<Member> expiring = memberDatabase.expiringBetween(from, to);
+        memberDatabase.remove(expiring.get(0));
+        assertEquals(expiring.size(), expected);
+        assertEquals(memberDatabase.countExpiringBetween(from, to), expected - 1);
+        memberDatabase.add(expiring.get(0));
+        assertEquals(memberDatabase.countExpiringBetween(to, from), 0);
+        assertEquals(memberDatabase.countExpiringBetween(new Date("1/1/2000"), new Date("1/1/2040")), memberDatabase.getSize());
+    }
+
+    /**
+     * Tests that members are found from the start of their names and from misspellings, ranked by last name, first name and date of
+     * birth, and that the search follows adds and removes.
+     */
+    @Test
+    @DisplayName("Testing Name Search")
+    void test_name_search() {
+        MemberDatabase memberDatabase = new MemberDatabase();
+        Member johnYounger = new Member("John", "Smith", new Date("1/1/1980"), new Date("1/1/2030"), Location.EDISON);
+        Member johnOlder = new Member("John", "Smith", new Date("1/1/1970"), new Date("1/1/2030"), Location.EDISON);
+        Member jane = new Member("Jane", "Smith", new Date("5/5/1985"), new Date("1/1/2030"), Location.EDISON);
+        Member ann = new Member("Ann", "Smithers", new Date("2/2/1990"), new Date("1/1/2030"), Location.FRANKLIN);
+        Member jon = new Member("Jon", "Smyth", new Date("3/3/1975"), new Date("1/1/2030"), Location.PISCATAWAY);
+        Member harry = new Member("Harry", "Potter", new Date("7/31/1980"), new Date("1/1/2030"), Location.EDISON);
+        for (Member member : new Member[] {johnYounger, johnOlder, jane, ann, jon, harry}) {
+            memberDatabase.add(member);
+        }
+
+        assertEquals(memberDatabase.search("", "smi", 10), List.of(jane, johnOlder, johnYounger, ann, jon));
+        assertEquals(memberDatabase.search("jo", "SMITH", 10), List.of(johnOlder, johnYounger, jon));
+        assertEquals(memberDatabase.search("", "Pottr", 10), List.of(harry));
+        assertEquals(memberDatabase.search("harr", "", 10), List.of(harry));
+        assertEquals(memberDatabase.search("", "s", 2), List.of(jane, johnOlder));
+        assertTrue(memberDatabase.search(" ", "", 10).isEmpty());
+
+        memberDatabase.remove(jane);
+        Member smithson = new Member("Jane", "Smithson", new Date("4/4/1988"), new Date("1/1/2030"), Location.EDISON);
+        memberDatabase.add(smithson);
+        assertEquals(memberDatabase.search("ja", "smith", 10), List.of(smithson));
+    }
+}
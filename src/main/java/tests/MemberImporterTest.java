@@ -0,0 +1,194 @@
+package tests;
+
+import date.Date;
+import enums.Location;
+import member.ImportResult;
+import member.Member;
+import member.MemberDatabase;
+import member.MemberImporter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is a class using JUnit5 to tests the importMembers() method in the MemberImporter class.
+ * @author Hasnain Ali, Carolette Saguil
+ */
+public class MemberImporterTest {
+
+    /**
+     * Writes {@code contents} to a temporary member file.
+     * @param contents Contents of the member file.
+     * @return Returns the path of the temporary member file.
+     * @throws IOException If the file cannot be written.
+     */
+    private Path memberFile(String contents) throws IOException {
+        Path file = Files.createTempFile("memberList", ".txt");
+        file.toFile().deleteOnExit();
+        Files.writeString(file, contents, StandardCharsets.UTF_8);
+        return file;
+    }
+
+    /**
+     * Tests that well-formed lines are loaded, extra whitespace and blank lines are tolerated, and the first duplicate wins.
+     */
+    @Test
+    @DisplayName("Testing Import Of Well-Formed Lines")
+    void test_import_well_formed() throws IOException {
+        Path file = memberFile("John Doe 1/20/2004 2/15/2023 BRIDGEWATER\n"
+                + "Jane Doe 5/1/1996  6/20/2023 edison\r\n"
+                + "\n"
+                + "  john   doe\t1/20/2004 3/30/2021 Franklin\n"
+                + "Mary Lindsey 12/1/1989 5/31/2023 FRANKLIN");
+        MemberDatabase memberDatabase = new MemberDatabase();
+        StringBuilder listing = new StringBuilder();
+
+        ImportResult result = MemberImporter.importMembers(file, memberDatabase, listing);
+
+        assertEquals(result.getLinesRead(), 5);
+        assertEquals(result.getMembersParsed(), 4);
+        assertEquals(result.getMembersAdded(), 3);
+        assertEquals(result.getDuplicates(), 1);
+        assertEquals(result.getLinesRejected(), 0);
+        assertEquals(memberDatabase.getSize(), 3);
+
+        Member john = memberDatabase.getMember(memberDatabase.find(new Member("JOHN", "DOE", new Date("1/20/2004"), null, null)));
+        assertEquals(john.getLocation(), Location.BRIDGEWATER);
+        assertEquals(john.getExpire().compareTo(new Date("2/15/2023")), 0);
+        assertEquals(listing.toString().split("\n").length, 4);
+        assertEquals(memberDatabase.printByName().split("\n").length, 5);
+
+        assertTrue(memberDatabase.remove(john));
+        assertFalse(memberDatabase.printByExpirationDate().contains("John Doe"));
+    }
+
+    /**
+     * Tests that malformed lines are rejected with their line number instead of aborting the load.
+     */
+    @Test
+    @DisplayName("Testing Import Of Malformed Lines")
+    void test_import_malformed() throws IOException {
+        Path file = memberFile("John Doe 1/20/2004\n"
+                + "Jane Doe 2/30/1996 6/20/2023 EDISON\n"
+                + "Jane Doe 5/1/1996 6-20-2023 EDISON\n"
+                + "Jane Doe 5/1/1996 6/20/2023 NEWARK\n"
+                + "Mary Lindsey 12/1/1989 5/31/2023 FRANKLIN\n");
+        MemberDatabase memberDatabase = new MemberDatabase();
+
+        ImportResult result = MemberImporter.importMembers(file, memberDatabase, null);
+
+        assertEquals(result.getLinesRejected(), 4);
+        assertEquals(result.getMembersAdded(), 1);
+        assertTrue(result.getRejectMessages().get(0).startsWith("Line 1 rejected"));
+        assertTrue(result.getRejectMessages().get(1).contains("date of birth"));
+        assertTrue(result.getRejectMessages().get(2).contains("expiration date"));
+        assertTrue(result.getRejectMessages().get(3).contains("location"));
+    }
+
+    /**
+     * Tests that a parallel import spanning several chunks loads the same members, in the same order, with the same duplicates and
+     * reject line numbers as a sequential import.
+     */
+    @Test
+    @DisplayName("Testing Parallel Import Matches Sequential Import")
+    void test_import_parallel() throws IOException {
+        StringBuilder contents = new StringBuilder();
+        for (int x = 0; x < 100000; x++) {
+            if (x == 75000) {
+                contents.append("Broken Line 1/1/2000\n");
+            } else if (x % 1000 == 999) {
+                contents.append("member0 Duplicate 1/1/1990 1/1/2031 Somerville\n");
+            } else {
+                contents.append("Member").append(x).append(" Duplicate 1/1/1990 1/1/2030 Edison\n");
+            }
+        }
+        Path file = memberFile(contents.toString());
+
+        MemberDatabase sequential = new MemberDatabase();
+        StringBuilder sequentialListing = new StringBuilder();
+        ImportResult sequentialResult = MemberImporter.importMembers(file, sequential, sequentialListing);
+
+        MemberDatabase parallel = new MemberDatabase();
+        StringBuilder parallelListing = new StringBuilder();
+        ImportResult parallelResult = MemberImporter.importMembersParallel(file, parallel, parallelListing, 4);
+
+        assertEquals(parallelResult.getLinesRead(), 100000);
+        assertEquals(parallelResult.getMembersAdded(), sequentialResult.getMembersAdded());
+        assertEquals(parallelResult.getDuplicates(), 100);
+        assertEquals(parallelResult.getRejectMessages(), sequentialResult.getRejectMessages());
+        assertTrue(parallelResult.getRejectMessages().get(0).startsWith("Line 75001 rejected"));
+        assertEquals(parallelListing.toString(), sequentialListing.toString());
+        assertEquals(parallel.printByName(), sequential.printByName());
+
+        Member first = parallel.getMember(parallel.find(new Member("Member0", "Duplicate", new Date("1/1/1990"), null, null)));
+        assertEquals(first.getLocation(), Location.EDISON);
+    }
+
+    /**
+     * Tests that importing a window at a time loads and lists the same members as importing the whole file at once, reporting the
+     * bytes loaded after every window until the whole file is loaded.
+     */
+    @Test
+    @DisplayName("Testing Import In Small Windows")
+    void test_import_small_windows() throws IOException {
+        StringBuilder contents = new StringBuilder();
+        for (int x = 0; x < 1000; x++) {
+            contents.append("Member").append(x).append(" Window 1/1/1990 1/1/2030 Edison\n");
+        }
+        contents.append("Broken Line 1/1/2000\n");
+        Path file = memberFile(contents.toString());
+
+        StringBuilder wholeListing = new StringBuilder();
+        ImportResult whole = MemberImporter.importMembers(file, new MemberDatabase(), wholeListing);
+
+        StringBuilder windowedListing = new StringBuilder();
+        List<Long> progress = new ArrayList<>();
+        ImportResult windowed = MemberImporter.importMembers(file, new MemberDatabase(), windowedListing, 4096, progress::add);
+
+        assertEquals(windowed.getMembersAdded(), 1000);
+        assertEquals(windowed.getRejectMessages(), whole.getRejectMessages());
+        assertEquals(windowedListing.toString(), wholeListing.toString());
+        assertTrue(progress.size() > 1);
+        assertEquals((long) progress.get(progress.size() - 1), Files.size(file));
+        assertThrows(IllegalArgumentException.class, () -> MemberImporter.importMembers(file, new MemberDatabase(), null, 0, null));
+    }
+
+    /**
+     * Tests that a line longer than a whole window is rejected as one line, and the lines after it keep their line numbers, both when
+     * importing a window at a time and when the file is split into chunks for parallel parsing.
+     */
+    @Test
+    @DisplayName("Testing Import Of A Line Longer Than A Window")
+    void test_import_line_longer_than_window() throws IOException {
+        Path file = memberFile("John Doe 1/20/2004 2/15/2023 BRIDGEWATER\n"
+                + "Jane".repeat(50) + " Doe 5/1/1996 6/20/2023 EDISON\n"
+                + "Mary Lindsey 12/1/1989 5/31/2023 FRANKLIN\n"
+                + "Broken Line 1/1/2000\n");
+        MemberDatabase memberDatabase = new MemberDatabase();
+        StringBuilder listing = new StringBuilder();
+
+        ImportResult result = MemberImporter.importMembers(file, memberDatabase, listing, 64, null);
+
+        assertEquals(result.getLinesRead(), 4);
+        assertEquals(result.getMembersAdded(), 2);
+        assertEquals(result.getLinesRejected(), 2);
+        assertTrue(result.getRejectMessages().get(0).startsWith("Line 2 rejected: line of"));
+        assertTrue(result.getRejectMessages().get(1).startsWith("Line 4 rejected"));
+        assertEquals(listing.toString().split("\n").length, 2);
+
+        StringBuilder parallelListing = new StringBuilder();
+        ImportResult parallel = MemberImporter.importMembersParallel(file, new MemberDatabase(), parallelListing, 2, 64);
+        assertEquals(parallel.getLinesRead(), 4);
+        assertEquals(parallel.getMembersAdded(), 2);
+        assertEquals(parallel.getRejectMessages(), result.getRejectMessages());
+        assertEquals(parallelListing.toString(), listing.toString());
+    }
+}
@@ -0,0 +1,81 @@
+package tests;
+
+import date.Date;
+import enums.Location;
+import enums.Time;
+import fitness_classes.ClassSchedule;
+import fitness_classes.FitnessClass;
+import member.Member;
+import names.NameDictionary;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is a class using JUnit5 to tests that the NameDictionary class gives names that are equal ignoring case one id, hands back
+ * one instance of each spelling, and that members and fitness classes compare by those ids.
+ * @author Hasnain Ali, Carolette Saguil
+ */
+public class NameDictionaryTest {
+
+    /**
+     * Tests that spellings of a name that are equal ignoring case share an id, that the same spelling is interned to one instance,
+     * and that looking a name up never adds it.
+     */
+    @Test
+    @DisplayName("Testing Name Ids And Interning")
+    void test_name_ids_and_interning() {
+        int id = NameDictionary.idOf("Dumbledore");
+        assertEquals(NameDictionary.idOf("DUMBLEDORE"), id);
+        assertEquals(NameDictionary.find("dumbledore"), id);
+        assertEquals(NameDictionary.nameOf(id), "Dumbledore");
+        assertNotEquals(NameDictionary.idOf("Dumbledor"), id);
+
+        int size = NameDictionary.size();
+        assertEquals(NameDictionary.find("Never Added Name"), -1);
+        assertEquals(NameDictionary.size(), size);
+
+        Member albus = new Member(new String("Albus"), new String("Dumbledore"), new Date("8/1/1881"), null, null);
+        Member copy = new Member(new String("Albus"), new String("Dumbledore"), new Date("8/1/1881"), null, null);
+        assertSame(albus.getFname(), copy.getFname());
+        assertSame(albus.getLname(), NameDictionary.nameOf(id));
+        assertEquals(NameDictionary.fold("albus"), "albus");
+        assertEquals(NameDictionary.fold("ALBUS"), "albus");
+    }
+
+    /**
+     * Tests that members and fitness classes are equal and hash alike when their names differ only in case, and that the class
+     * schedule finds classes by any spelling without adding unknown names.
+     */
+    @Test
+    @DisplayName("Testing Equality By Name Ids")
+    void test_equality_by_name_ids() {
+        Member member = new Member("Minerva", "McGonagall", new Date("10/4/1935"), null, null);
+        Member shouting = new Member("MINERVA", "MCGONAGALL", new Date("10/4/1935"), null, null);
+        assertEquals(member, shouting);
+        assertEquals(member.hashCode(), shouting.hashCode());
+        assertNotEquals(member, new Member("Minerva", "McGonagall", new Date("10/5/1935"), null, null));
+
+        ClassSchedule classSchedule = new ClassSchedule();
+        FitnessClass transfiguration = new FitnessClass(Time.MORNING, "Transfiguration", "Minerva", Location.EDISON);
+        assertTrue(classSchedule.addClass(transfiguration));
+        assertFalse(classSchedule.addClass(new FitnessClass(Time.MORNING, "TRANSFIGURATION", "minerva", Location.EDISON)));
+        assertTrue(classSchedule.addClass(new FitnessClass(Time.EVENING, "Transfiguration", "Minerva", Location.EDISON)));
+        assertTrue(classSchedule.addClass(new FitnessClass(Time.MORNING, "Transfiguration", "Minerva", Location.FRANKLIN)));
+
+        assertEquals(classSchedule.indexOf("transfiguration", "MINERVA", Location.EDISON), 0);
+        assertEquals(classSchedule.indexOf("transfiguration", "MINERVA", Location.FRANKLIN), 2);
+        assertEquals(classSchedule.findSessions("Transfiguration", "Minerva", Location.EDISON).size(), 2);
+        assertSame(classSchedule.find(new FitnessClass(Time.MORNING, "transfiguration", "minerva", Location.EDISON)), transfiguration);
+        assertTrue(classSchedule.hasInstructor("minerva"));
+        assertFalse(classSchedule.hasClassName("Potions"));
+
+        int size = NameDictionary.size();
+        assertEquals(classSchedule.indexOf("Divination", "Trelawney", Location.EDISON), -1);
+        assertFalse(classSchedule.hasInstructor("Trelawney"));
+        assertEquals(Member.probe("MINERVA", "mcgonagall", new Date("10/4/1935")), member);
+        assertNotEquals(Member.probe("Sybill", "Trelawney", new Date("3/9/1955")), member);
+        assertEquals(NameDictionary.size(), size);
+    }
+}
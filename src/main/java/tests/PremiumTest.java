@@ -5,14 +5,18 @@ import date.Date;
 import enums.Location;
 import member.Family;
 import member.Member;
+import member.MemberDatabase;
 import member.Premium;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
- * This is a class using JUnit5 to tests the getMembershipFee() method in the Premium class.
+ * This is a class using JUnit5 to tests the getMembershipFee() method in the Premium class, and the
+ * guest pass accounting of family and premium members.
  * @author Hasnain Ali, Carolette Saguil
  */
 public class PremiumTest {
@@ -61,4 +65,45 @@ public class PremiumTest {
         double expectedOutput = 149.96;
         assertEquals(actualOutput, expectedOutput);
     }
-}
\ No newline at end of file
+
+    /**
+     * Tests that guest passes spent from many threads at once are each spent exactly once, and never go below 0.
+     */
+    @Test
+    @DisplayName("Testing guest pass accounting")
+    void testGuestPassAccounting() throws InterruptedException {
+        Premium member = new Premium("Marilyn", "Monroe", new Date("6/1/1926"), new Date("1/1/2099"), Location.SOMERVILLE,
+                Constants.PREMIUM_GUEST_PASS);
+        AtomicInteger spent = new AtomicInteger();
+        Thread[] terminals = new Thread[8];
+
+        for (int x = 0; x < terminals.length; x++) {
+            terminals[x] = new Thread(() -> {
+                for (int y = 0; y < 1000; y++) {
+                    if (member.tryConsumeGuestPass()) {
+                        spent.incrementAndGet();
+                        member.refundGuestPass();
+                    }
+                }
+            });
+            terminals[x].start();
+        }
+        for (Thread terminal : terminals) {
+            terminal.join();
+        }
+        assertEquals(member.getGuestPasses(), Constants.PREMIUM_GUEST_PASS);
+        assertTrue(spent.get() > 0);
+
+        while (member.tryConsumeGuestPass()) {
+            spent.incrementAndGet();
+        }
+        assertEquals(member.getGuestPasses(), (short) 0);
+        assertFalse(member.tryConsumeGuestPass());
+
+        MemberDatabase memberDatabase = new MemberDatabase();
+        memberDatabase.add(member);
+        memberDatabase.add(new Member("Norma", "Baker", new Date("6/1/1926"), new Date("1/1/2099"), Location.SOMERVILLE));
+        assertEquals(memberDatabase.resetGuestPasses(), 1);
+        assertEquals(member.getGuestPasses(), Constants.PREMIUM_GUEST_PASS);
+    }
+}
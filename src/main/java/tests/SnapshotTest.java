@@ -0,0 +1,106 @@
+package tests;
+
+import date.Date;
+import enums.Location;
+import enums.Time;
+import fitness_classes.ClassSchedule;
+import fitness_classes.FitnessClass;
+import member.Family;
+import member.Member;
+import member.MemberDatabase;
+import member.Premium;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import persistence.Snapshot;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is a class using JUnit5 to tests the save() and load() methods in the Snapshot class.
+ * @author Hasnain Ali, Carolette Saguil
+ */
+public class SnapshotTest {
+
+    /**
+     * Tests that members keep their type and guest passes, and classes keep their rosters, through a save and a load.
+     */
+    @Test
+    @DisplayName("Testing Snapshot Round Trip")
+    void test_round_trip() throws IOException {
+        MemberDatabase memberDatabase = new MemberDatabase();
+        Member standard = new Member("Harry", "Potter", new Date("7/31/1980"), new Date("1/1/2030"), Location.EDISON);
+        Family family = new Family("Ron", "Weasley", new Date("3/1/1980"), new Date("2/1/2030"), Location.FRANKLIN, (short) 0);
+        Premium premium = new Premium("Hermione", "Granger", new Date("9/19/1979"), new Date("3/1/2030"), Location.SOMERVILLE,
+                (short) 2);
+        Member expired = new Member("Neville", "Longbottom", new Date("7/30/1980"), new Date("1/1/2020"), Location.PISCATAWAY);
+        memberDatabase.add(standard);
+        memberDatabase.add(family);
+        memberDatabase.add(premium);
+
+        ClassSchedule classSchedule = new ClassSchedule();
+        FitnessClass pilates = new FitnessClass(Time.MORNING, "Pilates", "Jennifer", Location.BRIDGEWATER);
+        pilates.checkIn(standard);
+        pilates.checkIn(premium);
+        pilates.restoreMember(expired);
+        pilates.checkInGuestMember(premium);
+        pilates.checkInGuestMember(premium);
+        classSchedule.addClass(pilates);
+        classSchedule.addClass(new FitnessClass(Time.EVENING, "Spinning", "Denise", Location.EDISON, 12));
+
+        Path file = Files.createTempFile("gymManager", ".snapshot");
+        try {
+            Snapshot.save(file, memberDatabase, classSchedule);
+            Snapshot snapshot = Snapshot.load(file);
+
+            MemberDatabase restoredMembers = snapshot.getMemberDatabase();
+            assertEquals(restoredMembers.getSize(), 3);
+            assertEquals(restoredMembers.printWithMembershipFee(), memberDatabase.printWithMembershipFee());
+            Member restoredPremium = restoredMembers.getMember(restoredMembers.find(premium));
+            assertTrue(restoredPremium instanceof Premium);
+            assertEquals(((Premium) restoredPremium).getGuestPasses(), (short) 2);
+            Member restoredFamily = restoredMembers.getMember(restoredMembers.find(family));
+            assertTrue(restoredFamily instanceof Family && !(restoredFamily instanceof Premium));
+            assertEquals(((Family) restoredFamily).getGuestPasses(), (short) 0);
+
+            ClassSchedule restoredClasses = snapshot.getClassSchedule();
+            assertEquals(restoredClasses.getNumClasses(), 2);
+            FitnessClass restoredPilates = restoredClasses.getSpecificClass(0);
+            assertEquals(restoredPilates.toString(), pilates.toString());
+            assertSame(restoredPilates.getMembersInClass().get(1), restoredPremium);
+            assertSame(restoredPilates.getGuestMembersInClass().get(0), restoredPremium);
+            assertEquals(restoredPilates.getMembersInClass().get(2), expired);
+            assertEquals(restoredClasses.getSpecificClass(1).getClassSize(), 0);
+            assertEquals(restoredClasses.getSpecificClass(1).getCapacity(), 12);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    /**
+     * Tests that a file that is not a snapshot, or is cut short, is rejected instead of loaded.
+     */
+    @Test
+    @DisplayName("Testing Corrupt Snapshot")
+    void test_corrupt_snapshot() throws IOException {
+        MemberDatabase memberDatabase = new MemberDatabase();
+        memberDatabase.add(new Member("Harry", "Potter", new Date("7/31/1980"), new Date("1/1/2030"), Location.EDISON));
+
+        Path file = Files.createTempFile("gymManager", ".snapshot");
+        try {
+            Files.writeString(file, "Harry Potter 7/31/1980 1/1/2030 Edison\n");
+            assertThrows(IOException.class, () -> Snapshot.load(file));
+
+            Snapshot.save(file, memberDatabase, new ClassSchedule());
+            byte[] bytes = Files.readAllBytes(file);
+            Files.write(file, Arrays.copyOf(bytes, bytes.length - 6));
+            assertThrows(IOException.class, () -> Snapshot.load(file));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package tests;
+
+import checkin.CheckInService;
+import date.Date;
+import enums.CheckInAction;
+import enums.Location;
+import enums.Time;
+import fitness_classes.ClassSchedule;
+import fitness_classes.FitnessClass;
+import member.Family;
+import member.Member;
+import member.MemberDatabase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import workload.LatencyHistogram;
+import workload.ReplayResult;
+import workload.TraceEvent;
+import workload.TraceReplayDriver;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is a class using JUnit5 to tests that the TraceReplayDriver class replays every event through the check in service and
+ * reports its latencies.
+ * @author Hasnain Ali, Carolette Saguil
+ */
+public class TraceReplayDriverTest {
+
+    /**
+     * Tests that percentiles are read from the right bucket, and that adding histograms keeps every recording.
+     */
+    @Test
+    @DisplayName("Testing Latency Histogram Percentiles")
+    void test_latency_histogram_percentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(histogram.percentile(99), 0);
+
+        for (int x = 1; x <= 100; x++) {
+            histogram.record(x);
+        }
+        assertEquals(histogram.percentile(50), 50);
+        assertEquals(histogram.percentile(99), 99);
+        assertEquals(histogram.percentile(100), 100);
+
+        LatencyHistogram slow = new LatencyHistogram();
+        slow.record(1_000_000);
+        histogram.add(slow);
+        assertEquals(histogram.getTotal(), 101);
+        assertEquals(histogram.getMax(), 1_000_000);
+        assertEquals(histogram.percentile(100), 1_000_000);
+        assertTrue(Math.abs(histogram.percentile(99.9) - 1_000_000) <= 1_000_000 / 64);
+    }
+
+    /**
+     * Tests that a trace replayed on several threads performs every event, in order for each member.
+     */
+    @Test
+    @DisplayName("Testing Trace Replay")
+    void test_trace_replay() throws InterruptedException {
+        MemberDatabase memberDatabase = new MemberDatabase();
+        ClassSchedule classSchedule = new ClassSchedule();
+        FitnessClass pilates = new FitnessClass(Time.MORNING, "Pilates", "Kim", Location.EDISON);
+        classSchedule.addClass(pilates);
+
+        TraceReplayDriver driver = new TraceReplayDriver(new CheckInService(memberDatabase, classSchedule), 4);
+        Family[] families = new Family[20];
+        for (int x = 0; x < families.length; x++) {
+            Date dob = new Date(1, x + 1, 1980);
+            families[x] = new Family("Member" + x, "Family", dob, new Date("1/1/2099"), Location.EDISON, (short) 1);
+            memberDatabase.add(families[x]);
+
+            driver.add(new TraceEvent(CheckInAction.CHECK_IN, "Pilates", "Kim", Location.EDISON, "Member" + x, "Family", dob));
+            driver.add(new TraceEvent(CheckInAction.GUEST_CHECK_IN, "Pilates", "Kim", Location.EDISON, "Member" + x, "Family", dob));
+            driver.add(new TraceEvent(CheckInAction.GUEST_CHECK_IN, "Pilates", "Kim", Location.EDISON, "Member" + x, "Family", dob));
+            driver.add(new TraceEvent(CheckInAction.CHECK_OUT, "Pilates", "Kim", Location.EDISON, "Member" + x, "Family", dob));
+        }
+        Member stranger = new Member("Not", "Member", new Date("1/1/1990"), null, null);
+        driver.add(new TraceEvent(CheckInAction.CHECK_IN, "Pilates", "Kim", Location.EDISON, stranger.getFname(), stranger.getLname(),
+                stranger.getDob()));
+
+        ReplayResult result = driver.replay(0);
+        assertEquals(result.getEvents(), 81);
+        assertEquals(result.getSuccesses(), 60);
+        assertEquals(result.getLatencies(CheckInAction.GUEST_CHECK_IN).getTotal(), 40);
+        assertTrue(result.getThroughput() > 0);
+        for (Family family : families) {
+            assertEquals(family.getGuestPasses(), 0);
+            assertFalse(pilates.hasMember(family));
+            assertTrue(pilates.hasGuest(family));
+        }
+    }
+}
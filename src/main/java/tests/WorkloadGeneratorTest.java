@@ -0,0 +1,148 @@
+package tests;
+
+import enums.CheckInAction;
+import enums.Location;
+import enums.Time;
+import member.Family;
+import member.ImportResult;
+import member.Member;
+import member.MemberDatabase;
+import member.MemberImporter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import workload.TraceEvent;
+import workload.WorkloadGenerator;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is a class using JUnit5 to tests that the WorkloadGenerator class generates the same valid members, classes and traces from
+ * the same seed.
+ * @author Hasnain Ali, Carolette Saguil
+ */
+public class WorkloadGeneratorTest {
+
+    /**
+     * Tests that the same seed and settings give the same members, that the settings shape them, and that the member file loads with no rejected lines.
+     */
+    @Test
+    @DisplayName("Testing Generated Members")
+    void test_generated_members() throws IOException {
+        WorkloadGenerator generator = new WorkloadGenerator(42);
+        generator.setSubtypeMix(50, 30);
+        generator.setLocationWeights(1, 0, 0, 0, 1);
+
+        StringBuilder members = new StringBuilder();
+        generator.writeMembers(members, 2000);
+        WorkloadGenerator same = new WorkloadGenerator(42);
+        same.setSubtypeMix(50, 30);
+        same.setLocationWeights(1, 0, 0, 0, 1);
+        StringBuilder sameMembers = new StringBuilder();
+        same.writeMembers(sameMembers, 2000);
+        assertEquals(sameMembers.toString(), members.toString());
+
+        int standard = 0;
+        for (int x = 0; x < 2000; x++) {
+            Member member = generator.member(x);
+            assertTrue(member.getLocation() == Location.BRIDGEWATER || member.getLocation() == Location.SOMERVILLE);
+            assertTrue(member.getDob().isValid() && member.getExpire().isValid());
+            if (!(member instanceof Family)) {
+                standard++;
+            }
+        }
+        assertTrue(standard > 900 && standard < 1100);
+
+        Path file = Files.createTempFile("memberList", ".txt");
+        try {
+            Files.writeString(file, members, StandardCharsets.UTF_8);
+            ImportResult result = MemberImporter.importMembers(file, new MemberDatabase(), null);
+            assertEquals(result.getMembersAdded(), 2000);
+            assertEquals(result.getLinesRejected(), 0);
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    /**
+     * Tests that every generated class is unique and in the class schedule format, and that trace events round trip through their
+     * line format and only check out earlier check ins.
+     */
+    @Test
+    @DisplayName("Testing Generated Classes And Trace")
+    void test_generated_classes_and_trace() throws IOException {
+        WorkloadGenerator generator = new WorkloadGenerator(7);
+
+        StringBuilder classSchedule = new StringBuilder();
+        generator.writeClassSchedule(classSchedule, 100);
+        Set<String> classes = new HashSet<>();
+        for (String line : classSchedule.toString().split("\n")) {
+            String[] fields = line.split("\\s+");
+            assertEquals(fields.length, 4);
+            assertNotNull(Time.returnTimeEnumFromTimeOfDay(fields[2]));
+            assertNotNull(Location.returnEnumFromString(fields[3]));
+            assertTrue(classes.add(line.toLowerCase()));
+        }
+        assertEquals(classes.size(), 100);
+
+        Map<String, Integer> checkedIn = new HashMap<>();
+        Iterator<TraceEvent> trace = generator.trace(500, 100, 20000);
+        int events = 0;
+        while (trace.hasNext()) {
+            TraceEvent event = trace.next();
+            TraceEvent parsed = TraceEvent.parse(event.toString());
+            assertEquals(parsed.toString(), event.toString());
+
+            String key = event.getClassName() + event.getLocation() + event.getFname() + event.getLname() + event.getDob();
+            if (event.getAction() == CheckInAction.CHECK_OUT || event.getAction() == CheckInAction.GUEST_CHECK_OUT) {
+                assertTrue(checkedIn.merge(event.getAction() + key, -1, Integer::sum) >= 0);
+            } else {
+                String checkOut = event.getAction() == CheckInAction.CHECK_IN ? "CHECK_OUT" : "GUEST_CHECK_OUT";
+                checkedIn.merge(checkOut + key, 1, Integer::sum);
+            }
+            events++;
+        }
+        assertEquals(events, 20000);
+        assertThrows(IllegalArgumentException.class, () -> TraceEvent.parse("CHECK_IN Pilates Kim Edison Harry Potter"));
+    }
+
+    /**
+     * Tests that a written trace has no guest events, since its members load as standard members, and is otherwise the trace generated
+     * with no guests.
+     */
+    @Test
+    @DisplayName("Testing Written Trace")
+    void test_written_trace() throws IOException {
+        WorkloadGenerator generator = new WorkloadGenerator(7);
+        generator.setGuestPercent(50);
+        StringBuilder written = new StringBuilder();
+        generator.writeTrace(written, 500, 100, 5000);
+
+        WorkloadGenerator noGuests = new WorkloadGenerator(7);
+        noGuests.setGuestPercent(0);
+        StringBuilder expected = new StringBuilder();
+        Iterator<TraceEvent> trace = noGuests.trace(500, 100, 5000);
+        while (trace.hasNext()) {
+            expected.append(trace.next().toString()).append('\n');
+        }
+
+        assertEquals(written.toString(), expected.toString());
+        assertFalse(written.toString().contains("GUEST"));
+
+        int guests = 0;
+        trace = generator.trace(500, 100, 5000);
+        while (trace.hasNext()) {
+            guests += trace.next().getAction() == CheckInAction.GUEST_CHECK_IN ? 1 : 0;
+        }
+        assertTrue(guests > 0);
+    }
+}
@@ -1,9 +1,21 @@
 /**
  * Contains all JUnit Testing. Specifically the following:
  * <ul>
+ *     <li>CheckInServiceTest</li>
+ *     <li>ClassScheduleTest</li>
+ *     <li>CheckInValidatorTest</li>
+ *     <li>ColumnarMemberStoreTest</li>
+ *     <li>ConsoleBufferTest</li>
  *     <li>DateTest</li>
  *     <li>FitnessClassTest</li>
+ *     <li>JournalTest</li>
+ *     <li>MemberDatabaseTest</li>
+ *     <li>MemberImporterTest</li>
+ *     <li>NameDictionaryTest</li>
  *     <li>PremiumTest</li>
+ *     <li>SnapshotTest</li>
+ *     <li>TraceReplayDriverTest</li>
+ *     <li>WorkloadGeneratorTest</li>
  * </ul>
  *
  * @author Hasnain Ali, Carolette Saguil
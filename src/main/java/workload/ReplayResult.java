@@ -0,0 +1,125 @@
+package workload;
+
+import enums.CheckInAction;
+
+/**
+ * This class holds the outcome of replaying a check in trace: how long the replay took, how many events succeeded, and the latency of
+ * every event overall and for each action.
+ * @author Hasnain Ali, Carolette Saguil
+ */
+public class ReplayResult {
+    /**
+     * Number of nanoseconds in a microsecond.
+     */
+    private static final double NANOS_PER_MICRO = 1e3;
+    /**
+     * Number of nanoseconds in a second.
+     */
+    private static final double NANOS_PER_SECOND = 1e9;
+
+    /**
+     * Number of threads the trace was replayed on.
+     */
+    private final int threads;
+    /**
+     * Wall clock time of the measured part of the replay, in nanoseconds.
+     */
+    private final long elapsedNanos;
+    /**
+     * Number of measured events that succeeded.
+     */
+    private final long successes;
+    /**
+     * Latency of every measured event.
+     */
+    private final LatencyHistogram latencies;
+    /**
+     * Latency of the measured events of each action, in the order of {@code CheckInAction.values()}.
+     */
+    private final LatencyHistogram[] actionLatencies;
+
+    /**
+     * @param threads Number of threads the trace was replayed on.
+     * @param elapsedNanos Wall clock time of the measured part of the replay, in nanoseconds.
+     * @param successes Number of measured events that succeeded.
+     * @param latencies Latency of every measured event.
+     * @param actionLatencies Latency of the measured events of each action, in the order of {@code CheckInAction.values()}.
+     */
+    ReplayResult(int threads, long elapsedNanos, long successes, LatencyHistogram latencies, LatencyHistogram[] actionLatencies) {
+        this.threads = threads;
+        this.elapsedNanos = elapsedNanos;
+        this.successes = successes;
+        this.latencies = latencies;
+        this.actionLatencies = actionLatencies;
+    }
+
+    /**
+     * @return Returns the number of events measured.
+     */
+    public long getEvents() {
+        return this.latencies.getTotal();
+    }
+
+    /**
+     * @return Returns the number of measured events that succeeded.
+     */
+    public long getSuccesses() {
+        return this.successes;
+    }
+
+    /**
+     * @return Returns the wall clock time of the measured part of the replay, in nanoseconds.
+     */
+    public long getElapsedNanos() {
+        return this.elapsedNanos;
+    }
+
+    /**
+     * @return Returns the number of events replayed per second.
+     */
+    public double getThroughput() {
+        return this.elapsedNanos == 0 ? 0 : this.getEvents() * NANOS_PER_SECOND / this.elapsedNanos;
+    }
+
+    /**
+     * @return Returns the latency of every measured event.
+     */
+    public LatencyHistogram getLatencies() {
+        return this.latencies;
+    }
+
+    /**
+     * @param action Action to get the latencies of.
+     * @return Returns the latency of the measured events of the action.
+     */
+    public LatencyHistogram getLatencies(CheckInAction action) {
+        return this.actionLatencies[action.ordinal()];
+    }
+
+    /**
+     * @return Returns a report of the throughput and the latency percentiles, overall and for each action.
+     */
+    @Override
+    public String toString() {
+        StringBuilder report = new StringBuilder(String.format("Replayed %d events on %d threads in %.2f s: %.0f events/s, %d succeeded, "
+                + "%d failed\n", this.getEvents(), this.threads, this.elapsedNanos / NANOS_PER_SECOND, this.getThroughput(), this.successes,
+                this.getEvents() - this.successes));
+        report.append(String.format("%-16s %10s %10s %10s %10s %10s\n", "latency (us)", "events", "p50", "p99", "p999", "max"));
+        appendLatencies(report, "all", this.latencies);
+        for (CheckInAction action : CheckInAction.values()) {
+            appendLatencies(report, action.name(), this.getLatencies(action));
+        }
+        return report.toString();
+    }
+
+    /**
+     * @param report Report to append a line to.
+     * @param name Name of the line.
+     * @param histogram Latencies to report.
+     */
+    private static void appendLatencies(StringBuilder report, String name, LatencyHistogram histogram) {
+        report.append(String.format("%-16s %10d %10.1f %10.1f %10.1f %10.1f\n", name, histogram.getTotal(),
+                histogram.percentile(50) / NANOS_PER_MICRO, histogram.percentile(99) / NANOS_PER_MICRO,
+                histogram.percentile(99.9) / NANOS_PER_MICRO, histogram.getMax() / NANOS_PER_MICRO));
+    }
+}
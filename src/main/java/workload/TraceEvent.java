@@ -0,0 +1,153 @@
+package workload;
+
+import constants.Constants;
+import date.Date;
+import enums.CheckInAction;
+import enums.Location;
+
+/**
+ * This class holds one event of a check in trace: a member checking into or out of a fitness class, or bringing a guest in or out.
+ * An event is written as one line of seven fields separated by spaces, the action followed by the fields of the fitness class tab:
+ * <br><br>
+ * {@code CHECK_IN Pilates Kim Edison Harry Potter 7/31/1980}
+ * @author Hasnain Ali, Carolette Saguil
+ */
+public class TraceEvent {
+    /**
+     * What the member does.
+     */
+    private final CheckInAction action;
+    /**
+     * Name of the fitness class.
+     */
+    private final String className;
+    /**
+     * Name of the instructor of the fitness class.
+     */
+    private final String instructorName;
+    /**
+     * Location of the fitness class.
+     */
+    private final Location location;
+    /**
+     * First name of the member.
+     */
+    private final String fname;
+    /**
+     * Last name of the member.
+     */
+    private final String lname;
+    /**
+     * Date of birth of the member.
+     */
+    private final Date dob;
+
+    /**
+     * @param action What the member does.
+     * @param className Name of the fitness class.
+     * @param instructorName Name of the instructor of the fitness class.
+     * @param location Location of the fitness class.
+     * @param fname First name of the member.
+     * @param lname Last name of the member.
+     * @param dob Date of birth of the member.
+     */
+    public TraceEvent(CheckInAction action, String className, String instructorName, Location location, String fname, String lname,
+                      Date dob) {
+        this.action = action;
+        this.className = className;
+        this.instructorName = instructorName;
+        this.location = location;
+        this.fname = fname;
+        this.lname = lname;
+        this.dob = dob;
+    }
+
+    /**
+     * @param line One line of a check in trace.
+     * @return Returns the event written on the line.
+     * @throws IllegalArgumentException If the line does not have seven fields, or a field is not valid.
+     */
+    public static TraceEvent parse(String line) {
+        String[] fields = line.trim().split("\\s+");
+
+        if (fields.length != Constants.TRACE_FIELDS) {
+            throw new IllegalArgumentException(String.format("expected %d fields, found %d: %s", Constants.TRACE_FIELDS, fields.length,
+                    line));
+        }
+
+        Location location = Location.returnEnumFromString(fields[3]);
+        if (location == null) {
+            throw new IllegalArgumentException("invalid location: " + line);
+        }
+
+        return new TraceEvent(CheckInAction.valueOf(fields[0]), fields[1], fields[2], location, fields[4], fields[5],
+                new Date(fields[6]));
+    }
+
+    /**
+     * @return Returns what the member does.
+     */
+    public CheckInAction getAction() {
+        return this.action;
+    }
+
+    /**
+     * @return Returns the name of the fitness class.
+     */
+    public String getClassName() {
+        return this.className;
+    }
+
+    /**
+     * @return Returns the name of the instructor of the fitness class.
+     */
+    public String getInstructorName() {
+        return this.instructorName;
+    }
+
+    /**
+     * @return Returns the location of the fitness class.
+     */
+    public Location getLocation() {
+        return this.location;
+    }
+
+    /**
+     * @return Returns the first name of the member.
+     */
+    public String getFname() {
+        return this.fname;
+    }
+
+    /**
+     * @return Returns the last name of the member.
+     */
+    public String getLname() {
+        return this.lname;
+    }
+
+    /**
+     * @return Returns the date of birth of the member.
+     */
+    public Date getDob() {
+        return this.dob;
+    }
+
+    /**
+     * @return Returns the event as the input data the GUI builds from the fitness class tab: index 1 is the class name, 2 the
+     * instructor name, 3 the location, 4 the first name, 5 the last name, and 6 the date of birth.
+     */
+    public String[] getInputData() {
+        return new String[] {null, this.className, this.instructorName, this.location.getTown(), this.fname, this.lname,
+                this.dob.toString()};
+    }
+
+    /**
+     * @return Returns the event as one line of a check in trace, without the new line.
+     */
+    @Override
+    public String toString() {
+        return String.format("%s %s %s %s %s %s %s", this.action, this.className, this.instructorName, this.location.getTown(),
+                this.fname, this.lname, this.dob);
+    }
+}
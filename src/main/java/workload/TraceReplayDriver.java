@@ -0,0 +1,336 @@
+package workload;
+
+import checkin.CheckInService;
+import constants.Constants;
+import date.ClockService;
+import date.Date;
+import enums.CheckInAction;
+import fitness_classes.ClassSchedule;
+import member.Member;
+import member.MemberDatabase;
+import member.MemberImporter;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.CyclicBarrier;
+
+/**
+ * This class replays a check in trace against a member database and class schedule from many threads, through the same check in
+ * service the GUI uses, and measures the throughput and the latency of every event.
+ * <br><br>
+ * Events are split between threads by member, so each member's events are replayed in trace order on one thread, the way a member
+ * uses one front desk at a time. Every thread first replays its share of the warm up events, then all threads start the measured
+ * events together. Each thread replays its events back to back, so the throughput is the most the service can sustain, and the
+ * latencies are those at that load.
+ * @author Hasnain Ali, Carolette Saguil
+ */
+public class TraceReplayDriver {
+    /**
+     * Number of members added to the member database at a time when generating a synthetic workload.
+     */
+    private static final int MEMBER_BATCH = 64 * 1024;
+    /**
+     * Number of nanoseconds in a microsecond.
+     */
+    private static final double NANOS_PER_MICRO = 1e3;
+
+    /**
+     * The check in service events are replayed through.
+     */
+    private final CheckInService checkInService;
+    /**
+     * Action of each event, for each thread.
+     */
+    private final List<List<CheckInAction>> actions;
+    /**
+     * Input data of each event, for each thread.
+     */
+    private final List<List<String[]>> inputData;
+    /**
+     * Number of events added.
+     */
+    private long events;
+
+    /**
+     * @param checkInService The check in service events are replayed through.
+     * @param threads Number of threads to replay the events on.
+     */
+    public TraceReplayDriver(CheckInService checkInService, int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("At least one thread is needed, found " + threads);
+        }
+
+        this.checkInService = checkInService;
+        this.actions = new ArrayList<>(threads);
+        this.inputData = new ArrayList<>(threads);
+        for (int x = 0; x < threads; x++) {
+            this.actions.add(new ArrayList<>());
+            this.inputData.add(new ArrayList<>());
+        }
+    }
+
+    /**
+     * Adds an event to replay, to the thread of the event's member. The input data is built here, so building it is not measured.
+     * @param event Event to replay.
+     */
+    public void add(TraceEvent event) {
+        int hash = event.getFname().toLowerCase().hashCode() * 31 + event.getLname().toLowerCase().hashCode();
+        int thread = Math.floorMod(hash * 31 + event.getDob().toPacked(), this.actions.size());
+
+        this.actions.get(thread).add(event.getAction());
+        this.inputData.get(thread).add(event.getInputData());
+        this.events++;
+    }
+
+    /**
+     * @return Returns the number of events added.
+     */
+    public long getEvents() {
+        return this.events;
+    }
+
+    /**
+     * Replays every event added.
+     * @param warmupPercent Percent of each thread's events replayed before measuring starts.
+     * @return Returns the throughput and latencies of the measured events.
+     * @throws InterruptedException If the calling thread is interrupted while the events are replayed.
+     */
+    public ReplayResult replay(int warmupPercent) throws InterruptedException {
+        int threads = this.actions.size();
+        CyclicBarrier measuring = new CyclicBarrier(threads + 1);
+        LatencyHistogram[][] histograms = new LatencyHistogram[threads][CheckInAction.values().length];
+        long[] successes = new long[threads];
+        Thread[] workers = new Thread[threads];
+
+        for (int x = 0; x < threads; x++) {
+            int thread = x;
+            for (int y = 0; y < CheckInAction.values().length; y++) {
+                histograms[thread][y] = new LatencyHistogram();
+            }
+            workers[thread] = new Thread(() -> successes[thread] = this.replay(thread, warmupPercent, measuring, histograms[thread]),
+                    "replay-" + thread);
+            workers[thread].start();
+        }
+
+        await(measuring);
+        long startTime = System.nanoTime();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        long elapsedNanos = System.nanoTime() - startTime;
+
+        LatencyHistogram latencies = new LatencyHistogram();
+        LatencyHistogram[] actionLatencies = new LatencyHistogram[CheckInAction.values().length];
+        long succeeded = 0;
+        for (int y = 0; y < actionLatencies.length; y++) {
+            actionLatencies[y] = new LatencyHistogram();
+        }
+        for (int x = 0; x < threads; x++) {
+            for (int y = 0; y < actionLatencies.length; y++) {
+                actionLatencies[y].add(histograms[x][y]);
+                latencies.add(histograms[x][y]);
+            }
+            succeeded += successes[x];
+        }
+
+        return new ReplayResult(threads, elapsedNanos, succeeded, latencies, actionLatencies);
+    }
+
+    /**
+     * Replays one thread's events: the warm up events, then the measured events once every thread has warmed up.
+     * @param thread Thread whose events to replay.
+     * @param warmupPercent Percent of the thread's events replayed before measuring starts.
+     * @param measuring Barrier every thread and the caller meet at before measuring starts.
+     * @param histograms Where the latency of each measured event is recorded, one histogram per action.
+     * @return Returns the number of measured events that succeeded.
+     */
+    private long replay(int thread, int warmupPercent, CyclicBarrier measuring, LatencyHistogram[] histograms) {
+        List<CheckInAction> threadActions = this.actions.get(thread);
+        List<String[]> threadInputData = this.inputData.get(thread);
+        int warmup = (int) ((long) threadActions.size() * warmupPercent / 100);
+        long successes = 0;
+
+        for (int x = 0; x < warmup; x++) {
+            this.checkInService.perform(threadActions.get(x), threadInputData.get(x));
+        }
+        await(measuring);
+
+        for (int x = warmup; x < threadActions.size(); x++) {
+            CheckInAction action = threadActions.get(x);
+            long startTime = System.nanoTime();
+            boolean success = this.checkInService.perform(action, threadInputData.get(x)).isSuccess();
+            histograms[action.ordinal()].record(System.nanoTime() - startTime);
+
+            if (success) {
+                successes++;
+            }
+        }
+        return successes;
+    }
+
+    /**
+     * @param barrier Barrier to wait at.
+     */
+    private static void await(CyclicBarrier barrier) {
+        try {
+            barrier.await();
+        } catch (InterruptedException interruptedException) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Replay interrupted", interruptedException);
+        } catch (BrokenBarrierException brokenBarrierException) {
+            throw new IllegalStateException("Replay failed on another thread", brokenBarrierException);
+        }
+    }
+
+    /**
+     * Fixes today's date for the replay, so the same memberships are expired however the trace is replayed.
+     * @param today Date to replay the trace on.
+     */
+    private static void fixToday(Date today) {
+        ZoneId zone = ZoneId.systemDefault();
+        LocalDate date = LocalDate.of(today.getYear(), today.getMonth(), today.getDay());
+        ClockService.setClock(Clock.fixed(date.atStartOfDay(zone).toInstant(), zone));
+    }
+
+    /**
+     * Replays a check in trace and prints the throughput and latencies. The trace is either recorded, given as
+     * {@code memberFile=path classFile=path traceFile=path}, or synthetic, generated by {@code WorkloadGenerator} from
+     * {@code members=N classes=N events=N seed=N}. Other settings are {@code threads=N}, {@code warmup=percent}, and
+     * {@code today=mm/dd/yyyy} for recorded traces. The replay fails, with exit status 1, if it does not reach
+     * {@code minThroughput=events per second} or exceeds {@code maxP99=microseconds}, so it can gate a build.
+     * @param args Settings, as {@code name=value}.
+     * @throws IOException If a recorded file cannot be read.
+     * @throws InterruptedException If the replay is interrupted.
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        String memberFile = null;
+        String classFile = null;
+        String traceFile = null;
+        long memberCount = 100_000;
+        int classCount = 150;
+        long events = 1_000_000;
+        long seed = 0;
+        int threads = Runtime.getRuntime().availableProcessors();
+        int warmupPercent = Constants.REPLAY_WARMUP_PERCENT;
+        Date today = new Date();
+        double minThroughput = 0;
+        double maxP99 = Double.MAX_VALUE;
+
+        for (String arg : args) {
+            String[] setting = arg.split("=", 2);
+            if (setting.length != 2) {
+                throw new IllegalArgumentException("Expected name=value, found " + arg);
+            }
+
+            String value = setting[1];
+            switch (setting[0]) {
+                case "memberFile":
+                    memberFile = value;
+                    break;
+                case "classFile":
+                    classFile = value;
+                    break;
+                case "traceFile":
+                    traceFile = value;
+                    break;
+                case "today":
+                    today = new Date(value);
+                    break;
+                case "members":
+                    memberCount = Long.parseLong(value);
+                    break;
+                case "classes":
+                    classCount = Integer.parseInt(value);
+                    break;
+                case "events":
+                    events = Long.parseLong(value);
+                    break;
+                case "seed":
+                    seed = Long.parseLong(value);
+                    break;
+                case "threads":
+                    threads = Integer.parseInt(value);
+                    break;
+                case "warmup":
+                    warmupPercent = Integer.parseInt(value);
+                    break;
+                case "minThroughput":
+                    minThroughput = Double.parseDouble(value);
+                    break;
+                case "maxP99":
+                    maxP99 = Double.parseDouble(value);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown setting: " + setting[0]);
+            }
+        }
+
+        MemberDatabase memberDatabase = new MemberDatabase();
+        ClassSchedule classSchedule = new ClassSchedule();
+        TraceReplayDriver driver = new TraceReplayDriver(new CheckInService(memberDatabase, classSchedule), threads);
+        long startTime = System.nanoTime();
+
+        if (traceFile != null) {
+            if (memberFile == null || classFile == null) {
+                throw new IllegalArgumentException("A recorded trace needs memberFile and classFile");
+            }
+            fixToday(today);
+            MemberImporter.importMembers(Path.of(memberFile), memberDatabase, null);
+            classSchedule.loadFitnessClasses(Path.of(classFile));
+
+            try (BufferedReader reader = Files.newBufferedReader(Path.of(traceFile))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (!line.isBlank()) {
+                        driver.add(TraceEvent.parse(line));
+                    }
+                }
+            }
+        } else {
+            WorkloadGenerator generator = new WorkloadGenerator(seed);
+            fixToday(generator.getReferenceDate());
+            memberDatabase.ensureCapacity((int) memberCount);
+
+            Member[] batch = new Member[MEMBER_BATCH];
+            for (long x = 0; x < memberCount; x += MEMBER_BATCH) {
+                int count = (int) Math.min(MEMBER_BATCH, memberCount - x);
+                for (int y = 0; y < count; y++) {
+                    batch[y] = generator.member(x + y);
+                }
+                memberDatabase.addAll(batch, count);
+            }
+            for (int x = 0; x < classCount; x++) {
+                classSchedule.addClass(generator.fitnessClass(x));
+            }
+
+            Iterator<TraceEvent> trace = generator.trace(memberCount, classCount, events);
+            while (trace.hasNext()) {
+                driver.add(trace.next());
+            }
+        }
+
+        System.out.printf("Loaded %d members, %d fitness classes and %d events in %.1f s.\n", memberDatabase.getSize(),
+                classSchedule.getNumClasses(), driver.getEvents(), (System.nanoTime() - startTime) / 1e9);
+
+        ReplayResult result = driver.replay(warmupPercent);
+        System.out.print(result);
+        ClockService.useSystemClock();
+
+        double p99 = result.getLatencies().percentile(99) / NANOS_PER_MICRO;
+        if (result.getThroughput() < minThroughput || p99 > maxP99) {
+            System.out.printf("FAILED: %.0f events/s with p99 %.1f us, needed at least %.0f events/s", result.getThroughput(), p99,
+                    minThroughput);
+            System.out.println(maxP99 == Double.MAX_VALUE ? "." : String.format(" with p99 at most %.1f us.", maxP99));
+            System.exit(1);
+        }
+    }
+}
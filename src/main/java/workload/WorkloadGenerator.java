@@ -0,0 +1,681 @@
+package workload;
+
+import constants.Constants;
+import date.Date;
+import date.PackedDate;
+import enums.CheckInAction;
+import enums.Location;
+import enums.Time;
+import fitness_classes.FitnessClass;
+import member.Family;
+import member.Member;
+import member.Premium;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.SplittableRandom;
+
+/**
+ * This class generates synthetic members, class schedules, and check in traces at any size. Everything it generates is derived from
+ * a seed and the settings, so the same seed and settings always produce the same files.
+ * <br><br>
+ * Each member is derived from the seed and their number alone, so any member can be regenerated without generating the ones before
+ * them, and member files of any size are written one line at a time without holding the members in memory. Member names are unique:
+ * the last name ends with the member's number written in letters. Fitness classes come in groups of 15, one for each time at each
+ * location, and each group has its own class name.
+ * <br><br>
+ * A trace is a stream of check ins and check outs against the generated members and classes. It remembers the check ins it has not yet
+ * checked out, up to {@code Constants.WORKLOAD_MAX_OPEN_CHECK_INS} of them, so that check outs match earlier check ins; the events are
+ * still not guaranteed to succeed, since members may have expired or checked into another class at the same time.
+ * <br><br>
+ * The member file has no membership type, so members loaded from it are all standard members, who cannot bring guests. Traces
+ * written to a file therefore have no guest events, and are the trace {@code trace()} gives with a guest percent of 0, so replaying
+ * the files matches a synthetic replay of the same seed with no guests.
+ * @author Hasnain Ali, Carolette Saguil
+ */
+public class WorkloadGenerator {
+    /**
+     * Odd constant a member's number is multiplied by, so the random numbers of neighbouring members are unrelated.
+     */
+    private static final long MEMBER_STRIDE = 0xBF58476D1CE4E5B9L;
+    /**
+     * Constant the seed is mixed with to generate a trace, so the trace is unrelated to the members.
+     */
+    private static final long TRACE_SALT = 0x94D049BB133111EBL;
+    /**
+     * First names members are generated with.
+     */
+    private static final String[] FIRST_NAMES = {"Jane", "John", "Maria", "David", "Aisha", "Wei", "Carlos", "Priya", "Liam", "Sofia",
+            "Noah", "Emma", "Omar", "Yuki", "Ava", "Ethan"};
+    /**
+     * Last names members are generated with.
+     */
+    private static final String[] LAST_NAMES = {"Doe", "Smith", "Garcia", "Chen", "Patel", "Kim", "Nguyen", "Brown", "Lopez", "Khan",
+            "Miller", "Davis", "Wilson", "Moore", "Taylor", "Clark"};
+    /**
+     * Names fitness classes are generated with.
+     */
+    private static final String[] CLASS_NAMES = {"Pilates", "Spinning", "Cardio"};
+    /**
+     * Instructors fitness classes are generated with.
+     */
+    private static final String[] INSTRUCTORS = {"Jennifer", "Kim", "Davis", "Denise", "Emma"};
+    /**
+     * All gym locations.
+     */
+    private static final Location[] LOCATIONS = Location.values();
+    /**
+     * All fitness class times.
+     */
+    private static final Time[] TIMES = Time.values();
+    /**
+     * Number of fitness classes in a group: one for each time at each location.
+     */
+    private static final int CLASS_GROUP_SIZE = TIMES.length * LOCATIONS.length;
+    /**
+     * Oldest age a generated member can be on the reference date.
+     */
+    private static final int MAX_AGE = 80;
+
+    /**
+     * Seed everything is generated from.
+     */
+    private final long seed;
+    /**
+     * Packed date expiration dates are spread around, and the day the generated data is meant to be replayed on.
+     */
+    private int referenceDate;
+    /**
+     * Percent of members with a standard membership.
+     */
+    private int standardPercent;
+    /**
+     * Percent of members with a family membership. The remaining members have a premium membership.
+     */
+    private int familyPercent;
+    /**
+     * Running total of the weight of each location, in the order of {@code Location.values()}.
+     */
+    private double[] locationWeights;
+    /**
+     * Months from the reference date of the earliest expiration date.
+     */
+    private int expireFromMonths;
+    /**
+     * Months from the reference date of the latest expiration date.
+     */
+    private int expireToMonths;
+    /**
+     * Percent of check ins by family and premium members that bring a guest instead.
+     */
+    private int guestPercent;
+    /**
+     * Percent of trace events that check out an earlier check in.
+     */
+    private int checkOutPercent;
+    /**
+     * Percent of check ins at a class anywhere instead of at the member's location.
+     */
+    private int wrongLocationPercent;
+
+    /**
+     * Instantiates a generator with the default settings in {@code Constants}, and every location equally likely.
+     * @param seed Seed everything is generated from.
+     */
+    public WorkloadGenerator(long seed) {
+        this.seed = seed;
+        this.referenceDate = new Date(Constants.WORKLOAD_REFERENCE_DATE).toPacked();
+        this.standardPercent = Constants.WORKLOAD_STANDARD_PERCENT;
+        this.familyPercent = Constants.WORKLOAD_FAMILY_PERCENT;
+        this.locationWeights = new double[LOCATIONS.length];
+        for (int x = 0; x < LOCATIONS.length; x++) {
+            this.locationWeights[x] = x + 1;
+        }
+        this.expireFromMonths = Constants.WORKLOAD_EXPIRE_FROM_MONTHS;
+        this.expireToMonths = Constants.WORKLOAD_EXPIRE_TO_MONTHS;
+        this.guestPercent = Constants.WORKLOAD_GUEST_PERCENT;
+        this.checkOutPercent = Constants.WORKLOAD_CHECK_OUT_PERCENT;
+        this.wrongLocationPercent = Constants.WORKLOAD_WRONG_LOCATION_PERCENT;
+    }
+
+    /**
+     * @return Returns the seed everything is generated from.
+     */
+    public long getSeed() {
+        return this.seed;
+    }
+
+    /**
+     * @return Returns the date expiration dates are spread around, and the day the generated data is meant to be replayed on.
+     */
+    public Date getReferenceDate() {
+        return new Date(this.referenceDate);
+    }
+
+    /**
+     * @param referenceDate Date expiration dates are spread around, and the day the generated data is meant to be replayed on.
+     */
+    public void setReferenceDate(Date referenceDate) {
+        this.referenceDate = referenceDate.toPacked();
+    }
+
+    /**
+     * @param standardPercent Percent of members with a standard membership.
+     * @param familyPercent Percent of members with a family membership. The remaining members have a premium membership.
+     * @throws IllegalArgumentException If either percent is negative, or they add up to more than 100.
+     */
+    public void setSubtypeMix(int standardPercent, int familyPercent) {
+        if (standardPercent < 0 || familyPercent < 0 || standardPercent + familyPercent > 100) {
+            throw new IllegalArgumentException(String.format("Invalid membership mix: %d%% standard, %d%% family", standardPercent,
+                    familyPercent));
+        }
+        this.standardPercent = standardPercent;
+        this.familyPercent = familyPercent;
+    }
+
+    /**
+     * Sets how likely each location is, for example {@code 4, 1, 1, 1, 1} puts half of the members in Bridgewater.
+     * @param weights Weight of each location, in the order of {@code Location.values()}.
+     * @throws IllegalArgumentException If there is not one weight per location, a weight is negative, or every weight is 0.
+     */
+    public void setLocationWeights(double... weights) {
+        if (weights.length != LOCATIONS.length) {
+            throw new IllegalArgumentException(String.format("Expected %d location weights, found %d", LOCATIONS.length,
+                    weights.length));
+        }
+
+        double[] runningTotal = new double[weights.length];
+        double total = 0;
+        for (int x = 0; x < weights.length; x++) {
+            if (!(weights[x] >= 0)) {
+                throw new IllegalArgumentException("Invalid location weight: " + weights[x]);
+            }
+            total += weights[x];
+            runningTotal[x] = total;
+        }
+
+        if (total == 0) {
+            throw new IllegalArgumentException("At least one location weight must be positive");
+        }
+        this.locationWeights = runningTotal;
+    }
+
+    /**
+     * Spreads expiration dates evenly between two numbers of months from the reference date. With the default of 24 months before to
+     * 48 months after, about a third of members have expired on the reference date.
+     * @param fromMonths Months from the reference date of the earliest expiration date, negative for months before it.
+     * @param toMonths Months from the reference date of the latest expiration date, negative for months before it.
+     * @throws IllegalArgumentException If {@code fromMonths} is after {@code toMonths}.
+     */
+    public void setExpirySpread(int fromMonths, int toMonths) {
+        if (fromMonths > toMonths) {
+            throw new IllegalArgumentException(String.format("Invalid expiry spread: %d to %d months", fromMonths, toMonths));
+        }
+        this.expireFromMonths = fromMonths;
+        this.expireToMonths = toMonths;
+    }
+
+    /**
+     * @param guestPercent Percent of check ins by family and premium members that bring a guest instead.
+     */
+    public void setGuestPercent(int guestPercent) {
+        this.guestPercent = checkPercent("guest", guestPercent);
+    }
+
+    /**
+     * @param checkOutPercent Percent of trace events that check out an earlier check in.
+     */
+    public void setCheckOutPercent(int checkOutPercent) {
+        this.checkOutPercent = checkPercent("check out", checkOutPercent);
+    }
+
+    /**
+     * @param wrongLocationPercent Percent of check ins at a class anywhere instead of at the member's location.
+     */
+    public void setWrongLocationPercent(int wrongLocationPercent) {
+        this.wrongLocationPercent = checkPercent("wrong location", wrongLocationPercent);
+    }
+
+    /**
+     * @param number Number of the member, from 0.
+     * @return Returns the member with that number. The same number always gives an equal member.
+     */
+    public Member member(long number) {
+        SplittableRandom random = new SplittableRandom(this.seed + number * MEMBER_STRIDE);
+        String fname = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+        String lname = LAST_NAMES[random.nextInt(LAST_NAMES.length)] + letters(number);
+
+        int referenceYear = PackedDate.year(this.referenceDate);
+        Date dob = new Date(random.nextInt(1, Constants.MAX_MONTH + 1), random.nextInt(1, Constants.MAX_NORM_FEB_DAYS + 1),
+                random.nextInt(referenceYear - MAX_AGE, referenceYear - Constants.MINIMUM_AGE));
+
+        int expireMonth = PackedDate.plusMonths(this.referenceDate, random.nextInt(this.expireFromMonths, this.expireToMonths + 1));
+        Date expire = new Date(PackedDate.of(PackedDate.year(expireMonth), PackedDate.month(expireMonth),
+                random.nextInt(1, Constants.MAX_NORM_FEB_DAYS + 1)));
+
+        Location location = this.location(random);
+        int subtype = random.nextInt(100);
+
+        if (subtype < this.standardPercent) {
+            return new Member(fname, lname, dob, expire, location);
+        } else if (subtype < this.standardPercent + this.familyPercent) {
+            return new Family(fname, lname, dob, expire, location, Constants.FAMILY_GUEST_PASSES);
+        }
+        return new Premium(fname, lname, dob, expire, location, Constants.PREMIUM_GUEST_PASS);
+    }
+
+    /**
+     * @param index Index of the fitness class in the schedule, from 0.
+     * @return Returns the fitness class at that index of the schedule.
+     */
+    public FitnessClass fitnessClass(int index) {
+        return new FitnessClass(TIMES[index % TIMES.length], className(index), instructorName(index), classLocation(index));
+    }
+
+    /**
+     * Writes members in the format of {@code memberList.txt}, which {@code loadHistoricalMembers()} loads. The member file has no
+     * membership type, so every member is loaded as a standard member; {@code member()} gives each member's actual type.
+     * @param out Where the members are written, one per line.
+     * @param count Number of members to write, numbered from 0.
+     * @throws IOException If {@code out} fails to accept a line.
+     */
+    public void writeMembers(Appendable out, long count) throws IOException {
+        for (long x = 0; x < count; x++) {
+            Member member = this.member(x);
+            out.append(member.getFname()).append(' ')
+                    .append(member.getLname()).append(' ')
+                    .append(member.getDob().toString()).append(' ')
+                    .append(member.getExpire().toString()).append(' ')
+                    .append(member.getLocation().name()).append('\n');
+        }
+    }
+
+    /**
+     * Writes fitness classes in the format of {@code classSchedule.txt}, which {@code loadFitnessClasses()} loads.
+     * @param out Where the fitness classes are written, one per line.
+     * @param count Number of fitness classes to write.
+     * @throws IOException If {@code out} fails to accept a line.
+     */
+    public void writeClassSchedule(Appendable out, int count) throws IOException {
+        for (int x = 0; x < count; x++) {
+            out.append(className(x)).append(' ')
+                    .append(instructorName(x)).append(' ')
+                    .append(TIMES[x % TIMES.length].name().toLowerCase()).append(' ')
+                    .append(classLocation(x).getTown()).append('\n');
+        }
+    }
+
+    /**
+     * Writes a check in trace, one event per line, without guest events: the trace is meant to be replayed against the members of
+     * {@code writeMembers()}, which load as standard members, so every check in is the member's own whatever the guest percent.
+     * @param out Where the events are written.
+     * @param memberCount Number of members the trace picks from.
+     * @param classCount Number of fitness classes the trace picks from.
+     * @param events Number of events to write.
+     * @throws IOException If {@code out} fails to accept a line.
+     * @throws IllegalArgumentException If there are no members or no fitness classes to pick from.
+     */
+    public void writeTrace(Appendable out, long memberCount, int classCount, long events) throws IOException {
+        Iterator<TraceEvent> trace = this.trace(memberCount, classCount, events, 0);
+        while (trace.hasNext()) {
+            out.append(trace.next().toString()).append('\n');
+        }
+    }
+
+    /**
+     * @param memberCount Number of members the trace picks from.
+     * @param classCount Number of fitness classes the trace picks from.
+     * @param events Number of events in the trace.
+     * @return Returns the events of a check in trace, generated as they are iterated.
+     * @throws IllegalArgumentException If there are no members or no fitness classes to pick from.
+     */
+    public Iterator<TraceEvent> trace(long memberCount, int classCount, long events) {
+        return this.trace(memberCount, classCount, events, this.guestPercent);
+    }
+
+    /**
+     * @param memberCount Number of members the trace picks from.
+     * @param classCount Number of fitness classes the trace picks from.
+     * @param events Number of events in the trace.
+     * @param guestPercent Percent of check ins by family and premium members that bring a guest instead.
+     * @return Returns the events of a check in trace, generated as they are iterated.
+     * @throws IllegalArgumentException If there are no members or no fitness classes to pick from.
+     */
+    private Iterator<TraceEvent> trace(long memberCount, int classCount, long events, int guestPercent) {
+        if (memberCount <= 0 || classCount <= 0) {
+            throw new IllegalArgumentException("A trace needs at least one member and one fitness class");
+        }
+        return new Trace(memberCount, classCount, events, guestPercent);
+    }
+
+    /**
+     * Writes a member file, a class schedule, and a check in trace to a directory.
+     * @param directory Directory to write the files to.
+     * @param memberCount Number of members to write.
+     * @param classCount Number of fitness classes to write.
+     * @param events Number of trace events to write.
+     * @throws IOException If a file cannot be written.
+     */
+    public void writeAll(Path directory, long memberCount, int classCount, long events) throws IOException {
+        Files.createDirectories(directory);
+
+        try (BufferedWriter writer = newWriter(directory.resolve(Constants.WORKLOAD_MEMBER_FILE))) {
+            this.writeMembers(writer, memberCount);
+        }
+        try (BufferedWriter writer = newWriter(directory.resolve(Constants.WORKLOAD_CLASS_SCHEDULE_FILE))) {
+            this.writeClassSchedule(writer, classCount);
+        }
+        try (BufferedWriter writer = newWriter(directory.resolve(Constants.WORKLOAD_TRACE_FILE))) {
+            this.writeTrace(writer, memberCount, classCount, events);
+        }
+    }
+
+    /**
+     * Writes a member file, a class schedule, and a check in trace. Settings are given as {@code name=value}, for example
+     * {@code members=100000000 classes=1500 events=10000000 seed=7 standard=50 family=30 locations=4,1,1,1,1 expireFrom=-12
+     * expireTo=36 checkOuts=40 wrongLocation=5 today=6/1/2026}. There is no guest setting, since written traces have no guest events.
+     * @param args The output directory, followed by any settings.
+     * @throws IOException If a file cannot be written.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.out.println("Usage: WorkloadGenerator <output directory> [members=N] [classes=N] [events=N] [seed=N] [standard=%] "
+                    + "[family=%] [locations=w,w,w,w,w] [expireFrom=months] [expireTo=months] [checkOuts=%] "
+                    + "[wrongLocation=%] [today=mm/dd/yyyy]");
+            return;
+        }
+
+        long memberCount = 1000;
+        int classCount = CLASS_GROUP_SIZE;
+        long events = 10000;
+        long seed = 0;
+        String[][] settings = new String[args.length - 1][];
+
+        for (int x = 1; x < args.length; x++) {
+            settings[x - 1] = args[x].split("=", 2);
+            if (settings[x - 1].length != 2) {
+                throw new IllegalArgumentException("Expected name=value, found " + args[x]);
+            }
+            if (settings[x - 1][0].equals("seed")) {
+                seed = Long.parseLong(settings[x - 1][1]);
+            }
+        }
+
+        WorkloadGenerator generator = new WorkloadGenerator(seed);
+        int standard = Constants.WORKLOAD_STANDARD_PERCENT;
+        int family = Constants.WORKLOAD_FAMILY_PERCENT;
+        int expireFrom = Constants.WORKLOAD_EXPIRE_FROM_MONTHS;
+        int expireTo = Constants.WORKLOAD_EXPIRE_TO_MONTHS;
+
+        for (String[] setting : settings) {
+            String value = setting[1];
+            switch (setting[0]) {
+                case "members":
+                    memberCount = Long.parseLong(value);
+                    break;
+                case "classes":
+                    classCount = Integer.parseInt(value);
+                    break;
+                case "events":
+                    events = Long.parseLong(value);
+                    break;
+                case "seed":
+                    break;
+                case "standard":
+                    standard = Integer.parseInt(value);
+                    break;
+                case "family":
+                    family = Integer.parseInt(value);
+                    break;
+                case "locations":
+                    generator.setLocationWeights(parseWeights(value));
+                    break;
+                case "expireFrom":
+                    expireFrom = Integer.parseInt(value);
+                    break;
+                case "expireTo":
+                    expireTo = Integer.parseInt(value);
+                    break;
+                case "checkOuts":
+                    generator.setCheckOutPercent(Integer.parseInt(value));
+                    break;
+                case "wrongLocation":
+                    generator.setWrongLocationPercent(Integer.parseInt(value));
+                    break;
+                case "today":
+                    generator.setReferenceDate(new Date(value));
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown setting: " + setting[0]);
+            }
+        }
+        generator.setSubtypeMix(standard, family);
+        generator.setExpirySpread(expireFrom, expireTo);
+
+        long startTime = System.nanoTime();
+        generator.writeAll(Path.of(args[0]), memberCount, classCount, events);
+        System.out.printf("Wrote %d members, %d fitness classes and %d trace events to %s in %.1f seconds.\n", memberCount, classCount,
+                events, args[0], (System.nanoTime() - startTime) / 1e9);
+    }
+
+    /**
+     * @param random Random numbers to pick the location with.
+     * @return Returns a location, picked according to the location weights.
+     */
+    private Location location(SplittableRandom random) {
+        double pick = random.nextDouble() * this.locationWeights[this.locationWeights.length - 1];
+        for (int x = 0; x < this.locationWeights.length - 1; x++) {
+            if (pick < this.locationWeights[x]) {
+                return LOCATIONS[x];
+            }
+        }
+        return LOCATIONS[LOCATIONS.length - 1];
+    }
+
+    /**
+     * @param index Index of a fitness class in the schedule.
+     * @return Returns the name of the fitness class.
+     */
+    private static String className(int index) {
+        int group = index / CLASS_GROUP_SIZE;
+        String className = CLASS_NAMES[group % CLASS_NAMES.length];
+        return group < CLASS_NAMES.length ? className : className + letters(group / CLASS_NAMES.length);
+    }
+
+    /**
+     * @param index Index of a fitness class in the schedule.
+     * @return Returns the name of the instructor of the fitness class.
+     */
+    private static String instructorName(int index) {
+        return INSTRUCTORS[index / CLASS_GROUP_SIZE % INSTRUCTORS.length];
+    }
+
+    /**
+     * @param index Index of a fitness class in the schedule.
+     * @return Returns the location of the fitness class.
+     */
+    private static Location classLocation(int index) {
+        return LOCATIONS[index / TIMES.length % LOCATIONS.length];
+    }
+
+    /**
+     * @param name Name of the setting, used in the error message.
+     * @param percent Percent to check.
+     * @return Returns {@code percent} if it is 0 through 100.
+     * @throws IllegalArgumentException If {@code percent} is not 0 through 100.
+     */
+    private static int checkPercent(String name, int percent) {
+        if (percent < 0 || percent > 100) {
+            throw new IllegalArgumentException(String.format("Invalid %s percent: %d", name, percent));
+        }
+        return percent;
+    }
+
+    /**
+     * @param weights Weights separated by commas.
+     * @return Returns the weights.
+     */
+    private static double[] parseWeights(String weights) {
+        String[] fields = weights.split(",");
+        double[] parsed = new double[fields.length];
+        for (int x = 0; x < fields.length; x++) {
+            parsed[x] = Double.parseDouble(fields[x]);
+        }
+        return parsed;
+    }
+
+    /**
+     * @param file File to write.
+     * @return Returns a writer with a large buffer, so that writing many small lines is cheap.
+     * @throws IOException If the file cannot be created.
+     */
+    private static BufferedWriter newWriter(Path file) throws IOException {
+        return new BufferedWriter(new OutputStreamWriter(Files.newOutputStream(file), StandardCharsets.UTF_8),
+                Constants.WORKLOAD_WRITE_BUFFER_SIZE);
+    }
+
+    /**
+     * @param number Non-negative number.
+     * @return Returns the number written in base 26 with the lowercase letters a to z.
+     */
+    private static String letters(long number) {
+        StringBuilder letters = new StringBuilder();
+        do {
+            letters.append((char) ('a' + number % 26));
+            number /= 26;
+        } while (number > 0);
+        return letters.reverse().toString();
+    }
+
+    /**
+     * This class generates the events of one check in trace as they are iterated.
+     */
+    private class Trace implements Iterator<TraceEvent> {
+        /**
+         * Random numbers the events are picked with.
+         */
+        private final SplittableRandom random;
+        /**
+         * Number of members the trace picks from.
+         */
+        private final long memberCount;
+        /**
+         * Number of fitness classes the trace picks from.
+         */
+        private final int classCount;
+        /**
+         * Number of events left to generate.
+         */
+        private long remaining;
+        /**
+         * Number of the member of each check in that has not been checked out.
+         */
+        private final long[] openMembers;
+        /**
+         * Index of the fitness class of each check in that has not been checked out.
+         */
+        private final int[] openClasses;
+        /**
+         * Whether each check in that has not been checked out brought a guest.
+         */
+        private final boolean[] openGuests;
+        /**
+         * Number of check ins that have not been checked out.
+         */
+        private int openCount;
+        /**
+         * Percent of check ins by family and premium members that bring a guest instead.
+         */
+        private final int guestPercent;
+
+        /**
+         * @param memberCount Number of members the trace picks from.
+         * @param classCount Number of fitness classes the trace picks from.
+         * @param events Number of events to generate.
+         * @param guestPercent Percent of check ins by family and premium members that bring a guest instead.
+         */
+        private Trace(long memberCount, int classCount, long events, int guestPercent) {
+            this.random = new SplittableRandom(seed ^ TRACE_SALT);
+            this.memberCount = memberCount;
+            this.classCount = classCount;
+            this.remaining = events;
+            this.openMembers = new long[Constants.WORKLOAD_MAX_OPEN_CHECK_INS];
+            this.openClasses = new int[Constants.WORKLOAD_MAX_OPEN_CHECK_INS];
+            this.openGuests = new boolean[Constants.WORKLOAD_MAX_OPEN_CHECK_INS];
+            this.guestPercent = guestPercent;
+        }
+
+        /**
+         * @return Returns true if there are events left, false otherwise.
+         */
+        @Override
+        public boolean hasNext() {
+            return this.remaining > 0;
+        }
+
+        /**
+         * Checks out an earlier check in, or checks a member or their guest into a class, usually at the member's location.
+         * @return Returns the next event of the trace.
+         */
+        @Override
+        public TraceEvent next() {
+            if (this.remaining <= 0) {
+                throw new NoSuchElementException();
+            }
+            this.remaining--;
+
+            if (this.openCount > 0 && (this.openCount == this.openMembers.length || this.random.nextInt(100) < checkOutPercent)) {
+                int open = this.random.nextInt(this.openCount);
+                CheckInAction action = this.openGuests[open] ? CheckInAction.GUEST_CHECK_OUT : CheckInAction.CHECK_OUT;
+                TraceEvent event = event(action, member(this.openMembers[open]), this.openClasses[open]);
+
+                this.openCount--;
+                this.openMembers[open] = this.openMembers[this.openCount];
+                this.openClasses[open] = this.openClasses[this.openCount];
+                this.openGuests[open] = this.openGuests[this.openCount];
+                return event;
+            }
+
+            long number = this.random.nextLong(this.memberCount);
+            Member member = member(number);
+            int classIndex = this.pickClass(member.getLocation());
+            boolean guest = member instanceof Family && this.random.nextInt(100) < this.guestPercent;
+
+            this.openMembers[this.openCount] = number;
+            this.openClasses[this.openCount] = classIndex;
+            this.openGuests[this.openCount] = guest;
+            this.openCount++;
+            return event(guest ? CheckInAction.GUEST_CHECK_IN : CheckInAction.CHECK_IN, member, classIndex);
+        }
+
+        /**
+         * @param location Location of the member checking in.
+         * @return Returns the index of a fitness class at the location, or of any fitness class for a share of check ins (and whenever
+         * the schedule does not have a class at every location).
+         */
+        private int pickClass(Location location) {
+            int groups = this.classCount / CLASS_GROUP_SIZE;
+            if (groups == 0 || this.random.nextInt(100) < wrongLocationPercent) {
+                return this.random.nextInt(this.classCount);
+            }
+            return this.random.nextInt(groups) * CLASS_GROUP_SIZE + location.ordinal() * TIMES.length + this.random.nextInt(TIMES.length);
+        }
+
+        /**
+         * @param action What the member does.
+         * @param member Member of the event.
+         * @param classIndex Index of the fitness class of the event.
+         * @return Returns the event.
+         */
+        private TraceEvent event(CheckInAction action, Member member, int classIndex) {
+            return new TraceEvent(action, className(classIndex), instructorName(classIndex), classLocation(classIndex),
+                    member.getFname(), member.getLname(), member.getDob());
+        }
+    }
+}
@@ -0,0 +1,13 @@
+/**
+ * Contains all classes related to generating synthetic workloads for load tests and benchmarks, and replaying them. Specifically the following:
+ * <ul>
+ *     <li>LatencyHistogram</li>
+ *     <li>ReplayResult</li>
+ *     <li>TraceEvent</li>
+ *     <li>TraceReplayDriver</li>
+ *     <li>WorkloadGenerator</li>
+ * </ul>
+ *
+ * @author Hasnain Ali, Carolette Saguil
+ */
+package workload;